@@ -0,0 +1,83 @@
+package org.prebid.server.benchmark;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.util.ResourceUtil;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the whole /openrtb2/auction request processing: request parsing and implicit parameters resolving,
+ * floors enforcement, calls to three bidders, response creation with targeting and bids caching.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class AuctionBenchmark {
+
+    private static final String AUCTION_ENDPOINT = "/openrtb2/auction";
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+            + "(KHTML, like Gecko) Chrome/124.0 Safari/537.36";
+
+    private Vertx vertx;
+    private HttpClient httpClient;
+    private RequestOptions requestOptions;
+    private Buffer requestBody;
+
+    @Setup(Level.Trial)
+    public void setUp(PrebidServerState state) throws IOException {
+        vertx = Vertx.vertx();
+        httpClient = vertx.createHttpClient(new HttpClientOptions().setKeepAlive(true));
+        requestOptions = new RequestOptions()
+                .setMethod(HttpMethod.POST)
+                .setHost("localhost")
+                .setPort(state.port())
+                .setURI(AUCTION_ENDPOINT)
+                .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                .putHeader(HttpHeaders.USER_AGENT, USER_AGENT);
+        requestBody = Buffer.buffer(ResourceUtil.readFromClasspath(PrebidServerState.AUCTION_REQUEST));
+
+        // fail fast instead of measuring error responses
+        final String response = holdAuction().toString();
+        if (!response.contains("\"seatbid\"")) {
+            throw new IllegalStateException("Auction returned no bids: " + response);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public Buffer holdAuction() {
+        return httpClient.request(requestOptions)
+                .compose(request -> request.send(requestBody))
+                .compose(HttpClientResponse::body)
+                .toCompletionStage()
+                .toCompletableFuture()
+                .join();
+    }
+}
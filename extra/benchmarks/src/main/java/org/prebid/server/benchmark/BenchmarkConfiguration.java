@@ -0,0 +1,44 @@
+package org.prebid.server.benchmark;
+
+import io.vertx.core.buffer.Buffer;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.util.ResourceUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Replaces outgoing HTTP interactions of the application with {@link StubHttpClient}.
+ */
+@Configuration
+public class BenchmarkConfiguration {
+
+    private static final String BID_RESPONSE_TEMPLATE = "benchmark/bid-response.json";
+    private static final String BIDDER_MACRO = "{{bidder}}";
+
+    @Bean
+    @Primary
+    StubHttpClient stubHttpClient(@Value("${adapters.generic.endpoint}") String genericEndpoint,
+                                  @Value("${adapters.generic.aliases.genericAlias.endpoint}") String aliasEndpoint,
+                                  @Value("${adapters.generic.aliases.ccx.endpoint}") String ccxEndpoint,
+                                  @Value("${cache.scheme}://${cache.host}${cache.path}") String cacheUrl,
+                                  JacksonMapper mapper) throws IOException {
+
+        final String template = ResourceUtil.readFromClasspath(BID_RESPONSE_TEMPLATE);
+        final Map<String, String> endpoints = Map.of(
+                "generic", genericEndpoint,
+                "genericAlias", aliasEndpoint,
+                "ccx", ccxEndpoint);
+
+        final Map<String, Buffer> responsesByUrl = new HashMap<>();
+        endpoints.forEach((bidder, endpoint) ->
+                responsesByUrl.put(endpoint, Buffer.buffer(template.replace(BIDDER_MACRO, bidder))));
+
+        return new StubHttpClient(responsesByUrl, cacheUrl, mapper);
+    }
+}
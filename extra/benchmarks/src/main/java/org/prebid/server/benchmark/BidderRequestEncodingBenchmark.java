@@ -0,0 +1,83 @@
+package org.prebid.server.benchmark;
+
+import com.iab.openrtb.request.BidRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.json.SharedObjectEncodings;
+import org.prebid.server.util.ResourceUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding of outgoing bidder requests of one auction sharing site, device, user and regs instances
+ * of the auction request (as prepared by the exchange), with and without reusing their JSON within the auction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BidderRequestEncodingBenchmark {
+
+    @Param({"15"})
+    private int bidders;
+
+    private JacksonMapper mapper;
+    private BidRequest bidRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+        bidRequest = mapper.decodeValue(
+                ResourceUtil.readFromClasspath(PrebidServerState.AUCTION_REQUEST), BidRequest.class);
+    }
+
+    @Benchmark
+    public void encodeWithSharedObjectEncodings(Blackhole blackhole) {
+        final SharedObjectEncodings sharedObjectEncodings = new SharedObjectEncodings();
+        for (BidRequest bidderRequest : bidderRequests()) {
+            blackhole.consume(sharedObjectEncodings.apply(() -> mapper.encodeToBytes(bidderRequest)));
+        }
+    }
+
+    @Benchmark
+    public void encodeWithoutSharedObjectEncodings(Blackhole blackhole) {
+        for (BidRequest bidderRequest : bidderRequests()) {
+            blackhole.consume(mapper.encodeToBytes(bidderRequest));
+        }
+    }
+
+    private List<BidRequest> bidderRequests() {
+        // objects of every auction are new, so the first encodings of shared objects are measured as well
+        final BidRequest auctionRequest = bidRequest.toBuilder()
+                .site(bidRequest.getSite() != null ? bidRequest.getSite().toBuilder().build() : null)
+                .app(bidRequest.getApp() != null ? bidRequest.getApp().toBuilder().build() : null)
+                .device(bidRequest.getDevice() != null ? bidRequest.getDevice().toBuilder().build() : null)
+                .user(bidRequest.getUser() != null ? bidRequest.getUser().toBuilder().build() : null)
+                .regs(bidRequest.getRegs() != null ? bidRequest.getRegs().toBuilder().build() : null)
+                .build();
+
+        final List<BidRequest> bidderRequests = new ArrayList<>(bidders);
+        for (int i = 0; i < bidders; i++) {
+            bidderRequests.add(auctionRequest.toBuilder().build());
+        }
+        return bidderRequests;
+    }
+}
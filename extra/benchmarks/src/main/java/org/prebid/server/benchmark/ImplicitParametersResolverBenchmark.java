@@ -0,0 +1,80 @@
+package org.prebid.server.benchmark;
+
+import com.iab.openrtb.request.BidRequest;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.auction.requestfactory.Ortb2ImplicitParametersResolver;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.model.CaseInsensitiveMultiMap;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.HttpRequestContext;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.util.ResourceUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures populating of the auction request fixture with parameters implied from the incoming HTTP request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ImplicitParametersResolverBenchmark {
+
+    private Ortb2ImplicitParametersResolver implicitParametersResolver;
+    private BidRequest bidRequest;
+    private HttpRequestContext httpRequest;
+    private Account account;
+
+    @Setup(Level.Trial)
+    public void setUp(PrebidServerState state) throws IOException {
+        implicitParametersResolver = state.bean(Ortb2ImplicitParametersResolver.class);
+        bidRequest = state.bean(JacksonMapper.class)
+                .decodeValue(ResourceUtil.readFromClasspath(PrebidServerState.AUCTION_REQUEST), BidRequest.class);
+        httpRequest = HttpRequestContext.builder()
+                .httpMethod(HttpMethod.POST)
+                .absoluteUri(Endpoint.openrtb2_auction.value())
+                .queryParams(CaseInsensitiveMultiMap.empty())
+                .headers(CaseInsensitiveMultiMap.builder()
+                        .add(HttpHeaders.USER_AGENT.toString(), bidRequest.getDevice().getUa())
+                        .add(HttpHeaders.REFERER.toString(), bidRequest.getSite().getPage())
+                        .add("X-Forwarded-For", bidRequest.getDevice().getIp())
+                        .build())
+                .scheme("https")
+                .remoteHost("203.0.113.1")
+                .build();
+        account = Account.empty(PrebidServerState.ACCOUNT_ID);
+    }
+
+    @Benchmark
+    public BidRequest resolve() {
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .httpRequest(httpRequest)
+                .account(account)
+                .debugContext(DebugContext.empty())
+                .debugWarnings(new ArrayList<>())
+                .prebidErrors(new ArrayList<>())
+                .build();
+
+        return implicitParametersResolver.resolve(
+                bidRequest, auctionContext, Endpoint.openrtb2_auction.value(), false);
+    }
+}
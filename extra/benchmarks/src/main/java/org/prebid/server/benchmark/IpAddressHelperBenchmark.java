@@ -0,0 +1,55 @@
+package org.prebid.server.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.IpAddressHelper;
+import org.prebid.server.auction.model.IpAddress;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing, masking and classification of device IP addresses done for every auction request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IpAddressHelperBenchmark {
+
+    @Param({"203.0.113.42", "192.168.1.1", "2a00:1450:4001:82b::200e", "2001:4860:4860:0:0:0:0:8888", "fe80::1"})
+    private String ip;
+
+    private IpAddressHelper ipAddressHelper;
+
+    @Setup(Level.Trial)
+    public void setUp(PrebidServerState state) {
+        ipAddressHelper = state.bean(IpAddressHelper.class);
+    }
+
+    @Benchmark
+    public IpAddress toIpAddress() {
+        return ipAddressHelper.toIpAddress(ip);
+    }
+
+    @Benchmark
+    public String maskIpv4() {
+        return ipAddressHelper.maskIpv4(ip);
+    }
+
+    @Benchmark
+    public String anonymizeIpv6() {
+        return ipAddressHelper.anonymizeIpv6(ip);
+    }
+}
@@ -0,0 +1,56 @@
+package org.prebid.server.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.Account;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures metrics updated for every bidder of every auction, contended by several threads
+ * the same way event loops do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class MetricsBenchmark {
+
+    private static final String BIDDER = "generic";
+
+    private Metrics metrics;
+    private Account account;
+
+    @Setup(Level.Trial)
+    public void setUp(PrebidServerState state) {
+        metrics = state.bean(Metrics.class);
+        account = Account.empty(PrebidServerState.ACCOUNT_ID);
+    }
+
+    @Benchmark
+    public void updateAdapterMetrics() {
+        metrics.updateAdapterRequestTypeAndNoCookieMetrics(BIDDER, MetricName.openrtb2web, false);
+        metrics.updateAdapterResponseTime(BIDDER, account, 120);
+        metrics.updateAdapterBidMetrics(BIDDER, account, 1250L, true, "banner");
+    }
+
+    @Benchmark
+    public void updateRequestTimeMetric() {
+        metrics.updateRequestTimeMetric(MetricName.request_time, 45L);
+    }
+}
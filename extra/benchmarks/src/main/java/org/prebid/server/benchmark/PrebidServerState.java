@@ -0,0 +1,68 @@
+package org.prebid.server.benchmark;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.prebid.server.Application;
+import org.prebid.server.util.ResourceUtil;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Runs the whole application once per benchmark trial with bidders and cache served by {@link StubHttpClient}
+ * and settings read from benchmark fixtures.
+ */
+@State(Scope.Benchmark)
+public class PrebidServerState {
+
+    static final String ACCOUNT_ID = "benchmark-account";
+    static final String AUCTION_REQUEST = "benchmark/auction-request.json";
+
+    private static final String APPLICATION_CONFIG = "classpath:/benchmark/benchmark-application.yaml";
+    private static final String APP_SETTINGS = "benchmark/app-settings.yaml";
+
+    private Path workDir;
+    private ConfigurableApplicationContext applicationContext;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        workDir = Files.createTempDirectory("prebid-server-benchmark");
+
+        final Path settingsFile = workDir.resolve("app-settings.yaml");
+        Files.writeString(settingsFile, ResourceUtil.readFromClasspath(APP_SETTINGS));
+        final Path emptyDir = Files.createDirectory(workDir.resolve("empty"));
+
+        applicationContext = new SpringApplicationBuilder(Application.class, BenchmarkConfiguration.class)
+                .run(
+                        "--spring.config.additional-location=" + APPLICATION_CONFIG,
+                        "--settings.filesystem.settings-filename=" + settingsFile,
+                        "--settings.filesystem.stored-requests-dir=" + emptyDir,
+                        "--settings.filesystem.stored-imps-dir=" + emptyDir,
+                        "--settings.filesystem.profiles-dir=" + emptyDir,
+                        "--settings.filesystem.stored-responses-dir=" + emptyDir,
+                        "--settings.filesystem.categories-dir=" + emptyDir,
+                        "--gdpr.vendorlist.v2.cache-dir=" + workDir.resolve("vendorlist-v2"),
+                        "--gdpr.vendorlist.v3.cache-dir=" + workDir.resolve("vendorlist-v3"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        applicationContext.close();
+        FileUtils.deleteDirectory(workDir.toFile());
+    }
+
+    public <T> T bean(Class<T> type) {
+        return applicationContext.getBean(type);
+    }
+
+    public int port() {
+        return applicationContext.getEnvironment().getRequiredProperty("server.http.port", Integer.class);
+    }
+}
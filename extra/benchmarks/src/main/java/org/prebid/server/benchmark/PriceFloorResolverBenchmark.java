@@ -0,0 +1,119 @@
+package org.prebid.server.benchmark;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.floors.PriceFloorResolver;
+import org.prebid.server.floors.model.PriceFloorModelGroup;
+import org.prebid.server.floors.model.PriceFloorRules;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.util.ResourceUtil;
+import org.prebid.server.util.dsl.config.PrebidConfigMatchingStrategy;
+import org.prebid.server.util.dsl.config.PrebidConfigParameters;
+import org.prebid.server.util.dsl.config.impl.IndexedSource;
+import org.prebid.server.util.dsl.config.impl.MostAccurateCombinationStrategy;
+import org.prebid.server.util.dsl.config.impl.SimpleDirectParameter;
+import org.prebid.server.util.dsl.config.impl.SimpleParameters;
+import org.prebid.server.util.dsl.config.impl.SimpleSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures resolving of floors for every imp of the auction request fixture against its floors rules.
+ * <p>
+ * {@link #matchSimpleSource} repeats what the resolver did before model group rules were compiled once:
+ * lowercasing rule keys and matching against a plain source on every resolution. {@link #matchIndexedSource}
+ * matches the same parameters against rules compiled once, as the resolver does now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PriceFloorResolverBenchmark {
+
+    private static final String BIDDER = "generic";
+    private static final String WILDCARD = "*";
+    private static final String MEDIA_TYPE = "banner";
+
+    private final PrebidConfigMatchingStrategy matchingStrategy = new MostAccurateCombinationStrategy();
+
+    private PriceFloorResolver priceFloorResolver;
+    private BidRequest bidRequest;
+    private PriceFloorRules floorRules;
+
+    private PriceFloorModelGroup modelGroup;
+    private String delimiter;
+    private IndexedSource indexedSource;
+    private List<PrebidConfigParameters> impParameters;
+
+    @Setup(Level.Trial)
+    public void setUp(PrebidServerState state) throws IOException {
+        priceFloorResolver = state.bean(PriceFloorResolver.class);
+        bidRequest = state.bean(JacksonMapper.class)
+                .decodeValue(ResourceUtil.readFromClasspath(PrebidServerState.AUCTION_REQUEST), BidRequest.class);
+        floorRules = bidRequest.getExt().getPrebid().getFloors();
+
+        modelGroup = floorRules.getData().getModelGroups().getFirst();
+        delimiter = modelGroup.getSchema().getDelimiter();
+        indexedSource = IndexedSource.of(WILDCARD, delimiter, keysToLowerCase(modelGroup.getValues()).keySet());
+        impParameters = bidRequest.getImp().stream()
+                .map(imp -> parameters(imp.getBanner().getFormat().getFirst(), bidRequest.getSite().getDomain()))
+                .toList();
+    }
+
+    @Benchmark
+    public void resolve(Blackhole blackhole) {
+        for (Imp imp : bidRequest.getImp()) {
+            blackhole.consume(priceFloorResolver.resolve(bidRequest, floorRules, imp, BIDDER, new ArrayList<>()));
+        }
+    }
+
+    @Benchmark
+    public void matchSimpleSource(Blackhole blackhole) {
+        for (PrebidConfigParameters parameters : impParameters) {
+            final Map<String, BigDecimal> values = keysToLowerCase(modelGroup.getValues());
+            final SimpleSource source = SimpleSource.of(WILDCARD, delimiter, values.keySet());
+            blackhole.consume(values.get(matchingStrategy.match(source, parameters)));
+        }
+    }
+
+    @Benchmark
+    public void matchIndexedSource(Blackhole blackhole) {
+        for (PrebidConfigParameters parameters : impParameters) {
+            blackhole.consume(matchingStrategy.match(indexedSource, parameters));
+        }
+    }
+
+    private static PrebidConfigParameters parameters(Format format, String domain) {
+        return SimpleParameters.of(List.of(
+                SimpleDirectParameter.of(MEDIA_TYPE),
+                SimpleDirectParameter.of(format.getW() + "x" + format.getH()),
+                SimpleDirectParameter.of(domain.toLowerCase())));
+    }
+
+    private static <V> Map<String, V> keysToLowerCase(Map<String, V> map) {
+        final Map<String, V> result = new HashMap<>();
+        map.forEach((key, value) -> result.put(key.toLowerCase(), value));
+        return result;
+    }
+}
@@ -0,0 +1,88 @@
+package org.prebid.server.benchmark;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link HttpClient} answering bidder and cache requests with canned responses without any network interaction,
+ * so benchmarks measure Prebid Server itself rather than the environment it runs in.
+ */
+public class StubHttpClient implements HttpClient {
+
+    private static final int NO_CONTENT = 204;
+    private static final int OK = 200;
+
+    private final Map<String, Buffer> responsesByUrl;
+    private final String cacheUrl;
+    private final JacksonMapper mapper;
+
+    public StubHttpClient(Map<String, Buffer> responsesByUrl, String cacheUrl, JacksonMapper mapper) {
+        this.responsesByUrl = Objects.requireNonNull(responsesByUrl);
+        this.cacheUrl = Objects.requireNonNull(cacheUrl);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              String url,
+                                              MultiMap headers,
+                                              String body,
+                                              long timeoutMs,
+                                              long maxResponseSize) {
+
+        return request(method, url, headers, body != null ? body.getBytes(StandardCharsets.UTF_8) : null,
+                timeoutMs, maxResponseSize);
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              String url,
+                                              MultiMap headers,
+                                              byte[] body,
+                                              long timeoutMs,
+                                              long maxResponseSize) {
+
+        if (url.startsWith(cacheUrl)) {
+            return cacheResponse(body);
+        }
+
+        final Buffer response = responsesByUrl.get(url);
+        return Future.succeededFuture(response != null
+                ? HttpClientResponse.ofBuffer(OK, MultiMap.caseInsensitiveMultiMap(), response)
+                : HttpClientResponse.of(NO_CONTENT, MultiMap.caseInsensitiveMultiMap(), null));
+    }
+
+    /**
+     * Responds with as many cache identifiers as there are objects to cache in the request.
+     */
+    private Future<HttpClientResponse> cacheResponse(byte[] body) {
+        final int putsCount;
+        try {
+            putsCount = mapper.mapper().readTree(body).path("puts").size();
+        } catch (IOException e) {
+            return Future.failedFuture(e);
+        }
+
+        final StringBuilder response = new StringBuilder("{\"responses\":[");
+        for (int i = 0; i < putsCount; i++) {
+            if (i > 0) {
+                response.append(',');
+            }
+            response.append("{\"uuid\":\"benchmark-uuid-").append(i).append("\"}");
+        }
+        response.append("]}");
+
+        return Future.succeededFuture(
+                HttpClientResponse.of(OK, MultiMap.caseInsensitiveMultiMap(), response.toString()));
+    }
+}
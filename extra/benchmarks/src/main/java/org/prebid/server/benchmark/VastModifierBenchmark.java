@@ -0,0 +1,91 @@
+package org.prebid.server.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.events.EventsContext;
+import org.prebid.server.vast.VastModifier;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures insertion of the impression tracking URL into large VAST documents, like ones returned by CTV bidders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class VastModifierBenchmark {
+
+    private static final String BIDDER = "generic";
+
+    @Param({"50", "300"})
+    private int vastSizeKb;
+
+    @Param({"InLine", "Wrapper"})
+    private String adType;
+
+    private VastModifier vastModifier;
+    private EventsContext eventsContext;
+    private String vastXml;
+
+    @Setup(Level.Trial)
+    public void setUp(PrebidServerState state) {
+        vastModifier = state.bean(VastModifier.class);
+        eventsContext = EventsContext.builder()
+                .enabledForAccount(true)
+                .auctionId("auctionId")
+                .auctionTimestamp(1000L)
+                .integration("integration")
+                .build();
+        vastXml = givenVastXml(adType, vastSizeKb * 1024);
+    }
+
+    @Benchmark
+    public String createBidVastXml() {
+        return vastModifier.createBidVastXml(
+                BIDDER, vastXml, null, "bidId", "accountId", eventsContext, new ArrayList<>());
+    }
+
+    private static String givenVastXml(String adType, int size) {
+        final StringBuilder creatives = new StringBuilder();
+        for (int i = 0; creatives.length() < size; i++) {
+            creatives.append("""
+                    <Creative id="%1$d" sequence="1"><Linear><Duration>00:00:30</Duration>
+                    <TrackingEvents>
+                    <Tracking event="start"><![CDATA[https://tracking.example.com/start?creative=%1$d]]></Tracking>
+                    <Tracking event="firstQuartile"><![CDATA[https://tracking.example.com/q1?creative=%1$d]]></Tracking>
+                    <Tracking event="midpoint"><![CDATA[https://tracking.example.com/mid?creative=%1$d]]></Tracking>
+                    <Tracking event="complete"><![CDATA[https://tracking.example.com/end?creative=%1$d]]></Tracking>
+                    </TrackingEvents>
+                    <MediaFiles>
+                    <MediaFile delivery="progressive" type="video/mp4" width="1920" height="1080">\
+                    <![CDATA[https://cdn.example.com/video/%1$d/1080.mp4]]></MediaFile>
+                    <MediaFile delivery="progressive" type="video/mp4" width="1280" height="720">\
+                    <![CDATA[https://cdn.example.com/video/%1$d/720.mp4]]></MediaFile>
+                    </MediaFiles></Linear></Creative>
+                    """.formatted(i));
+        }
+
+        return """
+                <VAST version="4.0"><Ad id="ad"><%1$s>
+                <AdSystem>bidder</AdSystem>
+                <Impression id="1"><![CDATA[https://impression.example.com/1]]></Impression>
+                <Impression id="2"><![CDATA[https://impression.example.com/2]]></Impression>
+                <Creatives>
+                %2$s</Creatives>
+                </%1$s></Ad></VAST>""".formatted(adType, creatives);
+    }
+}
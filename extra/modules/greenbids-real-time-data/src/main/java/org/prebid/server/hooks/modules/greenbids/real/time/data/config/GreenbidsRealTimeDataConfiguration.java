@@ -5,11 +5,13 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import io.vertx.core.Vertx;
+import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.geolocation.CountryCodeMapper;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.FilterService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInferenceDataService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInvocationService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ModelCache;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxInferenceExecutor;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunner;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerFactory;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerWithThresholds;
@@ -31,17 +33,36 @@ import java.util.concurrent.TimeUnit;
 @EnableConfigurationProperties(GreenbidsRealTimeDataProperties.class)
 public class GreenbidsRealTimeDataConfiguration {
 
+    private static final int DEFAULT_GEO_LOOKUP_CACHE_SIZE = 10_000;
+    private static final long DEFAULT_INFERENCE_BATCH_WINDOW_MS = 0L;
+    private static final int DEFAULT_INFERENCE_MAX_BATCH_ROWS = 512;
+
     @Bean
     DatabaseReaderFactory databaseReaderFactory(GreenbidsRealTimeDataProperties properties, Vertx vertx) {
         return new DatabaseReaderFactory(properties, vertx);
     }
 
     @Bean
-    GreenbidsInferenceDataService greenbidsInferenceDataService(DatabaseReaderFactory databaseReaderFactory,
+    GreenbidsInferenceDataService greenbidsInferenceDataService(GreenbidsRealTimeDataProperties properties,
+                                                                DatabaseReaderFactory databaseReaderFactory,
                                                                 CountryCodeMapper countryCodeMapper) {
 
+        final Cache<String, String> countryByIpCache = Caffeine.newBuilder()
+                .maximumSize(ObjectUtils.defaultIfNull(
+                        properties.getGeoLookupCacheSize(), DEFAULT_GEO_LOOKUP_CACHE_SIZE))
+                .expireAfterWrite(properties.getCacheExpirationMinutes(), TimeUnit.MINUTES)
+                .build();
+
         return new GreenbidsInferenceDataService(
-                databaseReaderFactory, ObjectMapperProvider.mapper(), countryCodeMapper);
+                databaseReaderFactory, ObjectMapperProvider.mapper(), countryCodeMapper, countryByIpCache);
+    }
+
+    @Bean
+    OnnxInferenceExecutor onnxInferenceExecutor(GreenbidsRealTimeDataProperties properties, Vertx vertx) {
+        return new OnnxInferenceExecutor(
+                vertx,
+                ObjectUtils.defaultIfNull(properties.getInferenceBatchWindowMs(), DEFAULT_INFERENCE_BATCH_WINDOW_MS),
+                ObjectUtils.defaultIfNull(properties.getInferenceMaxBatchRows(), DEFAULT_INFERENCE_MAX_BATCH_ROWS));
     }
 
     @Bean
@@ -49,7 +70,8 @@ public class GreenbidsRealTimeDataConfiguration {
             FilterService filterService,
             OnnxModelRunnerWithThresholds onnxModelRunnerWithThresholds,
             GreenbidsInferenceDataService greenbidsInferenceDataService,
-            GreenbidsInvocationService greenbidsInvocationService) {
+            GreenbidsInvocationService greenbidsInvocationService,
+            OnnxInferenceExecutor onnxInferenceExecutor) {
 
         return new GreenbidsRealTimeDataModule(List.of(
                 new GreenbidsRealTimeDataProcessedAuctionRequestHook(
@@ -57,7 +79,8 @@ public class GreenbidsRealTimeDataConfiguration {
                         filterService,
                         onnxModelRunnerWithThresholds,
                         greenbidsInferenceDataService,
-                        greenbidsInvocationService)));
+                        greenbidsInvocationService,
+                        onnxInferenceExecutor)));
     }
 
     @Bean
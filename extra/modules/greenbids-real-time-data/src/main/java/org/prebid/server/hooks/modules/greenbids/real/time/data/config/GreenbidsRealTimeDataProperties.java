@@ -24,4 +24,10 @@ public class GreenbidsRealTimeDataProperties {
     Long timeoutMs;
 
     Integer maxRedirects;
+
+    Integer geoLookupCacheSize;
+
+    Long inferenceBatchWindowMs;
+
+    Integer inferenceMaxBatchRows;
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Device;
 import com.iab.openrtb.request.Geo;
@@ -40,12 +41,16 @@ public class GreenbidsInferenceDataService {
 
     private final CountryCodeMapper countryCodeMapper;
 
+    private final Cache<String, String> countryByIpCache;
+
     public GreenbidsInferenceDataService(DatabaseReaderFactory dbReaderFactory,
                                          ObjectMapper mapper,
-                                         CountryCodeMapper countryCodeMapper) {
+                                         CountryCodeMapper countryCodeMapper,
+                                         Cache<String, String> countryByIpCache) {
         this.databaseReaderFactory = Objects.requireNonNull(dbReaderFactory);
         this.mapper = Objects.requireNonNull(mapper);
         this.countryCodeMapper = Objects.requireNonNull(countryCodeMapper);
+        this.countryByIpCache = Objects.requireNonNull(countryByIpCache);
     }
 
     public List<ThrottlingMessage> extractThrottlingMessagesFromBidRequest(BidRequest bidRequest) {
@@ -66,13 +71,14 @@ public class GreenbidsInferenceDataService {
         final Integer minuteQuadrant = (timestamp.getMinute() / 15) + 1;
 
         final String hostname = bidRequest.getSite().getDomain();
+        final String country = resolveCountry(bidRequest.getDevice());
         final List<Imp> imps = bidRequest.getImp();
 
         return imps.stream()
                 .map(imp -> extractMessagesForImp(
                         imp,
-                        bidRequest,
                         greenbidsUserAgent,
+                        country,
                         hostname,
                         hourBucket,
                         minuteQuadrant))
@@ -82,8 +88,8 @@ public class GreenbidsInferenceDataService {
 
     private List<ThrottlingMessage> extractMessagesForImp(
             Imp imp,
-            BidRequest bidRequest,
             GreenbidsUserAgent greenbidsUserAgent,
+            String country,
             String hostname,
             Integer hourBucket,
             Integer minuteQuadrant) {
@@ -91,16 +97,6 @@ public class GreenbidsInferenceDataService {
         final String impId = imp.getId();
         final ObjectNode impExt = imp.getExt();
         final JsonNode bidderNode = extImpPrebid(impExt.get("prebid")).getBidder();
-        final String ip = Optional.ofNullable(bidRequest.getDevice())
-                .map(Device::getIp)
-                .orElse(null);
-        final String country = Optional.ofNullable(bidRequest.getDevice())
-                .map(Device::getGeo)
-                .map(Geo::getCountry)
-                .map(countryCodeMapper::mapToAlpha2)
-                .map(GreenbidsInferenceDataService::getCountryNameFromAlpha2)
-                .filter(c -> !c.isEmpty())
-                .orElseGet(() -> getCountry(ip));
 
         return createThrottlingMessages(
                 bidderNode,
@@ -112,6 +108,20 @@ public class GreenbidsInferenceDataService {
                 minuteQuadrant);
     }
 
+    private String resolveCountry(Device device) {
+        final String ip = Optional.ofNullable(device)
+                .map(Device::getIp)
+                .orElse(null);
+
+        return Optional.ofNullable(device)
+                .map(Device::getGeo)
+                .map(Geo::getCountry)
+                .map(countryCodeMapper::mapToAlpha2)
+                .map(GreenbidsInferenceDataService::getCountryNameFromAlpha2)
+                .filter(c -> !c.isEmpty())
+                .orElseGet(() -> getCountry(ip));
+    }
+
     private static String getCountryNameFromAlpha2(String isoCode) {
         return StringUtils.isBlank(isoCode)
                 ? StringUtils.EMPTY
@@ -120,8 +130,9 @@ public class GreenbidsInferenceDataService {
 
     private String getCountry(String ip) {
         final DatabaseReader databaseReader = databaseReaderFactory.getDatabaseReader();
+        // failed lookups are not cached, so the next request with the same IP retries them
         return ip != null && databaseReader != null
-                ? getCountryFromIpUsingDatabase(databaseReader, ip)
+                ? countryByIpCache.get(ip, key -> getCountryFromIpUsingDatabase(databaseReader, key))
                 : null;
     }
 
@@ -130,7 +141,7 @@ public class GreenbidsInferenceDataService {
             final InetAddress inetAddress = InetAddress.getByName(ip);
             final CountryResponse response = databaseReader.country(inetAddress);
             final Country country = response.getCountry();
-            return country.getName();
+            return StringUtils.defaultString(country.getName());
         } catch (IOException | GeoIp2Exception e) {
             throw new PreBidException("Failed to fetch country from geoLite DB", e);
         }
@@ -0,0 +1,134 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs model inference on the worker pool, so that it doesn't block the event loop.
+ * <p>
+ * When batch window is positive, rows of concurrent predictions for the same model are collected during the window
+ * (or until max batch rows is reached) and evaluated as a single tensor. Each caller is completed with the
+ * probabilities of its own rows on the context it was called from.
+ */
+public class OnnxInferenceExecutor {
+
+    private final Vertx vertx;
+    private final long batchWindowMs;
+    private final int maxBatchRows;
+
+    private final Map<OnnxModelRunner, Batch> pendingBatches = new ConcurrentHashMap<>();
+
+    public OnnxInferenceExecutor(Vertx vertx, long batchWindowMs, int maxBatchRows) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.batchWindowMs = batchWindowMs;
+        this.maxBatchRows = maxBatchRows;
+    }
+
+    public Future<float[][]> predict(OnnxModelRunner onnxModelRunner, String[][] throttlingInferenceRows) {
+        if (batchWindowMs <= 0) {
+            return vertx.executeBlocking(() -> onnxModelRunner.predictProbabilities(throttlingInferenceRows), false);
+        }
+
+        final Prediction prediction = new Prediction(
+                throttlingInferenceRows, vertx.getOrCreateContext(), Promise.promise());
+
+        Batch batch;
+        do {
+            batch = pendingBatches.computeIfAbsent(onnxModelRunner, this::createBatch);
+        } while (!batch.add(prediction));
+
+        if (batch.rowsCount() >= maxBatchRows) {
+            flush(onnxModelRunner, batch);
+        }
+
+        return prediction.promise().future();
+    }
+
+    private Batch createBatch(OnnxModelRunner onnxModelRunner) {
+        final Batch batch = new Batch();
+        vertx.setTimer(batchWindowMs, ignored -> flush(onnxModelRunner, batch));
+        return batch;
+    }
+
+    private void flush(OnnxModelRunner onnxModelRunner, Batch batch) {
+        // only the caller removing the batch evaluates it, the other one (timer or filling caller) is no-op
+        if (!pendingBatches.remove(onnxModelRunner, batch)) {
+            return;
+        }
+
+        final List<Prediction> predictions = batch.close();
+        final String[][] rows = mergeRows(predictions, batch.rowsCount());
+
+        vertx.executeBlocking(() -> onnxModelRunner.predictProbabilities(rows), false)
+                .onComplete(result -> complete(predictions, result));
+    }
+
+    private static String[][] mergeRows(List<Prediction> predictions, int rowsCount) {
+        final String[][] rows = new String[rowsCount][];
+
+        int offset = 0;
+        for (Prediction prediction : predictions) {
+            final String[][] predictionRows = prediction.rows();
+            System.arraycopy(predictionRows, 0, rows, offset, predictionRows.length);
+            offset += predictionRows.length;
+        }
+
+        return rows;
+    }
+
+    private static void complete(List<Prediction> predictions, AsyncResult<float[][]> result) {
+        int offset = 0;
+        for (Prediction prediction : predictions) {
+            final int from = offset;
+            final int to = offset + prediction.rows().length;
+            offset = to;
+
+            prediction.context().runOnContext(ignored -> {
+                if (result.succeeded()) {
+                    prediction.promise().tryComplete(Arrays.copyOfRange(result.result(), from, to));
+                } else {
+                    prediction.promise().tryFail(result.cause());
+                }
+            });
+        }
+    }
+
+    private record Prediction(String[][] rows, Context context, Promise<float[][]> promise) {
+    }
+
+    private static class Batch {
+
+        private final List<Prediction> predictions = new ArrayList<>();
+        private int rowsCount;
+        private boolean closed;
+
+        synchronized boolean add(Prediction prediction) {
+            if (closed) {
+                return false;
+            }
+
+            predictions.add(prediction);
+            rowsCount += prediction.rows().length;
+            return true;
+        }
+
+        synchronized int rowsCount() {
+            return rowsCount;
+        }
+
+        synchronized List<Prediction> close() {
+            closed = true;
+            return predictions;
+        }
+    }
+}
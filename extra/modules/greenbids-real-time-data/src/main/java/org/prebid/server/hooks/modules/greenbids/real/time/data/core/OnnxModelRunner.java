@@ -1,15 +1,19 @@
 package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
 
 import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OnnxValue;
 import ai.onnxruntime.OrtEnvironment;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
+import org.prebid.server.exception.PreBidException;
 
 import java.util.Collections;
 
 public class OnnxModelRunner {
 
     private static final OrtEnvironment ENVIRONMENT = OrtEnvironment.getEnvironment();
+    private static final String INPUT_NAME = "input";
+    private static final String PROBABILITIES_OUTPUT_NAME = "probabilities";
 
     private final OrtSession session;
 
@@ -17,8 +21,28 @@ public class OnnxModelRunner {
         session = ENVIRONMENT.createSession(onnxModelBytes, new OrtSession.SessionOptions());
     }
 
-    public OrtSession.Result runModel(String[][] throttlingInferenceRow) throws OrtException {
-        final OnnxTensor inputTensor = OnnxTensor.createTensor(ENVIRONMENT, throttlingInferenceRow);
-        return session.run(Collections.singletonMap("input", inputTensor));
+    /**
+     * Runs the model and returns probabilities for each of the given rows.
+     * <p>
+     * Native input tensor and model output are released right after the probabilities are copied to the heap.
+     */
+    public float[][] predictProbabilities(String[][] throttlingInferenceRows) throws OrtException {
+        try (OnnxTensor inputTensor = OnnxTensor.createTensor(ENVIRONMENT, throttlingInferenceRows);
+                OrtSession.Result results = session.run(Collections.singletonMap(INPUT_NAME, inputTensor))) {
+
+            final OnnxValue probabilities = results.get(PROBABILITIES_OUTPUT_NAME)
+                    .orElseThrow(() -> new PreBidException("Model output doesn't contain 'probabilities'"));
+            if (!(probabilities instanceof OnnxTensor probabilitiesTensor)) {
+                throw new PreBidException("Expected OnnxTensor for 'probabilities', but found: "
+                        + probabilities.getClass().getName());
+            }
+
+            final long[] tensorShape = probabilitiesTensor.getInfo().getShape();
+            if (tensorShape.length == 0 || tensorShape[0] != throttlingInferenceRows.length) {
+                throw new PreBidException("Mismatch between tensor size and throttlingMessages size");
+            }
+
+            return (float[][]) probabilitiesTensor.getValue();
+        }
     }
 }
@@ -20,6 +20,7 @@ import org.prebid.server.hooks.execution.v1.auction.AuctionRequestPayloadImpl;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.FilterService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInferenceDataService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInvocationService;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxInferenceExecutor;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunner;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerWithThresholds;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.data.GreenbidsConfig;
@@ -56,18 +57,21 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHook implements Process
     private final OnnxModelRunnerWithThresholds onnxModelRunnerWithThresholds;
     private final GreenbidsInferenceDataService greenbidsInferenceDataService;
     private final GreenbidsInvocationService greenbidsInvocationService;
+    private final OnnxInferenceExecutor onnxInferenceExecutor;
 
     public GreenbidsRealTimeDataProcessedAuctionRequestHook(
             ObjectMapper mapper,
             FilterService filterService,
             OnnxModelRunnerWithThresholds onnxModelRunnerWithThresholds,
             GreenbidsInferenceDataService greenbidsInferenceDataService,
-            GreenbidsInvocationService greenbidsInvocationService) {
+            GreenbidsInvocationService greenbidsInvocationService,
+            OnnxInferenceExecutor onnxInferenceExecutor) {
         this.mapper = Objects.requireNonNull(mapper);
         this.filterService = Objects.requireNonNull(filterService);
         this.onnxModelRunnerWithThresholds = Objects.requireNonNull(onnxModelRunnerWithThresholds);
         this.greenbidsInferenceDataService = Objects.requireNonNull(greenbidsInferenceDataService);
         this.greenbidsInvocationService = Objects.requireNonNull(greenbidsInvocationService);
+        this.onnxInferenceExecutor = Objects.requireNonNull(onnxInferenceExecutor);
     }
 
     @Override
@@ -127,27 +131,22 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHook implements Process
             OnnxModelRunner onnxModelRunner,
             Double threshold) {
 
-        final Map<String, Map<String, Boolean>> impsBiddersFilterMap;
+        final List<ThrottlingMessage> throttlingMessages;
+        final String[][] throttlingInferenceRows;
         try {
-            final List<ThrottlingMessage> throttlingMessages = greenbidsInferenceDataService
-                    .extractThrottlingMessagesFromBidRequest(bidRequest);
-
-            impsBiddersFilterMap = filterService.filterBidders(
-                    onnxModelRunner,
-                    throttlingMessages,
-                    threshold);
+            throttlingMessages = greenbidsInferenceDataService.extractThrottlingMessagesFromBidRequest(bidRequest);
+            throttlingInferenceRows = filterService.toInferenceRows(throttlingMessages);
         } catch (PreBidException e) {
             return Future.succeededFuture(toInvocationResult(
                     bidRequest, null, InvocationAction.no_action));
         }
 
-        final GreenbidsInvocationResult greenbidsInvocationResult = greenbidsInvocationService
-                .createGreenbidsInvocationResult(greenbidsConfig, bidRequest, impsBiddersFilterMap);
-
-        return Future.succeededFuture(toInvocationResult(
-                greenbidsInvocationResult.getUpdatedBidRequest(),
-                greenbidsInvocationResult.getAnalyticsResult(),
-                greenbidsInvocationResult.getInvocationAction()));
+        return onnxInferenceExecutor.predict(onnxModelRunner, throttlingInferenceRows)
+                .map(probabilities -> filterService.filterBidders(probabilities, throttlingMessages, threshold))
+                .map(impsBiddersFilterMap -> toFilteringInvocationResult(
+                        bidRequest, greenbidsConfig, impsBiddersFilterMap))
+                .recover(throwable -> Future.succeededFuture(toInvocationResult(
+                        bidRequest, null, InvocationAction.no_action)));
     }
 
     private InvocationResult<AuctionRequestPayload> toInvocationResult(
@@ -172,6 +171,20 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHook implements Process
         };
     }
 
+    private InvocationResult<AuctionRequestPayload> toFilteringInvocationResult(
+            BidRequest bidRequest,
+            GreenbidsConfig greenbidsConfig,
+            Map<String, Map<String, Boolean>> impsBiddersFilterMap) {
+
+        final GreenbidsInvocationResult greenbidsInvocationResult = greenbidsInvocationService
+                .createGreenbidsInvocationResult(greenbidsConfig, bidRequest, impsBiddersFilterMap);
+
+        return toInvocationResult(
+                greenbidsInvocationResult.getUpdatedBidRequest(),
+                greenbidsInvocationResult.getAnalyticsResult(),
+                greenbidsInvocationResult.getInvocationAction());
+    }
+
     private Tags toAnalyticsTags(AnalyticsResult analyticsResult) {
         if (analyticsResult == null) {
             return null;
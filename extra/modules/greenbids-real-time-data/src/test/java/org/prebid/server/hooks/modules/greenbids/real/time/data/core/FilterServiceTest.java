@@ -1,21 +1,13 @@
 package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
 
-import ai.onnxruntime.OnnxTensor;
-import ai.onnxruntime.OnnxValue;
 import ai.onnxruntime.OrtException;
-import ai.onnxruntime.OrtSession;
-import ai.onnxruntime.TensorInfo;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.data.ThrottlingMessage;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.AbstractMap;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -23,27 +15,9 @@ import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
 
-@ExtendWith(MockitoExtension.class)
 public class FilterServiceTest {
 
-    @Mock
-    private OnnxModelRunner onnxModelRunnerMock;
-
-    @Mock
-    private OrtSession.Result results;
-
-    @Mock
-    private OnnxTensor onnxTensor;
-
-    @Mock
-    private TensorInfo tensorInfo;
-
-    @Mock
-    private OnnxValue onnxValue;
-
     private final FilterService target = new FilterService();
 
     @Test
@@ -52,11 +26,12 @@ public class FilterServiceTest {
         // given
         final List<ThrottlingMessage> throttlingMessages = createThrottlingMessages();
         final Double threshold = 0.5;
-        final OnnxModelRunner onnxModelRunner = givenOnnxModelRunner();
+        final float[][] probabilities = givenOnnxModelRunner()
+                .predictProbabilities(target.toInferenceRows(throttlingMessages));
 
         // when
         final Map<String, Map<String, Boolean>> impsBiddersFilterMap = target.filterBidders(
-                onnxModelRunner, throttlingMessages, threshold);
+                probabilities, throttlingMessages, threshold);
 
         // then
         assertThat(impsBiddersFilterMap).isNotNull();
@@ -66,62 +41,53 @@ public class FilterServiceTest {
     }
 
     @Test
-    public void validateOnnxTensorShouldThrowPreBidExceptionWhenOnnxValueIsNotTensor() throws OrtException {
+    public void filterBiddersShouldThrowPreBidExceptionWhenThrottlingMessagesIsEmpty() {
         // given
-        final List<ThrottlingMessage> throttlingMessages = createThrottlingMessages();
-        final Double threshold = 0.5;
-
-        when(onnxModelRunnerMock.runModel(any(String[][].class))).thenReturn(results);
-        when(results.spliterator()).thenReturn(Arrays.asList(createInvalidOnnxItem()).spliterator());
+        final List<ThrottlingMessage> throttlingMessages = Collections.emptyList();
+        final float[][] probabilities = new float[0][];
 
         // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
+        assertThatThrownBy(() -> target.filterBidders(probabilities, throttlingMessages, 0.5))
                 .isInstanceOf(PreBidException.class)
-                .hasMessageContaining("Expected OnnxTensor for 'probabilities', but found");
+                .hasMessageContaining("throttlingMessages cannot be null or empty");
     }
 
     @Test
-    public void filterBiddersShouldThrowPreBidExceptionWhenOrtExceptionOccurs() throws OrtException {
+    public void filterBiddersShouldReturnFilteredBiddersWhenProbabilitiesProvided() {
         // given
         final List<ThrottlingMessage> throttlingMessages = createThrottlingMessages();
-        final Double threshold = 0.5;
+        final float[][] probabilities = {{0.2f, 0.8f}, {0.6f, 0.4f}, {0.9f, 0.1f}};
 
-        when(onnxModelRunnerMock.runModel(any(String[][].class)))
-                .thenThrow(new OrtException("Exception during runModel"));
+        // when
+        final Map<String, Map<String, Boolean>> impsBiddersFilterMap = target.filterBidders(
+                probabilities, throttlingMessages, 0.5);
 
-        // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
-                .isInstanceOf(PreBidException.class)
-                .hasMessageContaining("Exception during model inference");
+        // then
+        assertThat(impsBiddersFilterMap.get("adUnit1").get("bidder1")).isTrue();
+        assertThat(impsBiddersFilterMap.get("adUnit2").get("bidder2")).isFalse();
+        assertThat(impsBiddersFilterMap.get("adUnit3").get("bidder3")).isFalse();
     }
 
     @Test
-    public void filterBiddersShouldThrowPreBidExceptionWhenThrottlingMessagesIsEmpty() {
+    public void filterBiddersShouldThrowPreBidExceptionWhenProbabilitiesSizeMismatchOccurs() {
         // given
-        final List<ThrottlingMessage> throttlingMessages = Collections.emptyList();
-        final Double threshold = 0.5;
+        final List<ThrottlingMessage> throttlingMessages = createThrottlingMessages();
+        final float[][] probabilities = {{0.2f, 0.8f}};
 
         // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
+        assertThatThrownBy(() -> target.filterBidders(probabilities, throttlingMessages, 0.5))
                 .isInstanceOf(PreBidException.class)
-                .hasMessageContaining("throttlingMessages cannot be null or empty");
+                .hasMessageContaining("Mismatch between tensor size and throttlingMessages size");
     }
 
     @Test
-    public void filterBiddersShouldThrowPreBidExceptionWhenTensorSizeMismatchOccurs() throws OrtException {
-        // given
-        final List<ThrottlingMessage> throttlingMessages = createThrottlingMessages();
-        final Double threshold = 0.5;
-
-        when(onnxModelRunnerMock.runModel(any(String[][].class))).thenReturn(results);
-        when(results.spliterator()).thenReturn(Arrays.asList(createOnnxItem()).spliterator());
-        when(onnxTensor.getInfo()).thenReturn(tensorInfo);
-        when(tensorInfo.getShape()).thenReturn(new long[]{0});
+    public void toInferenceRowsShouldReturnRowPerThrottlingMessage() {
+        // when
+        final String[][] rows = target.toInferenceRows(createThrottlingMessages());
 
-        // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
-                .isInstanceOf(PreBidException.class)
-                .hasMessageContaining("Mismatch between tensor size and throttlingMessages size");
+        // then
+        assertThat(rows).hasNumberOfRows(3);
+        assertThat(rows[0]).containsExactly("Chrome", "bidder1", "adUnit1", "US", "localhost", "PC", "10", "1");
     }
 
     private OnnxModelRunner givenOnnxModelRunner() throws OrtException, IOException {
@@ -166,12 +132,4 @@ public class FilterServiceTest {
 
         return Arrays.asList(throttlingMessage1, throttlingMessage2, throttlingMessage3);
     }
-
-    private Map.Entry<String, OnnxValue> createOnnxItem() {
-        return new AbstractMap.SimpleEntry<>("probabilities", onnxTensor);
-    }
-
-    private Map.Entry<String, OnnxValue> createInvalidOnnxItem() {
-        return new AbstractMap.SimpleEntry<>("probabilities", onnxValue);
-    }
 }
@@ -1,5 +1,6 @@
 package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Device;
@@ -33,6 +34,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.prebid.server.hooks.modules.greenbids.real.time.data.util.TestBidRequestProvider.givenBanner;
 import static org.prebid.server.hooks.modules.greenbids.real.time.data.util.TestBidRequestProvider.givenBidRequest;
@@ -60,7 +63,7 @@ public class GreenbidsInferenceDataServiceTest {
     public void setUp() {
         when(databaseReaderFactory.getDatabaseReader()).thenReturn(databaseReader);
         target = new GreenbidsInferenceDataService(
-                databaseReaderFactory, TestBidRequestProvider.MAPPER, countryCodeMapper);
+                databaseReaderFactory, TestBidRequestProvider.MAPPER, countryCodeMapper, Caffeine.newBuilder().build());
     }
 
     @Test
@@ -105,6 +108,34 @@ public class GreenbidsInferenceDataServiceTest {
         });
     }
 
+    @Test
+    public void extractThrottlingMessagesFromBidRequestShouldLookupCountryByIpOnlyOnceForSameIp()
+            throws IOException, GeoIp2Exception {
+        // given
+        final Imp firstImp = Imp.builder()
+                .id("adunitcodevalue1")
+                .ext(givenImpExt())
+                .banner(givenBanner())
+                .build();
+        final Imp secondImp = firstImp.toBuilder().id("adunitcodevalue2").build();
+        final Device device = givenDevice(identity());
+        final BidRequest bidRequest = givenBidRequest(request -> request, List.of(firstImp, secondImp), device);
+
+        final CountryResponse countryResponse = mock(CountryResponse.class);
+        when(databaseReader.country(any(InetAddress.class))).thenReturn(countryResponse);
+        when(countryResponse.getCountry()).thenReturn(country);
+        when(country.getName()).thenReturn("United States");
+
+        // when
+        final List<ThrottlingMessage> firstMessages = target.extractThrottlingMessagesFromBidRequest(bidRequest);
+        final List<ThrottlingMessage> secondMessages = target.extractThrottlingMessagesFromBidRequest(bidRequest);
+
+        // then
+        assertThat(firstMessages).hasSize(6).extracting(ThrottlingMessage::getCountry).containsOnly("United States");
+        assertThat(secondMessages).hasSize(6).extracting(ThrottlingMessage::getCountry).containsOnly("United States");
+        verify(databaseReader, times(1)).country(any(InetAddress.class));
+    }
+
     @Test
     public void extractThrottlingMessagesFromBidRequestShouldReturnValidThrottlingMessagesWhenGeoDefined() {
         // given
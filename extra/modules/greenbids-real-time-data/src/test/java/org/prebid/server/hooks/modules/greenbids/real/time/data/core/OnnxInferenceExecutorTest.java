@@ -0,0 +1,116 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import ai.onnxruntime.OrtException;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class OnnxInferenceExecutorTest {
+
+    @Mock
+    private OnnxModelRunner onnxModelRunner;
+
+    private Vertx vertx;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void predictShouldEvaluateRowsImmediatelyWhenBatchingDisabled() throws Exception {
+        // given
+        final OnnxInferenceExecutor target = new OnnxInferenceExecutor(vertx, 0L, 0);
+        when(onnxModelRunner.predictProbabilities(any())).thenAnswer(invocation -> givenProbabilities(
+                invocation.getArgument(0)));
+
+        // when
+        final float[][] result = await(target.predict(onnxModelRunner, givenRows("a", "b")));
+
+        // then
+        assertThat(result).isEqualTo(new float[][]{{0f, 1f}, {0f, 1f}});
+    }
+
+    @Test
+    public void predictShouldEvaluateConcurrentPredictionsInSingleBatchAndSplitResults() throws Exception {
+        // given
+        final OnnxInferenceExecutor target = new OnnxInferenceExecutor(vertx, 10_000L, 3);
+        when(onnxModelRunner.predictProbabilities(any())).thenAnswer(invocation -> givenProbabilities(
+                invocation.getArgument(0)));
+
+        // when
+        final Future<float[][]> firstFuture = target.predict(onnxModelRunner, givenRows("1", "2"));
+        final Future<float[][]> secondFuture = target.predict(onnxModelRunner, givenRows("3"));
+
+        // then
+        assertThat(await(firstFuture)).isEqualTo(new float[][]{{1f, 1f}, {2f, 1f}});
+        assertThat(await(secondFuture)).isEqualTo(new float[][]{{3f, 1f}});
+        verify(onnxModelRunner, times(1)).predictProbabilities(any());
+    }
+
+    @Test
+    public void predictShouldEvaluateBatchWhenWindowElapsed() throws Exception {
+        // given
+        final OnnxInferenceExecutor target = new OnnxInferenceExecutor(vertx, 10L, 100);
+        when(onnxModelRunner.predictProbabilities(any())).thenAnswer(invocation -> givenProbabilities(
+                invocation.getArgument(0)));
+
+        // when
+        final float[][] result = await(target.predict(onnxModelRunner, givenRows("1")));
+
+        // then
+        assertThat(result).isEqualTo(new float[][]{{1f, 1f}});
+    }
+
+    @Test
+    public void predictShouldFailEachPredictionOfBatchWhenInferenceFailed() throws Exception {
+        // given
+        final OnnxInferenceExecutor target = new OnnxInferenceExecutor(vertx, 10_000L, 2);
+        when(onnxModelRunner.predictProbabilities(any())).thenThrow(new OrtException("failed"));
+
+        // when
+        final Future<float[][]> firstFuture = target.predict(onnxModelRunner, givenRows("1"));
+        final Future<float[][]> secondFuture = target.predict(onnxModelRunner, givenRows("2"));
+
+        // then
+        assertThatThrownBy(() -> await(firstFuture)).hasRootCauseInstanceOf(OrtException.class);
+        assertThatThrownBy(() -> await(secondFuture)).hasRootCauseInstanceOf(OrtException.class);
+    }
+
+    private static String[][] givenRows(String... bidders) {
+        return Arrays.stream(bidders)
+                .map(bidder -> new String[]{bidder})
+                .toArray(String[][]::new);
+    }
+
+    private static float[][] givenProbabilities(String[][] rows) {
+        return Arrays.stream(rows)
+                .map(row -> new float[]{row[0].matches("\\d+") ? Float.parseFloat(row[0]) : 0f, 1f})
+                .toArray(float[][]::new);
+    }
+
+    private static float[][] await(Future<float[][]> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+}
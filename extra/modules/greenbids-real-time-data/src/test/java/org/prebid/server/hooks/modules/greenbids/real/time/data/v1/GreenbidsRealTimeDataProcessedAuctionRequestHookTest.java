@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import com.iab.openrtb.request.Banner;
@@ -36,6 +37,7 @@ import org.prebid.server.hooks.modules.greenbids.real.time.data.core.FilterServi
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInferenceDataService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInvocationService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ModelCache;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxInferenceExecutor;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunner;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerFactory;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerWithThresholds;
@@ -138,14 +140,16 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
         final GreenbidsInferenceDataService greenbidsInferenceDataService = new GreenbidsInferenceDataService(
                 databaseReaderFactory,
                 TestBidRequestProvider.MAPPER,
-                countryCodeMapper);
+                countryCodeMapper,
+                Caffeine.newBuilder().build());
         final GreenbidsInvocationService greenbidsInvocationService = new GreenbidsInvocationService();
         target = new GreenbidsRealTimeDataProcessedAuctionRequestHook(
                 TestBidRequestProvider.MAPPER,
                 filterService,
                 onnxModelRunnerWithThresholds,
                 greenbidsInferenceDataService,
-                greenbidsInvocationService);
+                greenbidsInvocationService,
+                new OnnxInferenceExecutor(Vertx.vertx(), 0L, 0));
     }
 
     @Test
@@ -181,7 +185,7 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
         // when
         final Future<InvocationResult<AuctionRequestPayload>> future = target
                 .call(null, invocationContext);
-        final InvocationResult<AuctionRequestPayload> result = future.result();
+        final InvocationResult<AuctionRequestPayload> result = future.toCompletionStage().toCompletableFuture().join();
         final BidRequest resultBidRequest = result
                 .payloadUpdate()
                 .apply(AuctionRequestPayloadImpl.of(bidRequest))
@@ -241,7 +245,7 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
         // when
         final Future<InvocationResult<AuctionRequestPayload>> future = target
                 .call(null, invocationContext);
-        final InvocationResult<AuctionRequestPayload> result = future.result();
+        final InvocationResult<AuctionRequestPayload> result = future.toCompletionStage().toCompletableFuture().join();
 
         // then
         final ActivityImpl activity = (ActivityImpl) result.analyticsTags().activities().getFirst();
@@ -297,7 +301,7 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
         // when
         final Future<InvocationResult<AuctionRequestPayload>> future = target
                 .call(null, invocationContext);
-        final InvocationResult<AuctionRequestPayload> result = future.result();
+        final InvocationResult<AuctionRequestPayload> result = future.toCompletionStage().toCompletableFuture().join();
         final BidRequest resultBidRequest = result
                 .payloadUpdate()
                 .apply(AuctionRequestPayloadImpl.of(bidRequest))
@@ -358,7 +362,7 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
         // when
         final Future<InvocationResult<AuctionRequestPayload>> future = target
                 .call(null, invocationContext);
-        final InvocationResult<AuctionRequestPayload> result = future.result();
+        final InvocationResult<AuctionRequestPayload> result = future.toCompletionStage().toCompletableFuture().join();
         final BidRequest resultBidRequest = result
                 .payloadUpdate()
                 .apply(AuctionRequestPayloadImpl.of(bidRequest))
@@ -390,6 +394,37 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
                 .isEqualTo(expectedBidRequest);
     }
 
+    @Test
+    public void callShouldReturnNoActionWhenModelInferenceFails() throws OrtException, IOException {
+        // given
+        final Imp imp = Imp.builder()
+                .id("adunitcodevalue")
+                .ext(givenImpExt())
+                .banner(givenBanner())
+                .build();
+
+        final BidRequest bidRequest = givenBidRequest(request -> request, List.of(imp), givenDevice(identity()));
+        final AuctionContext auctionContext = givenAuctionContext(bidRequest, context -> context);
+        final AuctionInvocationContext invocationContext = givenAuctionInvocationContext(auctionContext, 0.0001);
+
+        final OnnxModelRunner onnxModelRunner = mock(OnnxModelRunner.class);
+        when(onnxModelRunner.predictProbabilities(any())).thenThrow(new OrtException("inference failed"));
+        when(modelCacheWithExpiration.getIfPresent("onnxModelRunner_test-pbuid")).thenReturn(onnxModelRunner);
+        when(thresholdsCacheWithExpiration.getIfPresent("throttlingThresholds_test-pbuid"))
+                .thenReturn(givenThrottlingThresholds());
+
+        // when
+        final Future<InvocationResult<AuctionRequestPayload>> future = target.call(null, invocationContext);
+        final InvocationResult<AuctionRequestPayload> result = future.toCompletionStage().toCompletableFuture().join();
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(result.status()).isEqualTo(InvocationStatus.success);
+        assertThat(result.action()).isEqualTo(InvocationAction.no_action);
+        assertThat(result.payloadUpdate()).isNull();
+        assertThat(result.analyticsTags()).isNull();
+    }
+
     private AuctionContext givenAuctionContext(
             BidRequest bidRequest,
             UnaryOperator<AuctionContext.AuctionContextBuilder> auctionContextCustomizer) {
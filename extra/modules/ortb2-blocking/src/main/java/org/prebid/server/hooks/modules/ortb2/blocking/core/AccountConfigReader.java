@@ -29,9 +29,17 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+/**
+ * Reads blocking configuration of the account for the given bidder.
+ * <p>
+ * Resolved override decisions are memoized per media types and deal id, so the reader may be reused
+ * for all requests served with the same account configuration, see {@link AccountConfigReaderCache}.
+ */
 public class AccountConfigReader {
 
     private static final String ATTRIBUTES_FIELD = "attributes";
@@ -74,6 +82,9 @@ public class AccountConfigReader {
     private final OrtbVersion ortbVersion;
     private final boolean debugEnabled;
 
+    private final Map<DecisionKey, Decision> decisions = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> configuredDealIds = new ConcurrentHashMap<>();
+
     private AccountConfigReader(ObjectNode config, String bidder, OrtbVersion ortbVersion, boolean debugEnabled) {
         this.config = config;
         this.bidder = bidder;
@@ -186,6 +197,16 @@ public class AccountConfigReader {
                                                  String fieldName,
                                                  Set<String> actualMediaTypes) {
 
+        return decision(
+                new DecisionKey(fieldName, actualMediaTypes, false, null),
+                () -> resolveBlockedAttribute(attribute, attributeType, fieldName, actualMediaTypes));
+    }
+
+    private <T> Result<List<T>> resolveBlockedAttribute(String attribute,
+                                                        Class<T> attributeType,
+                                                        String fieldName,
+                                                        Set<String> actualMediaTypes) {
+
         final JsonNode attributeConfig = attributeConfig(attribute);
         if (attributeConfig == null) {
             return Result.empty();
@@ -284,6 +305,38 @@ public class AccountConfigReader {
             return Result.empty();
         }
 
+        // result for deal ids not mentioned in the configuration doesn't depend on the deal id itself
+        final boolean hasDealid = StringUtils.isNotBlank(dealid);
+        final String configuredDealid = hasDealid && configuredDealIds(attributeConfig, allowedForDealsField)
+                .contains(dealid) ? dealid : null;
+
+        return decision(
+                new DecisionKey(allowedForDealsField, bidMediaTypes, hasDealid, configuredDealid),
+                () -> resolveBlockingConfigForAttribute(
+                        attributeConfig,
+                        attributeType,
+                        blockUnknownField,
+                        allowedForDealsField,
+                        bidMediaTypes,
+                        dealid));
+    }
+
+    private <T> Result<BidAttributeBlockingConfig<T>> blockingConfigForAttribute(String attribute,
+                                                                                 Class<T> type,
+                                                                                 String allowedForDealsField,
+                                                                                 Set<String> bidMediaTypes,
+                                                                                 String dealid) {
+
+        return blockingConfigForAttribute(attribute, type, null, allowedForDealsField, bidMediaTypes, dealid);
+    }
+
+    private <T> Result<BidAttributeBlockingConfig<T>> resolveBlockingConfigForAttribute(JsonNode attributeConfig,
+                                                                                        Class<T> attributeType,
+                                                                                        String blockUnknownField,
+                                                                                        String allowedForDealsField,
+                                                                                        Set<String> bidMediaTypes,
+                                                                                        String dealid) {
+
         final Result<JsonNode> enforceBlocksOverrideResult = overrideFor(
                 attributeConfig, bidMediaTypes, ENFORCE_BLOCKS_FIELD);
         final boolean enforceBlocks = mergeBoolean(
@@ -311,15 +364,6 @@ public class AccountConfigReader {
         return Result.of(blockingConfig, warnings);
     }
 
-    private <T> Result<BidAttributeBlockingConfig<T>> blockingConfigForAttribute(String attribute,
-                                                                                 Class<T> type,
-                                                                                 String allowedForDealsField,
-                                                                                 Set<String> bidMediaTypes,
-                                                                                 String dealid) {
-
-        return blockingConfigForAttribute(attribute, type, null, allowedForDealsField, bidMediaTypes, dealid);
-    }
-
     private static Result<BidAttributeBlockingConfig<Integer>> blockingConfigForCattax(
             BidAttributeBlockingConfig<String> bcat) {
 
@@ -331,6 +375,60 @@ public class AccountConfigReader {
                 : Result.empty();
     }
 
+    @SuppressWarnings("unchecked")
+    private <R> R decision(DecisionKey key, Supplier<R> resolver) {
+        Decision decision = decisions.get(key);
+        if (decision == null) {
+            decision = resolveDecision(resolver);
+            decisions.putIfAbsent(key, decision);
+        }
+
+        if (decision.errorMessage() != null) {
+            throw new InvalidAccountConfigurationException(decision.errorMessage());
+        }
+
+        return (R) decision.value();
+    }
+
+    private static Decision resolveDecision(Supplier<?> resolver) {
+        try {
+            return new Decision(resolver.get(), null);
+        } catch (InvalidAccountConfigurationException e) {
+            return new Decision(null, e.getMessage());
+        }
+    }
+
+    private Set<String> configuredDealIds(JsonNode attributeConfig, String field) {
+        return configuredDealIds.computeIfAbsent(field, key -> collectDealIds(attributeConfig, field));
+    }
+
+    /**
+     * Collects deal ids mentioned in overrides conditions. Malformed overrides are skipped here
+     * and reported by the regular resolution flow.
+     */
+    private static Set<String> collectDealIds(JsonNode attributeConfig, String field) {
+        final JsonNode actionOverrides = attributeConfig.get(ACTION_OVERRIDES_FIELD);
+        final JsonNode overridesForField = actionOverrides != null ? actionOverrides.get(field) : null;
+        if (overridesForField == null || !overridesForField.isArray()) {
+            return Collections.emptySet();
+        }
+
+        final Set<String> dealIds = new HashSet<>();
+        for (final JsonNode override : overridesForField) {
+            final JsonNode conditions = override.get(CONDITIONS_FIELD);
+            final JsonNode dealIdsNode = conditions != null ? conditions.get(DEALIDS_FIELD) : null;
+            if (dealIdsNode != null && dealIdsNode.isArray()) {
+                dealIdsNode.forEach(dealid -> {
+                    if (dealid.isTextual()) {
+                        dealIds.add(dealid.textValue());
+                    }
+                });
+            }
+        }
+
+        return dealIds;
+    }
+
     private JsonNode attributes() {
         return config != null ? objectNodeFrom(config, ATTRIBUTES_FIELD) : null;
     }
@@ -600,4 +698,10 @@ public class AccountConfigReader {
 
         return object;
     }
+
+    private record DecisionKey(String field, Set<String> mediaTypes, boolean hasDealid, String dealid) {
+    }
+
+    private record Decision(Object value, String errorMessage) {
+    }
 }
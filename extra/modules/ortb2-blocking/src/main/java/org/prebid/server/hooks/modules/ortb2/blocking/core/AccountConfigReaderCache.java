@@ -0,0 +1,46 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.prebid.server.auction.versionconverter.OrtbVersion;
+
+import java.util.Map;
+
+/**
+ * Keeps {@link AccountConfigReader}s for account configurations in use, so override decisions are resolved
+ * once per account configuration instead of on every hook invocation.
+ * <p>
+ * Readers are keyed by account id and configuration value, so they are reused however the account is loaded,
+ * while a changed configuration gets new readers.
+ */
+public class AccountConfigReaderCache {
+
+    private static final int MAX_READERS = 10_000;
+
+    private final Map<ReaderKey, AccountConfigReader> readers = Caffeine.newBuilder()
+            .maximumSize(MAX_READERS)
+            .<ReaderKey, AccountConfigReader>build()
+            .asMap();
+
+    public AccountConfigReader readerFor(String accountId,
+                                         ObjectNode accountConfig,
+                                         String bidder,
+                                         OrtbVersion ortbVersion,
+                                         boolean debugEnabled) {
+
+        if (accountConfig == null) {
+            return AccountConfigReader.create(null, bidder, ortbVersion, debugEnabled);
+        }
+
+        return readers.computeIfAbsent(
+                new ReaderKey(accountId, accountConfig, bidder, ortbVersion, debugEnabled),
+                key -> AccountConfigReader.create(accountConfig, bidder, ortbVersion, debugEnabled));
+    }
+
+    private record ReaderKey(String accountId,
+                             ObjectNode accountConfig,
+                             String bidder,
+                             OrtbVersion ortbVersion,
+                             boolean debugEnabled) {
+    }
+}
@@ -1,6 +1,5 @@
 package org.prebid.server.hooks.modules.ortb2.blocking.core;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
@@ -22,8 +21,10 @@ import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -47,15 +48,19 @@ public class BidsBlocker {
     private final List<BidderBid> bids;
     private final String bidder;
     private final OrtbVersion ortbVersion;
-    private final ObjectNode accountConfig;
+    private final AccountConfigReader accountConfigReader;
     private final BlockedAttributes blockedAttributes;
     private final BidRejectionTracker bidRejectionTracker;
     private final boolean debugEnabled;
 
+    private final Set<String> blockedBadv;
+    private final Set<String> blockedBcat;
+    private final Set<String> blockedBapp;
+
     private BidsBlocker(List<BidderBid> bids,
                         String bidder,
                         OrtbVersion ortbVersion,
-                        ObjectNode accountConfig,
+                        AccountConfigReader accountConfigReader,
                         BlockedAttributes blockedAttributes,
                         BidRejectionTracker bidRejectionTracker,
                         boolean debugEnabled) {
@@ -63,16 +68,20 @@ public class BidsBlocker {
         this.bids = bids;
         this.bidder = bidder;
         this.ortbVersion = ortbVersion;
-        this.accountConfig = accountConfig;
+        this.accountConfigReader = accountConfigReader;
         this.blockedAttributes = blockedAttributes;
         this.bidRejectionTracker = bidRejectionTracker;
         this.debugEnabled = debugEnabled;
+
+        blockedBadv = toSet(blockedAttributeValues(BlockedAttributes::getBadv));
+        blockedBcat = toSet(blockedAttributeValues(BlockedAttributes::getBcat));
+        blockedBapp = toSet(blockedAttributeValues(BlockedAttributes::getBapp));
     }
 
     public static BidsBlocker create(List<BidderBid> bids,
                                      String bidder,
                                      OrtbVersion ortbVersion,
-                                     ObjectNode accountConfig,
+                                     AccountConfigReader accountConfigReader,
                                      BlockedAttributes blockedAttributes,
                                      BidRejectionTracker bidRejectionTracker,
                                      boolean debugEnabled) {
@@ -81,19 +90,16 @@ public class BidsBlocker {
                 Objects.requireNonNull(bids),
                 Objects.requireNonNull(bidder),
                 Objects.requireNonNull(ortbVersion),
-                accountConfig,
+                Objects.requireNonNull(accountConfigReader),
                 blockedAttributes,
                 bidRejectionTracker,
                 debugEnabled);
     }
 
     public ExecutionResult<BlockedBids> block() {
-        final AccountConfigReader accountConfigReader = AccountConfigReader.create(
-                accountConfig, bidder, ortbVersion, debugEnabled);
-
         try {
             final List<Result<BlockingResult>> blockedBidResults = bids.stream()
-                    .map(bid -> isBlocked(bid, accountConfigReader))
+                    .map(this::isBlocked)
                     .toList();
 
             final Set<Integer> blockedBidIndexes = IntStream.range(0, bids.size())
@@ -120,7 +126,7 @@ public class BidsBlocker {
         }
     }
 
-    private Result<BlockingResult> isBlocked(BidderBid bidderBid, AccountConfigReader accountConfigReader) {
+    private Result<BlockingResult> isBlocked(BidderBid bidderBid) {
         final Result<ResponseBlockingConfig> blockingConfigResult = accountConfigReader
                 .responseBlockingConfigFor(bidderBid);
         final ResponseBlockingConfig blockingConfig = blockingConfigResult.getValue();
@@ -140,14 +146,14 @@ public class BidsBlocker {
         return checkAttribute(
                 bidderBid.getBid().getAdomain(),
                 blockingConfig.getBadv(),
-                blockedAttributeValues(BlockedAttributes::getBadv));
+                blockedBadv);
     }
 
     private AttributeCheckResult<String> checkBcat(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
         return checkAttribute(
                 bidderBid.getBid().getCat(),
                 blockingConfig.getBcat(),
-                blockedAttributeValues(BlockedAttributes::getBcat));
+                blockedBcat);
     }
 
     private AttributeCheckResult<Integer> checkCattax(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
@@ -168,7 +174,7 @@ public class BidsBlocker {
         return checkAttribute(
                 bidderBid.getBid().getBundle(),
                 blockingConfig.getBapp(),
-                blockedAttributeValues(BlockedAttributes::getBapp));
+                blockedBapp);
     }
 
     private AttributeCheckResult<Integer> checkBattr(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
@@ -200,7 +206,7 @@ public class BidsBlocker {
 
     private <T> AttributeCheckResult<T> checkAttribute(List<T> attribute,
                                                        BidAttributeBlockingConfig<T> blockingConfig,
-                                                       List<T> blockedAttributeValues) {
+                                                       Collection<T> blockedAttributeValues) {
 
         if (blockingConfig == null || !blockingConfig.isEnforceBlocks()) {
             return AttributeCheckResult.succeeded();
@@ -228,7 +234,7 @@ public class BidsBlocker {
 
     private AttributeCheckResult<String> checkAttribute(String attribute,
                                                         BidAttributeBlockingConfig<String> blockingConfig,
-                                                        List<String> blockedAttributeValues) {
+                                                        Collection<String> blockedAttributeValues) {
 
         if (blockingConfig == null
                 || !blockingConfig.isEnforceBlocks()
@@ -261,6 +267,10 @@ public class BidsBlocker {
                 : AttributeCheckResult.succeeded();
     }
 
+    private static <T> Set<T> toSet(List<T> values) {
+        return CollectionUtils.isNotEmpty(values) ? new HashSet<>(values) : null;
+    }
+
     private <T> T blockedAttributeValues(Function<BlockedAttributes, T> getter) {
         return blockedAttributes != null ? getter.apply(blockedAttributes) : null;
     }
@@ -1,8 +1,6 @@
 package org.prebid.server.hooks.modules.ortb2.blocking.core;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
-import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.exception.InvalidAccountConfigurationException;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedAttributes;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.ExecutionResult;
@@ -13,42 +11,29 @@ import java.util.Objects;
 public class BlockedAttributesResolver {
 
     private final BidRequest bidRequest;
-    private final String bidder;
-    private final OrtbVersion ortbVersion;
-    private final ObjectNode accountConfig;
+    private final AccountConfigReader accountConfigReader;
     private final boolean debugEnabled;
 
     private BlockedAttributesResolver(BidRequest bidRequest,
-                                      String bidder,
-                                      OrtbVersion ortbVersion,
-                                      ObjectNode accountConfig,
+                                      AccountConfigReader accountConfigReader,
                                       boolean debugEnabled) {
 
         this.bidRequest = bidRequest;
-        this.bidder = bidder;
-        this.ortbVersion = ortbVersion;
-        this.accountConfig = accountConfig;
+        this.accountConfigReader = accountConfigReader;
         this.debugEnabled = debugEnabled;
     }
 
     public static BlockedAttributesResolver create(BidRequest bidRequest,
-                                                   String bidder,
-                                                   OrtbVersion ortbVersion,
-                                                   ObjectNode accountConfig,
+                                                   AccountConfigReader accountConfigReader,
                                                    boolean debugEnabled) {
 
         return new BlockedAttributesResolver(
                 Objects.requireNonNull(bidRequest),
-                Objects.requireNonNull(bidder),
-                Objects.requireNonNull(ortbVersion),
-                accountConfig,
+                Objects.requireNonNull(accountConfigReader),
                 debugEnabled);
     }
 
     public ExecutionResult<BlockedAttributes> resolve() {
-        final AccountConfigReader accountConfigReader = AccountConfigReader.create(
-                accountConfig, bidder, ortbVersion, debugEnabled);
-
         try {
             final Result<BlockedAttributes> blockedAttributesResult = accountConfigReader
                     .blockedAttributesFor(bidRequest);
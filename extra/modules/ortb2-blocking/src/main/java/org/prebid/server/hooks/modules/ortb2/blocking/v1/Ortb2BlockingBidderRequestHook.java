@@ -7,6 +7,7 @@ import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.hooks.execution.v1.InvocationResultImpl;
 import org.prebid.server.hooks.execution.v1.bidder.BidderRequestPayloadImpl;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigReaderCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.BlockedAttributesResolver;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.RequestUpdater;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedAttributes;
@@ -29,9 +30,13 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
     private static final String CODE = "ortb2-blocking-bidder-request";
 
     private final BidderCatalog bidderCatalog;
+    private final AccountConfigReaderCache accountConfigReaderCache;
+
+    public Ortb2BlockingBidderRequestHook(BidderCatalog bidderCatalog,
+                                          AccountConfigReaderCache accountConfigReaderCache) {
 
-    public Ortb2BlockingBidderRequestHook(BidderCatalog bidderCatalog) {
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
+        this.accountConfigReaderCache = Objects.requireNonNull(accountConfigReaderCache);
     }
 
     @Override
@@ -48,9 +53,12 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
         final ExecutionResult<BlockedAttributes> blockedAttributesResult = BlockedAttributesResolver
                 .create(
                         bidRequest,
-                        bidder,
-                        moduleContext.ortbVersionOf(bidder),
-                        invocationContext.accountConfig(),
+                        accountConfigReaderCache.readerFor(
+                                invocationContext.auctionContext().getAccount().getId(),
+                                invocationContext.accountConfig(),
+                                bidder,
+                                moduleContext.ortbVersionOf(bidder),
+                                invocationContext.debugEnabled()),
                         invocationContext.debugEnabled())
                 .resolve();
 
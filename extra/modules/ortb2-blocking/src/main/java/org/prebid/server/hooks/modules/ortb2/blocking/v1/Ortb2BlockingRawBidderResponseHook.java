@@ -12,6 +12,7 @@ import org.prebid.server.hooks.execution.v1.analytics.AppliedToImpl;
 import org.prebid.server.hooks.execution.v1.analytics.ResultImpl;
 import org.prebid.server.hooks.execution.v1.analytics.TagsImpl;
 import org.prebid.server.hooks.execution.v1.bidder.BidderResponsePayloadImpl;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigReaderCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.BidsBlocker;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.ResponseUpdater;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.AnalyticsResult;
@@ -40,9 +41,11 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
     private static final String SUCCESS_STATUS = "success";
 
     private final ObjectMapper mapper;
+    private final AccountConfigReaderCache accountConfigReaderCache;
 
-    public Ortb2BlockingRawBidderResponseHook(ObjectMapper mapper) {
+    public Ortb2BlockingRawBidderResponseHook(ObjectMapper mapper, AccountConfigReaderCache accountConfigReaderCache) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.accountConfigReaderCache = Objects.requireNonNull(accountConfigReaderCache);
     }
 
     @Override
@@ -51,13 +54,20 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
 
         final String bidder = invocationContext.bidder();
         final ModuleContext moduleContext = moduleContext(invocationContext);
+        final OrtbVersion ortbVersion = ObjectUtils.defaultIfNull(
+                moduleContext.ortbVersionOf(bidder), OrtbVersion.ORTB_2_5);
 
         final ExecutionResult<BlockedBids> blockedBidsResult = BidsBlocker
                 .create(
                         bidderResponsePayload.bids(),
                         bidder,
-                        ObjectUtils.defaultIfNull(moduleContext.ortbVersionOf(bidder), OrtbVersion.ORTB_2_5),
-                        invocationContext.accountConfig(),
+                        ortbVersion,
+                        accountConfigReaderCache.readerFor(
+                                invocationContext.auctionContext().getAccount().getId(),
+                                invocationContext.accountConfig(),
+                                bidder,
+                                ortbVersion,
+                                invocationContext.debugEnabled()),
                         moduleContext.blockedAttributesFor(bidder),
                         invocationContext.auctionContext().getBidRejectionTrackers().get(bidder),
                         invocationContext.debugEnabled())
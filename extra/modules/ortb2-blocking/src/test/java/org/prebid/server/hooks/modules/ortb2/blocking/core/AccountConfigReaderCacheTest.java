@@ -0,0 +1,87 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.auction.versionconverter.OrtbVersion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccountConfigReaderCacheTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final AccountConfigReaderCache target = new AccountConfigReaderCache();
+
+    @Test
+    public void readerForShouldReturnSameReaderForSameAccountConfigAndBidder() {
+        // given
+        final ObjectNode accountConfig = MAPPER.createObjectNode();
+
+        // when
+        final AccountConfigReader first = target.readerFor(
+                "accountId", accountConfig, "bidder1", OrtbVersion.ORTB_2_5, false);
+        final AccountConfigReader second = target.readerFor(
+                "accountId", accountConfig, "bidder1", OrtbVersion.ORTB_2_5, false);
+
+        // then
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    public void readerForShouldReturnSameReaderForEqualAccountConfigLoadedAgain() {
+        // given
+        final AccountConfigReader reader = target.readerFor(
+                "accountId", givenAccountConfig("domain.com"), "bidder1", OrtbVersion.ORTB_2_5, false);
+
+        // when
+        final AccountConfigReader result = target.readerFor(
+                "accountId", givenAccountConfig("domain.com"), "bidder1", OrtbVersion.ORTB_2_5, false);
+
+        // then
+        assertThat(result).isSameAs(reader);
+    }
+
+    @Test
+    public void readerForShouldReturnNewReaderWhenAccountConfigChanged() {
+        // given
+        final AccountConfigReader reader = target.readerFor(
+                "accountId", givenAccountConfig("domain1.com"), "bidder1", OrtbVersion.ORTB_2_5, false);
+
+        // when
+        final AccountConfigReader result = target.readerFor(
+                "accountId", givenAccountConfig("domain2.com"), "bidder1", OrtbVersion.ORTB_2_5, false);
+
+        // then
+        assertThat(result).isNotSameAs(reader);
+    }
+
+    @Test
+    public void readerForShouldReturnDifferentReadersForDifferentAccountsBiddersOrDebug() {
+        // given
+        final ObjectNode accountConfig = MAPPER.createObjectNode();
+
+        // when
+        final AccountConfigReader reader = target.readerFor(
+                "accountId", accountConfig, "bidder1", OrtbVersion.ORTB_2_5, false);
+
+        // then
+        assertThat(target.readerFor("accountId2", accountConfig, "bidder1", OrtbVersion.ORTB_2_5, false))
+                .isNotSameAs(reader);
+        assertThat(target.readerFor("accountId", accountConfig, "bidder2", OrtbVersion.ORTB_2_5, false))
+                .isNotSameAs(reader);
+        assertThat(target.readerFor("accountId", accountConfig, "bidder1", OrtbVersion.ORTB_2_6, false))
+                .isNotSameAs(reader);
+        assertThat(target.readerFor("accountId", accountConfig, "bidder1", OrtbVersion.ORTB_2_5, true))
+                .isNotSameAs(reader);
+    }
+
+    private static ObjectNode givenAccountConfig(String blockedDomain) {
+        final ObjectNode accountConfig = MAPPER.createObjectNode();
+        accountConfig.putObject("attributes")
+                .putObject("badv")
+                .putArray("blocked-adomain")
+                .add(blockedDomain);
+        return accountConfig;
+    }
+}
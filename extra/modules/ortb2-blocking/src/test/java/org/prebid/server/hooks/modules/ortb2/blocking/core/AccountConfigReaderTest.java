@@ -41,10 +41,12 @@ import java.util.function.UnaryOperator;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 public class AccountConfigReaderTest {
 
@@ -121,6 +123,25 @@ public class AccountConfigReaderTest {
                 .hasMessage("badv field in account configuration is not an object");
     }
 
+    @Test
+    public void blockedAttributesForShouldThrowNewErrorOnEachCallWhenReaderIsReused() {
+        // given
+        final ObjectNode accountConfig = MAPPER.createObjectNode()
+                .set("attributes", MAPPER.createObjectNode()
+                        .put("badv", 1));
+        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+
+        // when
+        final Throwable first = catchThrowable(() -> reader.blockedAttributesFor(emptyRequest()));
+        final Throwable second = catchThrowable(() -> reader.blockedAttributesFor(emptyRequest()));
+
+        // then
+        assertThat(second)
+                .isInstanceOf(InvalidAccountConfigurationException.class)
+                .isNotSameAs(first)
+                .hasMessage(first.getMessage());
+    }
+
     @Test
     public void blockedAttributesForShouldReturnErrorWhenBlockedAdomainsIsNotArray() {
         // given
@@ -1251,6 +1272,43 @@ public class AccountConfigReaderTest {
         });
     }
 
+    @Test
+    public void responseBlockingConfigForShouldResolveDealExceptionsForEachDealidWhenReaderIsReused() {
+        // given
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .actionOverrides(AttributeActionOverrides.allowedForDeals(
+                                asList(
+                                        AllowedForDealsOverride.of(
+                                                DealsConditions.of(asList("dealid1", "dealid2")),
+                                                singletonList("domain3.com")),
+                                        AllowedForDealsOverride.of(
+                                                DealsConditions.of(asList("dealid1", "dealid3")),
+                                                singletonList("domain4.com")))))
+                        .build())
+                .build()));
+        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+
+        // when
+        final BidAttributeBlockingConfig<String> dealid1Config = reader.responseBlockingConfigFor(bid()).getValue()
+                .getBadv();
+        final BidAttributeBlockingConfig<String> dealid3Config = reader.responseBlockingConfigFor(bid("dealid3"))
+                .getValue().getBadv();
+        final BidAttributeBlockingConfig<String> unknownDealConfig = reader.responseBlockingConfigFor(bid("dealid4"))
+                .getValue().getBadv();
+        final BidAttributeBlockingConfig<String> nonDealConfig = reader.responseBlockingConfigFor(bid(null))
+                .getValue().getBadv();
+
+        // then
+        assertThat(dealid1Config).isEqualTo(BidAttributeBlockingConfig.of(
+                false, false, new HashSet<>(asList("domain3.com", "domain4.com"))));
+        assertThat(dealid3Config).isEqualTo(BidAttributeBlockingConfig.of(
+                false, false, singleton("domain4.com")));
+        assertThat(unknownDealConfig).isEqualTo(BidAttributeBlockingConfig.of(false, false, emptySet()));
+        assertThat(nonDealConfig).isEqualTo(BidAttributeBlockingConfig.of(false, false, emptySet()));
+        assertThat(reader.responseBlockingConfigFor(bid()).getValue().getBadv()).isEqualTo(dealid1Config);
+    }
+
     @Test
     public void responseBlockingConfigForShouldReturnAllAttributesForBanner() {
         // given
@@ -1543,8 +1601,12 @@ public class AccountConfigReaderTest {
     }
 
     private static BidderBid bid() {
+        return bid("dealid1");
+    }
+
+    private static BidderBid bid(String dealid) {
         return BidderBid.of(
-                Bid.builder().dealid("dealid1").build(),
+                Bid.builder().dealid(dealid).build(),
                 BidType.banner,
                 "USD");
     }
@@ -674,6 +674,12 @@ public class BidsBlockerTest {
                                     boolean debugEnabled) {
 
         return BidsBlocker.create(
-                bids, "bidder1", ortbVersion, accountConfig, blockedAttributes, bidRejectionTracker, debugEnabled);
+                bids,
+                "bidder1",
+                ortbVersion,
+                AccountConfigReader.create(accountConfig, "bidder1", ortbVersion, debugEnabled),
+                blockedAttributes,
+                bidRejectionTracker,
+                debugEnabled);
     }
 }
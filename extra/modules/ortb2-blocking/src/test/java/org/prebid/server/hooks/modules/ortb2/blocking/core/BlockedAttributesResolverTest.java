@@ -38,7 +38,7 @@ public class BlockedAttributesResolverTest {
         // given
         final ObjectNode accountConfig = MAPPER.createObjectNode().put("block-lists", 1);
         final BlockedAttributesResolver resolver = BlockedAttributesResolver.create(
-                emptyRequest(), "bidder1", ORTB_VERSION, accountConfig, false);
+                emptyRequest(), AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, false), false);
 
         // when and then
         assertThat(resolver.resolve()).isEqualTo(ExecutionResult.empty());
@@ -49,7 +49,7 @@ public class BlockedAttributesResolverTest {
         // given
         final ObjectNode accountConfig = MAPPER.createObjectNode().put("attributes", 1);
         final BlockedAttributesResolver resolver = BlockedAttributesResolver.create(
-                emptyRequest(), "bidder1", ORTB_VERSION, accountConfig, true);
+                emptyRequest(), AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true), true);
 
         // when and then
         assertThat(resolver.resolve()).isEqualTo(
@@ -75,9 +75,7 @@ public class BlockedAttributesResolverTest {
                 request(imp -> imp
                         .video(Video.builder().build())
                         .banner(Banner.builder().build())),
-                "bidder1",
-                ORTB_VERSION,
-                accountConfig,
+                AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true),
                 true);
 
         // when and then
@@ -107,9 +105,7 @@ public class BlockedAttributesResolverTest {
                 request(imp -> imp
                         .video(Video.builder().build())
                         .banner(Banner.builder().build())),
-                "bidder1",
-                ORTB_VERSION,
-                accountConfig,
+                AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, false),
                 false);
 
         // when and then
@@ -19,6 +19,7 @@ import org.prebid.server.hooks.execution.v1.analytics.AppliedToImpl;
 import org.prebid.server.hooks.execution.v1.analytics.ResultImpl;
 import org.prebid.server.hooks.execution.v1.analytics.TagsImpl;
 import org.prebid.server.hooks.execution.v1.bidder.BidderResponsePayloadImpl;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigReaderCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.config.Attribute;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.config.AttributeActionOverrides;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.config.Attributes;
@@ -35,6 +36,7 @@ import org.prebid.server.hooks.v1.PayloadUpdate;
 import org.prebid.server.hooks.v1.bidder.BidderResponsePayload;
 import org.prebid.server.json.ObjectMapperProvider;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
+import org.prebid.server.settings.model.Account;
 
 import java.util.Map;
 import java.util.function.UnaryOperator;
@@ -53,7 +55,7 @@ public class Ortb2BlockingRawBidderResponseHookTest {
             .setSerializationInclusion(JsonInclude.Include.NON_NULL);
 
     private final Ortb2BlockingRawBidderResponseHook hook = new Ortb2BlockingRawBidderResponseHook(
-            ObjectMapperProvider.mapper());
+            ObjectMapperProvider.mapper(), new AccountConfigReaderCache());
 
     @Mock
     private BidRejectionTracker bidRejectionTracker;
@@ -145,6 +147,7 @@ public class Ortb2BlockingRawBidderResponseHookTest {
                         .bidder("bidder1")
                         .accountConfig(accountConfig)
                         .auctionContext(AuctionContext.builder()
+                                .account(Account.empty("accountId"))
                                 .bidRejectionTrackers(Map.of("bidder1", bidRejectionTracker))
                                 .build())
                         .moduleContext(ModuleContext.create().with(
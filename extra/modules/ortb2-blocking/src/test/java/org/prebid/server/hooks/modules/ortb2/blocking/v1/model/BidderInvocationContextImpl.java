@@ -12,6 +12,7 @@ import org.prebid.server.hooks.v1.bidder.BidderInvocationContext;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+import org.prebid.server.settings.model.Account;
 
 import java.util.Map;
 
@@ -42,6 +43,7 @@ public class BidderInvocationContextImpl implements BidderInvocationContext {
         return BidderInvocationContextImpl.builder()
                 .bidder(bidder)
                 .auctionContext(AuctionContext.builder()
+                        .account(Account.empty("accountId"))
                         .bidRequest(BidRequest.builder().build())
                         .bidRejectionTrackers(Map.of(bidder, bidRejectionTracker))
                         .build())
@@ -59,6 +61,7 @@ public class BidderInvocationContextImpl implements BidderInvocationContext {
         return BidderInvocationContextImpl.builder()
                 .bidder(bidder)
                 .auctionContext(AuctionContext.builder()
+                        .account(Account.empty("accountId"))
                         .bidRequest(BidRequest.builder()
                                 .ext(ExtRequest.of(ExtRequestPrebid.builder()
                                         .aliases(aliases)
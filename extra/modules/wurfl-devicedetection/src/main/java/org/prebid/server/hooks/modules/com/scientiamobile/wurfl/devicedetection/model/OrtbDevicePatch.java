@@ -0,0 +1,209 @@
+package org.prebid.server.hooks.modules.com.scientiamobile.wurfl.devicedetection.model;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.scientiamobile.wurfl.core.Device;
+import com.scientiamobile.wurfl.core.exc.CapabilityNotDefinedException;
+import com.scientiamobile.wurfl.core.exc.VirtualCapabilityNotDefinedException;
+import lombok.Builder;
+import lombok.Value;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * ORTB device fields and {@code device.ext.wurfl} object resolved from the WURFL device of a single request.
+ */
+@Value
+@Builder
+public class OrtbDevicePatch {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrtbDevicePatch.class);
+
+    String make;
+
+    String model;
+
+    Integer devicetype;
+
+    String os;
+
+    String osv;
+
+    Integer h;
+
+    Integer w;
+
+    Integer ppi;
+
+    BigDecimal pxratio;
+
+    Integer js;
+
+    ObjectNode wurflExt;
+
+    public static OrtbDevicePatch from(Device wurflDevice,
+                                       Set<String> staticCaps,
+                                       Set<String> virtualCaps,
+                                       boolean addExtCaps) {
+
+        return OrtbDevicePatch.builder()
+                .make(wurflDevice.getCapability("brand_name"))
+                .model(wurflDevice.getCapability("model_name"))
+                .devicetype(getWurflDeviceType(wurflDevice))
+                .os(getWurflOs(wurflDevice))
+                .osv(getWurflOsv(wurflDevice))
+                .h(getWurflH(wurflDevice))
+                .w(getWurflW(wurflDevice))
+                .ppi(getWurflPpi(wurflDevice))
+                .pxratio(getWurflPxRatio(wurflDevice))
+                .js(getWurflJs(wurflDevice))
+                .wurflExt(createWurflObject(wurflDevice, staticCaps, virtualCaps, addExtCaps))
+                .build();
+    }
+
+    private static Integer getWurflDeviceType(Device wurflDevice) {
+        try {
+            if (wurflDevice.getVirtualCapabilityAsBool("is_mobile")) {
+                // if at least one of these capabilities is not defined, the mobile device type is undefined
+                final boolean isPhone = wurflDevice.getVirtualCapabilityAsBool("is_phone");
+                final boolean isTablet = wurflDevice.getCapabilityAsBool("is_tablet");
+                return isPhone || isTablet ? 1 : 6;
+            }
+
+            if (wurflDevice.getVirtualCapabilityAsBool("is_full_desktop")) {
+                return 2;
+            }
+
+            if (wurflDevice.getCapabilityAsBool("is_connected_tv")) {
+                return 3;
+            }
+
+            if (wurflDevice.getCapabilityAsBool("is_phone")) {
+                return 4;
+            }
+
+            if (wurflDevice.getCapabilityAsBool("is_tablet")) {
+                return 5;
+            }
+
+            if (wurflDevice.getCapabilityAsBool("is_ott")) {
+                return 7;
+            }
+
+            final String physicalFormFactor = wurflDevice.getCapability("physical_form_factor");
+            if (physicalFormFactor != null && physicalFormFactor.equals("out_of_home_device")) {
+                return 8;
+            }
+        } catch (CapabilityNotDefinedException | VirtualCapabilityNotDefinedException | NumberFormatException e) {
+            logger.warn("Failed to determine device type from WURFL device capabilities", e);
+        }
+        return null;
+    }
+
+    private static String getWurflOs(Device wurflDevice) {
+        try {
+            return wurflDevice.getVirtualCapability("advertised_device_os");
+        } catch (VirtualCapabilityNotDefinedException e) {
+            logger.warn("Failed to evaluate advertised device OS", e);
+            return null;
+        }
+    }
+
+    private static String getWurflOsv(Device wurflDevice) {
+        try {
+            return wurflDevice.getVirtualCapability("advertised_device_os_version");
+        } catch (VirtualCapabilityNotDefinedException e) {
+            logger.warn("Failed to evaluate advertised device OS version", e);
+        }
+        return null;
+    }
+
+    private static Integer getWurflH(Device wurflDevice) {
+        try {
+            return wurflDevice.getCapabilityAsInt("resolution_height");
+        } catch (NumberFormatException e) {
+            logger.warn("Failed to get resolution height from WURFL device capabilities", e);
+            return null;
+        }
+    }
+
+    private static Integer getWurflW(Device wurflDevice) {
+        try {
+            return wurflDevice.getCapabilityAsInt("resolution_width");
+        } catch (NumberFormatException e) {
+            logger.warn("Failed to get resolution width from WURFL device capabilities", e);
+            return null;
+        }
+    }
+
+    private static Integer getWurflPpi(Device wurflDevice) {
+        try {
+            return wurflDevice.getVirtualCapabilityAsInt("pixel_density");
+        } catch (VirtualCapabilityNotDefinedException e) {
+            logger.warn("Failed to get pixel density from WURFL device capabilities", e);
+            return null;
+        }
+    }
+
+    private static BigDecimal getWurflPxRatio(Device wurflDevice) {
+        try {
+            final String densityAsString = wurflDevice.getCapability("density_class");
+            return densityAsString != null
+                    ? new BigDecimal(densityAsString)
+                    : null;
+        } catch (CapabilityNotDefinedException | NumberFormatException e) {
+            logger.warn("Failed to get pixel ratio from WURFL device capabilities", e);
+            return null;
+        }
+    }
+
+    private static Integer getWurflJs(Device wurflDevice) {
+        try {
+            return wurflDevice.getCapabilityAsBool("ajax_support_javascript") ? 1 : 0;
+        } catch (CapabilityNotDefinedException | NumberFormatException e) {
+            logger.warn("Failed to get JS support from WURFL device capabilities", e);
+            return null;
+        }
+    }
+
+    private static ObjectNode createWurflObject(Device wurflDevice,
+                                                Set<String> staticCaps,
+                                                Set<String> virtualCaps,
+                                                boolean addExtCaps) {
+
+        final ObjectNode wurfl = JsonNodeFactory.instance.objectNode();
+
+        wurfl.put("wurfl_id", wurflDevice.getId());
+
+        if (!addExtCaps) {
+            return wurfl;
+        }
+
+        for (String capability : staticCaps) {
+            try {
+                final String value = wurflDevice.getCapability(capability);
+                if (value != null) {
+                    wurfl.put(capability, value);
+                }
+            } catch (Exception e) {
+                logger.warn("Error getting capability for {}: {}", capability, e.getMessage());
+            }
+        }
+
+        for (String virtualCapability : virtualCaps) {
+            try {
+                final String value = wurflDevice.getVirtualCapability(virtualCapability);
+                if (value != null) {
+                    wurfl.put(virtualCapability, value);
+                }
+            } catch (Exception e) {
+                logger.warn("Could not fetch virtual capability {}", virtualCapability);
+            }
+        }
+
+        return wurfl;
+    }
+}
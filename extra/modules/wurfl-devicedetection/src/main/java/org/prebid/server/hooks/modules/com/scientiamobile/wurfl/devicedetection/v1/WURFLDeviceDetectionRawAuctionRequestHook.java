@@ -8,6 +8,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.hooks.modules.com.scientiamobile.wurfl.devicedetection.config.WURFLDeviceDetectionConfigProperties;
 import org.prebid.server.hooks.modules.com.scientiamobile.wurfl.devicedetection.model.AuctionRequestHeadersContext;
+import org.prebid.server.hooks.modules.com.scientiamobile.wurfl.devicedetection.model.OrtbDevicePatch;
 import org.prebid.server.hooks.modules.com.scientiamobile.wurfl.devicedetection.resolver.HeadersResolver;
 import org.prebid.server.hooks.v1.InvocationAction;
 import org.prebid.server.hooks.v1.InvocationResult;
@@ -34,7 +35,6 @@ public class WURFLDeviceDetectionRawAuctionRequestHook implements RawAuctionRequ
 
     private final WURFLService wurflService;
     private final Set<String> allowedPublisherIDs;
-    private final boolean addExtCaps;
     private final JacksonMapper mapper;
 
     public WURFLDeviceDetectionRawAuctionRequestHook(WURFLService wurflService,
@@ -42,7 +42,6 @@ public class WURFLDeviceDetectionRawAuctionRequestHook implements RawAuctionRequ
                                                      JacksonMapper mapper) {
 
         this.wurflService = Objects.requireNonNull(wurflService);
-        this.addExtCaps = Objects.requireNonNull(configProperties).isExtCaps();
         this.allowedPublisherIDs = Objects.requireNonNull(configProperties.getAllowedPublisherIds());
         this.mapper = Objects.requireNonNull(mapper);
     }
@@ -68,8 +67,8 @@ public class WURFLDeviceDetectionRawAuctionRequestHook implements RawAuctionRequ
                         : null;
 
         final Map<String, String> headers = HeadersResolver.resolve(device, requestHeaders);
-        final Optional<com.scientiamobile.wurfl.core.Device> wurflDevice = wurflService.lookupDevice(headers);
-        if (wurflDevice.isEmpty()) {
+        final Optional<OrtbDevicePatch> devicePatch = wurflService.lookupDevicePatch(headers);
+        if (devicePatch.isEmpty()) {
             logger.info("No WURFL device found, returning original bid request");
             return noActionResult();
         }
@@ -78,12 +77,7 @@ public class WURFLDeviceDetectionRawAuctionRequestHook implements RawAuctionRequ
                 InvocationResultImpl.<AuctionRequestPayload>builder()
                         .status(InvocationStatus.success)
                         .action(InvocationAction.update)
-                        .payloadUpdate(new OrtbDeviceUpdater(
-                                wurflDevice.get(),
-                                wurflService.getAllCapabilities(),
-                                wurflService.getAllVirtualCapabilities(),
-                                addExtCaps,
-                                mapper))
+                        .payloadUpdate(new OrtbDeviceUpdater(devicePatch.get(), mapper))
                         .build());
     }
 
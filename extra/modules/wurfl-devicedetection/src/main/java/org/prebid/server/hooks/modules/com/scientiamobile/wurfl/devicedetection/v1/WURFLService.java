@@ -7,6 +7,7 @@ import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.execution.file.FileProcessor;
 import org.prebid.server.hooks.modules.com.scientiamobile.wurfl.devicedetection.config.WURFLDeviceDetectionConfigProperties;
+import org.prebid.server.hooks.modules.com.scientiamobile.wurfl.devicedetection.model.OrtbDevicePatch;
 import org.prebid.server.hooks.modules.com.scientiamobile.wurfl.devicedetection.model.WURFLEngineUtils;
 
 import java.util.Collections;
@@ -51,6 +52,24 @@ public class WURFLService implements FileProcessor {
                 .map(engine -> engine.getDeviceForRequest(headers));
     }
 
+    /**
+     * Returns ORTB device patch for the device detected by headers,
+     * resolved against the same engine instance the device was detected by.
+     */
+    public Optional<OrtbDevicePatch> lookupDevicePatch(Map<String, String> headers) {
+        final WURFLEngine engine = wurflEngine.get();
+        if (engine == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(engine.getDeviceForRequest(headers))
+                .map(device -> OrtbDevicePatch.from(
+                        device,
+                        engine.getAllCapabilities(),
+                        engine.getAllVirtualCapabilities(),
+                        configProperties.isExtCaps()));
+    }
+
     public Set<String> getAllCapabilities() {
         return Optional.ofNullable(wurflEngine.get())
                 .map(WURFLEngine::getAllCapabilities)
@@ -63,4 +82,3 @@ public class WURFLService implements FileProcessor {
                 .orElse(Collections.emptySet());
     }
 }
-
@@ -3,6 +3,7 @@ package org.prebid.server.hooks.modules.com.scientiamobile.wurfl.devicedetection
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.iab.openrtb.request.Device;
 import org.mockito.Mock;
+import org.prebid.server.hooks.modules.com.scientiamobile.wurfl.devicedetection.model.OrtbDevicePatch;
 import org.prebid.server.proto.openrtb.ext.request.ExtDevice;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -53,7 +54,8 @@ public class OrtbDeviceUpdaterTest {
         given(wurflDevice.getVirtualCapabilityAsBool("is_phone")).willReturn(true);
         given(wurflDevice.getCapabilityAsBool("is_tablet")).willReturn(false);
         given(wurflDevice.getVirtualCapabilityAsBool("is_full_desktop")).willReturn(false);
-        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(wurflDevice, staticCaps, virtualCaps, true, mapper);
+        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(
+                OrtbDevicePatch.from(wurflDevice, staticCaps, virtualCaps, true), mapper);
         final Device device = Device.builder().build();
         final BidRequest bidRequest = BidRequest.builder().device(device).build();
         given(payload.bidRequest()).willReturn(bidRequest);
@@ -78,7 +80,8 @@ public class OrtbDeviceUpdaterTest {
         given(wurflDevice.getVirtualCapability("is_phone")).willReturn("true");
         given(wurflDevice.getCapability("is_tablet")).willReturn("false");
         given(wurflDevice.getVirtualCapability("is_full_desktop")).willReturn("false");
-        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(wurflDevice, staticCaps, virtualCaps, true, mapper);
+        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(
+                OrtbDevicePatch.from(wurflDevice, staticCaps, virtualCaps, true), mapper);
         given(payload.bidRequest()).willReturn(bidRequest);
 
         // when
@@ -101,7 +104,8 @@ public class OrtbDeviceUpdaterTest {
         given(wurflDevice.getVirtualCapability("is_phone")).willReturn("true");
         given(wurflDevice.getCapability("is_tablet")).willReturn("false");
         given(wurflDevice.getVirtualCapability("is_full_desktop")).willReturn("false");
-        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(wurflDevice, staticCaps, virtualCaps, true, mapper);
+        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(
+                OrtbDevicePatch.from(wurflDevice, staticCaps, virtualCaps, true), mapper);
         given(payload.bidRequest()).willReturn(bidRequest);
 
         // when
@@ -125,7 +129,8 @@ public class OrtbDeviceUpdaterTest {
         given(wurflDevice.getVirtualCapability("is_phone")).willReturn("true");
         given(wurflDevice.getCapability("is_tablet")).willReturn("false");
         given(wurflDevice.getVirtualCapability("is_full_desktop")).willReturn("false");
-        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(wurflDevice, staticCaps, virtualCaps, true, mapper);
+        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(
+                OrtbDevicePatch.from(wurflDevice, staticCaps, virtualCaps, true), mapper);
         given(payload.bidRequest()).willReturn(bidRequest);
 
         // when
@@ -145,7 +150,8 @@ public class OrtbDeviceUpdaterTest {
         given(wurflDevice.getCapability("model_name")).willReturn("iPhone");
         given(wurflDevice.getVirtualCapability("advertised_device_os")).willReturn("iOS");
         given(wurflDevice.getVirtualCapabilityAsBool("is_full_desktop")).willReturn(false);
-        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(wurflDevice, staticCaps, virtualCaps, true, mapper);
+        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(
+                OrtbDevicePatch.from(wurflDevice, staticCaps, virtualCaps, true), mapper);
         given(payload.bidRequest()).willReturn(bidRequest);
 
         // when
@@ -170,7 +176,8 @@ public class OrtbDeviceUpdaterTest {
         given(wurflDevice.getVirtualCapabilityAsBool("is_full_desktop")).willReturn(false);
         given(wurflDevice.getCapabilityAsInt("resolution_width")).willReturn(3200);
         given(wurflDevice.getCapabilityAsInt("resolution_height")).willReturn(1440);
-        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(wurflDevice, staticCaps, virtualCaps, true, mapper);
+        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(
+                OrtbDevicePatch.from(wurflDevice, staticCaps, virtualCaps, true), mapper);
         given(payload.bidRequest()).willReturn(bidRequest);
         // when
         final AuctionRequestPayload result = target.apply(payload);
@@ -188,7 +195,8 @@ public class OrtbDeviceUpdaterTest {
         final BidRequest bidRequest = BidRequest.builder().device(device).build();
         given(wurflDevice.getCapabilityAsBool("ajax_support_javascript")).willReturn(true);
         given(wurflDevice.getVirtualCapabilityAsBool("is_mobile")).willReturn(true);
-        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(wurflDevice, staticCaps, virtualCaps, true, mapper);
+        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(
+                OrtbDevicePatch.from(wurflDevice, staticCaps, virtualCaps, true), mapper);
         given(payload.bidRequest()).willReturn(bidRequest);
 
         // when
@@ -209,7 +217,8 @@ public class OrtbDeviceUpdaterTest {
         given(wurflDevice.getVirtualCapabilityAsBool("is_mobile")).willReturn(false);
         given(wurflDevice.getVirtualCapabilityAsBool("is_phone")).willReturn(false);
         given(wurflDevice.getCapabilityAsBool("is_tablet")).willReturn(false);
-        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(wurflDevice, staticCaps, virtualCaps, true, mapper);
+        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(
+                OrtbDevicePatch.from(wurflDevice, staticCaps, virtualCaps, true), mapper);
         given(payload.bidRequest()).willReturn(bidRequest);
         // when
         final AuctionRequestPayload result = target.apply(payload);
@@ -227,7 +236,8 @@ public class OrtbDeviceUpdaterTest {
         given(wurflDevice.getCapability("physical_form_factor")).willReturn("out_of_home_device");
         given(wurflDevice.getCapabilityAsBool("is_tablet")).willReturn(false);
         given(wurflDevice.getCapabilityAsBool("is_wireless_device")).willReturn(false);
-        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(wurflDevice, staticCaps, virtualCaps, true, mapper);
+        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(
+                OrtbDevicePatch.from(wurflDevice, staticCaps, virtualCaps, true), mapper);
         given(payload.bidRequest()).willReturn(bidRequest);
         // when
         final AuctionRequestPayload result = target.apply(payload);
@@ -248,7 +258,8 @@ public class OrtbDeviceUpdaterTest {
         given(wurflDevice.getVirtualCapabilityAsBool("is_full_desktop")).willReturn(false);
         given(wurflDevice.getVirtualCapability("advertised_device_os")).willReturn("TestOs");
         given(wurflDevice.getVirtualCapability("advertised_device_os_version")).willReturn("1.0");
-        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(wurflDevice, staticCaps, virtualCaps, true, mapper);
+        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(
+                OrtbDevicePatch.from(wurflDevice, staticCaps, virtualCaps, true), mapper);
         given(payload.bidRequest()).willReturn(bidRequest);
 
         // when
@@ -267,7 +278,8 @@ public class OrtbDeviceUpdaterTest {
         given(wurflDevice.getVirtualCapability("is_full_desktop")).willReturn("false");
         final Device device = Device.builder().build();
         final BidRequest bidRequest = BidRequest.builder().device(device).build();
-        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(wurflDevice, staticCaps, virtualCaps, true, mapper);
+        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(
+                OrtbDevicePatch.from(wurflDevice, staticCaps, virtualCaps, true), mapper);
         // when
         given(payload.bidRequest()).willReturn(bidRequest);
         final AuctionRequestPayload result = target.apply(payload);
@@ -288,7 +300,8 @@ public class OrtbDeviceUpdaterTest {
         given(wurflDevice.getVirtualCapability("advertised_device_os")).willReturn("Windows");
         given(wurflDevice.getVirtualCapability("advertised_device_os_version")).willReturn("10");
         given(wurflDevice.getVirtualCapability("form_factor")).willReturn("Desktop");
-        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(wurflDevice, staticCaps, virtualCaps, true, mapper);
+        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(
+                OrtbDevicePatch.from(wurflDevice, staticCaps, virtualCaps, true), mapper);
         // when
         given(payload.bidRequest()).willReturn(bidRequest);
         final AuctionRequestPayload result = target.apply(payload);
@@ -311,7 +324,8 @@ public class OrtbDeviceUpdaterTest {
         given(wurflDevice.getVirtualCapability("advertised_device_os")).willReturn("WebOS");
         given(wurflDevice.getVirtualCapability("advertised_device_os_version")).willReturn("4");
         given(wurflDevice.getCapabilityAsBool("is_connected_tv")).willReturn(true);
-        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(wurflDevice, staticCaps, virtualCaps, true, mapper);
+        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(
+                OrtbDevicePatch.from(wurflDevice, staticCaps, virtualCaps, true), mapper);
         // when
         given(payload.bidRequest()).willReturn(bidRequest);
         final AuctionRequestPayload result = target.apply(payload);
@@ -331,7 +345,8 @@ public class OrtbDeviceUpdaterTest {
         given(wurflDevice.getVirtualCapabilityAsBool("is_phone")).willReturn(false);
         given(wurflDevice.getVirtualCapabilityAsBool("is_tablet")).willReturn(false); // device type 2
         final BidRequest bidRequest = BidRequest.builder().device(device).build();
-        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(wurflDevice, staticCaps, virtualCaps, true, mapper);
+        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(
+                OrtbDevicePatch.from(wurflDevice, staticCaps, virtualCaps, true), mapper);
         // when
         given(payload.bidRequest()).willReturn(bidRequest);
         final AuctionRequestPayload result = target.apply(payload);
@@ -352,7 +367,8 @@ public class OrtbDeviceUpdaterTest {
 
         final Device device = Device.builder().build();
         final BidRequest bidRequest = BidRequest.builder().device(device).build();
-        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(wurflDevice, staticCaps, virtualCaps, true, mapper);
+        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(
+                OrtbDevicePatch.from(wurflDevice, staticCaps, virtualCaps, true), mapper);
         given(payload.bidRequest()).willReturn(bidRequest);
         // when
         final AuctionRequestPayload result = target.apply(payload);
@@ -380,7 +396,8 @@ public class OrtbDeviceUpdaterTest {
         given(wurflDevice.getVirtualCapability("is_full_desktop")).willReturn("false");
         final Set<String> staticCaps = Set.of("brand_name");
         final Set<String> virtualCaps = Set.of("advertised_device_os");
-        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(wurflDevice, staticCaps, virtualCaps, true, mapper);
+        final OrtbDeviceUpdater target = new OrtbDeviceUpdater(
+                OrtbDevicePatch.from(wurflDevice, staticCaps, virtualCaps, true), mapper);
 
         // when
         given(payload.bidRequest()).willReturn(bidRequest);
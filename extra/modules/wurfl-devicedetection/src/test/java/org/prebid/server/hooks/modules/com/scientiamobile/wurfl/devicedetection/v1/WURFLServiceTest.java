@@ -9,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.hooks.modules.com.scientiamobile.wurfl.devicedetection.config.WURFLDeviceDetectionConfigProperties;
+import org.prebid.server.hooks.modules.com.scientiamobile.wurfl.devicedetection.model.OrtbDevicePatch;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -110,6 +111,84 @@ public class WURFLServiceTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    public void lookupDevicePatchShouldReturnPatchResolvedFromDetectedDevice() {
+        // given
+        given(configProperties.isExtCaps()).willReturn(true);
+        given(wurflEngine.getAllCapabilities()).willReturn(Set.of("brand_name"));
+        given(wurflEngine.getAllVirtualCapabilities()).willReturn(Set.of("advertised_device_os_version"));
+
+        final Device device = mock(Device.class);
+        given(device.getId()).willReturn("apple_iphone_ver1");
+        given(device.getCapability("brand_name")).willReturn("Apple");
+        given(device.getVirtualCapability("advertised_device_os_version")).willReturn("17.0");
+
+        final Map<String, String> headers = Map.of("User-Agent", "ua");
+        given(wurflEngine.getDeviceForRequest(headers)).willReturn(device);
+
+        // when
+        final Optional<OrtbDevicePatch> result = wurflService.lookupDevicePatch(headers);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getMake()).isEqualTo("Apple");
+        assertThat(result.get().getOsv()).isEqualTo("17.0");
+        assertThat(result.get().getWurflExt().get("wurfl_id").textValue()).isEqualTo("apple_iphone_ver1");
+        assertThat(result.get().getWurflExt().get("brand_name").textValue()).isEqualTo("Apple");
+        assertThat(result.get().getWurflExt().get("advertised_device_os_version").textValue()).isEqualTo("17.0");
+    }
+
+    @Test
+    public void lookupDevicePatchShouldResolveVirtualCapabilitiesOfEachRequestForSameDeviceId() {
+        // given
+        given(configProperties.isExtCaps()).willReturn(true);
+        given(wurflEngine.getAllVirtualCapabilities()).willReturn(Set.of("advertised_device_os_version"));
+
+        final Device firstDevice = givenDevice("apple_iphone_ver1", "17.0");
+        final Device secondDevice = givenDevice("apple_iphone_ver1", "18.1");
+        final Map<String, String> firstHeaders = Map.of("User-Agent", "ua1");
+        final Map<String, String> secondHeaders = Map.of("User-Agent", "ua2");
+        given(wurflEngine.getDeviceForRequest(firstHeaders)).willReturn(firstDevice);
+        given(wurflEngine.getDeviceForRequest(secondHeaders)).willReturn(secondDevice);
+
+        // when
+        final Optional<OrtbDevicePatch> first = wurflService.lookupDevicePatch(firstHeaders);
+        final Optional<OrtbDevicePatch> second = wurflService.lookupDevicePatch(secondHeaders);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get().getOsv()).isEqualTo("17.0");
+        assertThat(first.get().getWurflExt().get("advertised_device_os_version").textValue()).isEqualTo("17.0");
+        assertThat(second).isPresent();
+        assertThat(second.get().getOsv()).isEqualTo("18.1");
+        assertThat(second.get().getWurflExt().get("advertised_device_os_version").textValue()).isEqualTo("18.1");
+        assertThat(second.get().getWurflExt()).isNotSameAs(first.get().getWurflExt());
+    }
+
+    @Test
+    public void lookupDevicePatchShouldReturnEmptyWhenDeviceIsNotDetected() {
+        // given
+        given(wurflEngine.getDeviceForRequest(Map.of())).willReturn(null);
+
+        // when
+        final Optional<OrtbDevicePatch> result = wurflService.lookupDevicePatch(Map.of());
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void lookupDevicePatchShouldReturnEmptyWhenEngineIsNull() {
+        // given
+        wurflService = new WURFLService(null, configProperties);
+
+        // when
+        final Optional<OrtbDevicePatch> result = wurflService.lookupDevicePatch(Map.of());
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
     @Test
     public void getAllCapabilitiesShouldReturnCapabilitiesWhenEngineIsNotNull() {
         // given
@@ -161,4 +240,11 @@ public class WURFLServiceTest {
         // then
         assertThat(result).isEmpty();
     }
+
+    private static Device givenDevice(String id, String osVersion) {
+        final Device device = mock(Device.class);
+        given(device.getId()).willReturn(id);
+        given(device.getVirtualCapability("advertised_device_os_version")).willReturn(osVersion);
+        return device;
+    }
 }
@@ -5,6 +5,8 @@ import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.debug.ActivityInfrastructureDebug;
 import org.prebid.server.activity.infrastructure.payload.ActivityInvocationPayload;
+import org.prebid.server.activity.infrastructure.payload.GeoActivityInvocationPayload;
+import org.prebid.server.activity.infrastructure.payload.GpcActivityInvocationPayload;
 import org.prebid.server.activity.infrastructure.privacy.PrivacyModuleQualifier;
 import org.prebid.server.proto.openrtb.ext.response.ExtTraceActivityInfrastructure;
 
@@ -12,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ActivityInfrastructure {
 
@@ -19,6 +22,7 @@ public class ActivityInfrastructure {
 
     private final Map<Activity, ActivityController> activitiesControllers;
     private final ActivityInfrastructureDebug debug;
+    private final Map<InvocationKey, InvocationResult> invocationResults;
 
     public ActivityInfrastructure(Map<Activity, ActivityController> activitiesControllers,
                                   ActivityInfrastructureDebug debug) {
@@ -27,6 +31,8 @@ public class ActivityInfrastructure {
 
         this.activitiesControllers = activitiesControllers;
         this.debug = Objects.requireNonNull(debug);
+        // trace must contain rules processing of each invocation, so results are reused only without it
+        this.invocationResults = debug.isTraceEnabled() ? null : new ConcurrentHashMap<>();
     }
 
     private static void validate(Map<Activity, ActivityController> activitiesControllers) {
@@ -37,12 +43,33 @@ public class ActivityInfrastructure {
 
     public boolean isAllowed(Activity activity, ActivityInvocationPayload activityInvocationPayload) {
         debug.emitActivityInvocation(activity, activityInvocationPayload);
-        final boolean result = activitiesControllers.get(activity).isAllowed(activityInvocationPayload);
+        final boolean result = invocationResults != null && activityInvocationPayload != null
+                ? reuseOrEvaluate(activity, activityInvocationPayload)
+                : evaluate(activity, activityInvocationPayload);
         debug.emitActivityInvocationResult(activity, activityInvocationPayload, result);
 
         return result;
     }
 
+    private boolean reuseOrEvaluate(Activity activity, ActivityInvocationPayload activityInvocationPayload) {
+        final InvocationKey key = InvocationKey.of(activity, activityInvocationPayload);
+        final InvocationResult reusedResult = invocationResults.get(key);
+        if (reusedResult != null) {
+            debug.emitReusedProcessedRules(reusedResult.processedRules());
+            return reusedResult.allowed();
+        }
+
+        final int processedRulesBefore = debug.processedRulesCount();
+        final boolean allowed = evaluate(activity, activityInvocationPayload);
+        invocationResults.put(key, new InvocationResult(allowed, debug.processedRulesCount() - processedRulesBefore));
+
+        return allowed;
+    }
+
+    private boolean evaluate(Activity activity, ActivityInvocationPayload activityInvocationPayload) {
+        return activitiesControllers.get(activity).isAllowed(activityInvocationPayload);
+    }
+
     public void updateActivityMetrics(Activity activity, ComponentType componentType, String componentName) {
         debug.updateActivityMetrics(activity, componentType, componentName);
     }
@@ -54,4 +81,39 @@ public class ActivityInfrastructure {
     public Set<PrivacyModuleQualifier> skippedPrivacyModules() {
         return debug.skippedPrivacyModules();
     }
+
+    private record InvocationResult(boolean allowed, int processedRules) {
+    }
+
+    /**
+     * Everything activity rules can match the invocation payload by.
+     */
+    private record InvocationKey(Activity activity,
+                                 ComponentType componentType,
+                                 String componentName,
+                                 boolean geoAware,
+                                 String country,
+                                 String region,
+                                 boolean gpcAware,
+                                 String gpc) {
+
+        static InvocationKey of(Activity activity, ActivityInvocationPayload payload) {
+            final GeoActivityInvocationPayload geoPayload = payload instanceof GeoActivityInvocationPayload geo
+                    ? geo
+                    : null;
+            final GpcActivityInvocationPayload gpcPayload = payload instanceof GpcActivityInvocationPayload gpc
+                    ? gpc
+                    : null;
+
+            return new InvocationKey(
+                    activity,
+                    payload.componentType(),
+                    payload.componentName(),
+                    geoPayload != null,
+                    geoPayload != null ? geoPayload.country() : null,
+                    geoPayload != null ? geoPayload.region() : null,
+                    gpcPayload != null,
+                    gpcPayload != null ? gpcPayload.gpc() : null);
+        }
+    }
 }
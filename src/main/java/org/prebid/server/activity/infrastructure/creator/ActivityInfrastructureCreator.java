@@ -1,5 +1,6 @@
 package org.prebid.server.activity.infrastructure.creator;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.commons.collections4.ListUtils;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.infrastructure.ActivityController;
@@ -25,7 +26,7 @@ import org.prebid.server.settings.model.activity.AccountActivityConfiguration;
 import org.prebid.server.settings.model.activity.privacy.AccountPrivacyModuleConfig;
 import org.prebid.server.settings.model.activity.rule.AccountActivityRuleConfig;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.EnumSet;
@@ -36,8 +37,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BinaryOperator;
-import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
@@ -46,12 +45,18 @@ public class ActivityInfrastructureCreator {
     private static final Logger logger = LoggerFactory.getLogger(ActivityInfrastructureCreator.class);
 
     private static final int MODULE_MAX_SKIP_RATE = 100;
+    private static final int MAX_COMPILED_ACCOUNTS = 10_000;
 
     private final ActivityRuleFactory activityRuleFactory;
     private final Purpose defaultPurpose4;
     private final Metrics metrics;
     private final JacksonMapper jacksonMapper;
 
+    private final Map<CompilationKey, CompiledActivities> compiledActivitiesCache = Caffeine.newBuilder()
+            .maximumSize(MAX_COMPILED_ACCOUNTS)
+            .<CompilationKey, CompiledActivities>build()
+            .asMap();
+
     public ActivityInfrastructureCreator(ActivityRuleFactory activityRuleFactory,
                                          GdprConfig gdprConfig,
                                          Metrics metrics,
@@ -76,7 +81,15 @@ public class ActivityInfrastructureCreator {
     }
 
     Map<Activity, ActivityController> parse(Account account, GppContext gppContext, ActivityInfrastructureDebug debug) {
-        final Optional<AccountPrivacyConfig> accountPrivacyConfig = Optional.ofNullable(account.getPrivacy());
+        final CompiledActivities compiledActivities = compiledActivitiesCache.computeIfAbsent(
+                CompilationKey.of(account.getId(), account.getPrivacy()),
+                key -> compile(key.accountId(), key.privacyConfig()));
+
+        return bind(compiledActivities, gppContext, debug);
+    }
+
+    private CompiledActivities compile(String accountId, AccountPrivacyConfig privacyConfig) {
+        final Optional<AccountPrivacyConfig> accountPrivacyConfig = Optional.ofNullable(privacyConfig);
 
         final Map<Activity, AccountActivityConfiguration> activitiesConfiguration = accountPrivacyConfig
                 .map(AccountPrivacyConfig::getActivities)
@@ -90,27 +103,23 @@ public class ActivityInfrastructureCreator {
                 .collect(Collectors.toMap(
                         AccountPrivacyModuleConfig::getCode,
                         UnaryOperator.identity(),
-                        takeFirstAndLogDuplicates(account.getId())));
+                        takeFirstAndLogDuplicates(accountId)));
 
-        final Set<PrivacyModuleQualifier> skipPrivacyModules = modulesConfigs.entrySet().stream()
-                .filter(entry -> shouldSkipPrivacyModule(entry.getValue()))
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toCollection(() -> EnumSet.noneOf(PrivacyModuleQualifier.class)));
+        final UnaryOperator<Activity> fallbackActivity =
+                fallbackActivity(activitiesConfiguration, accountPrivacyConfig);
 
-        return Arrays.stream(Activity.values()).collect(Collectors.toMap(
-                UnaryOperator.identity(),
-                fallbackActivity(
-                        activitiesConfiguration,
-                        accountPrivacyConfig,
-                        activity -> from(
-                                activity,
-                                activitiesConfiguration.get(activity),
-                                modulesConfigs,
-                                skipPrivacyModules,
-                                gppContext,
-                                debug)),
-                (oldValue, newValue) -> oldValue,
-                enumMapFactory()));
+        final Map<Activity, CompiledActivity> compiledActivities = new EnumMap<>(Activity.class);
+        for (Activity activity : Activity.values()) {
+            final Activity configuredActivity = fallbackActivity.apply(activity);
+            final AccountActivityConfiguration activityConfiguration = activitiesConfiguration.get(configuredActivity);
+            if (activityConfiguration != null) {
+                compiledActivities.put(
+                        activity,
+                        compileActivity(configuredActivity, activityConfiguration, modulesConfigs));
+            }
+        }
+
+        return new CompiledActivities(modulesConfigs, compiledActivities);
     }
 
     private BinaryOperator<AccountPrivacyModuleConfig> takeFirstAndLogDuplicates(String accountId) {
@@ -124,10 +133,9 @@ public class ActivityInfrastructureCreator {
     }
 
     // TODO: remove this wrapper after transition period
-    private Function<Activity, ActivityController> fallbackActivity(
+    private UnaryOperator<Activity> fallbackActivity(
             Map<Activity, AccountActivityConfiguration> activitiesConfiguration,
-            Optional<AccountPrivacyConfig> accountPrivacyConfig,
-            Function<Activity, ActivityController> activityControllerCreator) {
+            Optional<AccountPrivacyConfig> accountPrivacyConfig) {
 
         final boolean imitateTransmitEids = !activitiesConfiguration.containsKey(Activity.TRANSMIT_EIDS)
                 && activitiesConfiguration.containsKey(Activity.TRANSMIT_UFPD)
@@ -141,42 +149,104 @@ public class ActivityInfrastructureCreator {
                 .orElse(false);
 
         return originalActivity -> originalActivity == Activity.TRANSMIT_EIDS && imitateTransmitEids
-                ? activityControllerCreator.apply(Activity.TRANSMIT_UFPD)
-                : activityControllerCreator.apply(originalActivity);
+                ? Activity.TRANSMIT_UFPD
+                : originalActivity;
+    }
+
+    private CompiledActivity compileActivity(Activity activity,
+                                             AccountActivityConfiguration activityConfiguration,
+                                             Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs) {
+
+        // shareable rules depend neither on GPP context nor on privacy modules skipping
+        final ActivityControllerCreationContext sharedCreationContext = ActivityControllerCreationContext.of(
+                activity,
+                modulesConfigs,
+                Collections.emptySet(),
+                null);
+
+        final List<CompiledRule> rules = new ArrayList<>();
+        for (AccountActivityRuleConfig ruleConfiguration : ListUtils.emptyIfNull(activityConfiguration.getRules())) {
+            if (ruleConfiguration == null) {
+                continue;
+            }
+
+            if (!activityRuleFactory.isShareable(ruleConfiguration)) {
+                rules.add(CompiledRule.requestScoped(ruleConfiguration));
+                continue;
+            }
+
+            final Rule rule = createRule(ruleConfiguration, sharedCreationContext);
+            if (rule != null) {
+                rules.add(CompiledRule.shared(rule));
+            }
+        }
+
+        return new CompiledActivity(activity, allowFromConfig(activityConfiguration.getAllow()), rules);
+    }
+
+    private Map<Activity, ActivityController> bind(CompiledActivities compiledActivities,
+                                                   GppContext gppContext,
+                                                   ActivityInfrastructureDebug debug) {
+
+        final Set<PrivacyModuleQualifier> skipPrivacyModules = compiledActivities.hasRequestScopedRules()
+                ? skipPrivacyModules(compiledActivities.modulesConfigs())
+                : Collections.emptySet();
+
+        final Map<Activity, ActivityController> controllers = new EnumMap<>(Activity.class);
+        for (Activity activity : Activity.values()) {
+            controllers.put(activity, bindActivity(
+                    compiledActivities.activities().get(activity),
+                    compiledActivities.modulesConfigs(),
+                    skipPrivacyModules,
+                    gppContext,
+                    debug));
+        }
+
+        return controllers;
+    }
+
+    private static Set<PrivacyModuleQualifier> skipPrivacyModules(
+            Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs) {
+
+        return modulesConfigs.entrySet().stream()
+                .filter(entry -> shouldSkipPrivacyModule(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(PrivacyModuleQualifier.class)));
     }
 
     private static boolean shouldSkipPrivacyModule(AccountPrivacyModuleConfig config) {
         return ThreadLocalRandom.current().nextInt(MODULE_MAX_SKIP_RATE) < config.getSkipRate();
     }
 
-    private ActivityController from(Activity activity,
-                                    AccountActivityConfiguration activityConfiguration,
-                                    Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs,
-                                    Set<PrivacyModuleQualifier> skipPrivacyModules,
-                                    GppContext gppContext,
-                                    ActivityInfrastructureDebug debug) {
+    private ActivityController bindActivity(CompiledActivity compiledActivity,
+                                            Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs,
+                                            Set<PrivacyModuleQualifier> skipPrivacyModules,
+                                            GppContext gppContext,
+                                            ActivityInfrastructureDebug debug) {
 
-        if (activityConfiguration == null) {
+        if (compiledActivity == null) {
             return ActivityController.of(
                     ActivityInfrastructure.ALLOW_ACTIVITY_BY_DEFAULT,
                     Collections.emptyList(),
                     debug);
         }
 
+        if (!compiledActivity.hasRequestScopedRules()) {
+            return ActivityController.of(compiledActivity.allow(), compiledActivity.sharedRules(), debug);
+        }
+
         final ActivityControllerCreationContext creationContext = ActivityControllerCreationContext.of(
-                activity,
+                compiledActivity.activity(),
                 modulesConfigs,
                 skipPrivacyModules,
                 gppContext);
 
-        final boolean allow = allowFromConfig(activityConfiguration.getAllow());
-        final List<Rule> rules = ListUtils.emptyIfNull(activityConfiguration.getRules()).stream()
-                .filter(Objects::nonNull)
-                .map(ruleConfiguration -> createRule(ruleConfiguration, creationContext))
+        final List<Rule> rules = compiledActivity.rules().stream()
+                .map(rule -> rule.isShared() ? rule.rule() : createRule(rule.configuration(), creationContext))
                 .filter(Objects::nonNull)
                 .toList();
 
-        return ActivityController.of(allow, rules, debug);
+        return ActivityController.of(compiledActivity.allow(), rules, debug);
     }
 
     private static boolean allowFromConfig(Boolean configValue) {
@@ -197,7 +267,47 @@ public class ActivityInfrastructureCreator {
         }
     }
 
-    private static Supplier<Map<Activity, ActivityController>> enumMapFactory() {
-        return () -> new EnumMap<>(Activity.class);
+    private record CompilationKey(String accountId, AccountPrivacyConfig privacyConfig) {
+
+        static CompilationKey of(String accountId, AccountPrivacyConfig privacyConfig) {
+            return new CompilationKey(accountId, privacyConfig);
+        }
+    }
+
+    /**
+     * Activities controllers of the account privacy configuration, that are not bound to a particular request yet.
+     */
+    private record CompiledActivities(Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs,
+                                      Map<Activity, CompiledActivity> activities) {
+
+        boolean hasRequestScopedRules() {
+            return activities.values().stream().anyMatch(CompiledActivity::hasRequestScopedRules);
+        }
+    }
+
+    private record CompiledActivity(Activity activity, boolean allow, List<CompiledRule> rules) {
+
+        boolean hasRequestScopedRules() {
+            return rules.stream().anyMatch(rule -> !rule.isShared());
+        }
+
+        List<Rule> sharedRules() {
+            return rules.stream().map(CompiledRule::rule).toList();
+        }
+    }
+
+    private record CompiledRule(Rule rule, AccountActivityRuleConfig configuration) {
+
+        static CompiledRule shared(Rule rule) {
+            return new CompiledRule(rule, null);
+        }
+
+        static CompiledRule requestScoped(AccountActivityRuleConfig configuration) {
+            return new CompiledRule(null, configuration);
+        }
+
+        boolean isShared() {
+            return rule != null;
+        }
     }
 }
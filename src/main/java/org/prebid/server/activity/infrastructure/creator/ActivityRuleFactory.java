@@ -29,4 +29,9 @@ public class ActivityRuleFactory {
 
         return ruleCreator.from(ruleConfiguration, activityControllerCreationContext);
     }
+
+    public boolean isShareable(Object ruleConfiguration) {
+        final RuleCreator<?> ruleCreator = ruleCreators.get(ruleConfiguration.getClass());
+        return ruleCreator != null && ruleCreator.isShareable(ruleConfiguration);
+    }
 }
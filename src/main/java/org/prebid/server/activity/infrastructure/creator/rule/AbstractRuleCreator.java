@@ -29,5 +29,15 @@ public abstract class AbstractRuleCreator<T> implements RuleCreator<T> {
                 creationContext);
     }
 
+    @Override
+    public boolean isShareable(Object ruleConfiguration) {
+        return relatedConfigurationClass.isInstance(ruleConfiguration)
+                && isShareableConfiguration(relatedConfigurationClass.cast(ruleConfiguration));
+    }
+
+    protected boolean isShareableConfiguration(T ruleConfiguration) {
+        return false;
+    }
+
     protected abstract Rule fromConfiguration(T ruleConfiguration, ActivityControllerCreationContext creationContext);
 }
@@ -32,12 +32,18 @@ public class ConditionsRuleCreator extends AbstractRuleCreator<AccountActivityCo
         return new ConditionsRule(
                 condition != null ? setOf(condition.getComponentTypes()) : null,
                 condition != null ? caseInsensitiveSetOf(condition.getComponentNames()) : null,
-                sidsMatched(condition, creationContext.getGppContext().scope().getSectionsIds()),
+                sidsMatched(condition, creationContext),
                 condition != null ? geoCodes(condition.getGeoCodes()) : null,
                 condition != null ? condition.getGpc() : null,
                 allow);
     }
 
+    @Override
+    protected boolean isShareableConfiguration(AccountActivityConditionsRuleConfig ruleConfiguration) {
+        final AccountActivityConditionsRuleConfig.Condition condition = ruleConfiguration.getCondition();
+        return condition == null || condition.getSids() == null;
+    }
+
     private static boolean allowFromConfig(Boolean configValue) {
         return configValue != null ? configValue : ActivityInfrastructure.ALLOW_ACTIVITY_BY_DEFAULT;
     }
@@ -56,9 +62,11 @@ public class ConditionsRuleCreator extends AbstractRuleCreator<AccountActivityCo
         return caseInsensitiveSet;
     }
 
-    private static boolean sidsMatched(AccountActivityConditionsRuleConfig.Condition condition, Set<Integer> gppSids) {
+    private static boolean sidsMatched(AccountActivityConditionsRuleConfig.Condition condition,
+                                       ActivityControllerCreationContext creationContext) {
+
         final List<Integer> sids = condition != null ? condition.getSids() : null;
-        return sids == null || intersects(sids, gppSids);
+        return sids == null || intersects(sids, creationContext.getGppContext().scope().getSectionsIds());
     }
 
     private static boolean intersects(Collection<Integer> configurationSids, Collection<Integer> gppSids) {
@@ -8,4 +8,12 @@ public interface RuleCreator<T> {
     Class<T> relatedConfigurationClass();
 
     Rule from(Object ruleConfiguration, ActivityControllerCreationContext activityControllerCreationContext);
+
+    /**
+     * Returns true if rule created from the given configuration doesn't depend on GPP context and privacy modules
+     * skipping of particular request, so it can be created once and shared between requests.
+     */
+    default boolean isShareable(Object ruleConfiguration) {
+        return false;
+    }
 }
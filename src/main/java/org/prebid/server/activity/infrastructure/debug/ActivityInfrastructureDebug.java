@@ -32,6 +32,8 @@ public class ActivityInfrastructureDebug {
     private final Metrics metrics;
     private final JacksonMapper jacksonMapper;
 
+    private int processedRulesCount;
+
     public ActivityInfrastructureDebug(String accountId,
                                        TraceLevel traceLevel,
                                        Metrics metrics,
@@ -72,6 +74,21 @@ public class ActivityInfrastructureDebug {
                     result));
         }
 
+        processedRulesCount++;
+        updateProcessedRulesMetrics();
+    }
+
+    /**
+     * Reports rules processed by an earlier equal invocation whose result is reused instead of processing them again.
+     * Skipped privacy modules of these rules are already collected by that invocation.
+     */
+    public void emitReusedProcessedRules(int count) {
+        for (int i = 0; i < count; i++) {
+            updateProcessedRulesMetrics();
+        }
+    }
+
+    private void updateProcessedRulesMetrics() {
         metrics.updateRequestsActivityProcessedRulesCount();
         if (atLeast(TraceLevel.verbose)) {
             metrics.updateAccountActivityProcessedRulesCount(accountId);
@@ -118,6 +135,14 @@ public class ActivityInfrastructureDebug {
         }
     }
 
+    public int processedRulesCount() {
+        return processedRulesCount;
+    }
+
+    public boolean isTraceEnabled() {
+        return atLeast(TraceLevel.basic);
+    }
+
     public List<ExtTraceActivityInfrastructure> trace() {
         return Collections.unmodifiableList(traceLog);
     }
@@ -22,14 +22,16 @@ import org.prebid.server.analytics.AnalyticsReporter;
 import org.prebid.server.analytics.model.AmpEvent;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.model.VideoEvent;
+import org.prebid.server.analytics.reporter.buffer.AnalyticsEventBuffer;
+import org.prebid.server.analytics.reporter.buffer.AnalyticsPayloads;
 import org.prebid.server.analytics.reporter.agma.model.AgmaAnalyticsProperties;
 import org.prebid.server.analytics.reporter.agma.model.AgmaEvent;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.TimeoutContext;
-import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.privacy.model.PrivacyContext;
@@ -40,9 +42,6 @@ import org.prebid.server.vertx.Initializable;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZonedDateTime;
@@ -50,7 +49,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.zip.GZIPOutputStream;
 
 public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
 
@@ -61,7 +59,7 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
     private final long bufferTimeoutMs;
     private final long httpTimeoutMs;
 
-    private final EventBuffer<String> buffer;
+    private final AnalyticsEventBuffer buffer;
 
     private final Map<String, String> accounts;
 
@@ -76,7 +74,8 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
                                  JacksonMapper jacksonMapper,
                                  Clock clock,
                                  HttpClient httpClient,
-                                 Vertx vertx) {
+                                 Vertx vertx,
+                                 Metrics metrics) {
 
         this.accounts = agmaAnalyticsProperties.getAccounts();
 
@@ -85,9 +84,12 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
         this.httpTimeoutMs = agmaAnalyticsProperties.getHttpTimeoutMs();
         this.compressToGzip = agmaAnalyticsProperties.isGzip();
 
-        this.buffer = new EventBuffer<>(
+        this.buffer = new AnalyticsEventBuffer(
+                name(),
                 agmaAnalyticsProperties.getMaxEventsCount(),
-                agmaAnalyticsProperties.getBufferSize());
+                agmaAnalyticsProperties.getBufferSize(),
+                AnalyticsEventBuffer.FlushThreshold.LIMIT_REACHED,
+                Objects.requireNonNull(metrics));
 
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.httpClient = Objects.requireNonNull(httpClient);
@@ -150,8 +152,7 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
                         Instant.ofEpochMilli(timeoutContext.getStartTime()), clock.getZone()))
                 .build();
 
-        final String eventString = jacksonMapper.encodeToString(agmaEvent);
-        buffer.put(eventString, eventString.length());
+        buffer.put(jacksonMapper.encodeToBytes(agmaEvent));
         sendEvents(buffer.pollToFlush());
         return Future.succeededFuture();
     }
@@ -207,33 +208,23 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
                 : publisherId;
     }
 
-    private void sendEvents(List<String> events) {
+    private void sendEvents(List<byte[]> events) {
         if (events.isEmpty()) {
             return;
         }
-        final String payload = preparePayload(events);
-        final Future<HttpClientResponse> responseFuture = compressToGzip
-                ? httpClient.request(HttpMethod.POST, url, headers, gzip(payload), httpTimeoutMs)
-                : httpClient.request(HttpMethod.POST, url, headers, payload, httpTimeoutMs);
+        final byte[] payload = compressToGzip ? gzip(events) : preparePayload(events);
+        final Future<HttpClientResponse> responseFuture =
+                httpClient.request(HttpMethod.POST, url, headers, payload, httpTimeoutMs);
 
         responseFuture.onComplete(this::handleReportResponse);
     }
 
-    private static String preparePayload(List<String> events) {
-        return "[" + String.join(",", events) + "]";
+    private static byte[] preparePayload(List<byte[]> events) {
+        return AnalyticsPayloads.jsonArray(events);
     }
 
-    private static byte[] gzip(String value) {
-        try (ByteArrayOutputStream obj = new ByteArrayOutputStream();
-                GZIPOutputStream gzip = new GZIPOutputStream(obj)) {
-
-            gzip.write(value.getBytes(StandardCharsets.UTF_8));
-            gzip.finish();
-
-            return obj.toByteArray();
-        } catch (IOException e) {
-            throw new PreBidException("[agmaAnalytics] failed to compress, skip the events : " + e.getMessage());
-        }
+    private static byte[] gzip(List<byte[]> events) {
+        return AnalyticsPayloads.gzipJsonArray(events);
     }
 
     private void handleReportResponse(AsyncResult<HttpClientResponse> result) {
@@ -0,0 +1,126 @@
+package org.prebid.server.analytics.reporter.buffer;
+
+import org.prebid.server.metric.Metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buffer of serialized analytics events for reporters sending events in batches.
+ * <p>
+ * Events are added without locking from any thread and polled by a single thread at a time.
+ * Buffer is ready to be flushed when number of events or their total size reaches or exceeds the limit,
+ * depending on {@link FlushThreshold}.
+ * Events exceeding twice the limit are dropped, so the buffer can't grow unbounded while sending falls behind.
+ */
+public class AnalyticsEventBuffer {
+
+    private static final int OVERFLOW_FACTOR = 2;
+
+    private final String reporterName;
+    private final long maxEvents;
+    private final long maxBytes;
+    private final long overflowEvents;
+    private final long overflowBytes;
+    private final FlushThreshold flushThreshold;
+    private final Metrics metrics;
+
+    private final Queue<byte[]> events = new ConcurrentLinkedQueue<>();
+    private final AtomicLong eventsCount = new AtomicLong();
+    private final AtomicLong bytesCount = new AtomicLong();
+    private final AtomicBoolean polling = new AtomicBoolean();
+
+    public AnalyticsEventBuffer(String reporterName,
+                                long maxEvents,
+                                long maxBytes,
+                                FlushThreshold flushThreshold,
+                                Metrics metrics) {
+
+        this.reporterName = Objects.requireNonNull(reporterName);
+        this.maxEvents = maxEvents;
+        this.maxBytes = maxBytes;
+        this.flushThreshold = Objects.requireNonNull(flushThreshold);
+        this.overflowEvents = Math.max(maxEvents, 1) * OVERFLOW_FACTOR;
+        this.overflowBytes = Math.max(maxBytes, 1) * OVERFLOW_FACTOR;
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Adds event to the buffer. Returns false if event was dropped because the buffer is overflown.
+     */
+    public boolean put(byte[] event) {
+        if (eventsCount.get() >= overflowEvents || bytesCount.get() >= overflowBytes) {
+            metrics.updateAnalyticDroppedEventsMetric(reporterName);
+            return false;
+        }
+
+        events.add(event);
+        bytesCount.addAndGet(event.length);
+        eventsCount.incrementAndGet();
+        return true;
+    }
+
+    public boolean isFull() {
+        return switch (flushThreshold) {
+            case LIMIT_REACHED -> eventsCount.get() >= maxEvents || bytesCount.get() >= maxBytes;
+            case LIMIT_EXCEEDED -> eventsCount.get() > maxEvents || bytesCount.get() > maxBytes;
+        };
+    }
+
+    /**
+     * Returns buffered events if buffer is full, or empty list otherwise.
+     */
+    public List<byte[]> pollToFlush() {
+        return isFull() ? pollAll() : Collections.emptyList();
+    }
+
+    /**
+     * Returns all buffered events. Returns empty list if events are being polled by another thread.
+     */
+    public List<byte[]> pollAll() {
+        if (!polling.compareAndSet(false, true)) {
+            return Collections.emptyList();
+        }
+
+        try {
+            // events added concurrently are left for the next poll
+            final long count = eventsCount.get();
+            final List<byte[]> polled = new ArrayList<>((int) Math.min(count, Integer.MAX_VALUE));
+            for (long i = 0; i < count; i++) {
+                final byte[] event = events.poll();
+                if (event == null) {
+                    break;
+                }
+
+                polled.add(event);
+                bytesCount.addAndGet(-event.length);
+                eventsCount.decrementAndGet();
+            }
+
+            return polled;
+        } finally {
+            polling.set(false);
+        }
+    }
+
+    public long eventsCount() {
+        return eventsCount.get();
+    }
+
+    public long bytesCount() {
+        return bytesCount.get();
+    }
+
+    public enum FlushThreshold {
+
+        LIMIT_REACHED,
+
+        LIMIT_EXCEEDED
+    }
+}
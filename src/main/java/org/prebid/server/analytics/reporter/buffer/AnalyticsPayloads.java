@@ -0,0 +1,97 @@
+package org.prebid.server.analytics.reporter.buffer;
+
+import org.prebid.server.exception.PreBidException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Builds request payloads from serialized analytics events without joining them into intermediate strings.
+ */
+public class AnalyticsPayloads {
+
+    private static final byte[] EMPTY = new byte[0];
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] COMMA = ",".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ARRAY_START = "[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ARRAY_END = "]".getBytes(StandardCharsets.UTF_8);
+
+    private AnalyticsPayloads() {
+    }
+
+    /**
+     * Returns events joined into json array.
+     */
+    public static byte[] jsonArray(List<byte[]> events) {
+        return join(events, ARRAY_START, COMMA, ARRAY_END);
+    }
+
+    /**
+     * Returns events joined into json array and compressed with gzip.
+     */
+    public static byte[] gzipJsonArray(List<byte[]> events) {
+        return gzip(events, ARRAY_START, COMMA, ARRAY_END);
+    }
+
+    /**
+     * Returns events joined by new line and compressed with gzip.
+     */
+    public static byte[] gzipLines(List<byte[]> events) {
+        return gzip(events, EMPTY, NEW_LINE, EMPTY);
+    }
+
+    private static byte[] join(List<byte[]> events, byte[] prefix, byte[] delimiter, byte[] suffix) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(
+                payloadSize(events, prefix, delimiter, suffix));
+        try {
+            write(output, events, prefix, delimiter, suffix);
+        } catch (IOException e) {
+            throw new PreBidException("Failed to write analytics events: " + e.getMessage());
+        }
+
+        return output.toByteArray();
+    }
+
+    private static byte[] gzip(List<byte[]> events, byte[] prefix, byte[] delimiter, byte[] suffix) {
+        // compressed events of the same shape are usually several times smaller than the raw ones
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(
+                Math.max(payloadSize(events, prefix, delimiter, suffix) / 4, 32));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            write(gzip, events, prefix, delimiter, suffix);
+            gzip.finish();
+        } catch (IOException e) {
+            throw new PreBidException("Failed to compress analytics events: " + e.getMessage());
+        }
+
+        return output.toByteArray();
+    }
+
+    private static void write(OutputStream output,
+                              List<byte[]> events,
+                              byte[] prefix,
+                              byte[] delimiter,
+                              byte[] suffix) throws IOException {
+
+        output.write(prefix);
+        for (int i = 0; i < events.size(); i++) {
+            if (i > 0) {
+                output.write(delimiter);
+            }
+            output.write(events.get(i));
+        }
+        output.write(suffix);
+    }
+
+    private static int payloadSize(List<byte[]> events, byte[] prefix, byte[] delimiter, byte[] suffix) {
+        long size = prefix.length + suffix.length + (long) Math.max(events.size() - 1, 0) * delimiter.length;
+        for (byte[] event : events) {
+            size += event.length;
+        }
+
+        return (int) Math.min(size, Integer.MAX_VALUE - 8);
+    }
+}
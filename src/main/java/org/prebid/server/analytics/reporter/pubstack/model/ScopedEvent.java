@@ -0,0 +1,15 @@
+package org.prebid.server.analytics.reporter.pubstack.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.Value;
+
+@Value(staticConstructor = "of")
+public class ScopedEvent<T> {
+
+    @JsonUnwrapped
+    T event;
+
+    @JsonInclude(JsonInclude.Include.ALWAYS)
+    String scope;
+}
@@ -69,6 +69,7 @@ import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
 import org.prebid.server.hooks.v1.bidder.BidderRequestPayload;
 import org.prebid.server.hooks.v1.bidder.BidderResponsePayload;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.SharedObjectEncodings;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.log.HttpInteractionLogger;
@@ -247,6 +248,7 @@ public class ExchangeService {
         final BidderAliases aliases = aliases(bidRequest, account);
         final BidRequestCacheInfo cacheInfo = bidRequestCacheInfo(bidRequest, account);
         final Map<String, MultiBidConfig> bidderToMultiBid = bidderToMultiBids(bidRequest, debugWarnings);
+        final SharedObjectEncodings sharedObjectEncodings = new SharedObjectEncodings();
         receivedContext.getBidRejectionTrackers().putAll(makeBidRejectionTrackers(bidRequest, aliases));
 
         final boolean debugEnabled = receivedContext.getDebugContext().isDebugEnabled();
@@ -266,7 +268,8 @@ public class ExchangeService {
                                                 context,
                                                 auctionParticipation.getBidderRequest(),
                                                 timeout,
-                                                aliases)
+                                                aliases,
+                                                sharedObjectEncodings)
                                                 .map(auctionParticipation::with))
                                         .toList())
                         // send all the requests to the bidders and gathers results
@@ -1132,7 +1135,8 @@ public class ExchangeService {
     private Future<BidderResponse> processAndRequestBids(AuctionContext auctionContext,
                                                          BidderRequest bidderRequest,
                                                          Timeout timeout,
-                                                         BidderAliases aliases) {
+                                                         BidderAliases aliases,
+                                                         SharedObjectEncodings sharedObjectEncodings) {
 
         final String bidderName = bidderRequest.getBidder();
         final MediaTypeProcessingResult mediaTypeProcessingResult = mediaTypeProcessor.process(
@@ -1156,7 +1160,7 @@ public class ExchangeService {
         return Future.succeededFuture(mediaTypeProcessingResult.getBidRequest())
                 .map(bidderRequest::with)
                 .compose(modifiedBidderRequest -> invokeHooksAndRequestBids(
-                        auctionContext, modifiedBidderRequest, timeout, aliases))
+                        auctionContext, modifiedBidderRequest, timeout, aliases, sharedObjectEncodings))
                 .map(bidderResponse -> bidderResponse.with(
                         addWarnings(bidderResponse.getSeatBid(), mediaTypeProcessingErrors)));
     }
@@ -1200,11 +1204,12 @@ public class ExchangeService {
     private Future<BidderResponse> invokeHooksAndRequestBids(AuctionContext auctionContext,
                                                              BidderRequest bidderRequest,
                                                              Timeout timeout,
-                                                             BidderAliases aliases) {
+                                                             BidderAliases aliases,
+                                                             SharedObjectEncodings sharedObjectEncodings) {
 
         return hookStageExecutor.executeBidderRequestStage(bidderRequest, auctionContext)
                 .compose(stageResult -> requestBidsOrRejectBidder(
-                        stageResult, bidderRequest, auctionContext, timeout, aliases))
+                        stageResult, bidderRequest, auctionContext, timeout, aliases, sharedObjectEncodings))
                 .compose(bidderResponse -> hookStageExecutor.executeRawBidderResponseStage(
                                 bidderResponse, auctionContext)
                         .map(stageResult -> rejectBidderResponseOrProceed(stageResult, bidderResponse)));
@@ -1215,7 +1220,8 @@ public class ExchangeService {
             BidderRequest bidderRequest,
             AuctionContext auctionContext,
             Timeout timeout,
-            BidderAliases aliases) {
+            BidderAliases aliases,
+            SharedObjectEncodings sharedObjectEncodings) {
 
         httpInteractionLogger.maybeLogBidderRequest(auctionContext, bidderRequest);
         if (hookStageResult.isShouldReject()) {
@@ -1229,7 +1235,7 @@ public class ExchangeService {
         final BidderRequest enrichedBidderRequest = bidderRequest.toBuilder()
                 .bidRequest(hookStageResult.getPayload().bidRequest())
                 .build();
-        return requestBids(enrichedBidderRequest, auctionContext, timeout, aliases);
+        return requestBids(enrichedBidderRequest, auctionContext, timeout, aliases, sharedObjectEncodings);
     }
 
     /**
@@ -1239,7 +1245,8 @@ public class ExchangeService {
     private Future<BidderResponse> requestBids(BidderRequest bidderRequest,
                                                AuctionContext auctionContext,
                                                Timeout timeout,
-                                               BidderAliases aliases) {
+                                               BidderAliases aliases,
+                                               SharedObjectEncodings sharedObjectEncodings) {
 
         final CaseInsensitiveMultiMap requestHeaders = auctionContext.getHttpRequest().getHeaders();
         final String bidderName = bidderRequest.getBidder();
@@ -1259,14 +1266,15 @@ public class ExchangeService {
                 .map(bidRequest -> ortbVersionConversionManager.convertFromAuctionSupportedVersion(
                         bidRequest, bidderRequest.getOrtbVersion()))
                 .map(bidderRequest::with)
-                .compose(convertedBidderRequest -> httpBidderRequester.requestBids(
+                // bidder requests are encoded synchronously by the bidder before the HTTP calls are made
+                .compose(convertedBidderRequest -> sharedObjectEncodings.apply(() -> httpBidderRequester.requestBids(
                         bidder,
                         convertedBidderRequest,
                         bidRejectionTracker,
                         adjustTimeout(timeout, auctionStartTime, bidderRequestStartTime),
                         requestHeaders,
                         aliases,
-                        debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName)))
+                        debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName))))
                 .map(seatBid -> populateBidderCode(seatBid, bidderName, resolvedBidderName))
                 .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(bidderRequestStartTime)));
     }
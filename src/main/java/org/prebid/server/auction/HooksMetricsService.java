@@ -73,6 +73,10 @@ public class HooksMetricsService {
                 hookOutcome.getExecutionTime(),
                 action);
 
+        if (hookOutcome.isUpdateConflict()) {
+            metrics.updateHooksUpdateConflictMetric(moduleCode, stage, hookId.getHookImplCode());
+        }
+
         // account might be null if request is rejected by the entrypoint hook
         if (account != null) {
             metrics.updateAccountHooksMetrics(account, moduleCode, status, action);
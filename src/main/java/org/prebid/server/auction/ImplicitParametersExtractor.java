@@ -1,9 +1,11 @@
 package org.prebid.server.auction;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixList;
 import io.vertx.core.MultiMap;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.util.HttpUtil;
@@ -11,7 +13,9 @@ import org.prebid.server.util.HttpUtil;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -20,9 +24,16 @@ import java.util.function.Function;
 public class ImplicitParametersExtractor {
 
     private final PublicSuffixList psl;
+    private final Map<String, Optional<String>> domainCache;
+    private final Metrics metrics;
 
-    public ImplicitParametersExtractor(PublicSuffixList psl) {
+    public ImplicitParametersExtractor(PublicSuffixList psl, int domainCacheSize, Metrics metrics) {
         this.psl = Objects.requireNonNull(psl);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        domainCache = domainCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(domainCacheSize).<String, Optional<String>>build().asMap()
+                : null;
     }
 
     /**
@@ -49,7 +60,7 @@ public class ImplicitParametersExtractor {
             throw new PreBidException("Host is not defined or can not be derived from request");
         }
 
-        final String domain = psl.getRegistrableDomain(host);
+        final String domain = registrableDomain(host);
 
         if (domain == null) {
             // null means effective top level domain plus one couldn't be derived
@@ -59,6 +70,25 @@ public class ImplicitParametersExtractor {
         return domain;
     }
 
+    /**
+     * Looks up the public suffix list through the cache, which keeps hosts without registrable domain as well.
+     */
+    private String registrableDomain(String host) {
+        if (domainCache == null) {
+            return psl.getRegistrableDomain(host);
+        }
+
+        final Optional<String> cachedDomain = domainCache.get(host);
+        metrics.updatePublicSuffixListCacheMetric(cachedDomain != null);
+        if (cachedDomain != null) {
+            return cachedDomain.orElse(null);
+        }
+
+        final String domain = psl.getRegistrableDomain(host);
+        domainCache.put(host, Optional.ofNullable(domain));
+        return domain;
+    }
+
     /**
      * Determines IP-Address candidates by checking http headers and remote host address.
      */
@@ -5,13 +5,21 @@ import inet.ipaddr.IPAddress;
 import inet.ipaddr.IPAddressString;
 import inet.ipaddr.IPAddressStringParameters;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.conn.util.InetAddressUtils;
 import org.prebid.server.auction.model.IpAddress;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 
+import java.math.BigInteger;
 import java.util.List;
 
+/**
+ * Parses, classifies and masks IP addresses.
+ * <p>
+ * IPv4 dotted-decimal and IPv6 hexadecimal notations are handled with primitives (IPv4 address as int,
+ * IPv6 address as two longs) against the precomputed table of non-public networks. Any other notation
+ * (e.g. with prefix length, zone, embedded IPv4 address or surrounding whitespaces) falls back to
+ * the IPAddress library, which the fast path gives the same results as.
+ */
 public class IpAddressHelper {
 
     private static final Logger logger = LoggerFactory.getLogger(IpAddressHelper.class);
@@ -22,10 +30,35 @@ public class IpAddressHelper {
                     .allowEmpty(false)
                     .toParams();
 
+    private static final int IPV6_MAX_LENGTH = 39;
+    private static final int IPV6_GROUPS = 8;
+
+    // networks recognized by the library as local, loopback, multicast or max
+    private static final List<IpNetwork> NON_PUBLIC_NETWORKS = List.of(
+            IpNetwork.ipv4("0.0.0.0", 32),
+            IpNetwork.ipv4("10.0.0.0", 8),
+            IpNetwork.ipv4("127.0.0.0", 8),
+            IpNetwork.ipv4("169.254.0.0", 16),
+            IpNetwork.ipv4("172.16.0.0", 12),
+            IpNetwork.ipv4("192.168.0.0", 16),
+            IpNetwork.ipv4("224.0.0.0", 4),
+            IpNetwork.ipv4("255.255.255.255", 32),
+            IpNetwork.ipv6(0L, 0L, 128),
+            IpNetwork.ipv6(0L, 1L, 128),
+            IpNetwork.ipv6(0xfc00_0000_0000_0000L, 0L, 7),
+            IpNetwork.ipv6(0xfe80_0000_0000_0000L, 0L, 10),
+            IpNetwork.ipv6(0xfec0_0000_0000_0000L, 0L, 10),
+            IpNetwork.ipv6(0xff00_0000_0000_0000L, 0L, 8),
+            IpNetwork.ipv6(-1L, -1L, 128));
+
     private final IPAddress ipv6AlwaysMaskAddress;
     private final IPAddress ipv6AnonLeftMaskAddress;
     private final List<IPAddress> ipv6LocalNetworkMaskAddresses;
 
+    private final Ipv6Address ipv6AlwaysMask;
+    private final Ipv6Address ipv6AnonLeftMask;
+    private final List<IpNetwork> ipv6LocalNetworks;
+
     public IpAddressHelper(int ipv6AlwaysMaskBits, int ipv6AnonLeftMaskBits, List<String> ipv6LocalNetworks) {
         ipv6AlwaysMaskAddress =
                 toAddress("::/" + validateIpv6AlwaysMaskBits(ipv6AlwaysMaskBits)).getNetworkMask();
@@ -34,9 +67,25 @@ public class IpAddressHelper {
         ipv6LocalNetworkMaskAddresses = ipv6LocalNetworks.stream()
                 .map(this::toAddress)
                 .toList();
+
+        ipv6AlwaysMask = Ipv6Address.networkMask(ipv6AlwaysMaskBits);
+        ipv6AnonLeftMask = Ipv6Address.networkMask(ipv6AnonLeftMaskBits);
+        // non-sequential networks (like 1.2-3.4.5) can't be checked by range, so all the checks go to the library
+        this.ipv6LocalNetworks = ipv6LocalNetworkMaskAddresses.stream().allMatch(IPAddress::isSequential)
+                ? ipv6LocalNetworkMaskAddresses.stream().map(IpNetwork::of).toList()
+                : null;
     }
 
     public String anonymizeIpv6(String ip) {
+        if (ip != null && parseIpv4(ip) >= 0) {
+            return null;
+        }
+
+        final Ipv6Address ipv6Address = ip != null ? Ipv6Address.parse(ip) : null;
+        if (ipv6Address != null) {
+            return ipv6Address.mask(ipv6AnonLeftMask).toCanonicalString();
+        }
+
         try {
             final IPAddressString ipAddressString = new IPAddressString(ip);
             return ipAddressString.isIPv6()
@@ -49,6 +98,20 @@ public class IpAddressHelper {
     }
 
     public IpAddress toIpAddress(String ip) {
+        if (ip != null && ipv6LocalNetworks != null) {
+            final long ipv4Address = parseIpv4(ip);
+            if (ipv4Address >= 0) {
+                return isIpPublic(true, 0L, ipv4Address) ? IpAddress.of(ip, IpAddress.IP.v4) : null;
+            }
+
+            final Ipv6Address ipv6Address = Ipv6Address.parse(ip);
+            if (ipv6Address != null) {
+                return isIpPublic(false, ipv6Address.high(), ipv6Address.low())
+                        ? IpAddress.of(ipv6Address.mask(ipv6AlwaysMask).toCanonicalString(), IpAddress.IP.v6)
+                        : null;
+            }
+        }
+
         final IPAddress ipAddress = toIpAddressInternal(ip);
 
         if (ipAddress == null) {
@@ -73,20 +136,56 @@ public class IpAddressHelper {
     }
 
     public String maskIpv4(String ip) {
-        if (StringUtils.isBlank(ip) || !InetAddressUtils.isIPv4Address(ip)) {
+        if (StringUtils.isBlank(ip) || !isIpv4(ip)) {
             return ip;
         }
 
-        String maskedIp = ip;
-        final int lastDotIndex = maskedIp.lastIndexOf(".");
-        if (lastDotIndex != -1) {
-            maskedIp = maskedIp.substring(0, lastDotIndex);
-        } else {
-            // ip is malformed
-            return ip;
+        final int lastDotIndex = ip.lastIndexOf('.');
+        return new StringBuilder(lastDotIndex + 2).append(ip, 0, lastDotIndex).append(".0").toString();
+    }
+
+    /**
+     * Checks IPv4 dotted-decimal notation without leading zeros and with non-zero first octet, the same way as
+     * HttpClient InetAddressUtils does.
+     */
+    private static boolean isIpv4(String ip) {
+        return ip.charAt(0) != '0' && parseIpv4(ip) >= 0;
+    }
+
+    /**
+     * Returns IPv4 address as unsigned int value or -1 if the given string is not IPv4 dotted-decimal notation
+     * without leading zeros.
+     */
+    private static long parseIpv4(String ip) {
+        final int length = ip.length();
+        if (length < 7 || length > 15) {
+            return -1;
         }
 
-        return maskedIp + ".0";
+        long address = 0;
+        int octets = 0;
+        int position = 0;
+        while (position < length) {
+            int octet = 0;
+            int digits = 0;
+            while (position < length && ip.charAt(position) != '.') {
+                final char current = ip.charAt(position);
+                if (current < '0' || current > '9' || (digits == 1 && octet == 0)) {
+                    return -1;
+                }
+                octet = octet * 10 + current - '0';
+                digits++;
+                position++;
+            }
+
+            if (digits == 0 || digits > 3 || octet > 255 || ++octets > 4 || position == length - 1) {
+                return -1;
+            }
+            address = (address << 8) | octet;
+            position++;
+        }
+
+        return octets == 4 ? address : -1;
     }
 
     private String maskIpv6(IPAddress ipAddress) {
@@ -129,6 +228,20 @@ public class IpAddressHelper {
         }
     }
 
+    private boolean isIpPublic(boolean ipv4, long high, long low) {
+        for (IpNetwork network : NON_PUBLIC_NETWORKS) {
+            if (network.contains(ipv4, high, low)) {
+                return false;
+            }
+        }
+        for (IpNetwork network : ipv6LocalNetworks) {
+            if (network.contains(ipv4, high, low)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private boolean isIpPublic(IPAddress ipAddress) {
         return ipAddress != null
                 && !ipAddress.isLocal()
@@ -137,4 +250,207 @@ public class IpAddressHelper {
                 && !ipAddress.isMax()
                 && ipv6LocalNetworkMaskAddresses.stream().noneMatch(network -> network.contains(ipAddress));
     }
+
+    /**
+     * IPv6 address as two halves of 128 bits.
+     */
+    private record Ipv6Address(long high, long low) {
+
+        static Ipv6Address networkMask(int bits) {
+            return new Ipv6Address(leftBits(bits), leftBits(bits - Long.SIZE));
+        }
+
+        private static long leftBits(int bits) {
+            if (bits <= 0) {
+                return 0L;
+            }
+            return bits >= Long.SIZE ? -1L : -1L << (Long.SIZE - bits);
+        }
+
+        /**
+         * Parses hexadecimal notation of 8 groups, possibly compressed with "::",
+         * or returns null for any other string.
+         */
+        static Ipv6Address parse(String ip) {
+            final int length = ip.length();
+            if (length < 2 || length > IPV6_MAX_LENGTH) {
+                return null;
+            }
+
+            final int compression = ip.indexOf("::");
+            final int headGroups = countGroups(ip, 0, compression >= 0 ? compression : length);
+            final int tailGroups = compression >= 0 ? countGroups(ip, compression + 2, length) : 0;
+            if (headGroups < 0 || tailGroups < 0) {
+                return null;
+            }
+            if (compression >= 0 ? headGroups + tailGroups >= IPV6_GROUPS : headGroups != IPV6_GROUPS) {
+                return null;
+            }
+
+            long high = 0L;
+            long low = 0L;
+            int group = 0;
+            int position = 0;
+            while (position < length) {
+                if (position == compression) {
+                    group = IPV6_GROUPS - tailGroups;
+                    position += 2;
+                    continue;
+                }
+
+                long value = 0L;
+                while (position < length && ip.charAt(position) != ':') {
+                    value = (value << 4) | hexValue(ip.charAt(position));
+                    position++;
+                }
+
+                if (group < IPV6_GROUPS / 2) {
+                    high |= value << (Short.SIZE * (IPV6_GROUPS / 2 - 1 - group));
+                } else {
+                    low |= value << (Short.SIZE * (IPV6_GROUPS - 1 - group));
+                }
+                group++;
+
+                // skip the separator, but not the first colon of compression
+                if (position < length && position != compression) {
+                    position++;
+                }
+            }
+
+            return new Ipv6Address(high, low);
+        }
+
+        /**
+         * Returns number of colon-separated groups of 1-4 hexadecimal digits in the given range of the string,
+         * or -1 if the range contains anything else.
+         */
+        private static int countGroups(String ip, int from, int to) {
+            if (from == to) {
+                return 0;
+            }
+
+            int groups = 1;
+            int digits = 0;
+            for (int i = from; i < to; i++) {
+                final char current = ip.charAt(i);
+                if (current == ':') {
+                    if (digits == 0) {
+                        return -1;
+                    }
+                    groups++;
+                    digits = 0;
+                } else if (hexValue(current) < 0 || ++digits > 4) {
+                    return -1;
+                }
+            }
+
+            return digits > 0 ? groups : -1;
+        }
+
+        private static int hexValue(char character) {
+            if (character >= '0' && character <= '9') {
+                return character - '0';
+            }
+            if (character >= 'a' && character <= 'f') {
+                return character - 'a' + 10;
+            }
+            if (character >= 'A' && character <= 'F') {
+                return character - 'A' + 10;
+            }
+            return -1;
+        }
+
+        Ipv6Address mask(Ipv6Address mask) {
+            return new Ipv6Address(high & mask.high, low & mask.low);
+        }
+
+        int group(int index) {
+            final long half = index < IPV6_GROUPS / 2 ? high : low;
+            return (int) (half >>> (Short.SIZE * (IPV6_GROUPS / 2 - 1 - index % (IPV6_GROUPS / 2)))) & 0xffff;
+        }
+
+        /**
+         * Formats address as the library does: lowercase groups without leading zeros, and the leftmost
+         * longest run of at least two zero groups compressed to "::".
+         */
+        String toCanonicalString() {
+            int compressionStart = -1;
+            int compressionLength = 1;
+            for (int i = 0; i < IPV6_GROUPS; i++) {
+                int zeros = 0;
+                while (i + zeros < IPV6_GROUPS && group(i + zeros) == 0) {
+                    zeros++;
+                }
+                if (zeros > compressionLength) {
+                    compressionStart = i;
+                    compressionLength = zeros;
+                }
+                i += zeros;
+            }
+
+            final StringBuilder result = new StringBuilder(IPV6_MAX_LENGTH);
+            for (int i = 0; i < IPV6_GROUPS; i++) {
+                if (i == compressionStart) {
+                    result.append("::");
+                    i += compressionLength - 1;
+                    continue;
+                }
+
+                if (i > 0 && i != compressionStart + compressionLength) {
+                    result.append(':');
+                }
+                result.append(Integer.toHexString(group(i)));
+            }
+
+            return result.toString();
+        }
+    }
+
+    /**
+     * Range of IPv4 or IPv6 addresses, where IPv4 address is the low half of 128 bits.
+     */
+    private record IpNetwork(boolean ipv4, long lowerHigh, long lowerLow, long upperHigh, long upperLow) {
+
+        static IpNetwork ipv4(String address, int prefixLength) {
+            long value = 0L;
+            for (String octet : address.split("\\.")) {
+                value = (value << 8) | Integer.parseInt(octet);
+            }
+
+            final long hostMask = (1L << (Integer.SIZE - prefixLength)) - 1;
+            return new IpNetwork(true, 0L, value & ~hostMask, 0L, value | hostMask);
+        }
+
+        static IpNetwork ipv6(long high, long low, int prefixLength) {
+            final Ipv6Address mask = Ipv6Address.networkMask(prefixLength);
+            return new IpNetwork(
+                    false,
+                    high & mask.high(),
+                    low & mask.low(),
+                    high | ~mask.high(),
+                    low | ~mask.low());
+        }
+
+        static IpNetwork of(IPAddress network) {
+            final BigInteger lower = network.getLower().getValue();
+            final BigInteger upper = network.getUpper().getValue();
+            return new IpNetwork(
+                    network.isIPv4(),
+                    lower.shiftRight(Long.SIZE).longValue(),
+                    lower.longValue(),
+                    upper.shiftRight(Long.SIZE).longValue(),
+                    upper.longValue());
+        }
+
+        boolean contains(boolean ipv4, long high, long low) {
+            return this.ipv4 == ipv4
+                    && compare(high, low, lowerHigh, lowerLow) >= 0
+                    && compare(high, low, upperHigh, upperLow) <= 0;
+        }
+
+        private static int compare(long leftHigh, long leftLow, long rightHigh, long rightLow) {
+            final int highComparison = Long.compareUnsigned(leftHigh, rightHigh);
+            return highComparison != 0 ? highComparison : Long.compareUnsigned(leftLow, rightLow);
+        }
+    }
 }
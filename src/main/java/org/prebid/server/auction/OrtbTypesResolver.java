@@ -1,7 +1,9 @@
 package org.prebid.server.auction;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
@@ -17,6 +19,7 @@ import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.util.StreamUtil;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -41,6 +44,8 @@ public class OrtbTypesResolver {
     private static final String APP = "app";
     private static final String SITE = "site";
     private static final String EXT = "ext";
+    private static final String PREBID = "prebid";
+    private static final String BIDDER_CONFIG = "bidderconfig";
     private static final String DATA = "data";
     private static final String CONFIG = "config";
     private static final String FPD = "fpd";
@@ -79,6 +84,87 @@ public class OrtbTypesResolver {
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
     }
 
+    /**
+     * Checks if the given bid request contains values {@link #normalizeBidRequest(JsonNode, List, String)} would
+     * change or warn about: first party data fields of unexpected types, data objects or bidder configs.
+     * <p>
+     * Request is only tokenized, without building a {@link JsonNode} tree, so when nothing should be normalized
+     * it can be decoded straight into the model.
+     */
+    public boolean isNormalizationRequired(byte[] bidRequest) throws IOException {
+        try (JsonParser parser = jacksonMapper.mapper().createParser(bidRequest)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return true;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.currentName();
+                final JsonToken valueToken = parser.nextToken();
+
+                if (FIRST_ARRAY_ELEMENT_FIELDS.containsKey(fieldName)) {
+                    if (valueToken != JsonToken.START_OBJECT
+                            || isFpdContainerNormalizationRequired(parser, fieldName)) {
+
+                        return true;
+                    }
+                } else if (EXT.equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                    if (isExtNormalizationRequired(parser)) {
+                        return true;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isFpdContainerNormalizationRequired(JsonParser parser, String containerName)
+            throws IOException {
+
+        final Set<String> firstArrayElementFields = FIRST_ARRAY_ELEMENT_FIELDS.get(containerName);
+        final Set<String> commaSeparatedElementFields = COMMA_SEPARATED_ELEMENT_FIELDS.get(containerName);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            final JsonToken valueToken = parser.nextToken();
+
+            if (firstArrayElementFields.contains(fieldName) || commaSeparatedElementFields.contains(fieldName)) {
+                if (valueToken != JsonToken.VALUE_STRING && valueToken != JsonToken.VALUE_NULL) {
+                    return true;
+                }
+            } else if (DATA.equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                return true;
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isExtNormalizationRequired(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final boolean isPrebid = PREBID.equals(parser.currentName());
+            if (parser.nextToken() != JsonToken.START_OBJECT || !isPrebid) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if (BIDDER_CONFIG.equals(parser.currentName())) {
+                    return true;
+                }
+
+                parser.nextToken();
+                parser.skipChildren();
+            }
+        }
+
+        return false;
+    }
+
     public void normalizeBidRequest(JsonNode bidRequest, List<String> warnings, String referer) {
         final List<String> resolverWarnings = new ArrayList<>();
 
@@ -1,6 +1,8 @@
 package org.prebid.server.auction.externalortb;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Video;
@@ -28,6 +30,7 @@ import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.VideoStoredDataResult;
 import org.prebid.server.util.ObjectUtil;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -55,10 +58,12 @@ public class StoredRequestProcessor {
     private final TimeoutFactory timeoutFactory;
     private final JacksonMapper mapper;
     private final JsonMerger jsonMerger;
+    private final Map<String, JsonNode> storedDataNodes;
 
     public StoredRequestProcessor(long defaultTimeout,
                                   String defaultBidRequestPath,
                                   boolean generateBidRequestId,
+                                  int storedDataNodesCacheSize,
                                   FileSystem fileSystem,
                                   ApplicationSettings applicationSettings,
                                   IdGenerator idGenerator,
@@ -77,6 +82,11 @@ public class StoredRequestProcessor {
         this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
         this.mapper = Objects.requireNonNull(mapper);
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
+
+        storedDataNodes = Caffeine.newBuilder()
+                .maximumSize(storedDataNodesCacheSize)
+                .<String, JsonNode>build()
+                .asMap();
     }
 
     public Future<AuctionStoredResult> processAuctionRequest(String accountId, BidRequest bidRequest) {
@@ -276,7 +286,7 @@ public class StoredRequestProcessor {
 
         final String storedRequest = storedDataResult.getStoredIdToRequest().get(storedRequestId);
         return StringUtils.isNotBlank(storedRequestId)
-                ? jsonMerger.merge(originalRequest, storedRequest, storedRequestId, BidRequest.class)
+                ? mergeWithStoredData(originalRequest, storedRequest, storedRequestId, BidRequest.class)
                 : originalRequest;
     }
 
@@ -297,13 +307,34 @@ public class StoredRequestProcessor {
             final String storedRequestId = impToStoredId.get(imp);
             if (storedRequestId != null) {
                 final String storedImp = storedDataResult.getStoredIdToImp().get(storedRequestId);
-                final Imp mergedImp = jsonMerger.merge(imp, storedImp, storedRequestId, Imp.class);
+                final Imp mergedImp = mergeWithStoredData(imp, storedImp, storedRequestId, Imp.class);
                 mergedImps.set(i, mergedImp);
             }
         }
         return bidRequest.toBuilder().imp(mergedImps).build();
     }
 
+    /**
+     * Merges object with stored data parsed once per its content. Cache is keyed by stored JSON itself, so
+     * updated or invalidated stored data is never merged from an outdated tree, while stale trees are evicted by size.
+     */
+    private <T> T mergeWithStoredData(T originalObject, String storedData, String id, Class<T> classToCast) {
+        if (storedData == null) {
+            return jsonMerger.merge(originalObject, storedData, id, classToCast);
+        }
+
+        final JsonNode storedDataNode = storedDataNodes.computeIfAbsent(storedData, data -> parseStoredData(data, id));
+        return jsonMerger.merge(originalObject, storedDataNode, id, classToCast);
+    }
+
+    private JsonNode parseStoredData(String storedData, String id) {
+        try {
+            return mapper.mapper().readTree(storedData);
+        } catch (IOException e) {
+            throw new InvalidRequestException("Can't parse Json for stored request with id " + id);
+        }
+    }
+
     private BidRequest generateBidRequestIdForApp(BidRequest bidRequest) {
         return bidRequest.getApp() != null
                 ? generateBidRequestId(bidRequest)
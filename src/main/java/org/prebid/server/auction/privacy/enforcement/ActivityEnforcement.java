@@ -35,11 +35,16 @@ public class ActivityEnforcement implements PrivacyEnforcement {
                                                      BidderAliases aliases,
                                                      List<BidderPrivacyResult> results) {
 
+        final MaskingResults<User> maskedUsers = new MaskingResults<>();
+        final MaskingResults<Device> maskedDevices = new MaskingResults<>();
+
         final List<BidderPrivacyResult> enforcedResults = results.stream()
                 .map(bidderPrivacyResult -> applyActivityRestrictions(
                         bidderPrivacyResult,
                         auctionContext.getActivityInfrastructure(),
-                        auctionContext.getBidRequest()))
+                        auctionContext.getBidRequest(),
+                        maskedUsers,
+                        maskedDevices))
                 .toList();
 
         return Future.succeededFuture(enforcedResults);
@@ -47,7 +52,9 @@ public class ActivityEnforcement implements PrivacyEnforcement {
 
     private BidderPrivacyResult applyActivityRestrictions(BidderPrivacyResult bidderPrivacyResult,
                                                           ActivityInfrastructure infrastructure,
-                                                          BidRequest bidRequest) {
+                                                          BidRequest bidRequest,
+                                                          MaskingResults<User> maskedUsers,
+                                                          MaskingResults<Device> maskedDevices) {
 
         final String bidder = bidderPrivacyResult.getRequestBidder();
         final User user = bidderPrivacyResult.getUser();
@@ -60,8 +67,14 @@ public class ActivityEnforcement implements PrivacyEnforcement {
         final boolean disallowTransmitEids = !infrastructure.isAllowed(Activity.TRANSMIT_EIDS, payload);
         final boolean disallowTransmitGeo = !infrastructure.isAllowed(Activity.TRANSMIT_GEO, payload);
 
-        final User resolvedUser = userFpdActivityMask.maskUser(user, disallowTransmitUfpd, disallowTransmitEids);
-        final Device resolvedDevice = userFpdActivityMask.maskDevice(device, disallowTransmitUfpd, disallowTransmitGeo);
+        final User resolvedUser = maskedUsers.mask(
+                user,
+                new UserMaskDecision(disallowTransmitUfpd, disallowTransmitEids),
+                original -> userFpdActivityMask.maskUser(original, disallowTransmitUfpd, disallowTransmitEids));
+        final Device resolvedDevice = maskedDevices.mask(
+                device,
+                new DeviceMaskDecision(disallowTransmitUfpd, disallowTransmitGeo),
+                original -> userFpdActivityMask.maskDevice(original, disallowTransmitUfpd, disallowTransmitGeo));
 
         return bidderPrivacyResult.toBuilder()
                 .user(resolvedUser)
@@ -82,4 +95,10 @@ public class ActivityEnforcement implements PrivacyEnforcement {
                         .map(ExtRegs::getGpc)
                         .orElse(null));
     }
+
+    private record UserMaskDecision(boolean disallowTransmitUfpd, boolean disallowTransmitEids) {
+    }
+
+    private record DeviceMaskDecision(boolean disallowTransmitUfpd, boolean disallowTransmitGeo) {
+    }
 }
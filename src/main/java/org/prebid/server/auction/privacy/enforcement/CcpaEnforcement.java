@@ -1,6 +1,8 @@
 package org.prebid.server.auction.privacy.enforcement;
 
 import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.User;
 import io.vertx.core.Future;
 import org.prebid.server.auction.aliases.BidderAliases;
 import org.prebid.server.auction.model.AuctionContext;
@@ -66,8 +68,13 @@ public class CcpaEnforcement implements PrivacyEnforcement {
                 isCcpaEnabled,
                 enforcedBidders);
 
+        final MaskingResults<User> maskedUsers = new MaskingResults<>();
+        final MaskingResults<Device> maskedDevices = new MaskingResults<>();
+
         final List<BidderPrivacyResult> enforcedResults = results.stream()
-                .map(result -> enforcedBidders.contains(result.getRequestBidder()) ? maskCcpa(result) : result)
+                .map(result -> enforcedBidders.contains(result.getRequestBidder())
+                        ? maskCcpa(result, maskedUsers, maskedDevices)
+                        : result)
                 .toList();
 
         return Future.succeededFuture(enforcedResults);
@@ -113,11 +120,14 @@ public class CcpaEnforcement implements PrivacyEnforcement {
         return ccpaEnforcedBidders;
     }
 
-    private BidderPrivacyResult maskCcpa(BidderPrivacyResult result) {
+    private BidderPrivacyResult maskCcpa(BidderPrivacyResult result,
+                                         MaskingResults<User> maskedUsers,
+                                         MaskingResults<Device> maskedDevices) {
+
         return BidderPrivacyResult.builder()
                 .requestBidder(result.getRequestBidder())
-                .user(userFpdCcpaMask.maskUser(result.getUser()))
-                .device(userFpdCcpaMask.maskDevice(result.getDevice()))
+                .user(maskedUsers.mask(result.getUser(), Boolean.TRUE, userFpdCcpaMask::maskUser))
+                .device(maskedDevices.mask(result.getDevice(), Boolean.TRUE, userFpdCcpaMask::maskDevice))
                 .build();
     }
 }
@@ -1,5 +1,7 @@
 package org.prebid.server.auction.privacy.enforcement;
 
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.User;
 import io.vertx.core.Future;
 import org.prebid.server.auction.aliases.BidderAliases;
 import org.prebid.server.auction.model.AuctionContext;
@@ -40,11 +42,14 @@ public class CoppaEnforcement implements PrivacyEnforcement {
     }
 
     private List<BidderPrivacyResult> enforce(List<BidderPrivacyResult> results) {
+        final MaskingResults<User> maskedUsers = new MaskingResults<>();
+        final MaskingResults<Device> maskedDevices = new MaskingResults<>();
+
         return results.stream()
                 .map(result -> BidderPrivacyResult.builder()
                         .requestBidder(result.getRequestBidder())
-                        .user(userFpdCoppaMask.maskUser(result.getUser()))
-                        .device(userFpdCoppaMask.maskDevice(result.getDevice()))
+                        .user(maskedUsers.mask(result.getUser(), Boolean.TRUE, userFpdCoppaMask::maskUser))
+                        .device(maskedDevices.mask(result.getDevice(), Boolean.TRUE, userFpdCoppaMask::maskDevice))
                         .build())
                 .toList();
     }
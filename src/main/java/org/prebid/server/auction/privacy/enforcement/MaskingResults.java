@@ -0,0 +1,38 @@
+package org.prebid.server.auction.privacy.enforcement;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Remembers results of masking within one enforcement.
+ * <p>
+ * Bidders mostly get the same user and device instances and fall into a few distinct enforcement outcomes,
+ * so each distinct pair of the original instance and the masking decision is masked only once and the immutable
+ * result is shared between bidders.
+ */
+class MaskingResults<T> {
+
+    private final Map<T, Map<Object, T>> originalToMasked = new IdentityHashMap<>();
+
+    /**
+     * Returns the result of masking of the given original with the given mask function. The decision is the value
+     * object describing everything the mask function does to the original.
+     */
+    T mask(T original, Object decision, UnaryOperator<T> mask) {
+        if (original == null) {
+            return mask.apply(null);
+        }
+
+        final Map<Object, T> decisionToMasked = originalToMasked.computeIfAbsent(original, key -> new HashMap<>());
+        // masked value is allowed to be null, so computeIfAbsent can't be used here
+        if (decisionToMasked.containsKey(decision)) {
+            return decisionToMasked.get(decision);
+        }
+
+        final T masked = mask.apply(original);
+        decisionToMasked.put(decision, masked);
+        return masked;
+    }
+}
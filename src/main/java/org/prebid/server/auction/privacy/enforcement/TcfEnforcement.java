@@ -175,12 +175,23 @@ public class TcfEnforcement implements PrivacyEnforcement {
     private List<BidderPrivacyResult> applyEnforcements(Map<String, PrivacyEnforcementAction> enforcements,
                                                         List<BidderPrivacyResult> results) {
 
+        final MaskingResults<User> maskedUsers = new MaskingResults<>();
+        final MaskingResults<Device> maskedDevices = new MaskingResults<>();
+
         return results.stream()
-                .map(result -> applyEnforcement(enforcements.get(result.getRequestBidder()), result))
+                .map(result -> applyEnforcement(
+                        enforcements.get(result.getRequestBidder()),
+                        result,
+                        maskedUsers,
+                        maskedDevices))
                 .toList();
     }
 
-    private BidderPrivacyResult applyEnforcement(PrivacyEnforcementAction enforcement, BidderPrivacyResult result) {
+    private BidderPrivacyResult applyEnforcement(PrivacyEnforcementAction enforcement,
+                                                 BidderPrivacyResult result,
+                                                 MaskingResults<User> maskedUsers,
+                                                 MaskingResults<Device> maskedDevices) {
+
         final String bidder = result.getRequestBidder();
 
         final boolean blockBidderRequest = enforcement.isBlockBidderRequest();
@@ -202,11 +213,17 @@ public class TcfEnforcement implements PrivacyEnforcement {
         final boolean maskUserIds = enforcement.isRemoveUserIds() || isLmtEnabled;
         final boolean maskGeo = enforcement.isMaskGeo() || isLmtEnabled;
         final Set<String> eidExceptions = enforcement.getEidExceptions();
-        final User maskedUser = userFpdTcfMask.maskUser(user, maskUserFpd, maskUserIds, eidExceptions);
+        final User maskedUser = maskedUsers.mask(
+                user,
+                new UserMaskDecision(maskUserFpd, maskUserIds, eidExceptions),
+                original -> userFpdTcfMask.maskUser(original, maskUserFpd, maskUserIds, eidExceptions));
 
         final boolean maskIp = enforcement.isMaskDeviceIp() || isLmtEnabled;
         final boolean maskDeviceInfo = enforcement.isMaskDeviceInfo() || isLmtEnabled;
-        final Device maskedDevice = userFpdTcfMask.maskDevice(device, maskIp, maskGeo, maskDeviceInfo);
+        final Device maskedDevice = maskedDevices.mask(
+                device,
+                new DeviceMaskDecision(maskIp, maskGeo, maskDeviceInfo),
+                original -> userFpdTcfMask.maskDevice(original, maskIp, maskGeo, maskDeviceInfo));
 
         return BidderPrivacyResult.builder()
                 .requestBidder(bidder)
@@ -215,4 +232,10 @@ public class TcfEnforcement implements PrivacyEnforcement {
                 .blockedAnalyticsByTcf(blockAnalyticsReport)
                 .build();
     }
+
+    private record UserMaskDecision(boolean maskUserFpd, boolean maskUserIds, Set<String> eidExceptions) {
+    }
+
+    private record DeviceMaskDecision(boolean maskIp, boolean maskGeo, boolean maskDeviceInfo) {
+    }
 }
@@ -2,9 +2,12 @@ package org.prebid.server.auction.requestfactory;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Regs;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.RoutingContext;
 import org.prebid.server.auction.DebugResolver;
 import org.prebid.server.auction.GeoLocationServiceWrapper;
@@ -22,6 +25,7 @@ import org.prebid.server.bidadjustments.BidAdjustmentsEnricher;
 import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.deserializer.DoubleBasedBigDecimalDeserializer;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.model.HttpRequestContext;
@@ -29,6 +33,8 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
 import org.prebid.server.settings.model.Account;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -54,6 +60,7 @@ public class AuctionRequestFactory {
     private final OrtbTypesResolver ortbTypesResolver;
     private final GeoLocationServiceWrapper geoLocationServiceWrapper;
     private final BidAdjustmentsEnricher bidAdjustmentsEnricher;
+    private final ObjectReader bidRequestReader;
 
     private static final String ENDPOINT = Endpoint.openrtb2_auction.value();
 
@@ -90,24 +97,34 @@ public class AuctionRequestFactory {
         this.mapper = Objects.requireNonNull(mapper);
         this.geoLocationServiceWrapper = Objects.requireNonNull(geoLocationServiceWrapper);
         this.bidAdjustmentsEnricher = Objects.requireNonNull(bidAdjustmentsEnricher);
+
+        // decodes numbers the same way as the tree normalized by OrtbTypesResolver
+        this.bidRequestReader = mapper.mapper().copy()
+                .registerModule(new SimpleModule()
+                        .addDeserializer(BigDecimal.class, new DoubleBasedBigDecimalDeserializer()))
+                .readerFor(BidRequest.class);
     }
 
     /**
      * Creates {@link AuctionContext} and parses BidRequest based on {@link RoutingContext}.
      */
     public Future<AuctionContext> parseRequest(RoutingContext routingContext, long startTime) {
-        final String body;
+        final Buffer body;
         try {
             body = extractAndValidateBody(routingContext);
         } catch (InvalidRequestException e) {
             return Future.failedFuture(e);
         }
 
+        final String bodyAsString = body.toString();
         final AuctionContext initialAuctionContext = ortb2RequestFactory.createAuctionContext(
                 Endpoint.openrtb2_auction, MetricName.openrtb2web);
 
-        return ortb2RequestFactory.executeEntrypointHooks(routingContext, body, initialAuctionContext)
-                .compose(httpRequest -> parseBidRequest(httpRequest, initialAuctionContext.getPrebidErrors())
+        return ortb2RequestFactory.executeEntrypointHooks(routingContext, bodyAsString, initialAuctionContext)
+                .compose(httpRequest -> parseBidRequest(
+                        httpRequest,
+                        httpRequest.getBody() == bodyAsString ? body : null,
+                        initialAuctionContext.getPrebidErrors())
                         .map(bidRequest -> ortb2RequestFactory
                                 .enrichAuctionContext(initialAuctionContext, httpRequest, bidRequest, startTime)
                                 .with(requestTypeMetric(bidRequest))))
@@ -160,8 +177,8 @@ public class AuctionRequestFactory {
                 .recover(ortb2RequestFactory::restoreResultFromRejection);
     }
 
-    private String extractAndValidateBody(RoutingContext routingContext) {
-        final String body = routingContext.body().asString();
+    private Buffer extractAndValidateBody(RoutingContext routingContext) {
+        final Buffer body = routingContext.body().buffer();
         if (body == null) {
             throw new InvalidRequestException("Incoming request has no body");
         }
@@ -173,21 +190,55 @@ public class AuctionRequestFactory {
         return body;
     }
 
-    private Future<BidRequest> parseBidRequest(HttpRequestContext httpRequest, List<String> errors) {
+    /**
+     * Decodes {@link BidRequest} straight from the request bytes, falling back to {@link JsonNode} tree only
+     * when {@link OrtbTypesResolver} has something to normalize.
+     * <p>
+     * Incoming bytes are used as is unless the body was replaced by entrypoint hooks, which is detected by reference
+     * to avoid comparing the whole body.
+     */
+    private Future<BidRequest> parseBidRequest(HttpRequestContext httpRequest, Buffer body, List<String> errors) {
         try {
-            final JsonNode bidRequestNode = bodyAsJsonNode(httpRequest.getBody());
+            final byte[] bodyBytes = body != null
+                    ? body.getBytes()
+                    : httpRequest.getBody().getBytes(StandardCharsets.UTF_8);
 
-            final String referer = paramsExtractor.refererFrom(httpRequest);
-            ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer);
+            final BidRequest bidRequest = isNormalizationRequired(bodyBytes)
+                    ? normalizedBidRequest(bodyBytes, httpRequest, errors)
+                    : bodyAsBidRequest(bodyBytes);
 
-            return Future.succeededFuture(jsonNodeAsBidRequest(bidRequestNode))
-                    .map(bidRequest -> fillWithValuesFromHttpRequest(bidRequest, httpRequest));
+            return Future.succeededFuture(fillWithValuesFromHttpRequest(bidRequest, httpRequest));
         } catch (Exception e) {
             return Future.failedFuture(e);
         }
     }
 
-    private JsonNode bodyAsJsonNode(String body) {
+    private boolean isNormalizationRequired(byte[] body) {
+        try {
+            return ortbTypesResolver.isNormalizationRequired(body);
+        } catch (IOException e) {
+            throw new InvalidRequestException("Error decoding bidRequest: " + e.getMessage());
+        }
+    }
+
+    private BidRequest normalizedBidRequest(byte[] body, HttpRequestContext httpRequest, List<String> errors) {
+        final JsonNode bidRequestNode = bodyAsJsonNode(body);
+
+        final String referer = paramsExtractor.refererFrom(httpRequest);
+        ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer);
+
+        return jsonNodeAsBidRequest(bidRequestNode);
+    }
+
+    private BidRequest bodyAsBidRequest(byte[] body) {
+        try {
+            return bidRequestReader.readValue(body);
+        } catch (IOException e) {
+            throw new InvalidRequestException("Error decoding bidRequest: " + e.getMessage());
+        }
+    }
+
+    private JsonNode bodyAsJsonNode(byte[] body) {
         try {
             return mapper.mapper().readTree(body);
         } catch (IOException e) {
@@ -28,11 +28,13 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
 import org.prebid.server.util.HttpUtil;
+import org.prebid.server.util.system.ThreadAllocationUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
@@ -70,6 +72,7 @@ public class HttpBidderRequester {
     private final BidderErrorNotifier bidderErrorNotifier;
     private final HttpBidderRequestEnricher requestEnricher;
     private final JacksonMapper mapper;
+    private final Metrics metrics;
     private final double logSamplingRate;
 
     public HttpBidderRequester(HttpClient httpClient,
@@ -77,6 +80,7 @@ public class HttpBidderRequester {
                                BidderErrorNotifier bidderErrorNotifier,
                                HttpBidderRequestEnricher requestEnricher,
                                JacksonMapper mapper,
+                               Metrics metrics,
                                double logSamplingRate) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
@@ -84,6 +88,7 @@ public class HttpBidderRequester {
         this.bidderErrorNotifier = Objects.requireNonNull(bidderErrorNotifier);
         this.requestEnricher = Objects.requireNonNull(requestEnricher);
         this.mapper = Objects.requireNonNull(mapper);
+        this.metrics = Objects.requireNonNull(metrics);
         this.logSamplingRate = logSamplingRate;
     }
 
@@ -127,7 +132,7 @@ public class HttpBidderRequester {
         final List<Future<Void>> httpRequestFutures = httpCalls
                 .map(httpCallFuture -> httpCallFuture
                         .map(httpCall -> bidderErrorNotifier.processTimeout(httpCall, bidder))
-                        .map(httpCall -> processHttpCall(bidder, bidRequest, resultBuilder, httpCall)))
+                        .map(httpCall -> processHttpCall(bidder, bidderName, bidRequest, resultBuilder, httpCall)))
                 .toList();
 
         return Future.any(
@@ -269,7 +274,8 @@ public class HttpBidderRequester {
                                                              HttpRequest<T> httpRequest) {
 
         final int statusCode = response.getStatusCode();
-        final HttpResponse httpResponse = HttpResponse.of(statusCode, response.getHeaders(), response.getBody());
+        final HttpResponse httpResponse =
+                HttpResponse.ofBuffer(statusCode, response.getHeaders(), response.getBodyAsBuffer());
         return Future.succeededFuture(BidderCall.succeededHttp(httpRequest, httpResponse, errorOrNull(statusCode)));
     }
 
@@ -288,14 +294,32 @@ public class HttpBidderRequester {
     }
 
     private <T> Void processHttpCall(Bidder<T> bidder,
+                                     String bidderName,
                                      BidRequest bidRequest,
                                      ResultBuilder<T> seatBidBuilder,
                                      BidderCall<T> httpCall) {
 
-        seatBidBuilder.addHttpCall(httpCall, makeBids(bidder, httpCall, bidRequest));
+        final long allocatedBytesBefore = ThreadAllocationUtil.currentThreadAllocatedBytes();
+        final CompositeBidderResponse bidderResponse = makeBids(bidder, httpCall, bidRequest);
+        updateResponseAllocatedBytesMetric(bidderName, allocatedBytesBefore);
+
+        seatBidBuilder.addHttpCall(httpCall, bidderResponse);
         return null;
     }
 
+    /**
+     * Bidder response is processed synchronously on the current thread, so the difference of thread allocated
+     * bytes reflects the amount of garbage produced by decoding the response and making bids.
+     */
+    private void updateResponseAllocatedBytesMetric(String bidderName, long allocatedBytesBefore) {
+        if (allocatedBytesBefore < 0) {
+            return;
+        }
+
+        final long allocatedBytes = ThreadAllocationUtil.currentThreadAllocatedBytes() - allocatedBytesBefore;
+        metrics.updateAdapterResponseAllocatedBytes(bidderName, allocatedBytes);
+    }
+
     /**
      * Returns result based on response status code, list of {@link BidderBid}s and other data from bidder.
      */
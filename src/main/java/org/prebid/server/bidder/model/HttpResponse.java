@@ -1,17 +1,88 @@
 package org.prebid.server.bidder.model;
 
 import io.vertx.core.MultiMap;
-import lombok.Value;
+import io.vertx.core.buffer.Buffer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 /**
  * Packages together information from the server's http response.
+ * <p>
+ * Body received from the network is kept as raw {@link Buffer} and decoded to {@link String} only on demand,
+ * so bidders parsing responses with {@link #getBodyAsBuffer()} do not pay for the intermediate copy.
  */
-@Value(staticConstructor = "of")
 public class HttpResponse {
 
-    int statusCode;
+    private final int statusCode;
+
+    private final MultiMap headers;
+
+    private final Buffer bodyBuffer;
+
+    private String body;
+
+    private HttpResponse(int statusCode, MultiMap headers, Buffer bodyBuffer, String body) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.bodyBuffer = bodyBuffer;
+        this.body = body;
+    }
+
+    public static HttpResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpResponse(statusCode, headers, null, body);
+    }
+
+    public static HttpResponse ofBuffer(int statusCode, MultiMap headers, Buffer body) {
+        return new HttpResponse(statusCode, headers, body, null);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public MultiMap getHeaders() {
+        return headers;
+    }
+
+    public String getBody() {
+        if (body == null && bodyBuffer != null) {
+            body = bodyBuffer.toString(StandardCharsets.UTF_8);
+        }
+        return body;
+    }
+
+    /**
+     * Returns response body as {@link Buffer}, empty one if there is no body.
+     */
+    public Buffer getBodyAsBuffer() {
+        if (bodyBuffer != null) {
+            return bodyBuffer;
+        }
+        return body != null ? Buffer.buffer(body) : Buffer.buffer();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final HttpResponse that = (HttpResponse) o;
+        return statusCode == that.statusCode
+                && Objects.equals(headers, that.headers)
+                && Objects.equals(getBody(), that.getBody());
+    }
 
-    MultiMap headers;
+    @Override
+    public int hashCode() {
+        return Objects.hash(statusCode, headers, getBody());
+    }
 
-    String body;
+    @Override
+    public String toString() {
+        return "HttpResponse(statusCode=%d, headers=%s, body=%s)".formatted(statusCode, headers, getBody());
+    }
 }
@@ -1,12 +1,12 @@
 package org.prebid.server.currency;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
-import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.currency.proto.CurrencyConversionRates;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
@@ -26,9 +26,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -42,13 +39,16 @@ public class CurrencyConversionService implements Initializable {
     private static final String DEFAULT_BID_CURRENCY = "USD";
     // This number is chosen because of PriceGranularities default precision value of 2 + 1 for better accuracy
     private static final int DEFAULT_PRICE_PRECISION = 3;
+    private static final int REQUEST_CURRENCY_RATES_CACHE_SIZE = 10_000;
 
     private final String currencyServerUrl;
     private final ExternalConversionProperties externalConversionProperties;
     private final JacksonMapper mapper;
 
-    private Map<String, Map<String, BigDecimal>> externalCurrencyRates;
-    private ZonedDateTime lastUpdated;
+    private final Map<Map<String, Map<String, BigDecimal>>, RequestCurrencyRates> requestCurrencyRates;
+
+    private volatile CurrencyRatesMatrix externalCurrencyRates;
+    private volatile ZonedDateTime lastUpdated;
 
     public CurrencyConversionService(ExternalConversionProperties externalConversionProperties) {
         this.externalConversionProperties = externalConversionProperties;
@@ -60,6 +60,12 @@ public class CurrencyConversionService implements Initializable {
             currencyServerUrl = null;
             mapper = null;
         }
+
+        requestCurrencyRates = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(REQUEST_CURRENCY_RATES_CACHE_SIZE)
+                .<Map<String, Map<String, BigDecimal>>, RequestCurrencyRates>build()
+                .asMap();
     }
 
     /**
@@ -119,7 +125,7 @@ public class CurrencyConversionService implements Initializable {
     private Void updateCurrencyRates(CurrencyConversionRates currencyConversionRates) {
         final Map<String, Map<String, BigDecimal>> receivedCurrencyRates = currencyConversionRates.getConversions();
         if (receivedCurrencyRates != null) {
-            externalCurrencyRates = receivedCurrencyRates;
+            externalCurrencyRates = CurrencyRatesMatrix.of(receivedCurrencyRates);
             lastUpdated = now();
         }
 
@@ -166,7 +172,8 @@ public class CurrencyConversionService implements Initializable {
     }
 
     public Map<String, Map<String, BigDecimal>> getExternalCurrencyRates() {
-        return externalCurrencyRates;
+        final CurrencyRatesMatrix currentRates = externalCurrencyRates;
+        return currentRates != null ? currentRates.getRates() : null;
     }
 
     /**
@@ -199,21 +206,12 @@ public class CurrencyConversionService implements Initializable {
             return price;
         }
 
-        final Map<String, Map<String, BigDecimal>> firstPriorityRates;
-        final Map<String, Map<String, BigDecimal>> secondPriorityRates;
-
-        if (BooleanUtils.isFalse(usepbsrates)) {
-            firstPriorityRates = requestCurrencyRates;
-            secondPriorityRates = externalCurrencyRates;
-        } else {
-            firstPriorityRates = externalCurrencyRates;
-            secondPriorityRates = requestCurrencyRates;
-        }
+        final CurrencyRates requestRates = requestCurrencyRates(requestCurrencyRates);
+        final CurrencyRatesMatrix serverRates = externalCurrencyRates;
 
-        final BigDecimal conversionRate = getConversionRateByPriority(firstPriorityRates,
-                secondPriorityRates,
-                effectiveFromCurrency,
-                effectiveToCurrency);
+        final BigDecimal conversionRate = BooleanUtils.isFalse(usepbsrates)
+                ? getConversionRateByPriority(requestRates, serverRates, effectiveFromCurrency, effectiveToCurrency)
+                : getConversionRateByPriority(serverRates, requestRates, effectiveFromCurrency, effectiveToCurrency);
 
         if (conversionRate == null) {
             throw new PreBidException("Unable to convert from currency %s to desired ad server currency %s"
@@ -223,6 +221,15 @@ public class CurrencyConversionService implements Initializable {
         return price.multiply(conversionRate).setScale(DEFAULT_PRICE_PRECISION, RoundingMode.HALF_EVEN);
     }
 
+    /**
+     * Returns rates from request shared by conversions of all bids, so each currency pair is resolved once.
+     */
+    private CurrencyRates requestCurrencyRates(Map<String, Map<String, BigDecimal>> rates) {
+        return MapUtils.isNotEmpty(rates)
+                ? requestCurrencyRates.computeIfAbsent(rates, RequestCurrencyRates::new)
+                : null;
+    }
+
     private static Map<String, Map<String, BigDecimal>> currencyRates(BidRequest bidRequest) {
         final ExtRequestPrebid prebid = extRequestPrebid(bidRequest);
         final ExtRequestCurrency currency = prebid != null ? prebid.getCurrency() : null;
@@ -243,116 +250,19 @@ public class CurrencyConversionService implements Initializable {
     /**
      * Returns conversion rate from the given currency rates according to priority.
      */
-    private static BigDecimal getConversionRateByPriority(Map<String, Map<String, BigDecimal>> firstPriorityRates,
-                                                          Map<String, Map<String, BigDecimal>> secondPriorityRates,
+    private static BigDecimal getConversionRateByPriority(CurrencyRates firstPriorityRates,
+                                                          CurrencyRates secondPriorityRates,
                                                           String fromCurrency,
                                                           String toCurrency) {
 
-        return ObjectUtils.defaultIfNull(
-                getConversionRate(firstPriorityRates, fromCurrency, toCurrency),
-                getConversionRate(secondPriorityRates, fromCurrency, toCurrency));
-    }
-
-    /**
-     * Looking for rates for a currency pair, using such approaches as straight, reverse and
-     * intermediate rates.
-     */
-    private static BigDecimal getConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
-                                                String fromCurrency,
-                                                String toCurrency) {
-        if (MapUtils.isEmpty(currencyConversionRates)) {
-            return null;
-        }
-
-        BigDecimal conversionRate;
-        final Map<String, BigDecimal> directCurrencyRates = currencyConversionRates.get(fromCurrency);
-
-        conversionRate = directCurrencyRates != null ? directCurrencyRates.get(toCurrency) : null;
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        final Map<String, BigDecimal> reverseCurrencyRates = currencyConversionRates.get(toCurrency);
-        conversionRate = findReverseConversionRate(reverseCurrencyRates, fromCurrency);
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        final BigDecimal intermediateConversionRate = findIntermediateConversionRate(directCurrencyRates,
-                reverseCurrencyRates);
-        if (intermediateConversionRate != null) {
-            return intermediateConversionRate;
-        }
-
-        return findCrossConversionRate(currencyConversionRates, fromCurrency, toCurrency);
-    }
-
-    /**
-     * Finds reverse conversion rate.
-     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
-     */
-    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> currencyRates,
-                                                        String currency) {
-        final BigDecimal reverseConversionRate = currencyRates != null
-                ? currencyRates.get(currency)
+        final BigDecimal firstPriorityRate = firstPriorityRates != null
+                ? firstPriorityRates.rate(fromCurrency, toCurrency)
                 : null;
-
-        return reverseConversionRate != null
-                ? BigDecimal.ONE.divide(reverseConversionRate,
-                getRatePrecision(reverseConversionRate),
-                RoundingMode.HALF_EVEN)
-                : null;
-    }
-
-    /**
-     * Finds intermediate conversion rate.
-     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
-     * (1/1.5) * 1.2 conversion rate.
-     */
-    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> directCurrencyRates,
-                                                             Map<String, BigDecimal> reverseCurrencyRates) {
-        BigDecimal conversionRate = null;
-        if (MapUtils.isNotEmpty(directCurrencyRates) && MapUtils.isNotEmpty(reverseCurrencyRates)) {
-            final List<String> sharedCurrencies = new ArrayList<>(directCurrencyRates.keySet());
-            sharedCurrencies.retainAll(reverseCurrencyRates.keySet());
-
-            if (!sharedCurrencies.isEmpty()) {
-                // pick any found shared currency
-                final String sharedCurrency = sharedCurrencies.getFirst();
-                final BigDecimal directCurrencyRateIntermediate = directCurrencyRates.get(sharedCurrency);
-                final BigDecimal reverseCurrencyRateIntermediate = reverseCurrencyRates.get(sharedCurrency);
-                conversionRate = directCurrencyRateIntermediate.divide(reverseCurrencyRateIntermediate,
-                        // chose the largest precision among intermediate rates
-                        getRatePrecision(directCurrencyRateIntermediate, reverseCurrencyRateIntermediate),
-                        RoundingMode.HALF_EVEN);
-            }
-        }
-        return conversionRate;
-    }
-
-    private static BigDecimal findCrossConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
-                                                      String fromCurrency,
-                                                      String toCurrency) {
-        for (Map<String, BigDecimal> rates : currencyConversionRates.values()) {
-            final BigDecimal fromRate = rates.get(fromCurrency);
-            final BigDecimal toRate = rates.get(toCurrency);
-            if (fromRate != null && toRate != null) {
-                return toRate.divide(fromRate,
-                        getRatePrecision(fromRate, toRate),
-                        RoundingMode.HALF_EVEN);
-            }
+        if (firstPriorityRate != null) {
+            return firstPriorityRate;
         }
 
-        return null;
-    }
-
-    private static int getRatePrecision(BigDecimal... rates) {
-        final int precision = Arrays.stream(rates)
-                .map(BigDecimal::precision)
-                .max(Integer::compareTo)
-                .orElse(DEFAULT_PRICE_PRECISION);
-
-        return Math.max(precision, DEFAULT_PRICE_PRECISION);
+        return secondPriorityRates != null ? secondPriorityRates.rate(fromCurrency, toCurrency) : null;
     }
 
     private boolean isRatesStale() {
@@ -0,0 +1,121 @@
+package org.prebid.server.currency;
+
+import org.apache.commons.collections4.MapUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves conversion rate of a currency pair from the given rates.
+ */
+final class CurrencyRateResolver {
+
+    private static final int MIN_RATE_PRECISION = 3;
+
+    private CurrencyRateResolver() {
+    }
+
+    /**
+     * Looking for rates for a currency pair, using such approaches as straight, reverse and
+     * intermediate rates.
+     */
+    static BigDecimal resolveRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+                                          String fromCurrency,
+                                          String toCurrency) {
+
+        final Map<String, BigDecimal> directCurrencyRates = currencyConversionRates.get(fromCurrency);
+        final BigDecimal conversionRate = directCurrencyRates != null ? directCurrencyRates.get(toCurrency) : null;
+        if (conversionRate != null) {
+            return conversionRate;
+        }
+
+        final Map<String, BigDecimal> reverseCurrencyRates = currencyConversionRates.get(toCurrency);
+        final BigDecimal reverseConversionRate = findReverseConversionRate(reverseCurrencyRates, fromCurrency);
+        if (reverseConversionRate != null) {
+            return reverseConversionRate;
+        }
+
+        final BigDecimal intermediateConversionRate = findIntermediateConversionRate(directCurrencyRates,
+                reverseCurrencyRates);
+        if (intermediateConversionRate != null) {
+            return intermediateConversionRate;
+        }
+
+        return findCrossConversionRate(currencyConversionRates, fromCurrency, toCurrency);
+    }
+
+    /**
+     * Finds reverse conversion rate.
+     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
+     */
+    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> currencyRates, String currency) {
+        final BigDecimal reverseConversionRate = currencyRates != null
+                ? currencyRates.get(currency)
+                : null;
+
+        return reverseConversionRate != null
+                ? BigDecimal.ONE.divide(reverseConversionRate,
+                getRatePrecision(reverseConversionRate),
+                RoundingMode.HALF_EVEN)
+                : null;
+    }
+
+    /**
+     * Finds intermediate conversion rate.
+     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
+     * (1/1.5) * 1.2 conversion rate.
+     */
+    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> directCurrencyRates,
+                                                             Map<String, BigDecimal> reverseCurrencyRates) {
+
+        if (MapUtils.isEmpty(directCurrencyRates) || MapUtils.isEmpty(reverseCurrencyRates)) {
+            return null;
+        }
+
+        final List<String> sharedCurrencies = new ArrayList<>(directCurrencyRates.keySet());
+        sharedCurrencies.retainAll(reverseCurrencyRates.keySet());
+
+        for (String sharedCurrency : sharedCurrencies) {
+            final BigDecimal directCurrencyRateIntermediate = directCurrencyRates.get(sharedCurrency);
+            final BigDecimal reverseCurrencyRateIntermediate = reverseCurrencyRates.get(sharedCurrency);
+            if (directCurrencyRateIntermediate != null && reverseCurrencyRateIntermediate != null) {
+                return directCurrencyRateIntermediate.divide(reverseCurrencyRateIntermediate,
+                        // chose the largest precision among intermediate rates
+                        getRatePrecision(directCurrencyRateIntermediate, reverseCurrencyRateIntermediate),
+                        RoundingMode.HALF_EVEN);
+            }
+        }
+
+        return null;
+    }
+
+    private static BigDecimal findCrossConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+                                                      String fromCurrency,
+                                                      String toCurrency) {
+
+        for (Map<String, BigDecimal> rates : currencyConversionRates.values()) {
+            final BigDecimal fromRate = rates != null ? rates.get(fromCurrency) : null;
+            final BigDecimal toRate = rates != null ? rates.get(toCurrency) : null;
+            if (fromRate != null && toRate != null) {
+                return toRate.divide(fromRate,
+                        getRatePrecision(fromRate, toRate),
+                        RoundingMode.HALF_EVEN);
+            }
+        }
+
+        return null;
+    }
+
+    private static int getRatePrecision(BigDecimal... rates) {
+        final int precision = Arrays.stream(rates)
+                .map(BigDecimal::precision)
+                .max(Integer::compareTo)
+                .orElse(MIN_RATE_PRECISION);
+
+        return Math.max(precision, MIN_RATE_PRECISION);
+    }
+}
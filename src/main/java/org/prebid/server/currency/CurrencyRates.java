@@ -0,0 +1,14 @@
+package org.prebid.server.currency;
+
+import java.math.BigDecimal;
+
+/**
+ * Conversion rates between currencies.
+ */
+interface CurrencyRates {
+
+    /**
+     * Returns conversion rate for a currency pair or null if it cannot be resolved.
+     */
+    BigDecimal rate(String fromCurrency, String toCurrency);
+}
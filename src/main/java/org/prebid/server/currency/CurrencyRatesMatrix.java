@@ -0,0 +1,75 @@
+package org.prebid.server.currency;
+
+import org.apache.commons.collections4.MapUtils;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable conversion rates between every pair of known currencies, resolved once from the given rates
+ * using straight, reverse, intermediate and cross rates.
+ * <p>
+ * Currency codes are mapped to indexes of the dense rates matrix, so lookup of a rate does not depend
+ * on number of currencies. Resolving all pairs takes cubic time in number of currencies, so the matrix is built
+ * only for rates of the currency server, see {@link RequestCurrencyRates} for rates supplied in request.
+ */
+final class CurrencyRatesMatrix implements CurrencyRates {
+
+    private final Map<String, Map<String, BigDecimal>> rates;
+    private final Map<String, Integer> currencyIndexes;
+    private final BigDecimal[][] matrix;
+
+    private CurrencyRatesMatrix(Map<String, Map<String, BigDecimal>> rates,
+                                Map<String, Integer> currencyIndexes,
+                                BigDecimal[][] matrix) {
+
+        this.rates = rates;
+        this.currencyIndexes = currencyIndexes;
+        this.matrix = matrix;
+    }
+
+    /**
+     * Returns matrix for the given rates or null if there are no rates.
+     */
+    static CurrencyRatesMatrix of(Map<String, Map<String, BigDecimal>> rates) {
+        if (MapUtils.isEmpty(rates)) {
+            return null;
+        }
+
+        final Map<String, Integer> currencyIndexes = new HashMap<>();
+        for (Map.Entry<String, Map<String, BigDecimal>> entry : rates.entrySet()) {
+            currencyIndexes.putIfAbsent(entry.getKey(), currencyIndexes.size());
+            final Map<String, BigDecimal> currencyRates = entry.getValue();
+            if (currencyRates != null) {
+                for (String currency : currencyRates.keySet()) {
+                    currencyIndexes.putIfAbsent(currency, currencyIndexes.size());
+                }
+            }
+        }
+
+        final BigDecimal[][] matrix = new BigDecimal[currencyIndexes.size()][currencyIndexes.size()];
+        for (Map.Entry<String, Integer> from : currencyIndexes.entrySet()) {
+            for (Map.Entry<String, Integer> to : currencyIndexes.entrySet()) {
+                if (!from.getValue().equals(to.getValue())) {
+                    matrix[from.getValue()][to.getValue()] =
+                            CurrencyRateResolver.resolveRate(rates, from.getKey(), to.getKey());
+                }
+            }
+        }
+
+        return new CurrencyRatesMatrix(rates, currencyIndexes, matrix);
+    }
+
+    Map<String, Map<String, BigDecimal>> getRates() {
+        return rates;
+    }
+
+    @Override
+    public BigDecimal rate(String fromCurrency, String toCurrency) {
+        final Integer fromIndex = currencyIndexes.get(fromCurrency);
+        final Integer toIndex = fromIndex != null ? currencyIndexes.get(toCurrency) : null;
+
+        return toIndex != null ? matrix[fromIndex][toIndex] : null;
+    }
+}
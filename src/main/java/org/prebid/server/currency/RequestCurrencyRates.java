@@ -0,0 +1,31 @@
+package org.prebid.server.currency;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conversion rates supplied in request, resolved on demand and remembered per currency pair.
+ * <p>
+ * Request rates are controlled by the client, so unlike {@link CurrencyRatesMatrix} rates of every pair
+ * are not resolved ahead of time: only pairs actually converted within the request are resolved.
+ */
+final class RequestCurrencyRates implements CurrencyRates {
+
+    private final Map<String, Map<String, BigDecimal>> rates;
+    private final Map<String, Map<String, Optional<BigDecimal>>> resolvedRates = new ConcurrentHashMap<>();
+
+    RequestCurrencyRates(Map<String, Map<String, BigDecimal>> rates) {
+        this.rates = rates;
+    }
+
+    @Override
+    public BigDecimal rate(String fromCurrency, String toCurrency) {
+        return resolvedRates
+                .computeIfAbsent(fromCurrency, ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(toCurrency, ignored ->
+                        Optional.ofNullable(CurrencyRateResolver.resolveRate(rates, fromCurrency, toCurrency)))
+                .orElse(null);
+    }
+}
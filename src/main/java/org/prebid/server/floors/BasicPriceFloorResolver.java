@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.App;
 import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.BidRequest;
@@ -15,6 +16,7 @@ import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Publisher;
 import com.iab.openrtb.request.Site;
 import com.iab.openrtb.request.Video;
+import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
@@ -49,11 +51,10 @@ import org.prebid.server.util.ObjectUtil;
 import org.prebid.server.util.dsl.config.PrebidConfigMatchingStrategy;
 import org.prebid.server.util.dsl.config.PrebidConfigParameter;
 import org.prebid.server.util.dsl.config.PrebidConfigParameters;
-import org.prebid.server.util.dsl.config.PrebidConfigSource;
+import org.prebid.server.util.dsl.config.impl.IndexedSource;
 import org.prebid.server.util.dsl.config.impl.MostAccurateCombinationStrategy;
 import org.prebid.server.util.dsl.config.impl.SimpleDirectParameter;
 import org.prebid.server.util.dsl.config.impl.SimpleParameters;
-import org.prebid.server.util.dsl.config.impl.SimpleSource;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -77,6 +78,8 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
 
     private static final String VIDEO_ALIAS = "video-instream";
 
+    private static final int COMPILED_MODEL_GROUPS_CACHE_SIZE = 1000;
+
     private static final JsonPointer ADSERVER_NAME_POINTER = JsonPointer.valueOf("/data/adserver/name");
     private static final JsonPointer ADSLOT_POINTER = JsonPointer.valueOf("/data/adserver/adslot");
     private static final JsonPointer PB_ADSLOT_POINTER = JsonPointer.valueOf("/data/pbadslot");
@@ -95,6 +98,7 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private final JacksonMapper mapper;
 
     private final PrebidConfigMatchingStrategy matchingStrategy;
+    private final Map<PriceFloorModelGroup, CompiledModelGroup> compiledModelGroups;
 
     public BasicPriceFloorResolver(CurrencyConversionService currencyConversionService,
                                    CountryCodeMapper countryCodeMapper,
@@ -107,6 +111,11 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         this.mapper = Objects.requireNonNull(mapper);
 
         matchingStrategy = new MostAccurateCombinationStrategy();
+        compiledModelGroups = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(COMPILED_MODEL_GROUPS_CACHE_SIZE)
+                .<PriceFloorModelGroup, CompiledModelGroup>build()
+                .asMap();
     }
 
     @Override
@@ -137,15 +146,12 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
             return null;
         }
 
-        final Map<String, BigDecimal> values = keysToLowerCase(modelGroup.getValues());
-        final PrebidConfigSource source = SimpleSource.of(
-                WILDCARD_CATCH_ALL,
-                ObjectUtils.defaultIfNull(schema.getDelimiter(), SCHEMA_DEFAULT_DELIMITER),
-                values.keySet());
+        final CompiledModelGroup compiledModelGroup =
+                compiledModelGroups.computeIfAbsent(modelGroup, BasicPriceFloorResolver::compileModelGroup);
         final PrebidConfigParameters parameters = createParameters(schema, bidRequest, imp, mediaType, format, bidder);
 
-        final String rule = matchingStrategy.match(source, parameters);
-        final BigDecimal floorForRule = rule != null ? values.get(rule) : null;
+        final String rule = matchingStrategy.match(compiledModelGroup.getSource(), parameters);
+        final BigDecimal floorForRule = rule != null ? compiledModelGroup.getValues().get(rule) : null;
         final BigDecimal floor = floorForRule != null ? floorForRule : modelGroup.getDefaultFloor();
         final String modelGroupCurrency = modelGroup.getCurrency();
         final String floorCurrency = StringUtils.isNotEmpty(modelGroupCurrency)
@@ -188,6 +194,16 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         return CollectionUtils.isNotEmpty(modelGroups) ? modelGroups.getFirst() : null;
     }
 
+    private static CompiledModelGroup compileModelGroup(PriceFloorModelGroup modelGroup) {
+        final Map<String, BigDecimal> values = keysToLowerCase(modelGroup.getValues());
+        final IndexedSource source = IndexedSource.of(
+                WILDCARD_CATCH_ALL,
+                ObjectUtils.defaultIfNull(modelGroup.getSchema().getDelimiter(), SCHEMA_DEFAULT_DELIMITER),
+                values.keySet());
+
+        return CompiledModelGroup.of(source, values);
+    }
+
     private static <V> Map<String, V> keysToLowerCase(Map<String, V> map) {
         return map.entrySet().stream()
                 .collect(
@@ -260,7 +276,7 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
             case adUnitCode -> adUnitCodeFromImp(imp);
             case country -> countryFromRequest(bidRequest);
             case deviceType -> resolveDeviceTypeFromRequest(bidRequest);
-            case bidder -> SimpleDirectParameter.of(bidder);
+            case bidder -> parameter(StringUtils.defaultString(bidder));
         };
     }
 
@@ -572,4 +588,16 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private static PrebidConfigParameter parameter(String value) {
         return SimpleDirectParameter.of(value.toLowerCase());
     }
+
+    /**
+     * Model group rules compiled once per {@link PriceFloorModelGroup} instance, so fetched floors data
+     * shared between requests is not re-indexed for every imp, bidder and format.
+     */
+    @Value(staticConstructor = "of")
+    private static class CompiledModelGroup {
+
+        IndexedSource source;
+
+        Map<String, BigDecimal> values;
+    }
 }
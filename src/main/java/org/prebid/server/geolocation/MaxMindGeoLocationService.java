@@ -1,5 +1,7 @@
 package org.prebid.server.geolocation;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maxmind.db.Network;
 import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
@@ -9,6 +11,7 @@ import com.maxmind.geoip2.record.Continent;
 import com.maxmind.geoip2.record.Country;
 import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Subdivision;
+import com.maxmind.geoip2.record.Traits;
 import io.vertx.core.Future;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
@@ -17,11 +20,21 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.execution.file.FileProcessor;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.Inet4Address;
 import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.zip.GZIPInputStream;
 
 /**
@@ -30,11 +43,32 @@ import java.util.zip.GZIPInputStream;
  */
 public class MaxMindGeoLocationService implements GeoLocationService, FileProcessor {
 
+    private static final Logger logger = LoggerFactory.getLogger(MaxMindGeoLocationService.class);
+
     private static final String VENDOR = "maxmind";
 
     private static final String DATABASE_FILE_NAME = "GeoLite2-City.mmdb";
+    private static final String DATABASE_FILE_PREFIX = "GeoLite2-City";
+    private static final String DATABASE_FILE_SUFFIX = ".mmdb";
+
+    private static final int IPV4_CACHE_PREFIX_LENGTH = 24;
+    private static final int IPV6_CACHE_PREFIX_LENGTH = 48;
+
+    private final boolean memoryMapped;
+    private final Map<Long, CachedGeoInfo> cache;
+    private final Metrics metrics;
 
-    private DatabaseReader databaseReader;
+    private volatile DatabaseReader databaseReader;
+    private Path databaseFile;
+
+    public MaxMindGeoLocationService(boolean memoryMapped, int cacheSize, Metrics metrics) {
+        this.memoryMapped = memoryMapped;
+        this.metrics = Objects.requireNonNull(metrics);
+
+        cache = cacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(cacheSize).<Long, CachedGeoInfo>build().asMap()
+                : null;
+    }
 
     public Future<?> setDataPath(String dataFilePath) {
         try (TarArchiveInputStream tarInput = new TarArchiveInputStream(new GZIPInputStream(
@@ -53,7 +87,13 @@ public class MaxMindGeoLocationService implements GeoLocationService, FileProces
                         .formatted(DATABASE_FILE_NAME, dataFilePath));
             }
 
-            databaseReader = new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY).build();
+            if (memoryMapped) {
+                setMemoryMappedDatabase(tarInput, Path.of(dataFilePath).toAbsolutePath().getParent());
+            } else {
+                databaseReader = new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY).build();
+            }
+            clearCache();
+
             return Future.succeededFuture();
         } catch (IOException e) {
             return Future.failedFuture(
@@ -61,32 +101,129 @@ public class MaxMindGeoLocationService implements GeoLocationService, FileProces
         }
     }
 
+    /**
+     * Extracts database to a new file and maps it instead of keeping it on heap.
+     * <p>
+     * The file mapped by previous reader is never overwritten, since lookups may still be in progress with it,
+     * it is only unlinked after the new reader is published.
+     */
+    private void setMemoryMappedDatabase(InputStream databaseInput, Path directory) throws IOException {
+        final Path newDatabaseFile = Files.createTempFile(directory, DATABASE_FILE_PREFIX, DATABASE_FILE_SUFFIX);
+        try {
+            Files.copy(databaseInput, newDatabaseFile, StandardCopyOption.REPLACE_EXISTING);
+            databaseReader = new DatabaseReader.Builder(newDatabaseFile.toFile())
+                    .fileMode(Reader.FileMode.MEMORY_MAPPED)
+                    .build();
+        } catch (IOException e) {
+            deleteQuietly(newDatabaseFile);
+            throw e;
+        }
+
+        final Path previousDatabaseFile = databaseFile;
+        databaseFile = newDatabaseFile;
+        newDatabaseFile.toFile().deleteOnExit();
+        if (previousDatabaseFile != null) {
+            deleteQuietly(previousDatabaseFile);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete geo location database file {}", file, e);
+        }
+    }
+
+    private void clearCache() {
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
     @Override
     public Future<GeoInfo> lookup(String ip, Timeout timeout) {
-        if (databaseReader == null) {
+        final DatabaseReader currentDatabaseReader = databaseReader;
+        if (currentDatabaseReader == null) {
             return Future.failedFuture("Geo location database file hasn't been downloaded yet, try again later");
         }
 
         try {
             final InetAddress inetAddress = InetAddress.getByName(ip);
-            final CityResponse cityResponse = databaseReader.city(inetAddress);
-            final Location location = cityResponse != null ? cityResponse.getLocation() : null;
-
-            return Future.succeededFuture(GeoInfo.builder()
-                    .vendor(VENDOR)
-                    .continent(resolveContinent(cityResponse))
-                    .country(resolveCountry(cityResponse))
-                    .region(resolveRegion(cityResponse))
-                    // metro code is skipped as Max Mind uses Google's version (Nielsen DMAs required)
-                    .city(resolveCity(cityResponse))
-                    .lat(resolveLatitude(location))
-                    .lon(resolveLongitude(location))
-                    .build());
+            final Long cacheKey = cache != null ? cacheKey(inetAddress) : null;
+            final GeoInfo cachedGeoInfo = cacheKey != null ? fromCache(cacheKey, currentDatabaseReader) : null;
+            if (cachedGeoInfo != null) {
+                return Future.succeededFuture(cachedGeoInfo);
+            }
+
+            final CityResponse cityResponse = currentDatabaseReader.city(inetAddress);
+            final GeoInfo geoInfo = toGeoInfo(cityResponse);
+            if (cacheKey != null && isCacheable(inetAddress, cityResponse)) {
+                cache.put(cacheKey, new CachedGeoInfo(currentDatabaseReader, geoInfo));
+            }
+
+            return Future.succeededFuture(geoInfo);
         } catch (IOException | GeoIp2Exception e) {
             return Future.failedFuture(e);
         }
     }
 
+    /**
+     * Returns key of /24 network for IPv4 and /48 network for IPv6 address.
+     */
+    private static Long cacheKey(InetAddress inetAddress) {
+        final byte[] address = inetAddress.getAddress();
+        final int prefixBytes = (inetAddress instanceof Inet4Address
+                ? IPV4_CACHE_PREFIX_LENGTH
+                : IPV6_CACHE_PREFIX_LENGTH) / Byte.SIZE;
+
+        long key = address.length;
+        for (int i = 0; i < prefixBytes; i++) {
+            key = (key << Byte.SIZE) | (address[i] & 0xFF);
+        }
+        return key;
+    }
+
+    private GeoInfo fromCache(Long cacheKey, DatabaseReader currentDatabaseReader) {
+        final CachedGeoInfo cachedGeoInfo = cache.get(cacheKey);
+        final boolean hit = cachedGeoInfo != null && cachedGeoInfo.databaseReader() == currentDatabaseReader;
+        metrics.updateGeoLocationCacheMetric(hit);
+
+        return hit ? cachedGeoInfo.geoInfo() : null;
+    }
+
+    /**
+     * Result can be shared by all addresses of the cached network only if the database
+     * does not have more specific networks in it.
+     */
+    private static boolean isCacheable(InetAddress inetAddress, CityResponse cityResponse) {
+        final Traits traits = cityResponse != null ? cityResponse.getTraits() : null;
+        final Network network = traits != null ? traits.getNetwork() : null;
+        if (network == null) {
+            return false;
+        }
+
+        final int cachePrefixLength = inetAddress instanceof Inet4Address
+                ? IPV4_CACHE_PREFIX_LENGTH
+                : IPV6_CACHE_PREFIX_LENGTH;
+        return network.getPrefixLength() <= cachePrefixLength;
+    }
+
+    private static GeoInfo toGeoInfo(CityResponse cityResponse) {
+        final Location location = cityResponse != null ? cityResponse.getLocation() : null;
+
+        return GeoInfo.builder()
+                .vendor(VENDOR)
+                .continent(resolveContinent(cityResponse))
+                .country(resolveCountry(cityResponse))
+                .region(resolveRegion(cityResponse))
+                // metro code is skipped as Max Mind uses Google's version (Nielsen DMAs required)
+                .city(resolveCity(cityResponse))
+                .lat(resolveLatitude(location))
+                .lon(resolveLongitude(location))
+                .build();
+    }
+
     private static String resolveContinent(CityResponse cityResponse) {
         final Continent continent = cityResponse != null ? cityResponse.getContinent() : null;
         final String code = continent != null ? continent.getCode() : null;
@@ -119,4 +256,7 @@ public class MaxMindGeoLocationService implements GeoLocationService, FileProces
         final Double longitude = location != null ? location.getLongitude() : null;
         return longitude != null ? longitude.floatValue() : null;
     }
+
+    private record CachedGeoInfo(DatabaseReader databaseReader, GeoInfo geoInfo) {
+    }
 }
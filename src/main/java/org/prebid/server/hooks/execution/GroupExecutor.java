@@ -13,8 +13,11 @@ import org.prebid.server.hooks.v1.InvocationContext;
 import org.prebid.server.hooks.v1.InvocationResult;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
@@ -76,9 +79,14 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         return this;
     }
 
+    /**
+     * Invokes all hooks of the group at once with the same initial payload, so the group takes as long as
+     * its slowest hook. Invocation results are applied afterwards in the declared order of hooks.
+     */
     public Future<GroupResult<PAYLOAD>> execute() {
         final GroupResult<PAYLOAD> initialGroupResult = GroupResult.of(initialPayload, rejectAllowed);
         Future<GroupResult<PAYLOAD>> groupFuture = Future.succeededFuture(initialGroupResult);
+        final GroupDeadline groupDeadline = GroupDeadline.start(vertx, group.getTimeout());
 
         for (final HookId hookId : group.getHookSequence()) {
             if (!modulesExecution.get(hookId.getModuleCode())) {
@@ -89,12 +97,14 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
             final long startTime = clock.millis();
             final Future<InvocationResult<PAYLOAD>> invocationResult = hookFuture
-                    .compose(hook -> executeHook(hook, group.getTimeout(), initialGroupResult, hookId));
+                    .compose(hook -> executeHook(hook, groupDeadline, initialGroupResult, hookId));
 
             groupFuture = groupFuture.compose(groupResult ->
                     applyInvocationResult(invocationResult, hookId, startTime, groupResult));
         }
 
+        groupDeadline.allRegistered();
+
         return groupFuture.recover(GroupExecutor::restoreResultFromRejection);
     }
 
@@ -107,21 +117,20 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     }
 
     private Future<InvocationResult<PAYLOAD>> executeHook(Hook<PAYLOAD, CONTEXT> hook,
-                                                          Long timeout,
+                                                          GroupDeadline groupDeadline,
                                                           GroupResult<PAYLOAD> groupResult,
                                                           HookId hookId) {
 
+        final Long timeout = groupDeadline.timeout;
         final CONTEXT invocationContext = invocationContextProvider.apply(timeout, hookId, moduleContextFor(hookId));
-        return executeWithTimeout(() -> hook.call(groupResult.payload(), invocationContext), timeout);
+        return executeWithTimeout(() -> hook.call(groupResult.payload(), invocationContext), groupDeadline);
     }
 
-    private <T> Future<T> executeWithTimeout(Supplier<Future<T>> action, Long timeout) {
-        final Promise<T> promise = Promise.promise();
-
-        final long timeoutTimerId = vertx.setTimer(timeout, id -> failWithTimeout(promise));
+    private static <T> Future<T> executeWithTimeout(Supplier<Future<T>> action, GroupDeadline groupDeadline) {
+        final Promise<T> promise = groupDeadline.register();
 
         executeSafely(action)
-                .onComplete(result -> completeWithActionResult(promise, timeoutTimerId, result));
+                .onComplete(result -> completeWithActionResult(promise, groupDeadline, result));
 
         return promise.future();
     }
@@ -142,8 +151,11 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         }
     }
 
-    private <T> void completeWithActionResult(Promise<T> promise, long timeoutTimerId, AsyncResult<T> result) {
-        vertx.cancelTimer(timeoutTimerId);
+    private static <T> void completeWithActionResult(Promise<T> promise,
+                                                     GroupDeadline groupDeadline,
+                                                     AsyncResult<T> result) {
+
+        groupDeadline.complete();
 
         // check is to avoid harmless exception if timeout exceeds before successful result becomes ready
         if (!promise.future().isComplete()) {
@@ -192,4 +204,52 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
         return Future.failedFuture(throwable);
     }
+
+    /**
+     * Hooks of a group are invoked at the same time and share the group timeout, so a single timer is enough
+     * to expire all of them. It is set before the first hook is invoked and cancelled as soon as the last one
+     * completes, what keeps number of timers proportional to number of groups rather than hooks.
+     */
+    private static class GroupDeadline {
+
+        private final Vertx vertx;
+        private final Long timeout;
+        private final List<Promise<?>> promises;
+        // one extra pending slot is held until all hooks are registered
+        private final AtomicInteger pending;
+        private final long timerId;
+
+        private GroupDeadline(Vertx vertx, Long timeout) {
+            this.vertx = vertx;
+            this.timeout = timeout;
+            promises = new ArrayList<>();
+            pending = new AtomicInteger(1);
+            timerId = vertx.setTimer(timeout, id -> expire());
+        }
+
+        static GroupDeadline start(Vertx vertx, Long timeout) {
+            return new GroupDeadline(vertx, timeout);
+        }
+
+        <T> Promise<T> register() {
+            final Promise<T> promise = Promise.promise();
+            promises.add(promise);
+            pending.incrementAndGet();
+            return promise;
+        }
+
+        void allRegistered() {
+            complete();
+        }
+
+        void complete() {
+            if (pending.decrementAndGet() == 0) {
+                vertx.cancelTimer(timerId);
+            }
+        }
+
+        private void expire() {
+            promises.forEach(GroupExecutor::failWithTimeout);
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package org.prebid.server.hooks.execution;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 import org.prebid.server.hooks.execution.model.ExecutionAction;
@@ -15,7 +16,10 @@ import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeoutException;
 
 @Accessors(fluent = true)
@@ -31,10 +35,22 @@ class GroupResult<T> {
 
     private T payload;
 
+    private boolean payloadUpdated;
+
     private final boolean rejectAllowed;
 
     private final List<HookExecutionOutcome> hookExecutionOutcomes = new ArrayList<>();
 
+    // first applied update is kept as is, since changed properties are needed only if there is another one
+    @Getter(AccessLevel.NONE)
+    private T firstUpdateSource;
+
+    @Getter(AccessLevel.NONE)
+    private T firstUpdateResult;
+
+    @Getter(AccessLevel.NONE)
+    private Set<String> updatedProperties;
+
     private GroupResult(T payload, boolean rejectAllowed) {
         this.shouldReject = false;
         this.payload = payload;
@@ -49,9 +65,10 @@ class GroupResult<T> {
                                                 HookId hookId,
                                                 long executionTime) {
 
+        boolean updateConflict = false;
         if (invocationResult.status() == InvocationStatus.success && invocationResult.action() != null) {
             try {
-                applyAction(hookId, invocationResult.action(), invocationResult.payloadUpdate());
+                updateConflict = applyAction(hookId, invocationResult.action(), invocationResult.payloadUpdate());
             } catch (Exception e) {
                 hookExecutionOutcomes.add(toExecutionOutcome(e, hookId, executionTime));
 
@@ -59,7 +76,7 @@ class GroupResult<T> {
             }
         }
 
-        hookExecutionOutcomes.add(toExecutionOutcome(invocationResult, hookId, executionTime));
+        hookExecutionOutcomes.add(toExecutionOutcome(invocationResult, hookId, executionTime, updateConflict));
 
         return this;
     }
@@ -74,11 +91,15 @@ class GroupResult<T> {
         return GroupExecutionOutcome.of(this.hookExecutionOutcomes());
     }
 
-    private void applyAction(HookId hookId, InvocationAction action, PayloadUpdate<T> payloadUpdate) {
-        switch (action) {
-            case reject -> applyReject(hookId);
+    private boolean applyAction(HookId hookId, InvocationAction action, PayloadUpdate<T> payloadUpdate) {
+        return switch (action) {
+            case reject -> {
+                applyReject(hookId);
+                yield false;
+            }
             case update -> applyPayloadUpdate(hookId, payloadUpdate);
-        }
+            case no_action, no_invocation -> false;
+        };
     }
 
     private void applyReject(HookId hookId) {
@@ -95,7 +116,7 @@ class GroupResult<T> {
         payload = null;
     }
 
-    private void applyPayloadUpdate(HookId hookId, PayloadUpdate<T> payloadUpdate) {
+    private boolean applyPayloadUpdate(HookId hookId, PayloadUpdate<T> payloadUpdate) {
         if (payloadUpdate == null) {
             conditionalLogger.error(
                     "Hook implementation %s requested to update an entity but not provided a payload update"
@@ -105,8 +126,9 @@ class GroupResult<T> {
             throw new PayloadUpdateException("Payload update is missing in invocation result");
         }
 
+        final T updateSource = payload;
         try {
-            payload = payloadUpdate.apply(payload);
+            payload = payloadUpdate.apply(updateSource);
         } catch (Exception e) {
             conditionalLogger.error("""
                             Hook implementation %s requested to update an entity \
@@ -115,11 +137,41 @@ class GroupResult<T> {
 
             throw new PayloadUpdateException("Payload update has thrown an exception: " + e);
         }
+
+        final boolean updateConflict = isUpdateConflict(updateSource, payload);
+        payloadUpdated = true;
+
+        return updateConflict;
+    }
+
+    /**
+     * Updates are merged in declared order, so an update changing the same top-level payload properties
+     * as a preceding update from the same group depends on that order and is reported as a conflict.
+     */
+    private boolean isUpdateConflict(T updateSource, T updateResult) {
+        if (!payloadUpdated) {
+            firstUpdateSource = updateSource;
+            firstUpdateResult = updateResult;
+            return false;
+        }
+
+        if (updatedProperties == null) {
+            updatedProperties = new HashSet<>(PayloadChanges.changedProperties(firstUpdateSource, firstUpdateResult));
+            firstUpdateSource = null;
+            firstUpdateResult = null;
+        }
+
+        final Set<String> changedProperties = PayloadChanges.changedProperties(updateSource, updateResult);
+        final boolean updateConflict = !Collections.disjoint(updatedProperties, changedProperties);
+        updatedProperties.addAll(changedProperties);
+
+        return updateConflict;
     }
 
     private static HookExecutionOutcome toExecutionOutcome(InvocationResult<?> invocationResult,
                                                            HookId hookId,
-                                                           long executionTime) {
+                                                           long executionTime,
+                                                           boolean updateConflict) {
 
         return HookExecutionOutcome.builder()
                 .hookId(hookId)
@@ -131,6 +183,7 @@ class GroupResult<T> {
                 .warnings(invocationResult.warnings())
                 .debugMessages(invocationResult.debugMessages())
                 .analyticsTags(invocationResult.analyticsTags())
+                .updateConflict(updateConflict)
                 .build();
     }
 
@@ -0,0 +1,124 @@
+package org.prebid.server.hooks.execution;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Finds top-level properties of a hook payload changed by a payload update.
+ * <p>
+ * Payloads mostly wrap a single OpenRTB object, e.g. {@code AuctionRequestPayload} holds a bid request,
+ * so properties of such objects are reported instead of the wrapping payload property, e.g. {@code bidRequest.imp}.
+ * Payloads are immutable and updated by making a copy, so properties left untouched by an update are the same
+ * instances and compared by identity first.
+ */
+final class PayloadChanges {
+
+    private static final String OPENRTB_PACKAGE_PREFIX = "com.iab.openrtb.";
+
+    private static final ClassValue<List<Field>> PROPERTIES = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            return properties(type);
+        }
+    };
+
+    private PayloadChanges() {
+    }
+
+    static Set<String> changedProperties(Object payload, Object updatedPayload) {
+        if (payload == updatedPayload) {
+            return Collections.emptySet();
+        }
+
+        final Set<String> changedProperties = new HashSet<>();
+        if (!isSameType(payload, updatedPayload)) {
+            collectAllProperties(null, payload, changedProperties);
+            collectAllProperties(null, updatedPayload, changedProperties);
+            return changedProperties;
+        }
+
+        for (Field field : PROPERTIES.get(payload.getClass())) {
+            final Object value = valueOf(field, payload);
+            final Object updatedValue = valueOf(field, updatedPayload);
+
+            if (isOpenrtbObject(value) || isOpenrtbObject(updatedValue)) {
+                collectChangedProperties(field.getName(), value, updatedValue, changedProperties);
+            } else if (isChanged(value, updatedValue)) {
+                changedProperties.add(field.getName());
+            }
+        }
+
+        return changedProperties;
+    }
+
+    private static void collectChangedProperties(String prefix,
+                                                 Object value,
+                                                 Object updatedValue,
+                                                 Set<String> changedProperties) {
+
+        if (value == updatedValue) {
+            return;
+        }
+
+        if (!isSameType(value, updatedValue)) {
+            changedProperties.add(prefix);
+            collectAllProperties(prefix, value, changedProperties);
+            collectAllProperties(prefix, updatedValue, changedProperties);
+            return;
+        }
+
+        for (Field field : PROPERTIES.get(value.getClass())) {
+            if (isChanged(valueOf(field, value), valueOf(field, updatedValue))) {
+                changedProperties.add(propertyName(prefix, field));
+            }
+        }
+    }
+
+    private static void collectAllProperties(String prefix, Object value, Set<String> properties) {
+        if (value != null) {
+            PROPERTIES.get(value.getClass()).forEach(field -> properties.add(propertyName(prefix, field)));
+        }
+    }
+
+    private static String propertyName(String prefix, Field field) {
+        return prefix != null ? prefix + "." + field.getName() : field.getName();
+    }
+
+    private static boolean isSameType(Object value, Object updatedValue) {
+        return value != null && updatedValue != null && value.getClass() == updatedValue.getClass();
+    }
+
+    private static boolean isOpenrtbObject(Object value) {
+        return value != null && value.getClass().getName().startsWith(OPENRTB_PACKAGE_PREFIX);
+    }
+
+    private static boolean isChanged(Object value, Object updatedValue) {
+        return value != updatedValue && !Objects.equals(value, updatedValue);
+    }
+
+    private static Object valueOf(Field field, Object target) {
+        try {
+            return field.get(target);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read payload property " + field.getName(), e);
+        }
+    }
+
+    private static List<Field> properties(Class<?> type) {
+        final List<Field> properties = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic() && field.trySetAccessible()) {
+                    properties.add(field);
+                }
+            }
+        }
+        return properties;
+    }
+}
@@ -27,4 +27,6 @@ public class HookExecutionOutcome {
     List<String> debugMessages;
 
     Tags analyticsTags;
+
+    boolean updateConflict;
 }
@@ -3,6 +3,7 @@ package org.prebid.server.json;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.buffer.Buffer;
 import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
@@ -15,6 +16,8 @@ public class JacksonMapper {
 
     private static final String FAILED_TO_DECODE = "Failed to decode: %s";
     private final ObjectMapper mapper;
+    // copy of the mapper reusing JSON of objects shared between bidder requests, created on first use
+    private volatile ObjectMapper sharedObjectsMapper;
 
     public JacksonMapper(ObjectMapper mapper) {
         this.mapper = Objects.requireNonNull(mapper);
@@ -26,7 +29,10 @@ public class JacksonMapper {
 
     public <T> String encodeToString(T obj) throws EncodeException {
         try {
-            return mapper.writeValueAsString(obj);
+            final SharedObjectEncodings encodings = SharedObjectEncodings.current();
+            return encodings != null
+                    ? sharedObjectsWriter(encodings).writeValueAsString(obj)
+                    : mapper.writeValueAsString(obj);
         } catch (JsonProcessingException e) {
             throw new EncodeException("Failed to encode as JSON: " + e.getMessage());
         }
@@ -34,12 +40,25 @@ public class JacksonMapper {
 
     public <T> byte[] encodeToBytes(T obj) throws EncodeException {
         try {
-            return mapper.writeValueAsBytes(obj);
+            final SharedObjectEncodings encodings = SharedObjectEncodings.current();
+            return encodings != null
+                    ? sharedObjectsWriter(encodings).writeValueAsBytes(obj)
+                    : mapper.writeValueAsBytes(obj);
         } catch (JsonProcessingException e) {
             throw new EncodeException("Failed to encode as byte array: " + e.getMessage());
         }
     }
 
+    private ObjectWriter sharedObjectsWriter(SharedObjectEncodings encodings) {
+        ObjectMapper sharedMapper = sharedObjectsMapper;
+        if (sharedMapper == null) {
+            sharedMapper = mapper.copy().registerModule(new SharedObjectEncodingModule());
+            sharedObjectsMapper = sharedMapper;
+        }
+
+        return sharedMapper.writer().withAttribute(SharedObjectEncodings.class, encodings);
+    }
+
     public <T> T decodeValue(String str, Class<T> clazz) throws DecodeException {
         try {
             return mapper.readValue(str, clazz);
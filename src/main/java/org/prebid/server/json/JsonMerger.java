@@ -24,17 +24,27 @@ public class JsonMerger {
      * with reason message.
      */
     public <T> T merge(T originalObject, String storedData, String id, Class<T> classToCast) {
-        final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
         final JsonNode storedRequestJsonNode;
         try {
             storedRequestJsonNode = mapper.mapper().readTree(storedData);
         } catch (IOException e) {
             throw new InvalidRequestException("Can't parse Json for stored request with id " + id);
         }
+
+        return merge(originalObject, storedRequestJsonNode, id, classToCast);
+    }
+
+    /**
+     * Merges passed object with already parsed stored data and cast it to appropriate class.
+     * <p>
+     * Stored data node is left untouched, so it can be shared between calls.
+     */
+    public <T> T merge(T originalObject, JsonNode storedData, String id, Class<T> classToCast) {
+        final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
         try {
             // Http request fields have higher priority and will override fields from stored requests
             // in case they have different values
-            return mapper.mapper().treeToValue(JsonMergePatch.fromJson(originJsonNode).apply(storedRequestJsonNode),
+            return mapper.mapper().treeToValue(JsonMergePatch.fromJson(originJsonNode).apply(storedData),
                     classToCast);
         } catch (JsonPatchException e) {
             throw new InvalidRequestException(
@@ -0,0 +1,134 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Dooh;
+import com.iab.openrtb.request.Regs;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Set;
+
+/**
+ * Reuses JSON of the {@link com.iab.openrtb.request.BidRequest} parts usually shared between requests to bidders.
+ * <p>
+ * Takes effect only for writers having {@link SharedObjectEncodings} of the auction as attribute, see
+ * {@link JacksonMapper}, so it must not be registered on the mapper used for anything but bidder requests.
+ */
+class SharedObjectEncodingModule extends SimpleModule {
+
+    private static final Set<Class<?>> SHARED_TYPES = Set.of(
+            Site.class, App.class, Dooh.class, Device.class, User.class, Regs.class);
+
+    SharedObjectEncodingModule() {
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config,
+                                                      BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+
+                return SHARED_TYPES.contains(beanDesc.getBeanClass())
+                        ? new SharedObjectSerializer<>(serializer)
+                        : serializer;
+            }
+        });
+    }
+
+    private static class SharedObjectSerializer<T> extends JsonSerializer<T>
+            implements ContextualSerializer, ResolvableSerializer {
+
+        // marks objects serialized once, that are not worth encoding upfront yet
+        private static final SerializedString SEEN_ONCE = new SerializedString("");
+
+        private final JsonSerializer<T> delegate;
+
+        @SuppressWarnings("unchecked")
+        SharedObjectSerializer(JsonSerializer<?> delegate) {
+            this.delegate = (JsonSerializer<T>) delegate;
+        }
+
+        @Override
+        public void serialize(T value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            final ObjectCodec codec = generator.getCodec();
+            // buffered (valueToTree, convertValue), pretty printed and view restricted output can't be spliced
+            // with raw JSON
+            if (!(provider.getAttribute(SharedObjectEncodings.class) instanceof SharedObjectEncodings encodings)
+                    || !(codec instanceof ObjectMapper mapper)
+                    || generator instanceof TokenBuffer
+                    || generator.getPrettyPrinter() != null
+                    || provider.getActiveView() != null) {
+
+                delegate.serialize(value, generator, provider);
+                return;
+            }
+
+            SerializedString encoded = encodings.putIfAbsent(value, SEEN_ONCE);
+            if (encoded == null) {
+                delegate.serialize(value, generator, provider);
+                return;
+            }
+
+            if (encoded == SEEN_ONCE) {
+                encoded = encode(value, mapper, provider);
+                encodings.put(value, encoded);
+            }
+
+            generator.writeRawValue(encoded);
+        }
+
+        private SerializedString encode(T value, ObjectMapper mapper, SerializerProvider provider) throws IOException {
+            final StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+                provider.getConfig().initialize(generator);
+                delegate.serialize(value, generator, provider);
+            }
+
+            return new SerializedString(writer.toString());
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, T value) {
+            return delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+
+            final JsonSerializer<?> contextual = delegate instanceof ContextualSerializer contextualSerializer
+                    ? contextualSerializer.createContextual(provider, property)
+                    : delegate;
+
+            return contextual == delegate ? this : new SharedObjectSerializer<>(contextual);
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer resolvableSerializer) {
+                resolvableSerializer.resolve(provider);
+            }
+        }
+
+        @Override
+        public Class<T> handledType() {
+            return delegate.handledType();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * JSON of the {@link com.iab.openrtb.request.BidRequest} parts shared between requests to bidders of one auction.
+ * <p>
+ * Bidder requests of one auction mostly reference the same site/app/dooh, device, user and regs instances,
+ * so each bidder serializes the same subtrees over and over. Within {@link #apply} {@link JacksonMapper} remembers
+ * JSON of such objects by the object identity starting from their second serialization and writes it as raw value.
+ * Encodings are referenced only by this instance, so they are dropped together with the auction.
+ * <p>
+ * Relies on the shared objects being not modified while bidder requests of the auction are encoded, which holds
+ * as long as they are changed by making a copy with {@code toBuilder()}.
+ */
+public class SharedObjectEncodings {
+
+    private static final ThreadLocal<SharedObjectEncodings> CURRENT = new ThreadLocal<>();
+
+    // bidder requests of one auction can be encoded after hooks completed on different threads
+    private final Map<Object, SerializedString> encodings = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * Runs the given action, making encodings of this auction used by {@link JacksonMapper} on the current thread.
+     */
+    public <T> T apply(Supplier<T> action) {
+        final SharedObjectEncodings previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static SharedObjectEncodings current() {
+        return CURRENT.get();
+    }
+
+    SerializedString putIfAbsent(Object value, SerializedString encoded) {
+        return encodings.putIfAbsent(value, encoded);
+    }
+
+    void put(Object value, SerializedString encoded) {
+        encodings.put(value, encoded);
+    }
+}
@@ -0,0 +1,28 @@
+package org.prebid.server.json.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.NumberDeserializers;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Deserializes json float to {@link BigDecimal} through double, the same way it is read from
+ * {@link com.fasterxml.jackson.databind.JsonNode} tree, so {@code 1.10} becomes {@code 1.1} in both cases.
+ */
+public class DoubleBasedBigDecimalDeserializer extends StdScalarDeserializer<BigDecimal> {
+
+    public DoubleBasedBigDecimalDeserializer() {
+        super(BigDecimal.class);
+    }
+
+    @Override
+    public BigDecimal deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT
+                ? BigDecimal.valueOf(parser.getDoubleValue())
+                : NumberDeserializers.BigDecimalDeserializer.instance.deserialize(parser, ctxt);
+    }
+}
@@ -0,0 +1,22 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+/**
+ * {@link MetricRegistry} creating timers and histograms with {@link HdrHistogramReservoir}
+ * instead of exponentially decaying one.
+ */
+public class HdrHistogramMetricRegistry extends MetricRegistry {
+
+    @Override
+    public Timer timer(String name) {
+        return timer(name, () -> new Timer(new HdrHistogramReservoir()));
+    }
+
+    @Override
+    public Histogram histogram(String name) {
+        return histogram(name, () -> new Histogram(new HdrHistogramReservoir()));
+    }
+}
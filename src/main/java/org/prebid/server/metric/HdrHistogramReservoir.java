@@ -0,0 +1,118 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+import org.HdrHistogram.Recorder;
+
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link Reservoir} backed by HdrHistogram. Values are recorded without locks and with a fixed relative error
+ * instead of being sampled, so high percentiles are not lost under load.
+ * <p>
+ * Every snapshot contains values recorded since the previous one, what matches reporters submitting metrics
+ * each interval, the same way flushing counters do.
+ */
+public class HdrHistogramReservoir implements Reservoir {
+
+    private static final int NUMBER_OF_SIGNIFICANT_VALUE_DIGITS = 2;
+
+    private final Recorder recorder;
+    private final LongAdder size;
+    private Histogram intervalHistogram;
+
+    public HdrHistogramReservoir() {
+        recorder = new Recorder(NUMBER_OF_SIGNIFICANT_VALUE_DIGITS);
+        size = new LongAdder();
+    }
+
+    /**
+     * Returns number of values recorded since the last snapshot.
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(size.sum(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void update(long value) {
+        recorder.recordValue(Math.max(value, 0));
+        size.increment();
+    }
+
+    @Override
+    public synchronized Snapshot getSnapshot() {
+        intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+        size.add(-intervalHistogram.getTotalCount());
+        return new HdrHistogramSnapshot(intervalHistogram.copy());
+    }
+
+    private static class HdrHistogramSnapshot extends Snapshot {
+
+        private final Histogram histogram;
+
+        HdrHistogramSnapshot(Histogram histogram) {
+            this.histogram = histogram;
+        }
+
+        @Override
+        public double getValue(double quantile) {
+            return histogram.getValueAtPercentile(quantile * 100);
+        }
+
+        @Override
+        public long[] getValues() {
+            final long[] values = new long[size()];
+            int index = 0;
+            for (HistogramIterationValue value : histogram.recordedValues()) {
+                final long recordedValue = value.getValueIteratedTo();
+                for (long i = 0; i < value.getCountAtValueIteratedTo() && index < values.length; i++) {
+                    values[index++] = recordedValue;
+                }
+            }
+
+            return values;
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(histogram.getTotalCount(), Integer.MAX_VALUE);
+        }
+
+        @Override
+        public long getMax() {
+            return histogram.getMaxValue();
+        }
+
+        @Override
+        public double getMean() {
+            return histogram.getMean();
+        }
+
+        @Override
+        public long getMin() {
+            return histogram.getMinValue();
+        }
+
+        @Override
+        public double getStdDev() {
+            return histogram.getStdDeviation();
+        }
+
+        @Override
+        public void dump(OutputStream output) {
+            try (PrintWriter writer = new PrintWriter(output, false, StandardCharsets.UTF_8)) {
+                for (HistogramIterationValue value : histogram.recordedValues()) {
+                    for (long i = 0; i < value.getCountAtValueIteratedTo(); i++) {
+                        writer.println(value.getValueIteratedTo());
+                    }
+                }
+            }
+        }
+    }
+}
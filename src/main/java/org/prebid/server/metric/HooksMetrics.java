@@ -2,16 +2,14 @@ package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 class HooksMetrics extends UpdatableMetrics {
 
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
+    // metrics are updated from all event loop threads, so thread-safe maps are used to hold them
     private final Function<String, ModuleMetrics> moduleMetricsCreator;
     private final Map<String, ModuleMetrics> moduleMetrics;
 
@@ -23,7 +21,7 @@ class HooksMetrics extends UpdatableMetrics {
 
         moduleMetricsCreator = moduleCode ->
                 new ModuleMetrics(metricRegistry, counterType, createPrefix(prefix), moduleCode);
-        moduleMetrics = new HashMap<>();
+        moduleMetrics = new ConcurrentHashMap<>();
     }
 
     HooksMetrics(MetricRegistry metricRegistry, CounterType counterType) {
@@ -34,7 +32,7 @@ class HooksMetrics extends UpdatableMetrics {
 
         moduleMetricsCreator = moduleCode ->
                 new ModuleMetrics(metricRegistry, counterType, createPrefix(), moduleCode);
-        moduleMetrics = new HashMap<>();
+        moduleMetrics = new ConcurrentHashMap<>();
     }
 
     private static Function<MetricName, String> nameCreator(String prefix) {
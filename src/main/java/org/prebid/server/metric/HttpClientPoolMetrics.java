@@ -0,0 +1,27 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Dedicated http client connection pool metrics support.
+ */
+class HttpClientPoolMetrics extends UpdatableMetrics {
+
+    HttpClientPoolMetrics(MetricRegistry metricRegistry, CounterType counterType, String name) {
+        super(
+                Objects.requireNonNull(metricRegistry),
+                Objects.requireNonNull(counterType),
+                nameCreator(createPrefix(Objects.requireNonNull(name))));
+    }
+
+    private static String createPrefix(String name) {
+        return "http-client.pool." + name;
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix) {
+        return metricName -> "%s.%s".formatted(prefix, metricName);
+    }
+}
@@ -14,6 +14,10 @@ public enum MetricName {
     opened,
     existing,
 
+    // http client pool
+    in_flight_requests,
+    wait_time,
+
     // database
     db_query_time,
 
@@ -22,6 +26,12 @@ public enum MetricName {
     geolocation_request_time,
     geolocation_successful,
     geolocation_fail,
+    geolocation_cache_hit,
+    geolocation_cache_miss,
+
+    // public suffix list
+    public_suffix_list_cache_hit,
+    public_suffix_list_cache_miss,
 
     // auction
     requests,
@@ -39,6 +49,7 @@ public enum MetricName {
     bids_received,
     adm_bids_received,
     nurl_bids_received,
+    allocated_bytes,
 
     // request types,
     openrtb2web("openrtb2-web"),
@@ -107,6 +118,8 @@ public enum MetricName {
     in_geo("in-geo"),
     out_geo("out-geo"),
     unknown_geo("unknown-geo"),
+    consent_cache_hit("consent-cache.hit"),
+    consent_cache_miss("consent-cache.miss"),
 
     // vendor list
     missing,
@@ -134,11 +147,18 @@ public enum MetricName {
     // settings cache
     stored_request("stored-request"),
     amp_stored_request("amp-stored-request"),
+    video_stored_request("video-stored-request"),
+    profile,
     account,
+    categories,
     initialize,
     update,
     hit,
     miss,
+    coalesced,
+    ahead,
+    batch_requests("batch.requests"),
+    batch_ids("batch.ids"),
 
     // hooks
     call,
@@ -149,6 +169,7 @@ public enum MetricName {
     unknown,
     failure,
     execution_error("execution-error"),
+    update_conflict("update-conflict"),
     duration,
 
     // price-floors
@@ -158,6 +179,9 @@ public enum MetricName {
     disallowed_count("disallowed.count"),
     processed_rules_count("processedrules.count"),
 
+    // analytics
+    dropped,
+
     // profiles
     limit_exceeded;
 
@@ -14,10 +14,10 @@ import org.prebid.server.settings.model.Account;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -39,9 +39,8 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
+    private final Function<String, HttpClientPoolMetrics> httpClientPoolMetricsCreator;
+    // metrics are updated from all event loop threads, so thread-safe maps are used to hold them
     private final RequestsMetrics requestsMetrics;
     private final Map<MetricName, RequestStatusMetrics> requestMetrics;
     private final Map<String, AccountMetrics> accountMetrics;
@@ -58,6 +57,7 @@ public class Metrics extends UpdatableMetrics {
     private final TimeoutNotificationMetrics timeoutNotificationMetrics;
     private final CurrencyRatesMetrics currencyRatesMetrics;
     private final Map<MetricName, SettingsCacheMetrics> settingsCacheMetrics;
+    private final Map<String, HttpClientPoolMetrics> httpClientPoolMetrics;
     private final HooksMetrics hooksMetrics;
     private final ProfileMetrics profileMetrics;
 
@@ -80,23 +80,25 @@ public class Metrics extends UpdatableMetrics {
                 metricRegistry, counterType, moduleType);
         circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
+        httpClientPoolMetricsCreator = name -> new HttpClientPoolMetrics(metricRegistry, counterType, name);
 
         requestsMetrics = new RequestsMetrics(metricRegistry, counterType);
-        requestMetrics = new EnumMap<>(MetricName.class);
-        accountMetrics = new HashMap<>();
-        adapterMetrics = new HashMap<>();
-        analyticMetrics = new HashMap<>();
-        priceFloorsMetrics = new HashMap<>();
+        requestMetrics = new ConcurrentHashMap<>();
+        accountMetrics = new ConcurrentHashMap<>();
+        adapterMetrics = new ConcurrentHashMap<>();
+        analyticMetrics = new ConcurrentHashMap<>();
+        priceFloorsMetrics = new ConcurrentHashMap<>();
         alertsMetrics = new AlertsConfigMetrics(metricRegistry, counterType);
-        bidderCardinailtyMetrics = new HashMap<>();
+        bidderCardinailtyMetrics = new ConcurrentHashMap<>();
         userSyncMetrics = new UserSyncMetrics(metricRegistry, counterType);
         cookieSyncMetrics = new CookieSyncMetrics(metricRegistry, counterType);
         privacyMetrics = new PrivacyMetrics(metricRegistry, counterType);
-        circuitBreakerMetrics = new HashMap<>();
+        circuitBreakerMetrics = new ConcurrentHashMap<>();
         cacheMetrics = new CacheMetrics(metricRegistry, counterType);
         timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
-        settingsCacheMetrics = new HashMap<>();
+        settingsCacheMetrics = new ConcurrentHashMap<>();
+        httpClientPoolMetrics = new ConcurrentHashMap<>();
         hooksMetrics = new HooksMetrics(metricRegistry, counterType);
         profileMetrics = new ProfileMetrics(metricRegistry, counterType);
     }
@@ -165,6 +167,10 @@ public class Metrics extends UpdatableMetrics {
         return settingsCacheMetrics.computeIfAbsent(type, settingsCacheMetricsCreator);
     }
 
+    HttpClientPoolMetrics forHttpClientPool(String name) {
+        return httpClientPoolMetrics.computeIfAbsent(name, httpClientPoolMetricsCreator);
+    }
+
     HooksMetrics hooks() {
         return hooksMetrics;
     }
@@ -309,6 +315,10 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateAdapterResponseAllocatedBytes(String bidder, long allocatedBytes) {
+        forAdapter(bidder).response().updateHistogram(MetricName.allocated_bytes, allocatedBytes);
+    }
+
     public void updateAdapterRequestNobidMetrics(String bidder, Account account) {
         forAdapter(bidder).request().incCounter(MetricName.nobid);
         if (accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
@@ -362,6 +372,10 @@ public class Metrics extends UpdatableMetrics {
         forAnalyticReporter(analyticCode).forEventType(eventType).incCounter(result);
     }
 
+    public void updateAnalyticDroppedEventsMetric(String analyticCode) {
+        forAnalyticReporter(analyticCode).incCounter(MetricName.dropped);
+    }
+
     public void updatePriceFloorFetchMetric(MetricName result) {
         forPriceFloorFetch().incCounter(result);
     }
@@ -519,6 +533,10 @@ public class Metrics extends UpdatableMetrics {
         privacy().tcf().incCounter(MetricName.invalid);
     }
 
+    public void updatePrivacyTcfConsentCacheMetric(boolean hit) {
+        privacy().tcf().incCounter(hit ? MetricName.consent_cache_hit : MetricName.consent_cache_miss);
+    }
+
     public void updatePrivacyTcfRequestsMetric(int version) {
         final UpdatableMetrics versionMetrics = privacy().tcf().fromVersion(version);
         versionMetrics.incCounter(MetricName.requests);
@@ -591,6 +609,22 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateGeoLocationCacheMetric(boolean hit) {
+        incCounter(hit ? MetricName.geolocation_cache_hit : MetricName.geolocation_cache_miss);
+    }
+
+    public void updatePublicSuffixListCacheMetric(boolean hit) {
+        incCounter(hit ? MetricName.public_suffix_list_cache_hit : MetricName.public_suffix_list_cache_miss);
+    }
+
+    public void createHttpClientPoolInFlightRequestsGauge(String name, LongSupplier inFlightRequestsSupplier) {
+        forHttpClientPool(name).createGauge(MetricName.in_flight_requests, inFlightRequestsSupplier);
+    }
+
+    public void updateHttpClientPoolWaitTime(String name, long millis) {
+        forHttpClientPool(name).updateTimer(MetricName.wait_time, millis);
+    }
+
     public void createGeoLocationCircuitBreakerGauge(BooleanSupplier stateSupplier) {
         forCircuitBreakerType(MetricName.geo)
                 .createGauge(MetricName.opened, () -> stateSupplier.getAsBoolean() ? 1 : 0);
@@ -651,6 +685,12 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).incCounter(event);
     }
 
+    public void updateSettingsBatchMetrics(MetricName cacheType, int requestsCount, int idsCount) {
+        final SettingsCacheMetrics settingsCacheMetrics = forSettingsCacheType(cacheType);
+        settingsCacheMetrics.updateHistogram(MetricName.batch_requests, requestsCount);
+        settingsCacheMetrics.updateHistogram(MetricName.batch_ids, idsCount);
+    }
+
     public void updateHooksMetrics(
             String moduleCode,
             Stage stage,
@@ -659,7 +699,8 @@ public class Metrics extends UpdatableMetrics {
             Long executionTime,
             ExecutionAction action) {
 
-        final HookImplMetrics hookImplMetrics = hooks().module(moduleCode).stage(stage).hookImpl(hookImplCode);
+        final StageMetrics stageMetrics = hooks().module(moduleCode).stage(stage);
+        final HookImplMetrics hookImplMetrics = stageMetrics.hookImpl(hookImplCode);
 
         if (action != ExecutionAction.no_invocation) {
             hookImplMetrics.incCounter(MetricName.call);
@@ -673,6 +714,7 @@ public class Metrics extends UpdatableMetrics {
 
         if (action != ExecutionAction.no_invocation) {
             hookImplMetrics.updateTimer(MetricName.duration, executionTime);
+            stageMetrics.updateTimer(MetricName.duration, executionTime);
         }
 
     }
@@ -698,6 +740,10 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateHooksUpdateConflictMetric(String moduleCode, Stage stage, String hookImplCode) {
+        hooks().module(moduleCode).stage(stage).hookImpl(hookImplCode).incCounter(MetricName.update_conflict);
+    }
+
     public void updateAccountModuleDurationMetric(Account account, String moduleCode, Long executionTime) {
         if (accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
             forAccount(account.getId()).hooks().module(moduleCode).updateTimer(MetricName.duration, executionTime);
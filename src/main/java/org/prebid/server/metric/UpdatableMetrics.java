@@ -1,36 +1,48 @@
 package org.prebid.server.metric;
 
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 
-import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 
 class UpdatableMetrics {
 
     private final MetricRegistry metricRegistry;
     private final Function<MetricName, String> nameCreator;
-    private final MetricIncrementer incrementer;
+    private final Function<MetricName, LongConsumer> incrementerCreator;
+    private final Function<MetricName, Timer> timerCreator;
+    private final Function<MetricName, Histogram> histogramCreator;
     private final CounterType counterType;
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
+    // metrics resolved from the underlying registry are bound to their names once, so updating a metric does not
+    // require building its full name and looking it up in the registry every time
     private final Map<MetricName, String> metricNames;
+    private final Map<MetricName, LongConsumer> incrementers;
+    private final Map<MetricName, Timer> timers;
+    private final Map<MetricName, Histogram> histograms;
 
     UpdatableMetrics(MetricRegistry metricRegistry, CounterType counterType, Function<MetricName, String> nameCreator) {
         this.metricRegistry = metricRegistry;
         this.counterType = counterType;
         this.nameCreator = nameCreator;
-        metricNames = new EnumMap<>(MetricName.class);
+        metricNames = new ConcurrentHashMap<>();
+        incrementers = new ConcurrentHashMap<>();
+        timers = new ConcurrentHashMap<>();
+        histograms = new ConcurrentHashMap<>();
 
-        incrementer = switch (counterType) {
-            case flushingCounter -> (registry, metricName, value) ->
-                    registry.counter(metricName, ResettingCounter::new).inc(value);
-            case counter -> (registry, metricName, value) -> registry.counter(metricName).inc(value);
-            case meter -> (registry, metricName, value) -> registry.meter(metricName).mark(value);
+        incrementerCreator = switch (counterType) {
+            case flushingCounter -> metricName -> metricRegistry.counter(name(metricName), ResettingCounter::new)::inc;
+            case counter -> metricName -> metricRegistry.counter(name(metricName))::inc;
+            case meter -> metricName -> metricRegistry.meter(name(metricName))::mark;
         };
+        timerCreator = metricName -> metricRegistry.timer(name(metricName));
+        // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
+        histogramCreator = metricName -> metricRegistry.histogram(name(metricName));
     }
 
     /**
@@ -44,22 +56,21 @@ class UpdatableMetrics {
      * Increments metric's counter on a given value.
      */
     void incCounter(MetricName metricName, long value) {
-        incrementer.accept(metricRegistry, name(metricName), value);
+        bound(incrementers, metricName, incrementerCreator).accept(value);
     }
 
     /**
      * Updates metric's timer with a given value.
      */
     void updateTimer(MetricName metricName, long millis) {
-        metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
+        bound(timers, metricName, timerCreator).update(millis, TimeUnit.MILLISECONDS);
     }
 
     /**
      * Updates metric's histogram with a given value.
      */
     void updateHistogram(MetricName metricName, long value) {
-        // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
-        metricRegistry.histogram(name(metricName)).update(value);
+        bound(histograms, metricName, histogramCreator).update(value);
     }
 
     void createGauge(MetricName metricName, LongSupplier supplier) {
@@ -67,19 +78,28 @@ class UpdatableMetrics {
     }
 
     void removeMetric(MetricName metricName) {
+        incrementers.remove(metricName);
+        timers.remove(metricName);
+        histograms.remove(metricName);
         metricRegistry.remove(name(metricName));
     }
 
     private String name(MetricName metricName) {
-        return metricNames.computeIfAbsent(metricName, key -> nameCreator.apply(metricName));
+        return bound(metricNames, metricName, nameCreator);
     }
 
-    public CounterType getCounterType() {
-        return counterType;
+    /**
+     * Returns bound value without locking in case it is already present.
+     */
+    private static <T> T bound(Map<MetricName, T> bindings,
+                               MetricName metricName,
+                               Function<MetricName, T> creator) {
+
+        final T value = bindings.get(metricName);
+        return value != null ? value : bindings.computeIfAbsent(metricName, creator);
     }
 
-    @FunctionalInterface
-    private interface MetricIncrementer {
-        void accept(MetricRegistry metricRegistry, String metricName, long value);
+    public CounterType getCounterType() {
+        return counterType;
     }
 }
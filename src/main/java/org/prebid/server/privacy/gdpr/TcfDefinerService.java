@@ -1,5 +1,6 @@
 package org.prebid.server.privacy.gdpr;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iabtcf.decoder.TCString;
 import io.vertx.core.Future;
 import lombok.Value;
@@ -67,6 +68,7 @@ public class TcfDefinerService {
     private final IpAddressHelper ipAddressHelper;
     private final Metrics metrics;
     private final double samplingRate;
+    private final Map<String, TCString> decodedConsents;
 
     public TcfDefinerService(GdprConfig gdprConfig,
                              Set<String> eeaCountries,
@@ -75,7 +77,8 @@ public class TcfDefinerService {
                              BidderCatalog bidderCatalog,
                              IpAddressHelper ipAddressHelper,
                              Metrics metrics,
-                             double samplingRate) {
+                             double samplingRate,
+                             long consentCacheSize) {
 
         this.gdprEnabled = gdprConfig != null && BooleanUtils.isNotFalse(gdprConfig.getEnabled());
         this.gdprDefaultValue = gdprConfig != null ? gdprConfig.getDefaultValue() : null;
@@ -88,6 +91,14 @@ public class TcfDefinerService {
         this.ipAddressHelper = Objects.requireNonNull(ipAddressHelper);
         this.metrics = Objects.requireNonNull(metrics);
         this.samplingRate = samplingRate;
+
+        decodedConsents = consentCacheSize > 0
+                ? Caffeine.newBuilder()
+                .maximumWeight(consentCacheSize)
+                .<String, TCString>weigher((consentString, tcString) -> consentString.length())
+                .build()
+                .asMap()
+                : null;
     }
 
     /**
@@ -377,8 +388,19 @@ public class TcfDefinerService {
     }
 
     private TCString decodeTcString(String consentString, RequestLogInfo requestLogInfo, List<String> warnings) {
+        final TCString cachedTcString = decodedConsents != null ? decodedConsents.get(consentString) : null;
+        if (cachedTcString != null) {
+            metrics.updatePrivacyTcfConsentCacheMetric(true);
+            return cachedTcString;
+        }
+
         try {
-            return TCString.decode(consentString);
+            final TCString tcString = TCString.decode(consentString);
+            if (decodedConsents != null) {
+                metrics.updatePrivacyTcfConsentCacheMetric(false);
+                cacheDecodedConsent(consentString, tcString);
+            }
+            return tcString;
         } catch (Exception e) {
             logWarn(consentString, e.getMessage(), requestLogInfo);
             warnings.add("Parsing consent string:\"%s\" - failed. %s".formatted(consentString, e.getMessage()));
@@ -386,6 +408,53 @@ public class TcfDefinerService {
         }
     }
 
+    /**
+     * Caches decoded TCF v2 consent to share it between requests.
+     * <p>
+     * Note: {@link TCString} decodes its fields lazily and is not safe to be accessed concurrently,
+     * so all fields are decoded before publishing. Consent failed to be decoded completely is not cached.
+     */
+    private void cacheDecodedConsent(String consentString, TCString tcString) {
+        if (tcString.getVersion() != 2) {
+            return;
+        }
+
+        try {
+            decodeAllFields(tcString);
+        } catch (RuntimeException e) {
+            return;
+        }
+
+        decodedConsents.put(consentString, tcString);
+    }
+
+    private static void decodeAllFields(TCString tcString) {
+        tcString.getCreated();
+        tcString.getLastUpdated();
+        tcString.getCmpId();
+        tcString.getCmpVersion();
+        tcString.getConsentScreen();
+        tcString.getConsentLanguage();
+        tcString.getVendorListVersion();
+        tcString.getTcfPolicyVersion();
+        tcString.isServiceSpecific();
+        tcString.getUseNonStandardStacks();
+        tcString.getSpecialFeatureOptIns();
+        tcString.getPurposesConsent();
+        tcString.getPurposesLITransparency();
+        tcString.getPurposeOneTreatment();
+        tcString.getPublisherCC();
+        tcString.getVendorConsent();
+        tcString.getVendorLegitimateInterest();
+        tcString.getPublisherRestrictions();
+        tcString.getAllowedVendors();
+        tcString.getDisclosedVendors();
+        tcString.getPubPurposesConsent();
+        tcString.getPubPurposesLITransparency();
+        tcString.getCustomPurposesConsent();
+        tcString.getCustomPurposesLITransparency();
+    }
+
     private static void logWarn(String consent, String message, RequestLogInfo requestLogInfo) {
         if (requestLogInfo == null || requestLogInfo.getRequestType() == null) {
             final String exceptionMessage = "Parsing consent string:\"%s\" failed for undefined type with exception %s"
@@ -1,9 +1,14 @@
 package org.prebid.server.settings;
 
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.Value;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.MetricName;
@@ -16,40 +21,72 @@ import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredItem;
 import org.prebid.server.settings.model.StoredResponseDataResult;
 
+import java.time.Clock;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
-import java.util.function.Consumer;
-
+import java.util.function.Supplier;
+
+/**
+ * Caches accounts, stored data, profiles and categories fetched from the delegate.
+ * <p>
+ * Concurrent misses of the same key share one delegate call. When refresh is enabled, cached accounts and categories
+ * older than refresh period are reloaded in the background while the cached value is still returned.
+ * <p>
+ * Shared and background delegate calls are not bound to any particular caller, so they run with their own timeout,
+ * while each caller waits for the shared result no longer than its own timeout. The shared result is handed over
+ * to each caller on its own context, so processing of the caller's request continues on its event loop.
+ */
 public class CachingApplicationSettings implements ApplicationSettings {
 
     private static final Logger logger = LoggerFactory.getLogger(CachingApplicationSettings.class);
 
+    private final Vertx vertx;
     private final ApplicationSettings delegate;
 
-    private final Map<String, Account> accountCache;
+    private final Map<String, CachedValue<Account>> accountCache;
     private final Map<String, String> accountToErrorCache;
     private final Map<String, String> adServerPublisherToErrorCache;
-    private final Map<String, Map<String, String>> categoryConfigCache;
+    private final Map<String, CachedValue<Map<String, String>>> categoryConfigCache;
     private final SettingsCache<String> cache;
     private final SettingsCache<String> ampCache;
     private final SettingsCache<String> videoCache;
     private final SettingsCache<Profile> profileCache;
+    private final TimeoutFactory timeoutFactory;
     private final Metrics metrics;
-
-    public CachingApplicationSettings(ApplicationSettings delegate,
+    private final Clock clock;
+    private final long refreshAfterMillis;
+    private final long timeoutMillis;
+
+    private final Map<String, Future<Account>> accountRequests = new ConcurrentHashMap<>();
+    private final Map<String, Future<Map<String, String>>> categoryRequests = new ConcurrentHashMap<>();
+    private final Map<StoredDataKey, Future<StoredDataResult<String>>> storedDataRequests = new ConcurrentHashMap<>();
+    private final Map<StoredDataKey, Future<StoredDataResult<String>>> ampStoredDataRequests =
+            new ConcurrentHashMap<>();
+    private final Map<StoredDataKey, Future<StoredDataResult<String>>> videoStoredDataRequests =
+            new ConcurrentHashMap<>();
+    private final Map<StoredDataKey, Future<StoredDataResult<Profile>>> profileRequests = new ConcurrentHashMap<>();
+
+    public CachingApplicationSettings(Vertx vertx,
+                                      ApplicationSettings delegate,
                                       SettingsCache<String> cache,
                                       SettingsCache<String> ampCache,
                                       SettingsCache<String> videoCache,
                                       SettingsCache<Profile> profileCache,
+                                      TimeoutFactory timeoutFactory,
                                       Metrics metrics,
+                                      Clock clock,
                                       int ttl,
                                       int size,
-                                      int jitter) {
+                                      int jitter,
+                                      int refreshAfter,
+                                      long timeoutMillis) {
 
         if (ttl <= 0 || size <= 0) {
             throw new IllegalArgumentException("ttl and size must be positive");
@@ -57,7 +94,14 @@ public class CachingApplicationSettings implements ApplicationSettings {
         if (jitter < 0 || jitter >= ttl) {
             throw new IllegalArgumentException("jitter must match the inequality: 0 <= jitter < ttl");
         }
+        if (refreshAfter < 0 || refreshAfter >= ttl) {
+            throw new IllegalArgumentException("refreshAfter must match the inequality: 0 <= refreshAfter < ttl");
+        }
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
 
+        this.vertx = Objects.requireNonNull(vertx);
         this.delegate = Objects.requireNonNull(delegate);
         this.accountCache = SettingsCache.createCache(ttl, size, jitter);
         this.accountToErrorCache = SettingsCache.createCache(ttl, size, jitter);
@@ -67,7 +111,11 @@ public class CachingApplicationSettings implements ApplicationSettings {
         this.ampCache = Objects.requireNonNull(ampCache);
         this.videoCache = Objects.requireNonNull(videoCache);
         this.profileCache = Objects.requireNonNull(profileCache);
+        this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
         this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+        this.refreshAfterMillis = refreshAfter * 1000L;
+        this.timeoutMillis = timeoutMillis;
     }
 
     @Override
@@ -75,39 +123,164 @@ public class CachingApplicationSettings implements ApplicationSettings {
         return getFromCacheOrDelegate(
                 accountCache,
                 accountToErrorCache,
+                accountRequests,
                 StringUtils.isBlank(accountId) ? StringUtils.EMPTY : accountId,
                 timeout,
                 delegate::getAccountById,
-                event -> metrics.updateSettingsCacheEventMetric(MetricName.account, event));
+                MetricName.account);
     }
 
-    private static <T> Future<T> getFromCacheOrDelegate(Map<String, T> cache,
-                                                        Map<String, String> accountToErrorCache,
-                                                        String key,
-                                                        Timeout timeout,
-                                                        BiFunction<String, Timeout, Future<T>> retriever,
-                                                        Consumer<MetricName> metricUpdater) {
+    private <T> Future<T> getFromCacheOrDelegate(Map<String, CachedValue<T>> cache,
+                                                 Map<String, String> accountToErrorCache,
+                                                 Map<String, Future<T>> inflightRequests,
+                                                 String key,
+                                                 Timeout timeout,
+                                                 BiFunction<String, Timeout, Future<T>> retriever,
+                                                 MetricName cacheType) {
 
-        final T cachedValue = cache.get(key);
+        final CachedValue<T> cachedValue = cache.get(key);
         if (cachedValue != null) {
-            metricUpdater.accept(MetricName.hit);
+            updateEventMetric(cacheType, MetricName.hit);
 
-            return Future.succeededFuture(cachedValue);
+            if (isRefreshRequired(cachedValue)) {
+                refreshAhead(cache, accountToErrorCache, inflightRequests, key, retriever, cacheType);
+            }
+
+            return Future.succeededFuture(cachedValue.getValue());
         }
 
-        metricUpdater.accept(MetricName.miss);
+        updateEventMetric(cacheType, MetricName.miss);
 
         final String preBidExceptionMessage = accountToErrorCache.get(key);
         if (preBidExceptionMessage != null) {
             return Future.failedFuture(new PreBidException(preBidExceptionMessage));
         }
 
-        return retriever.apply(key, timeout)
-                .map(value -> {
-                    cache.put(key, value);
-                    return value;
+        final Future<T> sharedRequest = singleFlight(
+                inflightRequests,
+                key,
+                () -> retriever.apply(key, createTimeout())
+                        .map(value -> {
+                            cache.put(key, new CachedValue<>(value, clock.millis() + refreshAfterMillis));
+                            return value;
+                        })
+                        .recover(throwable -> cacheAndReturnFailedFuture(throwable, key, accountToErrorCache)),
+                cacheType);
+
+        return withDeadline(sharedRequest, timeout);
+    }
+
+    private boolean isRefreshRequired(CachedValue<?> cachedValue) {
+        return refreshAfterMillis > 0 && cachedValue.getRefreshAt() <= clock.millis();
+    }
+
+    /**
+     * Reloads cached value without blocking the caller. Value is replaced only on success, and removed if delegate
+     * reports it is not valid anymore. On any other failure stale value is kept until its expiration and the next
+     * reload is postponed for refresh period.
+     */
+    private <T> void refreshAhead(Map<String, CachedValue<T>> cache,
+                                  Map<String, String> accountToErrorCache,
+                                  Map<String, Future<T>> inflightRequests,
+                                  String key,
+                                  BiFunction<String, Timeout, Future<T>> retriever,
+                                  MetricName cacheType) {
+
+        if (inflightRequests.containsKey(key)) {
+            return;
+        }
+
+        final long startTime = clock.millis();
+        singleFlight(inflightRequests, key, () -> retriever.apply(key, createTimeout()), null)
+                .onSuccess(value -> {
+                    cache.put(key, new CachedValue<>(value, clock.millis() + refreshAfterMillis));
+                    updateRefreshTimeMetric(cacheType, clock.millis() - startTime);
                 })
-                .recover(throwable -> cacheAndReturnFailedFuture(throwable, key, accountToErrorCache));
+                .onFailure(throwable -> {
+                    if (throwable instanceof PreBidException) {
+                        cache.remove(key);
+                        accountToErrorCache.put(key, throwable.getMessage());
+                    } else {
+                        final CachedValue<T> cachedValue = cache.get(key);
+                        if (cachedValue != null) {
+                            cachedValue.postponeRefresh(clock.millis() + refreshAfterMillis);
+                        }
+                    }
+
+                    updateRefreshErrorMetric(cacheType);
+                });
+    }
+
+    /**
+     * Shares the result of the given request between concurrent callers of the same key,
+     * so only one of them actually calls the delegate.
+     */
+    private <K, T> Future<T> singleFlight(Map<K, Future<T>> inflightRequests,
+                                          K key,
+                                          Supplier<Future<T>> requestSupplier,
+                                          MetricName cacheType) {
+
+        final Promise<T> promise = Promise.promise();
+        final Future<T> future = promise.future();
+
+        final Future<T> inflightRequest = inflightRequests.putIfAbsent(key, future);
+        if (inflightRequest != null) {
+            updateEventMetric(cacheType, MetricName.coalesced);
+            return inflightRequest;
+        }
+
+        execute(requestSupplier).onComplete(result -> {
+            inflightRequests.remove(key, future);
+            promise.handle(result);
+        });
+
+        return future;
+    }
+
+    private Timeout createTimeout() {
+        return timeoutFactory.create(timeoutMillis);
+    }
+
+    /**
+     * Makes the caller wait for the shared request no longer than its own timeout.
+     * The shared request itself is not cancelled, so its result is still cached for the next callers.
+     */
+    private <T> Future<T> withDeadline(Future<T> sharedRequest, Timeout timeout) {
+        if (sharedRequest.isComplete()) {
+            return sharedRequest;
+        }
+
+        final long remainingTimeout = timeout.remaining();
+        if (remainingTimeout <= 0) {
+            return Future.failedFuture(timeoutException());
+        }
+
+        final Context context = vertx.getOrCreateContext();
+        final Promise<T> promise = Promise.promise();
+        final long timerId = vertx.setTimer(remainingTimeout, ignored -> promise.tryFail(timeoutException()));
+
+        sharedRequest.onComplete(result -> context.runOnContext(ignored -> {
+            vertx.cancelTimer(timerId);
+            if (result.succeeded()) {
+                promise.tryComplete(result.result());
+            } else {
+                promise.tryFail(result.cause());
+            }
+        }));
+
+        return promise.future();
+    }
+
+    private static TimeoutException timeoutException() {
+        return new TimeoutException("Timeout has been exceeded");
+    }
+
+    private static <T> Future<T> execute(Supplier<Future<T>> requestSupplier) {
+        try {
+            return requestSupplier.get();
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
     }
 
     private static <T> Future<T> cacheAndReturnFailedFuture(Throwable throwable,
@@ -127,7 +300,15 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                           Set<String> impIds,
                                                           Timeout timeout) {
 
-        return getStoredDataFromCacheOrDelegate(cache, accountId, requestIds, impIds, timeout, delegate::getStoredData);
+        return getStoredDataFromCacheOrDelegate(
+                cache,
+                storedDataRequests,
+                MetricName.stored_request,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getStoredData);
     }
 
     @Override
@@ -137,7 +318,14 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                              Timeout timeout) {
 
         return getStoredDataFromCacheOrDelegate(
-                ampCache, accountId, requestIds, impIds, timeout, delegate::getAmpStoredData);
+                ampCache,
+                ampStoredDataRequests,
+                MetricName.amp_stored_request,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getAmpStoredData);
     }
 
     @Override
@@ -147,7 +335,14 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                                Timeout timeout) {
 
         return getStoredDataFromCacheOrDelegate(
-                videoCache, accountId, requestIds, impIds, timeout, delegate::getVideoStoredData);
+                videoCache,
+                videoStoredDataRequests,
+                MetricName.video_stored_request,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getVideoStoredData);
     }
 
     @Override
@@ -157,15 +352,25 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                          Timeout timeout) {
 
         return getStoredDataFromCacheOrDelegate(
-                profileCache, accountId, requestIds, impIds, timeout, delegate::getProfiles);
+                profileCache,
+                profileRequests,
+                MetricName.profile,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getProfiles);
     }
 
-    private static <T> Future<StoredDataResult<T>> getStoredDataFromCacheOrDelegate(SettingsCache<T> cache,
-                                                                                    String accountId,
-                                                                                    Set<String> requestIds,
-                                                                                    Set<String> impIds,
-                                                                                    Timeout timeout,
-                                                                                    StoredDataFetcher<T> retriever) {
+    private <T> Future<StoredDataResult<T>> getStoredDataFromCacheOrDelegate(
+            SettingsCache<T> cache,
+            Map<StoredDataKey, Future<StoredDataResult<T>>> inflightRequests,
+            MetricName cacheType,
+            String accountId,
+            Set<String> requestIds,
+            Set<String> impIds,
+            Timeout timeout,
+            StoredDataFetcher<T> retriever) {
 
         // empty string account ID doesn't make sense
         final String normalizedAccountId = StringUtils.stripToNull(accountId);
@@ -189,18 +394,14 @@ public class CachingApplicationSettings implements ApplicationSettings {
                             Collections.emptyList()));
         }
 
-        return retriever.apply(normalizedAccountId, missedRequestIds, missedImpIds, timeout).map(result -> {
-            final Map<String, T> storedIdToRequestFromDelegate = result.getStoredIdToRequest();
-            storedIdToRequest.putAll(storedIdToRequestFromDelegate);
-            for (Map.Entry<String, T> entry : storedIdToRequestFromDelegate.entrySet()) {
-                cache.saveRequestCache(normalizedAccountId, entry.getKey(), entry.getValue());
-            }
+        final StoredDataKey key = StoredDataKey.of(normalizedAccountId, missedRequestIds, missedImpIds);
+        final Supplier<Future<StoredDataResult<T>>> requestSupplier = () ->
+                retriever.apply(normalizedAccountId, missedRequestIds, missedImpIds, createTimeout())
+                        .map(result -> saveStoredData(cache, normalizedAccountId, result));
 
-            final Map<String, T> storedIdToImpFromDelegate = result.getStoredIdToImp();
-            storedIdToImp.putAll(storedIdToImpFromDelegate);
-            for (Map.Entry<String, T> entry : storedIdToImpFromDelegate.entrySet()) {
-                cache.saveImpCache(normalizedAccountId, entry.getKey(), entry.getValue());
-            }
+        return withDeadline(singleFlight(inflightRequests, key, requestSupplier, cacheType), timeout).map(result -> {
+            storedIdToRequest.putAll(result.getStoredIdToRequest());
+            storedIdToImp.putAll(result.getStoredIdToImp());
 
             return StoredDataResult.of(
                     Collections.unmodifiableMap(storedIdToRequest),
@@ -209,6 +410,21 @@ public class CachingApplicationSettings implements ApplicationSettings {
         });
     }
 
+    private static <T> StoredDataResult<T> saveStoredData(SettingsCache<T> cache,
+                                                          String accountId,
+                                                          StoredDataResult<T> result) {
+
+        for (Map.Entry<String, T> entry : result.getStoredIdToRequest().entrySet()) {
+            cache.saveRequestCache(accountId, entry.getKey(), entry.getValue());
+        }
+
+        for (Map.Entry<String, T> entry : result.getStoredIdToImp().entrySet()) {
+            cache.saveImpCache(accountId, entry.getKey(), entry.getValue());
+        }
+
+        return result;
+    }
+
     private static <T> Map<String, T> getFromCacheOrAddMissedIds(String accountId,
                                                                  Set<String> ids,
                                                                  Map<String, Set<StoredItem<T>>> cache,
@@ -242,10 +458,11 @@ public class CachingApplicationSettings implements ApplicationSettings {
         return getFromCacheOrDelegate(
                 categoryConfigCache,
                 adServerPublisherToErrorCache,
+                categoryRequests,
                 compoundKey,
                 timeout,
-                (key, timeoutParam) -> delegate.getCategories(primaryAdServer, publisher, timeout),
-                CachingApplicationSettings::noOp);
+                (key, delegateTimeout) -> delegate.getCategories(primaryAdServer, publisher, delegateTimeout),
+                MetricName.categories);
     }
 
     public void invalidateAccountCache(String accountId) {
@@ -254,6 +471,54 @@ public class CachingApplicationSettings implements ApplicationSettings {
         logger.debug("Account with id {} was invalidated", accountId);
     }
 
-    private static <ANY> void noOp(ANY any) {
+    private void updateEventMetric(MetricName cacheType, MetricName event) {
+        if (cacheType != null) {
+            metrics.updateSettingsCacheEventMetric(cacheType, event);
+        }
+    }
+
+    private void updateRefreshTimeMetric(MetricName cacheType, long timeElapsed) {
+        if (cacheType != null) {
+            metrics.updateSettingsCacheRefreshTime(cacheType, MetricName.ahead, timeElapsed);
+        }
+    }
+
+    private void updateRefreshErrorMetric(MetricName cacheType) {
+        if (cacheType != null) {
+            metrics.updateSettingsCacheRefreshErrorMetric(cacheType, MetricName.ahead);
+        }
+    }
+
+    private static class CachedValue<T> {
+
+        private final T value;
+        private volatile long refreshAt;
+
+        CachedValue(T value, long refreshAt) {
+            this.value = value;
+            this.refreshAt = refreshAt;
+        }
+
+        T getValue() {
+            return value;
+        }
+
+        long getRefreshAt() {
+            return refreshAt;
+        }
+
+        void postponeRefresh(long refreshAt) {
+            this.refreshAt = refreshAt;
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class StoredDataKey {
+
+        String accountId;
+
+        Set<String> requestIds;
+
+        Set<String> impIds;
     }
 }
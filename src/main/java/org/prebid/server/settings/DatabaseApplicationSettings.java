@@ -1,6 +1,7 @@
 package org.prebid.server.settings;
 
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowIterator;
 import io.vertx.sqlclient.RowSet;
@@ -10,10 +11,13 @@ import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.helper.DatabaseProfilesResultMapper;
 import org.prebid.server.settings.helper.DatabaseStoredDataResultMapper;
 import org.prebid.server.settings.helper.DatabaseStoredResponseResultMapper;
 import org.prebid.server.settings.helper.ParametrizedQueryHelper;
+import org.prebid.server.settings.helper.StoredDataBatchLoader;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.Profile;
 import org.prebid.server.settings.model.StoredDataResult;
@@ -86,6 +90,10 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
      */
     private final String selectStoredResponsesQuery;
 
+    private final StoredDataBatchLoader storedRequestsBatchLoader;
+    private final StoredDataBatchLoader ampStoredRequestsBatchLoader;
+    private final StoredDataBatchLoader profilesBatchLoader;
+
     public DatabaseApplicationSettings(DatabaseClient databaseClient,
                                        JacksonMapper mapper,
                                        ParametrizedQueryHelper parametrizedQueryHelper,
@@ -93,7 +101,11 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
                                        String selectStoredRequestsQuery,
                                        String selectAmpStoredRequestsQuery,
                                        String selectProfilesQuery,
-                                       String selectStoredResponsesQuery) {
+                                       String selectStoredResponsesQuery,
+                                       Vertx vertx,
+                                       long batchWindowMs,
+                                       int batchMaxIds,
+                                       Metrics metrics) {
 
         this.databaseClient = Objects.requireNonNull(databaseClient);
         this.mapper = Objects.requireNonNull(mapper);
@@ -104,6 +116,33 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
         this.selectAmpStoredRequestsQuery = Objects.requireNonNull(selectAmpStoredRequestsQuery);
         this.selectProfilesQuery = Objects.requireNonNull(selectProfilesQuery);
         this.selectStoredResponsesQuery = Objects.requireNonNull(selectStoredResponsesQuery);
+
+        storedRequestsBatchLoader = batchLoader(
+                vertx, batchWindowMs, batchMaxIds, selectStoredRequestsQuery, 3, MetricName.stored_request, metrics);
+        ampStoredRequestsBatchLoader = batchLoader(
+                vertx, batchWindowMs, batchMaxIds, selectAmpStoredRequestsQuery, 3, MetricName.amp_stored_request,
+                metrics);
+        profilesBatchLoader = batchLoader(
+                vertx, batchWindowMs, batchMaxIds, selectProfilesQuery, 4, MetricName.profile, metrics);
+    }
+
+    private StoredDataBatchLoader batchLoader(Vertx vertx,
+                                              long windowMs,
+                                              int maxIds,
+                                              String query,
+                                              int typeColumnIndex,
+                                              MetricName metricType,
+                                              Metrics metrics) {
+
+        return new StoredDataBatchLoader(
+                vertx,
+                windowMs,
+                maxIds,
+                typeColumnIndex,
+                (requestIds, impIds, timeout) ->
+                        executeStoredDataQuery(query, requestIds, impIds, DatabaseApplicationSettings::toRows, timeout),
+                metricType,
+                metrics);
     }
 
     @Override
@@ -145,6 +184,7 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
                                                           Timeout timeout) {
 
         return fetchStoredData(
+                storedRequestsBatchLoader,
                 selectStoredRequestsQuery,
                 requestIds,
                 impIds,
@@ -159,6 +199,7 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
                                                              Timeout timeout) {
 
         return fetchStoredData(
+                ampStoredRequestsBatchLoader,
                 selectAmpStoredRequestsQuery,
                 requestIds,
                 Collections.emptySet(),
@@ -173,6 +214,7 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
                                                                Timeout timeout) {
 
         return fetchStoredData(
+                storedRequestsBatchLoader,
                 selectStoredRequestsQuery,
                 requestIds,
                 impIds,
@@ -187,6 +229,7 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
                                                          Timeout timeout) {
 
         return fetchStoredData(
+                profilesBatchLoader,
                 selectProfilesQuery,
                 requestIds,
                 impIds,
@@ -194,10 +237,11 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
                 timeout);
     }
 
-    private <T> Future<StoredDataResult<T>> fetchStoredData(String query,
+    private <T> Future<StoredDataResult<T>> fetchStoredData(StoredDataBatchLoader batchLoader,
+                                                            String query,
                                                             Set<String> requestIds,
                                                             Set<String> impIds,
-                                                            Function<RowSet<Row>, StoredDataResult<T>> mapper,
+                                                            Function<Iterable<Row>, StoredDataResult<T>> mapper,
                                                             Timeout timeout) {
 
         if (CollectionUtils.isEmpty(requestIds) && CollectionUtils.isEmpty(impIds)) {
@@ -207,6 +251,17 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
                     Collections.emptyList()));
         }
 
+        return batchLoader.isEnabled()
+                ? batchLoader.load(requestIds, impIds, mapper, timeout)
+                : executeStoredDataQuery(query, requestIds, impIds, mapper::apply, timeout);
+    }
+
+    private <T> Future<T> executeStoredDataQuery(String query,
+                                                 Set<String> requestIds,
+                                                 Set<String> impIds,
+                                                 Function<RowSet<Row>, T> mapper,
+                                                 Timeout timeout) {
+
         final List<Object> idsQueryParameters = new ArrayList<>();
         IntStream.rangeClosed(1, StringUtils.countMatches(query, ParametrizedQueryHelper.REQUEST_ID_PLACEHOLDER))
                 .forEach(i -> idsQueryParameters.addAll(requestIds));
@@ -219,6 +274,17 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
         return databaseClient.executeQuery(parametrizedQuery, idsQueryParameters, mapper, timeout);
     }
 
+    /**
+     * Copies rows out of the result to share them between batched fetches.
+     */
+    private static List<Row> toRows(RowSet<Row> rowSet) {
+        final List<Row> rows = new ArrayList<>();
+        if (rowSet != null) {
+            rowSet.forEach(rows::add);
+        }
+        return rows;
+    }
+
     @Override
     public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
         final String queryResolvedWithParameters = parametrizedQueryHelper
@@ -3,7 +3,6 @@ package org.prebid.server.settings.helper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.vertx.sqlclient.Row;
-import io.vertx.sqlclient.RowIterator;
 import io.vertx.sqlclient.RowSet;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
@@ -19,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -39,12 +39,12 @@ public class DatabaseProfilesResultMapper {
      * Note: mapper should never throw exception in case of using
      * {@link CircuitBreakerSecuredDatabaseClient}.
      */
-    public static StoredDataResult<Profile> map(RowSet<Row> rowSet,
+    public static StoredDataResult<Profile> map(Iterable<Row> rows,
                                                 String accountId,
                                                 Set<String> requestIds,
                                                 Set<String> impIds) {
 
-        final RowIterator<Row> rowIterator = rowSet != null ? rowSet.iterator() : null;
+        final Iterator<Row> rowIterator = rows != null ? rows.iterator() : null;
         final List<String> errors = new ArrayList<>();
 
         if (rowIterator == null || !rowIterator.hasNext()) {
@@ -1,7 +1,6 @@
 package org.prebid.server.settings.helper;
 
 import io.vertx.sqlclient.Row;
-import io.vertx.sqlclient.RowIterator;
 import io.vertx.sqlclient.RowSet;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.log.Logger;
@@ -15,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -38,12 +38,12 @@ public class DatabaseStoredDataResultMapper {
      * Note: mapper should never throw exception in case of using
      * {@link CircuitBreakerSecuredDatabaseClient}.
      */
-    public static StoredDataResult<String> map(RowSet<Row> rowSet,
+    public static StoredDataResult<String> map(Iterable<Row> rows,
                                                String accountId,
                                                Set<String> requestIds,
                                                Set<String> impIds) {
 
-        final RowIterator<Row> rowIterator = rowSet != null ? rowSet.iterator() : null;
+        final Iterator<Row> rowIterator = rows != null ? rows.iterator() : null;
         final List<String> errors = new ArrayList<>();
 
         if (rowIterator == null || !rowIterator.hasNext()) {
@@ -0,0 +1,207 @@
+package org.prebid.server.settings.helper;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Row;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.StoredDataResult;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Collects stored data ids requested on the same event loop during a short window and fetches all of them
+ * with a single query. Every caller gets only the rows of the ids it asked for, so the result is the same
+ * as of a separate query.
+ * <p>
+ * Pending batch belongs to the event loop thread it was created on and is only accessed from it.
+ * Calls made outside an event loop or with zero window are not batched.
+ */
+public class StoredDataBatchLoader {
+
+    private static final String REQUEST_TYPE = "request";
+    private static final String IMP_TYPE = "imp";
+
+    private final Vertx vertx;
+    private final long windowMs;
+    private final int maxIds;
+    private final int typeColumnIndex;
+    private final RowsFetcher rowsFetcher;
+    private final MetricName metricType;
+    private final Metrics metrics;
+
+    private final Map<Thread, Batch> batches = new ConcurrentHashMap<>();
+
+    public StoredDataBatchLoader(Vertx vertx,
+                                 long windowMs,
+                                 int maxIds,
+                                 int typeColumnIndex,
+                                 RowsFetcher rowsFetcher,
+                                 MetricName metricType,
+                                 Metrics metrics) {
+
+        if (windowMs < 0 || maxIds <= 0) {
+            throw new IllegalArgumentException("windowMs must not be negative and maxIds must be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.windowMs = windowMs;
+        this.maxIds = maxIds;
+        this.typeColumnIndex = typeColumnIndex;
+        this.rowsFetcher = Objects.requireNonNull(rowsFetcher);
+        this.metricType = Objects.requireNonNull(metricType);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    public boolean isEnabled() {
+        return windowMs > 0 && Context.isOnEventLoopThread();
+    }
+
+    /**
+     * Adds ids to the batch of the current event loop and returns result mapped from the rows of these ids.
+     * Batch is fetched when window elapses or it reaches max number of ids.
+     */
+    public <T> Future<StoredDataResult<T>> load(Set<String> requestIds,
+                                                Set<String> impIds,
+                                                Function<Iterable<Row>, StoredDataResult<T>> mapper,
+                                                Timeout timeout) {
+
+        final Thread thread = Thread.currentThread();
+        Batch batch = batches.get(thread);
+        if (batch == null) {
+            batch = new Batch(timeout);
+            batches.put(thread, batch);
+
+            final Batch createdBatch = batch;
+            batch.timerId = vertx.setTimer(windowMs, timerId -> flush(thread, createdBatch));
+        }
+
+        final Waiter<T> waiter = new Waiter<>(requestIds, impIds, mapper);
+        batch.add(waiter, timeout);
+
+        if (batch.idsCount() >= maxIds) {
+            vertx.cancelTimer(batch.timerId);
+            flush(thread, batch);
+        }
+
+        return waiter.promise.future();
+    }
+
+    private void flush(Thread thread, Batch batch) {
+        if (!batches.remove(thread, batch)) {
+            return;
+        }
+
+        metrics.updateSettingsBatchMetrics(metricType, batch.waiters.size(), batch.idsCount());
+
+        final Future<List<Row>> rowsFuture;
+        try {
+            rowsFuture = rowsFetcher.fetch(batch.requestIds, batch.impIds, batch.timeout);
+        } catch (Exception e) {
+            batch.waiters.forEach(waiter -> waiter.promise.fail(e));
+            return;
+        }
+
+        rowsFuture.onComplete(result -> batch.waiters.forEach(waiter -> complete(waiter, result)));
+    }
+
+    private <T> void complete(Waiter<T> waiter, AsyncResult<List<Row>> result) {
+        if (result.failed()) {
+            waiter.promise.fail(result.cause());
+            return;
+        }
+
+        final List<Row> rows = new ArrayList<>();
+        for (Row row : result.result()) {
+            if (isRequestedBy(row, waiter)) {
+                rows.add(row);
+            }
+        }
+
+        try {
+            waiter.promise.complete(waiter.mapper.apply(rows));
+        } catch (Exception e) {
+            waiter.promise.fail(e);
+        }
+    }
+
+    /**
+     * Checks if row is of id the waiter asked for. Rows with unexpected columns are passed to every waiter,
+     * so they are reported by its mapper the same way as for not batched query.
+     */
+    private boolean isRequestedBy(Row row, Waiter<?> waiter) {
+        if (row.size() <= typeColumnIndex) {
+            return true;
+        }
+
+        final String id = Objects.toString(row.getValue(1), null);
+        final String type = Objects.toString(row.getValue(typeColumnIndex), null);
+
+        if (REQUEST_TYPE.equalsIgnoreCase(type)) {
+            return waiter.requestIds.contains(id);
+        } else if (IMP_TYPE.equalsIgnoreCase(type)) {
+            return waiter.impIds.contains(id);
+        }
+
+        return waiter.requestIds.contains(id) || waiter.impIds.contains(id);
+    }
+
+    @FunctionalInterface
+    public interface RowsFetcher {
+
+        Future<List<Row>> fetch(Set<String> requestIds, Set<String> impIds, Timeout timeout);
+    }
+
+    private static class Batch {
+
+        private final Set<String> requestIds = new HashSet<>();
+        private final Set<String> impIds = new HashSet<>();
+        private final List<Waiter<?>> waiters = new ArrayList<>();
+        private Timeout timeout;
+        private long timerId;
+
+        Batch(Timeout timeout) {
+            this.timeout = timeout;
+        }
+
+        void add(Waiter<?> waiter, Timeout waiterTimeout) {
+            waiters.add(waiter);
+            requestIds.addAll(waiter.requestIds);
+            impIds.addAll(waiter.impIds);
+
+            // batch should not fail waiters with more time left
+            if (waiterTimeout.remaining() > timeout.remaining()) {
+                timeout = waiterTimeout;
+            }
+        }
+
+        int idsCount() {
+            return requestIds.size() + impIds.size();
+        }
+    }
+
+    private static class Waiter<T> {
+
+        private final Set<String> requestIds;
+        private final Set<String> impIds;
+        private final Function<Iterable<Row>, StoredDataResult<T>> mapper;
+        private final Promise<StoredDataResult<T>> promise = Promise.promise();
+
+        Waiter(Set<String> requestIds, Set<String> impIds, Function<Iterable<Row>, StoredDataResult<T>> mapper) {
+            this.requestIds = requestIds;
+            this.impIds = impIds;
+            this.mapper = mapper;
+        }
+    }
+}
@@ -78,7 +78,8 @@ public class AnalyticsConfiguration {
                                                     HttpClient httpClient,
                                                     Clock clock,
                                                     PrebidVersionProvider prebidVersionProvider,
-                                                    Vertx vertx) {
+                                                    Vertx vertx,
+                                                    Metrics metrics) {
 
             return new AgmaAnalyticsReporter(
                     properties.toComponentProperties(),
@@ -86,7 +87,8 @@ public class AnalyticsConfiguration {
                     jacksonMapper,
                     clock,
                     httpClient,
-                    vertx);
+                    vertx,
+                    metrics);
         }
 
         @Bean
@@ -237,13 +239,15 @@ public class AnalyticsConfiguration {
                 PubstackAnalyticsConfiguratinProperties pubstackAnalyticsConfiguratinProperties,
                 HttpClient httpClient,
                 JacksonMapper jacksonMapper,
-                Vertx vertx) {
+                Vertx vertx,
+                Metrics metrics) {
 
             return new PubstackAnalyticsReporter(
                     pubstackAnalyticsConfiguratinProperties.toComponentProperties(),
                     httpClient,
                     jacksonMapper,
-                    vertx);
+                    vertx,
+                    metrics);
         }
 
         @Bean
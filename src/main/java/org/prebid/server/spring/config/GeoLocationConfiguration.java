@@ -59,9 +59,12 @@ public class GeoLocationConfiguration {
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
         GeoLocationService basicGeoLocationService(FileSyncerProperties fileSyncerProperties,
-                                                   Vertx vertx) {
+                                                   @Value("${geolocation.maxmind.memory-mapped}") boolean memoryMapped,
+                                                   @Value("${geolocation.maxmind.cache-size}") int cacheSize,
+                                                   Vertx vertx,
+                                                   Metrics metrics) {
 
-            return createGeoLocationService(fileSyncerProperties, vertx);
+            return createGeoLocationService(fileSyncerProperties, memoryMapped, cacheSize, vertx, metrics);
         }
 
         @Bean
@@ -70,17 +73,25 @@ public class GeoLocationConfiguration {
                 Vertx vertx,
                 Metrics metrics,
                 FileSyncerProperties fileSyncerProperties,
+                @Value("${geolocation.maxmind.memory-mapped}") boolean memoryMapped,
+                @Value("${geolocation.maxmind.cache-size}") int cacheSize,
                 @Qualifier("maxMindCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
                 Clock clock) {
 
             return new CircuitBreakerSecuredGeoLocationService(vertx,
-                    createGeoLocationService(fileSyncerProperties, vertx), metrics,
+                    createGeoLocationService(fileSyncerProperties, memoryMapped, cacheSize, vertx, metrics), metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
                     circuitBreakerProperties.getClosingIntervalMs(), clock);
         }
 
-        private GeoLocationService createGeoLocationService(FileSyncerProperties properties, Vertx vertx) {
-            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService();
+        private GeoLocationService createGeoLocationService(FileSyncerProperties properties,
+                                                            boolean memoryMapped,
+                                                            int cacheSize,
+                                                            Vertx vertx,
+                                                            Metrics metrics) {
+
+            final MaxMindGeoLocationService maxMindGeoLocationService =
+                    new MaxMindGeoLocationService(memoryMapped, cacheSize, metrics);
             final FileSyncer fileSyncer = FileUtil.fileSyncerFor(maxMindGeoLocationService, properties, vertx);
             fileSyncer.sync();
             return maxMindGeoLocationService;
@@ -5,6 +5,7 @@ import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
 import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.JksOptions;
 import lombok.Data;
 import org.apache.commons.lang3.ObjectUtils;
@@ -111,6 +112,8 @@ import org.prebid.server.privacy.PrivacyExtractor;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.settings.model.BidValidationEnforcement;
+import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
+import org.prebid.server.spring.config.bidder.model.BidderHttpClientProperties;
 import org.prebid.server.spring.config.model.CacheDefaultTtlProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
 import org.prebid.server.spring.config.model.HttpClientCircuitBreakerProperties;
@@ -127,6 +130,9 @@ import org.prebid.server.version.PrebidVersionProvider;
 import org.prebid.server.vertx.httpclient.BasicHttpClient;
 import org.prebid.server.vertx.httpclient.CircuitBreakerSecuredHttpClient;
 import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.HttpClientPool;
+import org.prebid.server.vertx.httpclient.HttpClientPools;
+import org.prebid.server.vertx.httpclient.HttpEndpointResolver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -139,12 +145,15 @@ import org.springframework.context.annotation.ScopedProxyMode;
 
 import jakarta.validation.constraints.Min;
 import java.io.IOException;
+import java.net.MalformedURLException;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -282,8 +291,12 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    ImplicitParametersExtractor implicitParametersExtractor(PublicSuffixList psl) {
-        return new ImplicitParametersExtractor(psl);
+    ImplicitParametersExtractor implicitParametersExtractor(
+            PublicSuffixList psl,
+            @Value("${public-suffix-list.cache-size}") int domainCacheSize,
+            Metrics metrics) {
+
+        return new ImplicitParametersExtractor(psl, domainCacheSize, metrics);
     }
 
     @Bean
@@ -634,8 +647,100 @@ public class ServiceConfiguration {
     @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "false",
             matchIfMissing = true)
-    BasicHttpClient basicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
-        return createBasicHttpClient(vertx, httpClientProperties);
+    BasicHttpClient basicHttpClient(Vertx vertx,
+                                    HttpClientProperties httpClientProperties,
+                                    HttpEndpointResolver httpEndpointResolver,
+                                    HttpClientPools httpClientPools) {
+
+        return createBasicHttpClient(vertx, httpClientProperties, httpEndpointResolver, httpClientPools);
+    }
+
+    @Bean
+    HttpEndpointResolver httpEndpointResolver() {
+        return new HttpEndpointResolver();
+    }
+
+    @Bean
+    HttpClientPools httpClientPools(List<BidderConfigurationProperties> bidderConfigurationProperties,
+                                    HttpClientProperties httpClientProperties,
+                                    HttpEndpointResolver httpEndpointResolver,
+                                    Metrics metrics) {
+
+        final Map<String, BidderHttpClientProperties> originProperties = new HashMap<>();
+        for (BidderConfigurationProperties properties : bidderConfigurationProperties) {
+            final BidderHttpClientProperties bidderHttpClientProperties = properties.getHttpClient();
+            final String origin = bidderHttpClientProperties != null
+                    ? resolveOrigin(httpEndpointResolver, properties.getEndpoint())
+                    : null;
+            if (origin == null) {
+                continue;
+            }
+
+            final BidderHttpClientProperties existingProperties =
+                    originProperties.putIfAbsent(origin, bidderHttpClientProperties);
+            if (existingProperties != null && !existingProperties.equals(bidderHttpClientProperties)) {
+                throw new IllegalArgumentException(
+                        "Bidders sharing endpoint origin %s have different http-client settings: %s and %s"
+                                .formatted(origin, existingProperties, bidderHttpClientProperties));
+            }
+        }
+
+        final HttpClientOptions defaultOptions = createHttpClientOptions(httpClientProperties);
+        final List<HttpClientPool> pools = originProperties.entrySet().stream()
+                .map(entry -> new HttpClientPool(
+                        entry.getKey(),
+                        createBidderHttpClientOptions(defaultOptions, entry.getValue()),
+                        metrics))
+                .toList();
+
+        return new HttpClientPools(pools);
+    }
+
+    /**
+     * Returns origin of bidder endpoint or null if it is not known until request time, e.g. host is a macro.
+     */
+    private static String resolveOrigin(HttpEndpointResolver httpEndpointResolver, String endpoint) {
+        try {
+            final String origin = httpEndpointResolver.resolve(endpoint).getOrigin();
+            return origin.contains("{{") ? null : origin;
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+
+    private static HttpClientOptions createBidderHttpClientOptions(HttpClientOptions defaultOptions,
+                                                                   BidderHttpClientProperties properties) {
+
+        final HttpClientOptions options = new HttpClientOptions(defaultOptions);
+        if (properties.getMaxPoolSize() != null) {
+            options.setMaxPoolSize(properties.getMaxPoolSize());
+        }
+        if (properties.getKeepAlive() != null) {
+            options.setKeepAlive(properties.getKeepAlive());
+        }
+        if (properties.getKeepAliveTimeoutSec() != null) {
+            options.setKeepAliveTimeout(properties.getKeepAliveTimeoutSec());
+        }
+        if (properties.getHttp2() != null) {
+            final boolean http2 = properties.getHttp2();
+            options
+                    .setProtocolVersion(http2 ? HttpVersion.HTTP_2 : HttpVersion.HTTP_1_1)
+                    .setUseAlpn(http2);
+        }
+        if (properties.getHttp2MaxPoolSize() != null) {
+            options.setHttp2MaxPoolSize(properties.getHttp2MaxPoolSize());
+        }
+        if (properties.getHttp2MultiplexingLimit() != null) {
+            options.setHttp2MultiplexingLimit(properties.getHttp2MultiplexingLimit());
+        }
+        if (properties.getPipelining() != null) {
+            options.setPipelining(properties.getPipelining());
+        }
+        if (properties.getPipeliningLimit() != null) {
+            options.setPipeliningLimit(properties.getPipeliningLimit());
+        }
+
+        return options;
     }
 
     @Bean
@@ -654,13 +759,17 @@ public class ServiceConfiguration {
             HttpClientProperties httpClientProperties,
             @Qualifier("httpClientCircuitBreakerProperties")
             HttpClientCircuitBreakerProperties circuitBreakerProperties,
+            HttpEndpointResolver httpEndpointResolver,
+            HttpClientPools httpClientPools,
             Clock clock) {
 
-        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties);
+        final HttpClient httpClient = createBasicHttpClient(
+                vertx, httpClientProperties, httpEndpointResolver, httpClientPools);
 
         return new CircuitBreakerSecuredHttpClient(
                 vertx,
                 httpClient,
+                httpEndpointResolver,
                 metrics,
                 circuitBreakerProperties.getOpeningThreshold(),
                 circuitBreakerProperties.getOpeningIntervalMs(),
@@ -669,7 +778,19 @@ public class ServiceConfiguration {
                 clock);
     }
 
-    private static BasicHttpClient createBasicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
+    private static BasicHttpClient createBasicHttpClient(Vertx vertx,
+                                                         HttpClientProperties httpClientProperties,
+                                                         HttpEndpointResolver httpEndpointResolver,
+                                                         HttpClientPools httpClientPools) {
+
+        return new BasicHttpClient(
+                vertx,
+                vertx.createHttpClient(createHttpClientOptions(httpClientProperties)),
+                httpEndpointResolver,
+                httpClientPools);
+    }
+
+    private static HttpClientOptions createHttpClientOptions(HttpClientProperties httpClientProperties) {
         final HttpClientOptions options = new HttpClientOptions()
                 .setMaxPoolSize(httpClientProperties.getMaxPoolSize())
                 .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
@@ -691,7 +812,7 @@ public class ServiceConfiguration {
                     .setKeyCertOptions(jksOptions);
         }
 
-        return new BasicHttpClient(vertx, vertx.createHttpClient(options));
+        return options;
     }
 
     @Bean
@@ -809,7 +930,8 @@ public class ServiceConfiguration {
             @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
             BidderErrorNotifier bidderErrorNotifier,
             HttpBidderRequestEnricher requestEnricher,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            Metrics metrics) {
 
         return new HttpBidderRequester(
                 httpClient,
@@ -817,6 +939,7 @@ public class ServiceConfiguration {
                 bidderErrorNotifier,
                 requestEnricher,
                 mapper,
+                metrics,
                 logSamplingRate);
     }
 
@@ -974,6 +1097,7 @@ public class ServiceConfiguration {
             @Value("${auction.stored-requests-timeout-ms}") long defaultTimeoutMs,
             @Value("${default-request.file.path:#{null}}") String defaultBidRequestPath,
             @Value("${settings.generate-storedrequest-bidrequest-id}") boolean generateBidRequestId,
+            @Value("${settings.stored-data-nodes-cache-size}") int storedDataNodesCacheSize,
             FileSystem fileSystem,
             ApplicationSettings applicationSettings,
             Metrics metrics,
@@ -985,6 +1109,7 @@ public class ServiceConfiguration {
                 defaultTimeoutMs,
                 defaultBidRequestPath,
                 generateBidRequestId,
+                storedDataNodesCacheSize,
                 fileSystem,
                 applicationSettings,
                 new UUIDIdGenerator(),
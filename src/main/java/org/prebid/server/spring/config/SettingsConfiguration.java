@@ -106,9 +106,13 @@ public class SettingsConfiguration {
                 @Value("${settings.database.amp-stored-requests-query}") String ampStoredRequestsQuery,
                 @Value("${settings.database.profiles-query}") String profilesQuery,
                 @Value("${settings.database.stored-responses-query}") String storedResponsesQuery,
+                @Value("${settings.database.stored-data-batch.window-ms:0}") long batchWindowMs,
+                @Value("${settings.database.stored-data-batch.max-ids:100}") int batchMaxIds,
                 ParametrizedQueryHelper parametrizedQueryHelper,
                 DatabaseClient databaseClient,
-                JacksonMapper jacksonMapper) {
+                JacksonMapper jacksonMapper,
+                Vertx vertx,
+                Metrics metrics) {
 
             return new DatabaseApplicationSettings(
                     databaseClient,
@@ -118,7 +122,11 @@ public class SettingsConfiguration {
                     storedRequestsQuery,
                     ampStoredRequestsQuery,
                     profilesQuery,
-                    storedResponsesQuery);
+                    storedResponsesQuery,
+                    vertx,
+                    batchWindowMs,
+                    batchMaxIds,
+                    metrics);
         }
     }
 
@@ -440,24 +448,32 @@ public class SettingsConfiguration {
         @Bean
         @ConditionalOnProperty(prefix = "settings.in-memory-cache", name = {"ttl-seconds", "cache-size"})
         CachingApplicationSettings cachingApplicationSettings(
+                Vertx vertx,
                 EnrichingApplicationSettings enrichingApplicationSettings,
                 ApplicationSettingsCacheProperties cacheProperties,
                 @Qualifier("settingsCache") SettingsCache<String> cache,
                 @Qualifier("ampSettingsCache") SettingsCache<String> ampCache,
                 @Qualifier("videoSettingCache") SettingsCache<String> videoCache,
                 @Qualifier("profileSettingCache") SettingsCache<Profile> profilesCache,
-                Metrics metrics) {
+                TimeoutFactory timeoutFactory,
+                Metrics metrics,
+                Clock clock) {
 
             return new CachingApplicationSettings(
+                    vertx,
                     enrichingApplicationSettings,
                     cache,
                     ampCache,
                     videoCache,
                     profilesCache,
+                    timeoutFactory,
                     metrics,
+                    clock,
                     cacheProperties.getTtlSeconds(),
                     cacheProperties.getCacheSize(),
-                    cacheProperties.getJitterSeconds());
+                    cacheProperties.getJitterSeconds(),
+                    cacheProperties.getRefreshAfterSeconds(),
+                    cacheProperties.getTimeoutMs());
         }
     }
 
@@ -529,5 +545,9 @@ public class SettingsConfiguration {
         private Integer cacheSize;
         @Min(0)
         private int jitterSeconds;
+        @Min(0)
+        private int refreshAfterSeconds;
+        @Min(1)
+        private long timeoutMs;
     }
 }
@@ -15,13 +15,18 @@ import org.prebid.server.vertx.ContextRunner;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 
 @Configuration
 public class VertxConfiguration {
 
     private static final Logger logger = LoggerFactory.getLogger(VertxConfiguration.class);
 
+    /**
+     * Depends on metric registry, so that Vert.x metrics are submitted to the registry created by application.
+     */
     @Bean
+    @DependsOn("metricRegistry")
     Vertx vertx(@Value("${vertx.worker-pool-size}") int workerPoolSize,
                 @Value("${vertx.enable-per-client-endpoint-metrics}") boolean enablePerClientEndpointMetrics,
                 @Value("${metrics.jmx.enabled}") boolean jmxEnabled,
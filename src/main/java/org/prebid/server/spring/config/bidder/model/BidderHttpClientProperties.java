@@ -0,0 +1,36 @@
+package org.prebid.server.spring.config.bidder.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+
+/**
+ * Settings of a dedicated connection pool for bidder endpoint. Unset values are taken from global http-client.
+ */
+@Data
+@Validated
+@NoArgsConstructor
+public class BidderHttpClientProperties {
+
+    @Min(1)
+    private Integer maxPoolSize;
+
+    private Boolean keepAlive;
+
+    @Min(0)
+    private Integer keepAliveTimeoutSec;
+
+    private Boolean http2;
+
+    @Min(1)
+    private Integer http2MaxPoolSize;
+
+    private Integer http2MultiplexingLimit;
+
+    private Boolean pipelining;
+
+    @Min(1)
+    private Integer pipeliningLimit;
+}
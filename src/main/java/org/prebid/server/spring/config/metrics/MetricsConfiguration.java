@@ -18,6 +18,7 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.auction.HooksMetricsService;
 import org.prebid.server.metric.AccountMetricsVerbosityResolver;
 import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.HdrHistogramMetricRegistry;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.spring.env.YamlPropertySourceFactory;
@@ -115,8 +116,13 @@ public class MetricsConfiguration {
     }
 
     @Bean
-    MetricRegistry metricRegistry(@Value("${metrics.jmx.enabled}") boolean jmxEnabled) {
+    MetricRegistry metricRegistry(@Value("${metrics.jmx.enabled}") boolean jmxEnabled,
+                                  @Value("${metrics.hdr-histogram.enabled}") boolean hdrHistogramEnabled) {
+
         final boolean alreadyExists = SharedMetricRegistries.names().contains(METRIC_REGISTRY_NAME);
+        if (!alreadyExists && hdrHistogramEnabled) {
+            SharedMetricRegistries.add(METRIC_REGISTRY_NAME, new HdrHistogramMetricRegistry());
+        }
         final MetricRegistry metricRegistry = SharedMetricRegistries.getOrCreate(METRIC_REGISTRY_NAME);
 
         if (!alreadyExists && jmxEnabled) {
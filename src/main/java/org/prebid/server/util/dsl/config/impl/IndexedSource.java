@@ -0,0 +1,99 @@
+package org.prebid.server.util.dsl.config.impl;
+
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.util.dsl.config.PrebidConfigSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link PrebidConfigSource} with rules compiled once into hash lookups: the whole rule set
+ * and the distinct values seen at every schema position.
+ * <p>
+ * Lookups are case-sensitive, so rules and parameter values are expected to be normalized by the caller.
+ */
+public final class IndexedSource implements PrebidConfigSource {
+
+    private final String wildcard;
+    private final String separator;
+    private final Set<String> rules;
+    private final List<Set<String>> positionValues;
+
+    private IndexedSource(String wildcard, String separator, Set<String> rules, List<Set<String>> positionValues) {
+        this.wildcard = wildcard;
+        this.separator = separator;
+        this.rules = rules;
+        this.positionValues = positionValues;
+    }
+
+    public static IndexedSource of(String wildcard, String separator, Iterable<String> rules) {
+        final Set<String> rulesSet = new HashSet<>();
+        for (String rule : rules) {
+            rulesSet.add(rule);
+        }
+
+        return new IndexedSource(
+                wildcard,
+                separator,
+                Collections.unmodifiableSet(rulesSet),
+                positionValues(rulesSet, separator));
+    }
+
+    /**
+     * Returns values per schema position or null if rules have different number of positions,
+     * in which case no value can be excluded up front.
+     */
+    private static List<Set<String>> positionValues(Set<String> rules, String separator) {
+        List<Set<String>> positionValues = null;
+        for (String rule : rules) {
+            final String[] values = StringUtils.splitByWholeSeparatorPreserveAllTokens(rule, separator);
+            if (positionValues == null) {
+                positionValues = new ArrayList<>(values.length);
+                for (int i = 0; i < values.length; i++) {
+                    positionValues.add(new HashSet<>());
+                }
+            } else if (positionValues.size() != values.length) {
+                return null;
+            }
+
+            for (int i = 0; i < values.length; i++) {
+                positionValues.get(i).add(values[i]);
+            }
+        }
+
+        return positionValues != null ? Collections.unmodifiableList(positionValues) : null;
+    }
+
+    @Override
+    public String wildcard() {
+        return wildcard;
+    }
+
+    @Override
+    public String separator() {
+        return separator;
+    }
+
+    @Override
+    public Iterable<String> rules() {
+        return rules;
+    }
+
+    public boolean containsRule(String rule) {
+        return rules.contains(rule);
+    }
+
+    /**
+     * Returns false only if there is no rule having given value at given position.
+     */
+    public boolean mayMatch(int position, String value) {
+        if (positionValues == null || position >= positionValues.size() || value.contains(separator)) {
+            return true;
+        }
+
+        return positionValues.get(position).contains(value);
+    }
+}
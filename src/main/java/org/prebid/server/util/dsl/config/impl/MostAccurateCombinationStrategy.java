@@ -44,6 +44,10 @@ public class MostAccurateCombinationStrategy implements PrebidConfigMatchingStra
 
     @Override
     public String match(PrebidConfigSource source, PrebidConfigParameters parameters) {
+        if (source instanceof IndexedSource indexedSource) {
+            return match(indexedSource, parameters);
+        }
+
         final Set<String> configuredRules = toSet(source.rules());
 
         final Iterator<String> iterator = new RuleIterator(source, parameters.get());
@@ -56,6 +60,61 @@ public class MostAccurateCombinationStrategy implements PrebidConfigMatchingStra
         return null;
     }
 
+    /**
+     * Parameter values that are not present in any rule at their position are dropped before iterating,
+     * so only candidates that may exist in the source are generated. Dropping a value does not change
+     * the relative priority of the remaining candidates.
+     */
+    private static String match(IndexedSource source, PrebidConfigParameters parameters) {
+        final Iterator<String> iterator = new RuleIterator(source, knownParameters(source, parameters.get()));
+        while (iterator.hasNext()) {
+            final String generatedRule = iterator.next();
+            if (source.containsRule(generatedRule)) {
+                return generatedRule;
+            }
+        }
+        return null;
+    }
+
+    private static List<PrebidConfigParameter> knownParameters(IndexedSource source,
+                                                               Iterable<PrebidConfigParameter> parameters) {
+
+        final List<PrebidConfigParameter> knownParameters = new ArrayList<>();
+
+        int position = 0;
+        for (PrebidConfigParameter parameter : parameters) {
+            knownParameters.add(parameter instanceof PrebidConfigParameter.Direct direct
+                    ? knownParameter(source, position, direct)
+                    : parameter);
+            position++;
+        }
+
+        return knownParameters;
+    }
+
+    private static PrebidConfigParameter knownParameter(IndexedSource source,
+                                                        int position,
+                                                        PrebidConfigParameter.Direct parameter) {
+
+        final List<String> knownValues = new ArrayList<>();
+        boolean hasUnknownValues = false;
+        for (String value : parameter.values()) {
+            if (source.mayMatch(position, value)) {
+                knownValues.add(value);
+            } else {
+                hasUnknownValues = true;
+            }
+        }
+
+        if (!hasUnknownValues) {
+            return parameter;
+        }
+
+        return knownValues.isEmpty()
+                ? PrebidConfigParameter.wildcard()
+                : SimpleDirectParameter.of(knownValues);
+    }
+
     static class RuleIterator implements Iterator<String> {
 
         private final PrebidConfigSchema schema;
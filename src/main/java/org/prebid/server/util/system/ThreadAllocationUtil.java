@@ -0,0 +1,33 @@
+package org.prebid.server.util.system;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+
+public final class ThreadAllocationUtil {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = resolveThreadMXBean();
+
+    private ThreadAllocationUtil() {
+    }
+
+    private static ThreadMXBean resolveThreadMXBean() {
+        try {
+            return ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threadMXBean
+                    && threadMXBean.isThreadAllocatedMemorySupported()
+                    && threadMXBean.isThreadAllocatedMemoryEnabled()
+                    ? threadMXBean
+                    : null;
+        } catch (RuntimeException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns an approximation of the total amount of memory in bytes allocated by the current thread,
+     * or -1 if JVM does not support measuring it.
+     */
+    public static long currentThreadAllocatedBytes() {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : -1;
+    }
+}
@@ -0,0 +1,202 @@
+package org.prebid.server.vast;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Optional;
+
+/**
+ * Inserts impression tracking tag into VAST XML.
+ * <p>
+ * Tags are recognized in a single scan of the document exactly as by case-insensitive regular expressions like
+ * {@code <\s*inline(?:>|\s.*?>)}, with optionally spaced slash before the name for closing tags.
+ * Tracking tag is inserted after the last closing Impression tag of the first InLine (or Wrapper, if there is
+ * no InLine), or before the closing InLine (Wrapper) tag if there are no impressions.
+ */
+final class VastTrackingUrlInjector {
+
+    private static final String INLINE = "inline";
+    private static final String WRAPPER = "wrapper";
+    private static final String IMPRESSION = "impression";
+
+    private static final String IMPRESSION_TAG_START = "<Impression><![CDATA[";
+    private static final String IMPRESSION_TAG_END = "]]></Impression>";
+
+    private VastTrackingUrlInjector() {
+    }
+
+    /**
+     * Returns VAST XML with inserted tracking URL, or empty result if VAST XML contains neither InLine nor Wrapper.
+     */
+    static Optional<String> appendTrackingUrl(String vastXml, String vastUrlTracking) {
+        final AdTags inline = new AdTags();
+        final AdTags wrapper = new AdTags();
+
+        for (int tagStart = vastXml.indexOf('<'); tagStart >= 0; tagStart = vastXml.indexOf('<', tagStart + 1)) {
+            scanTag(vastXml, tagStart, inline, wrapper);
+        }
+
+        if (inline.isFound()) {
+            return Optional.of(insertTrackingUrl(vastXml, vastUrlTracking, inline));
+        }
+
+        return wrapper.isFound()
+                ? Optional.of(insertTrackingUrl(vastXml, vastUrlTracking, wrapper))
+                : Optional.empty();
+    }
+
+    private static void scanTag(String xml, int tagStart, AdTags inline, AdTags wrapper) {
+        int nameStart = skipWhitespaces(xml, tagStart + 1);
+        final boolean closing = nameStart < xml.length() && xml.charAt(nameStart) == '/';
+        if (closing) {
+            nameStart = skipWhitespaces(xml, nameStart + 1);
+        }
+
+        if (closing && matchesName(xml, nameStart, IMPRESSION)) {
+            final int tagEnd = tagEnd(xml, nameStart + IMPRESSION.length());
+            if (tagEnd >= 0) {
+                inline.onImpressionCloseTag(tagStart, tagEnd);
+                wrapper.onImpressionCloseTag(tagStart, tagEnd);
+            }
+        } else if (matchesName(xml, nameStart, INLINE)) {
+            scanAdTag(xml, tagStart, nameStart + INLINE.length(), closing, inline);
+        } else if (matchesName(xml, nameStart, WRAPPER)) {
+            scanAdTag(xml, tagStart, nameStart + WRAPPER.length(), closing, wrapper);
+        }
+    }
+
+    private static void scanAdTag(String xml, int tagStart, int nameEnd, boolean closing, AdTags adTags) {
+        final int tagEnd = tagEnd(xml, nameEnd);
+        if (tagEnd < 0) {
+            return;
+        }
+
+        if (closing) {
+            adTags.onCloseTag(tagStart);
+        } else {
+            adTags.onOpenTag(tagEnd);
+        }
+    }
+
+    private static int skipWhitespaces(String xml, int index) {
+        int current = index;
+        while (current < xml.length() && isWhitespace(xml.charAt(current))) {
+            current++;
+        }
+        return current;
+    }
+
+    /**
+     * Compares name ignoring case of ASCII letters only, as regular expressions do by default.
+     */
+    private static boolean matchesName(String xml, int index, String lowerCaseName) {
+        if (index + lowerCaseName.length() > xml.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < lowerCaseName.length(); i++) {
+            final char actual = xml.charAt(index + i);
+            final char expected = lowerCaseName.charAt(i);
+            if (actual != expected && !(actual >= 'A' && actual <= 'Z' && actual + ('a' - 'A') == expected)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index after the tag end, which is either '>' right after the name or the first '>' on the same
+     * line after the whitespace following the name, or -1 if the tag is not terminated.
+     */
+    private static int tagEnd(String xml, int nameEnd) {
+        if (nameEnd >= xml.length()) {
+            return -1;
+        }
+
+        final char afterName = xml.charAt(nameEnd);
+        if (afterName == '>') {
+            return nameEnd + 1;
+        }
+        if (!isWhitespace(afterName)) {
+            return -1;
+        }
+
+        for (int i = nameEnd + 1; i < xml.length(); i++) {
+            final char current = xml.charAt(i);
+            if (current == '>') {
+                return i + 1;
+            }
+            if (isLineTerminator(current)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isWhitespace(char character) {
+        return character == ' ' || character == '\t' || character == '\n'
+                || character == '\u000B' || character == '\f' || character == '\r';
+    }
+
+    private static boolean isLineTerminator(char character) {
+        return character == '\n' || character == '\r'
+                || character == '\u0085' || character == '\u2028' || character == '\u2029';
+    }
+
+    private static String insertTrackingUrl(String vastXml, String vastUrlTracking, AdTags adTags) {
+        if (adTags.lastImpressionCloseTagEnd >= 0) {
+            return insertUrlTracking(vastXml, adTags.lastImpressionCloseTagEnd, vastUrlTracking);
+        }
+
+        return adTags.closeTagStart >= 0
+                ? insertUrlTracking(vastXml, adTags.closeTagStart, vastUrlTracking)
+                : vastXml;
+    }
+
+    private static String insertUrlTracking(String vastXml, int index, String vastUrlTracking) {
+        final int capacity = vastXml.length()
+                + IMPRESSION_TAG_START.length()
+                + StringUtils.length(vastUrlTracking)
+                + IMPRESSION_TAG_END.length();
+
+        return new StringBuilder(capacity)
+                .append(vastXml, 0, index)
+                .append(IMPRESSION_TAG_START)
+                .append(vastUrlTracking)
+                .append(IMPRESSION_TAG_END)
+                .append(vastXml, index, vastXml.length())
+                .toString();
+    }
+
+    /**
+     * Positions of the tags related to the first InLine or Wrapper element.
+     */
+    private static class AdTags {
+
+        private int openTagEnd = -1;
+        private int closeTagStart = -1;
+        private int lastImpressionCloseTagEnd = -1;
+
+        boolean isFound() {
+            return openTagEnd >= 0;
+        }
+
+        void onOpenTag(int tagEnd) {
+            if (openTagEnd < 0) {
+                openTagEnd = tagEnd;
+            }
+        }
+
+        void onCloseTag(int tagStart) {
+            if (isFound() && closeTagStart < 0 && tagStart >= openTagEnd) {
+                closeTagStart = tagStart;
+            }
+        }
+
+        // closing tags overlapping each other end at the same '>', so the last started tag ends last
+        void onImpressionCloseTag(int tagStart, int tagEnd) {
+            if (isFound() && tagStart >= openTagEnd) {
+                lastImpressionCloseTagEnd = tagEnd;
+            }
+        }
+    }
+}
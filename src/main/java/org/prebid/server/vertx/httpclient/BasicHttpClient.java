@@ -1,5 +1,6 @@
 package org.prebid.server.vertx.httpclient;
 
+import io.netty.buffer.Unpooled;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
@@ -11,11 +12,13 @@ import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.RequestOptions;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+import org.prebid.server.vertx.httpclient.model.HttpEndpoint;
 
 import java.net.MalformedURLException;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -25,10 +28,28 @@ public class BasicHttpClient implements HttpClient {
 
     private final Vertx vertx;
     private final io.vertx.core.http.HttpClient httpClient;
+    private final HttpEndpointResolver endpointResolver;
+    private final Map<String, PooledHttpClient> pooledHttpClients;
 
     public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient) {
+        this(vertx, httpClient, new HttpEndpointResolver(), HttpClientPools.empty());
+    }
+
+    public BasicHttpClient(Vertx vertx,
+                           io.vertx.core.http.HttpClient httpClient,
+                           HttpEndpointResolver endpointResolver,
+                           HttpClientPools httpClientPools) {
+
         this.vertx = Objects.requireNonNull(vertx);
         this.httpClient = Objects.requireNonNull(httpClient);
+        this.endpointResolver = Objects.requireNonNull(endpointResolver);
+
+        pooledHttpClients = new HashMap<>();
+        for (HttpClientPool pool : httpClientPools.all()) {
+            pooledHttpClients.put(
+                    pool.getOrigin(),
+                    new PooledHttpClient(pool, vertx.createHttpClient(pool.getOptions())));
+        }
     }
 
     @Override
@@ -52,9 +73,9 @@ public class BasicHttpClient implements HttpClient {
             return Future.failedFuture(new TimeoutException("Timeout has been exceeded"));
         }
 
-        final URL absoluteUrl;
+        final HttpEndpoint endpoint;
         try {
-            absoluteUrl = new URL(url);
+            endpoint = endpointResolver.resolve(url);
         } catch (MalformedURLException e) {
             return Future.failedFuture(e);
         }
@@ -64,17 +85,19 @@ public class BasicHttpClient implements HttpClient {
                 responsePromise.tryFail(
                         new TimeoutException("Timeout period of %dms has been exceeded".formatted(timeoutMs))));
 
-        final RequestOptions options = new RequestOptions()
+        final RequestOptions options = endpoint.applyTo(new RequestOptions())
                 .setFollowRedirects(true)
                 .setConnectTimeout(timeoutMs)
                 .setMethod(method)
-                .setAbsoluteURI(absoluteUrl)
                 .setHeaders(headers);
 
-        final Future<HttpClientRequest> requestFuture = makeRequest(options);
+        final PooledHttpClient pooledHttpClient = pooledHttpClients.get(endpoint.getOrigin());
+        final Future<HttpClientRequest> requestFuture = pooledHttpClient != null
+                ? makePooledRequest(pooledHttpClient, options, responsePromise.future())
+                : makeRequest(httpClient, options);
 
         requestFuture
-                .compose(request -> body != null ? request.send(Buffer.buffer(body)) : request.send())
+                .compose(request -> body != null ? request.send(wrap(body)) : request.send())
                 .compose(response -> toInternalResponse(response, maxResponseSize))
                 .onSuccess(responsePromise::tryComplete)
                 .onFailure(responsePromise::tryFail);
@@ -84,7 +107,31 @@ public class BasicHttpClient implements HttpClient {
                 .onFailure(ignored -> requestFuture.onSuccess(HttpClientRequest::reset));
     }
 
-    private Future<HttpClientRequest> makeRequest(RequestOptions options) {
+    /**
+     * Wraps request body without copying it, {@link Buffer#buffer(byte[])} would allocate a copy of it.
+     */
+    private static Buffer wrap(byte[] body) {
+        return Buffer.buffer(Unpooled.wrappedBuffer(body));
+    }
+
+    private static Future<HttpClientRequest> makePooledRequest(PooledHttpClient pooledHttpClient,
+                                                               RequestOptions options,
+                                                               Future<HttpClientResponse> responseFuture) {
+
+        final HttpClientPool pool = pooledHttpClient.pool();
+        final long startTime = System.nanoTime();
+
+        pool.requestStarted();
+        responseFuture.onComplete(ignored -> pool.requestFinished());
+
+        return makeRequest(pooledHttpClient.httpClient(), options)
+                .onSuccess(ignored -> pool.connectionAcquired(
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+    }
+
+    private static Future<HttpClientRequest> makeRequest(io.vertx.core.http.HttpClient httpClient,
+                                                         RequestOptions options) {
+
         try {
             return httpClient.request(options);
         } catch (Throwable e) {
@@ -103,10 +150,10 @@ public class BasicHttpClient implements HttpClient {
         }
 
         return response.body()
-                .map(body -> HttpClientResponse.of(
-                        response.statusCode(),
-                        response.headers(),
-                        body.toString(StandardCharsets.UTF_8)));
+                .map(body -> HttpClientResponse.ofBuffer(response.statusCode(), response.headers(), body));
+
+    }
 
+    private record PooledHttpClient(HttpClientPool pool, io.vertx.core.http.HttpClient httpClient) {
     }
 }
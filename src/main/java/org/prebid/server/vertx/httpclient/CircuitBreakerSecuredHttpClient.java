@@ -14,7 +14,6 @@ import org.prebid.server.vertx.CircuitBreaker;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.net.MalformedURLException;
-import java.net.URL;
 import java.time.Clock;
 import java.util.Map;
 import java.util.Objects;
@@ -34,6 +33,7 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
     private final Map<String, CircuitBreaker> circuitBreakerByName;
 
     private final HttpClient httpClient;
+    private final HttpEndpointResolver endpointResolver;
 
     public CircuitBreakerSecuredHttpClient(Vertx vertx,
                                            HttpClient httpClient,
@@ -44,7 +44,29 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                                            int idleExpireHours,
                                            Clock clock) {
 
+        this(vertx,
+                httpClient,
+                new HttpEndpointResolver(),
+                metrics,
+                openingThreshold,
+                openingIntervalMs,
+                closingIntervalMs,
+                idleExpireHours,
+                clock);
+    }
+
+    public CircuitBreakerSecuredHttpClient(Vertx vertx,
+                                           HttpClient httpClient,
+                                           HttpEndpointResolver endpointResolver,
+                                           Metrics metrics,
+                                           int openingThreshold,
+                                           long openingIntervalMs,
+                                           long closingIntervalMs,
+                                           int idleExpireHours,
+                                           Clock clock) {
+
         this.httpClient = Objects.requireNonNull(httpClient);
+        this.endpointResolver = Objects.requireNonNull(endpointResolver);
 
         circuitBreakerCreator = name -> createCircuitBreaker(
                 name, vertx, openingThreshold, openingIntervalMs, closingIntervalMs, clock, metrics);
@@ -134,21 +156,16 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
         logger.warn("Http client request to {} becomes succeeded, circuit closed.", name);
     }
 
-    private static String nameFrom(String urlAsString) {
-        final URL url = parseUrl(urlAsString);
-        return url.getProtocol() + "://" + url.getHost() + (url.getPort() != -1 ? ":" + url.getPort() : "");
+    private String nameFrom(String url) {
+        try {
+            return endpointResolver.resolve(url).getOrigin();
+        } catch (MalformedURLException e) {
+            throw new PreBidException("Invalid url: " + url, e);
+        }
     }
 
     private static String idFrom(String urlAsString) {
         return urlAsString
                 .replaceAll("[^\\w]+", "_");
     }
-
-    private static URL parseUrl(String url) {
-        try {
-            return new URL(url);
-        } catch (MalformedURLException e) {
-            throw new PreBidException("Invalid url: " + url, e);
-        }
-    }
 }
@@ -0,0 +1,55 @@
+package org.prebid.server.vertx.httpclient;
+
+import io.vertx.core.http.HttpClientOptions;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dedicated connection pool for requests to a single origin, so that a slow endpoint
+ * saturating its connections does not delay requests sharing the default pool.
+ * <p>
+ * Vert.x HTTP client is bound to the context it was created on, so every {@link BasicHttpClient}
+ * creates own client from these options, while in-flight requests counter and metrics are shared.
+ */
+public class HttpClientPool {
+
+    private final String name;
+    private final String origin;
+    private final HttpClientOptions options;
+    private final Metrics metrics;
+
+    private final AtomicLong inFlightRequests;
+
+    public HttpClientPool(String origin, HttpClientOptions options, Metrics metrics) {
+        this.origin = Objects.requireNonNull(origin);
+        this.options = Objects.requireNonNull(options);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        name = origin.replaceAll("[^\\w]+", "_");
+        inFlightRequests = new AtomicLong();
+
+        metrics.createHttpClientPoolInFlightRequestsGauge(name, inFlightRequests::get);
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public HttpClientOptions getOptions() {
+        return options;
+    }
+
+    void requestStarted() {
+        inFlightRequests.incrementAndGet();
+    }
+
+    void connectionAcquired(long waitTimeMs) {
+        metrics.updateHttpClientPoolWaitTime(name, waitTimeMs);
+    }
+
+    void requestFinished() {
+        inFlightRequests.decrementAndGet();
+    }
+}
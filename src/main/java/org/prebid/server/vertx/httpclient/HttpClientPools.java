@@ -0,0 +1,30 @@
+package org.prebid.server.vertx.httpclient;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Holds dedicated connection pools by origin they serve.
+ */
+public class HttpClientPools {
+
+    private static final HttpClientPools EMPTY = new HttpClientPools(Collections.emptyList());
+
+    private final Map<String, HttpClientPool> poolsByOrigin;
+
+    public HttpClientPools(Collection<HttpClientPool> pools) {
+        poolsByOrigin = pools.stream()
+                .collect(Collectors.toUnmodifiableMap(HttpClientPool::getOrigin, Function.identity()));
+    }
+
+    public static HttpClientPools empty() {
+        return EMPTY;
+    }
+
+    public Collection<HttpClientPool> all() {
+        return poolsByOrigin.values();
+    }
+}
@@ -0,0 +1,109 @@
+package org.prebid.server.vertx.httpclient;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.http.RequestOptions;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.vertx.httpclient.model.HttpEndpoint;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+
+/**
+ * Resolves absolute URLs to {@link HttpEndpoint}s.
+ * <p>
+ * Bidders and other remote services are called through a small number of fixed hosts, so the scheme, host and port
+ * of every distinct origin are parsed once and cached, while only the path and query of each URL are extracted
+ * per call. URLs with user info, IPv6 hosts or an unusual scheme are fully parsed every time.
+ */
+public class HttpEndpointResolver {
+
+    private static final String SCHEME_SEPARATOR = "://";
+    private static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    private final Map<String, HttpEndpoint> originEndpoints;
+
+    public HttpEndpointResolver() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    public HttpEndpointResolver(int cacheSize) {
+        originEndpoints = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .<String, HttpEndpoint>build()
+                .asMap();
+    }
+
+    public HttpEndpoint resolve(String url) throws MalformedURLException {
+        final int originEnd = simpleOriginEnd(url);
+        if (originEnd < 0) {
+            return parse(url);
+        }
+
+        final String origin = url.substring(0, originEnd);
+        HttpEndpoint originEndpoint = originEndpoints.get(origin);
+        if (originEndpoint == null) {
+            originEndpoint = parse(origin);
+            originEndpoints.put(origin, originEndpoint);
+        }
+
+        return HttpEndpoint.of(
+                originEndpoint.getOrigin(),
+                originEndpoint.isSsl(),
+                originEndpoint.getHost(),
+                originEndpoint.getPort(),
+                relativeUri(url, originEnd));
+    }
+
+    /**
+     * Returns the index where the origin of the given URL ends, or -1 if URL should be fully parsed.
+     */
+    private static int simpleOriginEnd(String url) {
+        if (url == null || !(url.startsWith("http://") || url.startsWith("https://"))) {
+            return -1;
+        }
+
+        final int authorityStart = url.indexOf(SCHEME_SEPARATOR) + SCHEME_SEPARATOR.length();
+        int authorityEnd = authorityStart;
+        while (authorityEnd < url.length()) {
+            final char character = url.charAt(authorityEnd);
+            if (character == '/' || character == '?' || character == '#') {
+                break;
+            }
+            if (character == '@' || character == '[' || character == '\\') {
+                return -1;
+            }
+            authorityEnd++;
+        }
+
+        return authorityEnd > authorityStart ? authorityEnd : -1;
+    }
+
+    /**
+     * Mirrors {@link RequestOptions#setAbsoluteURI(URL)}: fragment is dropped and empty path is replaced with "/".
+     */
+    private static String relativeUri(String url, int originEnd) {
+        final int fragmentStart = url.indexOf('#', originEnd);
+        final String relativeUri = fragmentStart >= 0
+                ? url.substring(originEnd, fragmentStart)
+                : url.substring(originEnd);
+
+        return relativeUri.startsWith("/") ? relativeUri : "/" + relativeUri;
+    }
+
+    private static HttpEndpoint parse(String url) throws MalformedURLException {
+        final URL parsedUrl = new URL(url);
+        final RequestOptions options = new RequestOptions().setAbsoluteURI(parsedUrl);
+
+        return HttpEndpoint.of(
+                originFrom(parsedUrl),
+                options.isSsl(),
+                options.getHost(),
+                options.getPort(),
+                StringUtils.defaultIfEmpty(options.getURI(), "/"));
+    }
+
+    private static String originFrom(URL url) {
+        return url.getProtocol() + SCHEME_SEPARATOR + url.getHost() + (url.getPort() != -1 ? ":" + url.getPort() : "");
+    }
+}
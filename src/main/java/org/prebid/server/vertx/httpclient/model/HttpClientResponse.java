@@ -1,19 +1,90 @@
 package org.prebid.server.vertx.httpclient.model;
 
 import io.vertx.core.MultiMap;
-import lombok.Value;
+import io.vertx.core.buffer.Buffer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 /**
  * Holds Http client response data.
  * <p>
  * Should be created in "bodyHandler(...) after response has been read."
+ * <p>
+ * Response created from raw {@link Buffer} decodes its body to {@link String} lazily on first access,
+ * so consumers able to work with bytes can avoid that copy altogether.
  */
-@Value(staticConstructor = "of")
 public class HttpClientResponse {
 
-    int statusCode;
+    private final int statusCode;
+
+    private final MultiMap headers;
+
+    private final Buffer bodyBuffer;
+
+    private String body;
+
+    private HttpClientResponse(int statusCode, MultiMap headers, Buffer bodyBuffer, String body) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.bodyBuffer = bodyBuffer;
+        this.body = body;
+    }
+
+    public static HttpClientResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpClientResponse(statusCode, headers, null, body);
+    }
+
+    public static HttpClientResponse ofBuffer(int statusCode, MultiMap headers, Buffer body) {
+        return new HttpClientResponse(statusCode, headers, body, null);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public MultiMap getHeaders() {
+        return headers;
+    }
+
+    public String getBody() {
+        if (body == null && bodyBuffer != null) {
+            body = bodyBuffer.toString(StandardCharsets.UTF_8);
+        }
+        return body;
+    }
+
+    /**
+     * Returns response body as {@link Buffer} without decoding it to {@link String}, empty one if there is no body.
+     */
+    public Buffer getBodyAsBuffer() {
+        if (bodyBuffer != null) {
+            return bodyBuffer;
+        }
+        return body != null ? Buffer.buffer(body) : Buffer.buffer();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final HttpClientResponse that = (HttpClientResponse) o;
+        return statusCode == that.statusCode
+                && Objects.equals(headers, that.headers)
+                && Objects.equals(getBody(), that.getBody());
+    }
 
-    MultiMap headers;
+    @Override
+    public int hashCode() {
+        return Objects.hash(statusCode, headers, getBody());
+    }
 
-    String body;
+    @Override
+    public String toString() {
+        return "HttpClientResponse(statusCode=%d, headers=%s, body=%s)".formatted(statusCode, headers, getBody());
+    }
 }
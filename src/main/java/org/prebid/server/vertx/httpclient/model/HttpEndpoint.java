@@ -0,0 +1,35 @@
+package org.prebid.server.vertx.httpclient.model;
+
+import io.vertx.core.http.RequestOptions;
+import lombok.Value;
+
+/**
+ * Holds parts of an absolute URL needed to make a request.
+ */
+@Value(staticConstructor = "of")
+public class HttpEndpoint {
+
+    /**
+     * Scheme, host and port (if specified) of the URL, e.g. "https://example.com:8080".
+     */
+    String origin;
+
+    boolean ssl;
+
+    String host;
+
+    int port;
+
+    /**
+     * Path and query of the URL.
+     */
+    String uri;
+
+    public RequestOptions applyTo(RequestOptions options) {
+        return options
+                .setSsl(ssl)
+                .setHost(host)
+                .setPort(port)
+                .setURI(uri);
+    }
+}
@@ -5,11 +5,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.debug.ActivityInfrastructureDebug;
 import org.prebid.server.activity.infrastructure.payload.ActivityInvocationPayload;
 import org.prebid.server.activity.infrastructure.payload.impl.ActivityInvocationPayloadImpl;
+import org.prebid.server.activity.infrastructure.privacy.PrivacyModuleQualifier;
+import org.prebid.server.activity.infrastructure.privacy.SkippedPrivacyModule;
+import org.prebid.server.activity.infrastructure.rule.TestRule;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.response.ExtTraceActivityInfrastructure;
 
 import java.util.Arrays;
@@ -26,10 +31,11 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
-public class ActivityInfrastructureTest {
+public class ActivityInfrastructureTest extends VertxTest {
 
     @Mock
     private ActivityController activityController;
@@ -37,6 +43,9 @@ public class ActivityInfrastructureTest {
     @Mock
     private ActivityInfrastructureDebug debug;
 
+    @Mock
+    private Metrics metrics;
+
     private ActivityInfrastructure infrastructure;
 
     @BeforeEach
@@ -101,6 +110,94 @@ public class ActivityInfrastructureTest {
         verify(debug).emitActivityInvocationResult(eq(Activity.CALL_BIDDER), same(payload), same(result));
     }
 
+    @Test
+    public void isAllowedShouldReuseResultOfSameInvocation() {
+        // given
+        given(activityController.isAllowed(any())).willReturn(false);
+
+        final ActivityInvocationPayload payload = ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "bidder");
+        final ActivityInvocationPayload samePayload = ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "bidder");
+
+        // when
+        infrastructure.isAllowed(Activity.CALL_BIDDER, payload);
+        final boolean result = infrastructure.isAllowed(Activity.CALL_BIDDER, samePayload);
+
+        // then
+        assertThat(result).isFalse();
+        verify(activityController).isAllowed(any());
+        verify(debug, times(2)).emitActivityInvocationResult(eq(Activity.CALL_BIDDER), any(), eq(false));
+    }
+
+    @Test
+    public void isAllowedShouldUpdateProcessedRulesMetricsWhenResultIsReused() {
+        // given
+        final ActivityInfrastructureDebug realDebug = new ActivityInfrastructureDebug(
+                "accountId", null, metrics, jacksonMapper);
+        final ActivityController controller = ActivityController.of(
+                true,
+                List.of(
+                        new SkippedPrivacyModule(PrivacyModuleQualifier.US_NAT),
+                        TestRule.disallowIfMatches(payload -> true)),
+                realDebug);
+        final ActivityInfrastructure target = new ActivityInfrastructure(
+                Arrays.stream(Activity.values())
+                        .collect(Collectors.toMap(
+                                UnaryOperator.identity(),
+                                key -> controller)),
+                realDebug);
+        final ActivityInvocationPayload payload = ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "bidder");
+
+        // when
+        final boolean first = target.isAllowed(Activity.CALL_BIDDER, payload);
+        final boolean second = target.isAllowed(Activity.CALL_BIDDER, payload);
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        assertThat(realDebug.processedRulesCount()).isEqualTo(2);
+        assertThat(target.skippedPrivacyModules()).containsExactly(PrivacyModuleQualifier.US_NAT);
+        verify(metrics, times(4)).updateRequestsActivityProcessedRulesCount();
+    }
+
+    @Test
+    public void isAllowedShouldNotReuseResultOfInvocationWithDifferentPayload() {
+        // given
+        given(activityController.isAllowed(any())).willReturn(true);
+
+        final ActivityInvocationPayload first = ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "first");
+        final ActivityInvocationPayload second = ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "second");
+
+        // when
+        infrastructure.isAllowed(Activity.CALL_BIDDER, first);
+        infrastructure.isAllowed(Activity.CALL_BIDDER, second);
+        infrastructure.isAllowed(Activity.SYNC_USER, first);
+
+        // then
+        verify(activityController, times(3)).isAllowed(any());
+    }
+
+    @Test
+    public void isAllowedShouldEvaluateEachInvocationIfTraceEnabled() {
+        // given
+        given(debug.isTraceEnabled()).willReturn(true);
+        given(activityController.isAllowed(any())).willReturn(true);
+
+        final ActivityInfrastructure target = new ActivityInfrastructure(
+                Arrays.stream(Activity.values())
+                        .collect(Collectors.toMap(
+                                UnaryOperator.identity(),
+                                key -> activityController)),
+                debug);
+        final ActivityInvocationPayload payload = ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "bidder");
+
+        // when
+        target.isAllowed(Activity.CALL_BIDDER, payload);
+        target.isAllowed(Activity.CALL_BIDDER, payload);
+
+        // then
+        verify(activityController, times(2)).isAllowed(same(payload));
+    }
+
     @Test
     public void debugTraceShouldReturnSameTraceLog() {
         // given
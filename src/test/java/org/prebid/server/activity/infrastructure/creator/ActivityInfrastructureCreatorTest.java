@@ -37,6 +37,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.prebid.server.activity.infrastructure.privacy.PrivacyModuleQualifier.US_NAT;
 
@@ -244,4 +245,50 @@ public class ActivityInfrastructureCreatorTest {
 
         verify(metrics).updateAlertsMetrics(eq(MetricName.general));
     }
+
+    @Test
+    public void parseShouldCreateShareableRuleOnceForSameAccountPrivacyConfig() {
+        // given
+        final Account account = Account.builder()
+                .id("accountId")
+                .privacy(AccountPrivacyConfig.builder()
+                        .activities(Map.of(Activity.SYNC_USER, AccountActivityConfiguration.of(true, singletonList(
+                                AccountActivityConditionsRuleConfig.of(null, false)))))
+                        .build())
+                .build();
+
+        given(activityRuleFactory.isShareable(any())).willReturn(true);
+        given(activityRuleFactory.from(any(), argThat(arg -> arg.getGppContext() == null)))
+                .willReturn(TestRule.disallowIfMatches(payload -> true));
+
+        // when
+        creator.parse(account, GppContextCreator.from(null, null).build().getGppContext(), debug);
+        final Map<Activity, ActivityController> controllers = creator.parse(
+                account.toBuilder().build(),
+                GppContextCreator.from(null, null).build().getGppContext(),
+                debug);
+
+        // then
+        assertThat(controllers.get(Activity.SYNC_USER).isAllowed(null)).isFalse();
+        verify(activityRuleFactory).from(any(), any());
+    }
+
+    @Test
+    public void parseShouldCreateNotShareableRuleForEachRequest() {
+        // given
+        final Account account = Account.builder()
+                .id("accountId")
+                .privacy(AccountPrivacyConfig.builder()
+                        .activities(Map.of(Activity.SYNC_USER, AccountActivityConfiguration.of(true, singletonList(
+                                AccountActivityConditionsRuleConfig.of(null, false)))))
+                        .build())
+                .build();
+
+        // when
+        creator.parse(account, GppContextCreator.from(null, null).build().getGppContext(), debug);
+        creator.parse(account, GppContextCreator.from(null, null).build().getGppContext(), debug);
+
+        // then
+        verify(activityRuleFactory, times(2)).from(any(), argThat(arg -> arg.getGppContext() != null));
+    }
 }
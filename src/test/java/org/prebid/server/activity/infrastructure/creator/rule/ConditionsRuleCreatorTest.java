@@ -77,6 +77,30 @@ public class ConditionsRuleCreatorTest {
         assertThat(rule.proceed(payload4)).isEqualTo(Rule.Result.DISALLOW);
     }
 
+    @Test
+    public void isShareableShouldReturnTrueIfConditionDoesNotDependOnGppSids() {
+        // given
+        final AccountActivityConditionsRuleConfig config = AccountActivityConditionsRuleConfig.of(
+                AccountActivityConditionsRuleConfig.Condition.of(
+                        singletonList(ComponentType.BIDDER), null, null, singletonList("country"), null),
+                false);
+
+        // when and then
+        assertThat(target.isShareable(config)).isTrue();
+        assertThat(target.isShareable(AccountActivityConditionsRuleConfig.of(null, null))).isTrue();
+    }
+
+    @Test
+    public void isShareableShouldReturnFalseIfConditionDependsOnGppSids() {
+        // given
+        final AccountActivityConditionsRuleConfig config = AccountActivityConditionsRuleConfig.of(
+                AccountActivityConditionsRuleConfig.Condition.of(null, null, singletonList(2), null, null),
+                false);
+
+        // when and then
+        assertThat(target.isShareable(config)).isFalse();
+    }
+
     private static BidRequest givenBidRequest(String country, String region, String gpc) {
         return BidRequest.builder()
                 .device(Device.builder().geo(Geo.builder().country(country).region(region).build()).build())
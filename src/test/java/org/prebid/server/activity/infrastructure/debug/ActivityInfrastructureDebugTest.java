@@ -26,6 +26,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -161,6 +162,21 @@ public class ActivityInfrastructureDebugTest extends VertxTest {
         verifyNoMoreInteractions(metrics);
     }
 
+    @Test
+    public void emitReusedProcessedRulesShouldUpdateMetricsForEachRuleWithoutTrace() {
+        // given
+        final ActivityInfrastructureDebug debug = debug(null);
+
+        // when
+        debug.emitReusedProcessedRules(2);
+
+        // then
+        assertThat(debug.trace()).isEmpty();
+        assertThat(debug.processedRulesCount()).isZero();
+        verify(metrics, times(2)).updateRequestsActivityProcessedRulesCount();
+        verifyNoMoreInteractions(metrics);
+    }
+
     @Test
     public void emitProcessedRuleShouldLogModuleWhenModuleIsSkipped() {
         // given
@@ -26,6 +26,7 @@ import org.prebid.server.analytics.reporter.agma.model.AgmaAnalyticsProperties;
 import org.prebid.server.analytics.reporter.agma.model.AgmaEvent;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
 import org.prebid.server.privacy.model.PrivacyContext;
 import org.prebid.server.proto.openrtb.ext.request.ExtUser;
@@ -76,6 +77,9 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
     @Mock
     private PrebidVersionProvider versionProvider;
 
+    @Mock
+    private Metrics metrics;
+
     @Captor
     private ArgumentCaptor<MultiMap> headersCaptor;
 
@@ -101,12 +105,11 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
 
         given(versionProvider.getNameVersionRecord()).willReturn("pbs_version");
         given(vertx.setTimer(anyLong(), any())).willReturn(1L, 2L);
-        given(httpClient.request(eq(POST), anyString(), any(), anyString(), anyLong())).willReturn(
-                Future.succeededFuture(HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap(), "")));
         given(httpClient.request(eq(POST), anyString(), any(), any(byte[].class), anyLong())).willReturn(
                 Future.succeededFuture(HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap(), "")));
 
-        target = new AgmaAnalyticsReporter(properties, versionProvider, jacksonMapper, clock, httpClient, vertx);
+        target = new AgmaAnalyticsReporter(
+                properties, versionProvider, jacksonMapper, clock, httpClient, vertx, metrics);
     }
 
     @Test
@@ -168,7 +171,7 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 eq(POST),
                 eq("http://endpoint.com"),
                 headersCaptor.capture(),
-                eq(expectedEventPayload),
+                aryEq(expectedEventPayload.getBytes(StandardCharsets.UTF_8)),
                 eq(1000L));
 
         assertThat(headersCaptor.getValue())
@@ -224,7 +227,7 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 eq(POST),
                 eq("http://endpoint.com"),
                 headersCaptor.capture(),
-                eq(expectedEventPayload),
+                aryEq(expectedEventPayload.getBytes(StandardCharsets.UTF_8)),
                 eq(1000L));
 
         assertThat(headersCaptor.getValue())
@@ -280,7 +283,7 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 eq(POST),
                 eq("http://endpoint.com"),
                 headersCaptor.capture(),
-                eq(expectedEventPayload),
+                aryEq(expectedEventPayload.getBytes(StandardCharsets.UTF_8)),
                 eq(1000L));
 
         assertThat(headersCaptor.getValue())
@@ -347,7 +350,7 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 eq(POST),
                 eq("http://endpoint.com"),
                 any(),
-                eq(expectedEventPayload),
+                aryEq(expectedEventPayload.getBytes(StandardCharsets.UTF_8)),
                 eq(1000L));
 
         assertThat(result.succeeded()).isTrue();
@@ -402,7 +405,8 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 .accounts(Map.of("unknown_publisherId", "anotherCode"))
                 .build();
 
-        target = new AgmaAnalyticsReporter(properties, versionProvider, jacksonMapper, clock, httpClient, vertx);
+        target = new AgmaAnalyticsReporter(
+                properties, versionProvider, jacksonMapper, clock, httpClient, vertx, metrics);
 
         // given
         final Site givenSite = Site.builder().publisher(Publisher.builder().id("publisherId").build()).build();
@@ -436,7 +440,8 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 .accounts(Map.of("publisherId_bundleId", "accountCode"))
                 .build();
 
-        target = new AgmaAnalyticsReporter(properties, versionProvider, jacksonMapper, clock, httpClient, vertx);
+        target = new AgmaAnalyticsReporter(
+                properties, versionProvider, jacksonMapper, clock, httpClient, vertx, metrics);
 
         // given
         final App givenApp = App.builder().bundle("bundleId")
@@ -479,7 +484,7 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 eq(POST),
                 eq("http://endpoint.com"),
                 any(),
-                eq(expectedEventPayload),
+                aryEq(expectedEventPayload.getBytes(StandardCharsets.UTF_8)),
                 eq(1000L));
     }
 
@@ -496,7 +501,8 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 .accounts(Map.of("_mySite", "accountCode"))
                 .build();
 
-        target = new AgmaAnalyticsReporter(properties, versionProvider, jacksonMapper, clock, httpClient, vertx);
+        target = new AgmaAnalyticsReporter(
+                properties, versionProvider, jacksonMapper, clock, httpClient, vertx, metrics);
 
         // given
         final Site givenSite = Site.builder().id("mySite").build();
@@ -537,7 +543,7 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 eq(POST),
                 eq("http://endpoint.com"),
                 any(),
-                eq(expectedEventPayload),
+                aryEq(expectedEventPayload.getBytes(StandardCharsets.UTF_8)),
                 eq(1000L));
     }
 
@@ -554,7 +560,8 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 .accounts(Map.of("publisherId", "accountCode"))
                 .build();
 
-        target = new AgmaAnalyticsReporter(properties, versionProvider, jacksonMapper, clock, httpClient, vertx);
+        target = new AgmaAnalyticsReporter(
+                properties, versionProvider, jacksonMapper, clock, httpClient, vertx, metrics);
 
         final Site givenSite = Site.builder().publisher(Publisher.builder().id("publisherId").build()).build();
 
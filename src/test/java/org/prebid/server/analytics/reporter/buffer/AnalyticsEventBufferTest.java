@@ -0,0 +1,123 @@
+package org.prebid.server.analytics.reporter.buffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.analytics.reporter.buffer.AnalyticsEventBuffer.FlushThreshold;
+import org.prebid.server.metric.Metrics;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class AnalyticsEventBufferTest {
+
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void pollToFlushShouldReturnEventsToFlushWhenMaxEventsExceeded() {
+        // given
+        final AnalyticsEventBuffer target = givenBuffer(1, 999, FlushThreshold.LIMIT_REACHED);
+        target.put(bytes("test"));
+
+        // when and then
+        assertThat(target.pollToFlush()).containsExactly(bytes("test"));
+    }
+
+    @Test
+    public void pollToFlushShouldReturnEventsToFlushWhenMaxBytesExceeded() {
+        // given
+        final AnalyticsEventBuffer target = givenBuffer(999, 1, FlushThreshold.LIMIT_REACHED);
+        target.put(bytes("test"));
+
+        // when and then
+        assertThat(target.pollToFlush()).containsExactly(bytes("test"));
+    }
+
+    @Test
+    public void pollToFlushShouldNotReturnAnyEventsWhenLimitsAreNotExceeded() {
+        // given
+        final AnalyticsEventBuffer target = givenBuffer(999, 999, FlushThreshold.LIMIT_REACHED);
+        target.put(bytes("test"));
+
+        // when and then
+        assertThat(target.pollToFlush()).isEmpty();
+    }
+
+    @Test
+    public void pollToFlushShouldReturnEventsOnlyWhenLimitIsExceededIfConfigured() {
+        // given
+        final AnalyticsEventBuffer target = givenBuffer(1, 999, FlushThreshold.LIMIT_EXCEEDED);
+        target.put(bytes("test1"));
+
+        // when
+        final List<byte[]> whenLimitReached = target.pollToFlush();
+        target.put(bytes("test2"));
+        final List<byte[]> whenLimitExceeded = target.pollToFlush();
+
+        // then
+        assertThat(whenLimitReached).isEmpty();
+        assertThat(whenLimitExceeded).containsExactly(bytes("test1"), bytes("test2"));
+    }
+
+    @Test
+    public void pollAllShouldReturnAllEventsAndResetCounters() {
+        // given
+        final AnalyticsEventBuffer target = givenBuffer(999, 999, FlushThreshold.LIMIT_REACHED);
+        target.put(bytes("test1"));
+        target.put(bytes("test2"));
+
+        // when and then
+        assertThat(target.pollAll()).containsExactly(bytes("test1"), bytes("test2"));
+        assertThat(target.eventsCount()).isZero();
+        assertThat(target.bytesCount()).isZero();
+        assertThat(target.pollAll()).isEmpty();
+    }
+
+    @Test
+    public void putShouldDropEventAndUpdateMetricWhenBufferOverflown() {
+        // given
+        final AnalyticsEventBuffer target = givenBuffer(1, 999, FlushThreshold.LIMIT_REACHED);
+
+        // when
+        final boolean firstAdded = target.put(bytes("test1"));
+        final boolean secondAdded = target.put(bytes("test2"));
+        final boolean thirdAdded = target.put(bytes("test3"));
+
+        // then
+        assertThat(firstAdded).isTrue();
+        assertThat(secondAdded).isTrue();
+        assertThat(thirdAdded).isFalse();
+        assertThat(target.pollAll()).containsExactly(bytes("test1"), bytes("test2"));
+        verify(metrics).updateAnalyticDroppedEventsMetric("reporter");
+    }
+
+    @Test
+    public void putShouldAcceptEventsAgainAfterBufferPolled() {
+        // given
+        final AnalyticsEventBuffer target = givenBuffer(999, 4, FlushThreshold.LIMIT_REACHED);
+        target.put(bytes("test1"));
+        target.pollAll();
+
+        // when
+        final boolean added = target.put(bytes("test2"));
+
+        // then
+        assertThat(added).isTrue();
+        verifyNoInteractions(metrics);
+    }
+
+    private AnalyticsEventBuffer givenBuffer(long maxEvents, long maxBytes, FlushThreshold flushThreshold) {
+        return new AnalyticsEventBuffer("reporter", maxEvents, maxBytes, flushThreshold, metrics);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
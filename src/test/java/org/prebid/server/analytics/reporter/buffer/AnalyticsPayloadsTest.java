@@ -0,0 +1,62 @@
+package org.prebid.server.analytics.reporter.buffer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AnalyticsPayloadsTest {
+
+    @Test
+    public void jsonArrayShouldJoinEventsIntoArray() {
+        // when
+        final byte[] result = AnalyticsPayloads.jsonArray(List.of(bytes("{\"a\":1}"), bytes("{\"b\":2}")));
+
+        // then
+        assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo("[{\"a\":1},{\"b\":2}]");
+    }
+
+    @Test
+    public void jsonArrayShouldReturnEmptyArrayForEmptyEvents() {
+        // when
+        final byte[] result = AnalyticsPayloads.jsonArray(emptyList());
+
+        // then
+        assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+
+    @Test
+    public void gzipJsonArrayShouldCompressEventsJoinedIntoArray() throws IOException {
+        // when
+        final byte[] result = AnalyticsPayloads.gzipJsonArray(List.of(bytes("{\"a\":1}"), bytes("{\"b\":2}")));
+
+        // then
+        assertThat(gunzip(result)).isEqualTo("[{\"a\":1},{\"b\":2}]");
+    }
+
+    @Test
+    public void gzipLinesShouldCompressNewLineDelimitedEvents() throws IOException {
+        // when
+        final byte[] result = AnalyticsPayloads.gzipLines(List.of(bytes("{\"a\":1}"), bytes("{\"b\":2}")));
+
+        // then
+        assertThat(gunzip(result)).isEqualTo("{\"a\":1}\n{\"b\":2}");
+    }
+
+    private static String gunzip(byte[] value) throws IOException {
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(value))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
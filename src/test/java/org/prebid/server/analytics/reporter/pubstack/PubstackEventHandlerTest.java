@@ -12,18 +12,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.model.SetuidEvent;
+import org.prebid.server.analytics.reporter.buffer.AnalyticsEventBuffer;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackAnalyticsProperties;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.TimeoutContext;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.nio.charset.StandardCharsets;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -45,6 +45,9 @@ public class PubstackEventHandlerTest extends VertxTest {
     @Mock
     private HttpClient httpClient;
 
+    @Mock
+    private Metrics metrics;
+
     private PubstackEventHandler pubstackEventHandler;
 
     @BeforeEach
@@ -59,7 +62,7 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .timeoutMs(5000L)
                 .build();
         pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+                httpClient, vertx, metrics);
     }
 
     @Test
@@ -74,16 +77,15 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .timeoutMs(5000L)
                 .build();
         pubstackEventHandler = new PubstackEventHandler(properties, false, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+                httpClient, vertx, metrics);
 
         // when
         pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
 
         // then
-        @SuppressWarnings("unchecked") final AtomicReference<Set<String>> events =
-                (AtomicReference<Set<String>>) ReflectionTestUtils
-                        .getField(pubstackEventHandler, "events");
-        assertThat(events.get()).isEmpty();
+        final AnalyticsEventBuffer eventBuffer = (AnalyticsEventBuffer) ReflectionTestUtils
+                .getField(pubstackEventHandler, "eventBuffer");
+        assertThat(eventBuffer.eventsCount()).isZero();
         verifyNoInteractions(httpClient);
     }
 
@@ -94,15 +96,14 @@ public class PubstackEventHandlerTest extends VertxTest {
         pubstackEventHandler.handle(setuidEvent);
 
         // then
-        final AtomicLong byteSize = (AtomicLong) ReflectionTestUtils.getField(pubstackEventHandler, "byteSize");
-        @SuppressWarnings("unchecked") final AtomicReference<Set<String>> events =
-                (AtomicReference<Set<String>>) ReflectionTestUtils
-                        .getField(pubstackEventHandler, "events");
+        final AnalyticsEventBuffer eventBuffer = (AnalyticsEventBuffer) ReflectionTestUtils
+                .getField(pubstackEventHandler, "eventBuffer");
         final ObjectNode eventJsonNode = mapper.valueToTree(setuidEvent);
         eventJsonNode.put("scope", "scopeId");
         final String eventJsonRow = mapper.writeValueAsString(eventJsonNode);
-        assertThat(byteSize.get()).isEqualTo(eventJsonRow.getBytes().length);
-        assertThat(events.get()).hasSize(1)
+        assertThat(eventBuffer.bytesCount()).isEqualTo(eventJsonRow.getBytes().length);
+        assertThat(eventBuffer.pollAll()).hasSize(1)
+                .extracting(event -> new String(event, StandardCharsets.UTF_8))
                 .containsOnly(eventJsonRow);
     }
 
@@ -118,7 +119,7 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .timeoutMs(5000L)
                 .build();
         pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+                httpClient, vertx, metrics);
 
         // when
         pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
@@ -139,7 +140,7 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .timeoutMs(5000L)
                 .build();
         pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+                httpClient, vertx, metrics);
 
         // when
         pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
@@ -179,8 +180,9 @@ public class PubstackEventHandlerTest extends VertxTest {
         verify(vertx).cancelTimer(anyLong());
         // one time in constructor and second after the send request
         verify(vertx, times(2)).setTimer(anyLong(), any());
-        final AtomicLong byteSize = (AtomicLong) ReflectionTestUtils.getField(pubstackEventHandler, "byteSize");
-        assertThat(byteSize.get()).isEqualTo(0);
+        final AnalyticsEventBuffer eventBuffer = (AnalyticsEventBuffer) ReflectionTestUtils
+                .getField(pubstackEventHandler, "eventBuffer");
+        assertThat(eventBuffer.bytesCount()).isEqualTo(0);
         final Long currentTimerId = (Long) ReflectionTestUtils.getField(pubstackEventHandler,
                 "reportTimerId");
         assertThat(currentTimerId).isEqualTo(2);
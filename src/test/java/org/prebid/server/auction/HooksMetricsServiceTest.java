@@ -175,6 +175,40 @@ public class HooksMetricsServiceTest extends VertxTest {
         verify(metrics).updateAccountModuleDurationMetric(any(), eq("module3"), eq(8L));
     }
 
+    @Test
+    public void shouldIncrementUpdateConflictMetricForConflictingHooksOnly() {
+        // given
+        final EnumMap<Stage, List<StageExecutionOutcome>> stageOutcomes = new EnumMap<>(Stage.class);
+        stageOutcomes.put(Stage.processed_auction_request, singletonList(StageExecutionOutcome.of(
+                "auction-request",
+                singletonList(GroupExecutionOutcome.of(asList(
+                        HookExecutionOutcome.builder()
+                                .hookId(HookId.of("module1", "hook1"))
+                                .executionTime(4L)
+                                .status(ExecutionStatus.success)
+                                .action(ExecutionAction.update)
+                                .build(),
+                        HookExecutionOutcome.builder()
+                                .hookId(HookId.of("module2", "hook1"))
+                                .executionTime(6L)
+                                .status(ExecutionStatus.success)
+                                .action(ExecutionAction.update)
+                                .updateConflict(true)
+                                .build()))))));
+
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction, stageOutcomes))
+                .debugContext(DebugContext.empty())
+                .build();
+
+        // when
+        target.updateHooksMetrics(auctionContext);
+
+        // then
+        verify(metrics).updateHooksUpdateConflictMetric(any(), any(), any());
+        verify(metrics).updateHooksUpdateConflictMetric("module2", Stage.processed_auction_request, "hook1");
+    }
+
     private static AppliedToImpl givenAppliedToImpl() {
         return AppliedToImpl.builder()
                 .impIds(asList("impId1", "impId2"))
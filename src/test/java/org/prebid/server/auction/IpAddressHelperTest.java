@@ -1,9 +1,19 @@
 package org.prebid.server.auction;
 
+import inet.ipaddr.AddressStringException;
+import inet.ipaddr.IPAddress;
+import inet.ipaddr.IPAddressString;
+import inet.ipaddr.IPAddressStringParameters;
+import org.apache.http.conn.util.InetAddressUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.prebid.server.auction.model.IpAddress;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -138,4 +148,173 @@ public class IpAddressHelperTest {
         assertThat(ipAddressHelper.toIpAddress("2001:1db8:85a3:a5b7:0000:8a2e:0370:7334"))
                 .isEqualTo(IpAddress.of("2001:1db8:85a3:a5b7::", IpAddress.IP.v6));
     }
+
+    @Test
+    public void shouldReturnSameResultsAsIpAddressLibraryForRandomAddresses() {
+        // given
+        final List<String> localNetworks = List.of(
+                "::1/128", "2001:db8::/32", "fc00::/7", "fe80::/10", "ff00::/8", "10.0.0.0/8", "100.64.0.0/10",
+                "2001:db8::1/64", "::ffff:0:0/96");
+        final Random random = new Random(42L);
+
+        for (int i = 0; i < 200; i++) {
+            final int alwaysMaskBits = 1 + random.nextInt(128);
+            final int anonLeftMaskBits = random.nextBoolean() ? 1 + random.nextInt(32) : 56 + random.nextInt(73);
+            final List<String> networks = localNetworks.subList(0, random.nextInt(localNetworks.size() + 1));
+
+            final IpAddressHelper target = new IpAddressHelper(alwaysMaskBits, anonLeftMaskBits, networks);
+            final LibraryIpAddressHelper expected = new LibraryIpAddressHelper(
+                    alwaysMaskBits, anonLeftMaskBits, networks);
+
+            for (int j = 0; j < 1_000; j++) {
+                final String ip = givenRandomIp(random);
+
+                // when and then
+                assertThat(resultOf(() -> target.toIpAddress(ip))).describedAs(ip)
+                        .isEqualTo(resultOf(() -> expected.toIpAddress(ip)));
+                assertThat(resultOf(() -> target.maskIpv4(ip))).describedAs(ip)
+                        .isEqualTo(resultOf(() -> expected.maskIpv4(ip)));
+                assertThat(resultOf(() -> target.anonymizeIpv6(ip))).describedAs(ip)
+                        .isEqualTo(resultOf(() -> expected.anonymizeIpv6(ip)));
+            }
+        }
+    }
+
+    private static Object resultOf(Supplier<Object> call) {
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    private static String givenRandomIp(Random random) {
+        final String ip = random.nextBoolean() ? givenRandomIpv4(random) : givenRandomIpv6(random);
+        return switch (random.nextInt(10)) {
+            case 0 -> givenRandomString(random);
+            case 1 -> ip + random.nextInt(3) + givenRandomString(random);
+            case 2 -> givenRandomString(random) + ip;
+            case 3 -> ip.substring(0, random.nextInt(ip.length() + 1));
+            default -> ip;
+        };
+    }
+
+    private static String givenRandomIpv4(Random random) {
+        final int[] firstOctets = {0, 10, 100, 127, 169, 172, 192, 224, 232, 239, 240, 255};
+        final StringBuilder ip = new StringBuilder();
+        for (int i = 0; i < 4; i++) {
+            final int octet = random.nextInt(3) == 0
+                    ? firstOctets[random.nextInt(firstOctets.length)]
+                    : random.nextInt(random.nextInt(10) == 0 ? 300 : 256);
+            if (i > 0) {
+                ip.append('.');
+            }
+            ip.append(random.nextInt(20) == 0 ? "0" : "").append(octet);
+        }
+        return ip.toString();
+    }
+
+    private static String givenRandomIpv6(Random random) {
+        final int[] groups = {0, 0, 0, 1, 0x64, 0xff9b, 0x2001, 0x2002, 0xdb8, 0xfc00, 0xfd12, 0xfe80, 0xfec0,
+                0xff00, 0xffff};
+        final List<String> formatted = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final int group = random.nextBoolean() ? groups[random.nextInt(groups.length)] : random.nextInt(0x10000);
+            final String hex = random.nextInt(4) == 0
+                    ? "%04x".formatted(group)
+                    : Integer.toHexString(group);
+            formatted.add(random.nextInt(4) == 0 ? hex.toUpperCase() : hex);
+        }
+        if (random.nextInt(8) == 0) {
+            formatted.subList(6, 8).clear();
+            formatted.add(givenRandomIpv4(random));
+        }
+
+        if (random.nextBoolean()) {
+            final int from = random.nextInt(formatted.size());
+            final int to = from + random.nextInt(formatted.size() - from + 1);
+            return String.join(":", formatted.subList(0, from))
+                    + "::"
+                    + String.join(":", formatted.subList(to, formatted.size()));
+        }
+        return String.join(":", formatted);
+    }
+
+    private static String givenRandomString(Random random) {
+        final String alphabet = "0123456789abcdefABCDEF::..%/ x-";
+        final StringBuilder result = new StringBuilder();
+        final int length = random.nextInt(12);
+        for (int i = 0; i < length; i++) {
+            result.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return result.toString();
+    }
+
+    /**
+     * Former implementation relying on the IPAddress library only, the helper must be equivalent to.
+     */
+    private static class LibraryIpAddressHelper {
+
+        private static final IPAddressStringParameters IP_ADDRESS_VALIDATION_OPTIONS =
+                IPAddressString.DEFAULT_VALIDATION_OPTIONS.toBuilder()
+                        .allowSingleSegment(false)
+                        .allowEmpty(false)
+                        .toParams();
+
+        private final IPAddress ipv6AlwaysMaskAddress;
+        private final IPAddress ipv6AnonLeftMaskAddress;
+        private final List<IPAddress> ipv6LocalNetworkMaskAddresses;
+
+        LibraryIpAddressHelper(int ipv6AlwaysMaskBits, int ipv6AnonLeftMaskBits, List<String> ipv6LocalNetworks) {
+            ipv6AlwaysMaskAddress = new IPAddressString("::/" + ipv6AlwaysMaskBits).getAddress().getNetworkMask();
+            ipv6AnonLeftMaskAddress = new IPAddressString("::/" + ipv6AnonLeftMaskBits).getAddress().getNetworkMask();
+            ipv6LocalNetworkMaskAddresses = ipv6LocalNetworks.stream()
+                    .map(network -> new IPAddressString(network).getAddress())
+                    .toList();
+        }
+
+        String anonymizeIpv6(String ip) {
+            try {
+                final IPAddressString ipAddressString = new IPAddressString(ip);
+                return ipAddressString.isIPv6()
+                        ? ipAddressString.toAddress().mask(ipv6AnonLeftMaskAddress).toCanonicalString()
+                        : null;
+            } catch (AddressStringException e) {
+                return null;
+            }
+        }
+
+        IpAddress toIpAddress(String ip) {
+            final IPAddress ipAddress;
+            try {
+                ipAddress = new IPAddressString(ip, IP_ADDRESS_VALIDATION_OPTIONS).toAddress();
+            } catch (AddressStringException e) {
+                return null;
+            }
+
+            if (ipAddress == null || !(ipAddress.isIPv4() || ipAddress.isIPv6()) || !isIpPublic(ipAddress)) {
+                return null;
+            }
+
+            return ipAddress.isIPv6()
+                    ? IpAddress.of(ipAddress.mask(ipv6AlwaysMaskAddress).toCanonicalString(), IpAddress.IP.v6)
+                    : IpAddress.of(ip, IpAddress.IP.v4);
+        }
+
+        String maskIpv4(String ip) {
+            if (ip == null || ip.isBlank() || !InetAddressUtils.isIPv4Address(ip)) {
+                return ip;
+            }
+
+            return ip.substring(0, ip.lastIndexOf(".")) + ".0";
+        }
+
+        private boolean isIpPublic(IPAddress ipAddress) {
+            return !ipAddress.isLocal()
+                    && !ipAddress.isLoopback()
+                    && !ipAddress.isMulticast()
+                    && !ipAddress.isMax()
+                    && ipv6LocalNetworkMaskAddresses.stream().noneMatch(network -> network.contains(ipAddress));
+        }
+    }
 }
@@ -8,11 +8,13 @@ import org.junit.jupiter.api.Test;
 import org.prebid.server.VertxTest;
 import org.prebid.server.json.JsonMerger;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class OrtbTypesResolverTest extends VertxTest {
 
@@ -560,6 +562,61 @@ public class OrtbTypesResolverTest extends VertxTest {
         assertThat(fpd.path("app")).isEqualTo(requestFpdApp);
     }
 
+    @Test
+    public void isNormalizationRequiredShouldReturnFalseForRequestWithExpectedTypes() throws IOException {
+        // given
+        final String bidRequest = """
+                {"id":"id","imp":[{"id":"imp","ext":{"data":{"page":["a"]}}}],
+                "site":{"page":"page","keywords":null,"content":{"data":[{"id":"data"}]}},
+                "user":{"data":[{"id":"data"}],"ext":{"data":{"gender":["m"]}}},
+                "ext":{"prebid":{"data":{"bidders":["bidder"]}},"bidderconfig":[]}}""";
+
+        // when and then
+        assertThat(ortbTypesResolver.isNormalizationRequired(bidRequest.getBytes())).isFalse();
+    }
+
+    @Test
+    public void isNormalizationRequiredShouldReturnTrueForFpdFieldsOfUnexpectedType() throws IOException {
+        // when and then
+        assertThat(ortbTypesResolver.isNormalizationRequired("""
+                {"site":{"page":["page"]}}""".getBytes())).isTrue();
+        assertThat(ortbTypesResolver.isNormalizationRequired("""
+                {"app":{"bundle":1}}""".getBytes())).isTrue();
+        assertThat(ortbTypesResolver.isNormalizationRequired("""
+                {"user":{"keywords":["a","b"]}}""".getBytes())).isTrue();
+    }
+
+    @Test
+    public void isNormalizationRequiredShouldReturnTrueForFpdContainerOfUnexpectedType() throws IOException {
+        // when and then
+        assertThat(ortbTypesResolver.isNormalizationRequired("""
+                {"site":null}""".getBytes())).isTrue();
+        assertThat(ortbTypesResolver.isNormalizationRequired("""
+                {"user":[]}""".getBytes())).isTrue();
+        assertThat(ortbTypesResolver.isNormalizationRequired("[]".getBytes())).isTrue();
+    }
+
+    @Test
+    public void isNormalizationRequiredShouldReturnTrueForDataObject() throws IOException {
+        // when and then
+        assertThat(ortbTypesResolver.isNormalizationRequired("""
+                {"user":{"data":{"key":"value"}}}""".getBytes())).isTrue();
+    }
+
+    @Test
+    public void isNormalizationRequiredShouldReturnTrueForBidderConfig() throws IOException {
+        // when and then
+        assertThat(ortbTypesResolver.isNormalizationRequired("""
+                {"ext":{"prebid":{"bidderconfig":[{"bidders":["bidder"]}]}}}""".getBytes())).isTrue();
+    }
+
+    @Test
+    public void isNormalizationRequiredShouldFailOnMalformedRequest() {
+        // when and then
+        assertThatThrownBy(() -> ortbTypesResolver.isNormalizationRequired("{\"site\":".getBytes()))
+                .isInstanceOf(IOException.class);
+    }
+
     private static ArrayNode array(String... fields) {
         final ArrayNode arrayNode = mapper.createArrayNode();
         Arrays.stream(fields).forEach(arrayNode::add);
@@ -62,6 +62,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 public class StoredRequestProcessorTest extends VertxTest {
 
     private static final int DEFAULT_TIMEOUT = 500;
+    private static final int STORED_DATA_NODES_CACHE_SIZE = 100;
 
     @Mock
     private FileSystem fileSystem;
@@ -84,6 +85,7 @@ public class StoredRequestProcessorTest extends VertxTest {
                 DEFAULT_TIMEOUT,
                 null,
                 false,
+                STORED_DATA_NODES_CACHE_SIZE,
                 fileSystem,
                 applicationSettings,
                 idGenerator,
@@ -173,6 +175,40 @@ public class StoredRequestProcessorTest extends VertxTest {
                 .build());
     }
 
+    @Test
+    public void shouldMergeUpdatedStoredRequestInsteadOfPreviouslyParsedOne() throws IOException {
+        // given
+        final BidRequest bidRequest = givenBidRequest(builder -> builder
+                .ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .storedrequest(ExtStoredRequest.of("123"))
+                        .build())));
+
+        final String storedRequestJson = mapper.writeValueAsString(givenBidRequest(builder -> builder.tmax(1000L)));
+        final String updatedStoredRequestJson = mapper.writeValueAsString(
+                givenBidRequest(builder -> builder.tmax(2000L)));
+
+        given(applicationSettings.getStoredData(any(), anySet(), anySet(), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredDataResult.of(singletonMap("123", storedRequestJson), emptyMap(), emptyList())))
+                .willReturn(Future.succeededFuture(
+                        StoredDataResult.of(singletonMap("123", storedRequestJson), emptyMap(), emptyList())))
+                .willReturn(Future.succeededFuture(
+                        StoredDataResult.of(singletonMap("123", updatedStoredRequestJson), emptyMap(), emptyList())));
+
+        // when
+        final BidRequest firstResult = storedRequestProcessor.processAuctionRequest(null, bidRequest)
+                .result().bidRequest();
+        final BidRequest secondResult = storedRequestProcessor.processAuctionRequest(null, bidRequest)
+                .result().bidRequest();
+        final BidRequest updatedResult = storedRequestProcessor.processAuctionRequest(null, bidRequest)
+                .result().bidRequest();
+
+        // then
+        assertThat(firstResult.getTmax()).isEqualTo(1000L);
+        assertThat(secondResult).isEqualTo(firstResult);
+        assertThat(updatedResult.getTmax()).isEqualTo(2000L);
+    }
+
     @Test
     public void shouldReturnMergedDefaultAndBidRequest() throws IOException {
         // given
@@ -187,6 +223,7 @@ public class StoredRequestProcessorTest extends VertxTest {
                 DEFAULT_TIMEOUT,
                 "path/to/default/request.json",
                 false,
+                STORED_DATA_NODES_CACHE_SIZE,
                 fileSystem,
                 applicationSettings,
                 idGenerator,
@@ -236,6 +273,7 @@ public class StoredRequestProcessorTest extends VertxTest {
                 500,
                 null,
                 true,
+                STORED_DATA_NODES_CACHE_SIZE,
                 fileSystem,
                 applicationSettings,
                 idGenerator,
@@ -333,6 +371,7 @@ public class StoredRequestProcessorTest extends VertxTest {
                 DEFAULT_TIMEOUT,
                 "path/to/default/request.json",
                 false,
+                STORED_DATA_NODES_CACHE_SIZE,
                 fileSystem,
                 applicationSettings,
                 idGenerator,
@@ -367,6 +406,7 @@ public class StoredRequestProcessorTest extends VertxTest {
                 500,
                 null,
                 true,
+                STORED_DATA_NODES_CACHE_SIZE,
                 fileSystem,
                 applicationSettings,
                 idGenerator,
@@ -993,6 +1033,7 @@ public class StoredRequestProcessorTest extends VertxTest {
                 DEFAULT_TIMEOUT,
                 "path/to/default/request.json",
                 false,
+                STORED_DATA_NODES_CACHE_SIZE,
                 fileSystem,
                 applicationSettings,
                 idGenerator,
@@ -20,7 +20,10 @@ import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ActivityEnforcementTest {
@@ -72,6 +75,73 @@ public class ActivityEnforcementTest {
         });
     }
 
+    @Test
+    public void enforceShouldMaskSameUserAndDeviceOnceForBiddersWithSameRestrictions() {
+        // given
+        given(activityInfrastructure.isAllowed(any(), any())).willReturn(false);
+        given(userFpdActivityMask.maskUser(any(), anyBoolean(), anyBoolean()))
+                .willAnswer(invocation -> User.builder().id("maskedUser").build());
+        given(userFpdActivityMask.maskDevice(any(), anyBoolean(), anyBoolean()))
+                .willAnswer(invocation -> Device.builder().ip("maskedDevice").build());
+
+        final User user = User.builder().id("originalUser").build();
+        final Device device = Device.builder().ip("originalDevice").build();
+
+        // when
+        final List<BidderPrivacyResult> result = target.enforce(
+                        givenAuctionContext(),
+                        bidderAliases,
+                        List.of(givenBidderPrivacyResult("bidder1", user, device),
+                                givenBidderPrivacyResult("bidder2", user, device)))
+                .result();
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(1).getUser()).isSameAs(result.get(0).getUser());
+        assertThat(result.get(1).getDevice()).isSameAs(result.get(0).getDevice());
+        verify(userFpdActivityMask).maskUser(any(), anyBoolean(), anyBoolean());
+        verify(userFpdActivityMask).maskDevice(any(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    public void enforceShouldMaskSameUserAndDeviceSeparatelyForBiddersWithDifferentRestrictions() {
+        // given
+        given(activityInfrastructure.isAllowed(any(), argThat(payload -> payload != null
+                && "bidder1".equals(payload.componentName())))).willReturn(false);
+        given(activityInfrastructure.isAllowed(any(), argThat(payload -> payload != null
+                && "bidder2".equals(payload.componentName())))).willReturn(true);
+        given(userFpdActivityMask.maskUser(any(), anyBoolean(), anyBoolean()))
+                .willAnswer(invocation -> User.builder().id("maskedUser").build());
+        given(userFpdActivityMask.maskDevice(any(), anyBoolean(), anyBoolean()))
+                .willAnswer(invocation -> Device.builder().ip("maskedDevice").build());
+
+        final User user = User.builder().id("originalUser").build();
+        final Device device = Device.builder().ip("originalDevice").build();
+
+        // when
+        final List<BidderPrivacyResult> result = target.enforce(
+                        givenAuctionContext(),
+                        bidderAliases,
+                        List.of(givenBidderPrivacyResult("bidder1", user, device),
+                                givenBidderPrivacyResult("bidder2", user, device)))
+                .result();
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(1).getUser()).isNotSameAs(result.get(0).getUser());
+        assertThat(result.get(1).getDevice()).isNotSameAs(result.get(0).getDevice());
+        verify(userFpdActivityMask, times(2)).maskUser(any(), anyBoolean(), anyBoolean());
+        verify(userFpdActivityMask, times(2)).maskDevice(any(), anyBoolean(), anyBoolean());
+    }
+
+    private static BidderPrivacyResult givenBidderPrivacyResult(String bidder, User user, Device device) {
+        return BidderPrivacyResult.builder()
+                .requestBidder(bidder)
+                .user(user)
+                .device(device)
+                .build();
+    }
+
     private AuctionContext givenAuctionContext() {
         return AuctionContext.builder()
                 .bidRequest(BidRequest.builder().build())
@@ -0,0 +1,78 @@
+package org.prebid.server.auction.privacy.enforcement;
+
+import com.iab.openrtb.request.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MaskingResultsTest {
+
+    private final MaskingResults<User> target = new MaskingResults<>();
+
+    @Test
+    public void maskShouldReuseResultOfSameOriginalAndDecision() {
+        // given
+        final User user = User.builder().id("id").build();
+        final AtomicInteger maskings = new AtomicInteger();
+
+        // when
+        final User first = target.mask(user, "decision", original -> givenMaskedUser(maskings));
+        final User second = target.mask(user, "decision", original -> givenMaskedUser(maskings));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(maskings).hasValue(1);
+    }
+
+    @Test
+    public void maskShouldNotReuseResultOfDifferentDecision() {
+        // given
+        final User user = User.builder().id("id").build();
+        final AtomicInteger maskings = new AtomicInteger();
+
+        // when
+        target.mask(user, "decision", original -> givenMaskedUser(maskings));
+        target.mask(user, "anotherDecision", original -> givenMaskedUser(maskings));
+
+        // then
+        assertThat(maskings).hasValue(2);
+    }
+
+    @Test
+    public void maskShouldNotReuseResultOfEqualButDifferentOriginal() {
+        // given
+        final AtomicInteger maskings = new AtomicInteger();
+
+        // when
+        target.mask(User.builder().id("id").build(), "decision", original -> givenMaskedUser(maskings));
+        target.mask(User.builder().id("id").build(), "decision", original -> givenMaskedUser(maskings));
+
+        // then
+        assertThat(maskings).hasValue(2);
+    }
+
+    @Test
+    public void maskShouldReuseNullResult() {
+        // given
+        final User user = User.builder().id("id").build();
+        final AtomicInteger maskings = new AtomicInteger();
+
+        // when
+        target.mask(user, "decision", original -> {
+            maskings.incrementAndGet();
+            return null;
+        });
+        final User result = target.mask(user, "decision", original -> givenMaskedUser(maskings));
+
+        // then
+        assertThat(result).isNull();
+        assertThat(maskings).hasValue(1);
+    }
+
+    private static User givenMaskedUser(AtomicInteger maskings) {
+        maskings.incrementAndGet();
+        return User.builder().build();
+    }
+}
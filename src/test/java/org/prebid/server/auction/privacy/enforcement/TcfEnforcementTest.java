@@ -400,6 +400,40 @@ public class TcfEnforcementTest {
                         .build());
     }
 
+    @Test
+    public void enforceShouldMaskSameUserAndDeviceOnceForBiddersWithSameRestrictions() {
+        // give
+        given(userFpdTcfMask.maskUser(any(), eq(true), eq(true), eq(singleton("eidException"))))
+                .willAnswer(invocation -> User.builder().id("maskedUser").build());
+        given(userFpdTcfMask.maskDevice(any(), eq(true), eq(true), eq(true)))
+                .willAnswer(invocation -> Device.builder().ip("maskedDevice").build());
+
+        givenPrivacyEnforcementActions(Map.of(
+                "bidder0", givenEnforcementAction(),
+                "bidder1", givenEnforcementAction(),
+                "bidder2", givenEnforcementAction(PrivacyEnforcementAction::setBlockAnalyticsReport)));
+
+        final User user = givenUserWithPrivacyData();
+        final Device device = givenDeviceWithPrivacyData();
+        final AuctionContext context = givenAuctionContext(device);
+        final List<BidderPrivacyResult> initialResults = List.of(
+                givenBidderPrivacyResult("bidder0", user, device),
+                givenBidderPrivacyResult("bidder1", user, device),
+                givenBidderPrivacyResult("bidder2", user, device));
+
+        // when
+        final List<BidderPrivacyResult> result = target.enforce(context, aliases, initialResults).result();
+
+        // then
+        assertThat(result).extracting(BidderPrivacyResult::getUser)
+                .containsOnly(User.builder().id("maskedUser").build())
+                .allSatisfy(maskedUser -> assertThat(maskedUser).isSameAs(result.getFirst().getUser()));
+        assertThat(result).extracting(BidderPrivacyResult::getDevice)
+                .allSatisfy(maskedDevice -> assertThat(maskedDevice).isSameAs(result.getFirst().getDevice()));
+        verify(userFpdTcfMask).maskUser(same(user), eq(true), eq(true), eq(singleton("eidException")));
+        verify(userFpdTcfMask).maskDevice(same(device), eq(true), eq(true), eq(true));
+    }
+
     private void givenPrivacyEnforcementActions(Map<String, PrivacyEnforcementAction> actions) {
         given(tcfDefinerService.resultForBidderNames(any(), any(), any(), any()))
                 .willReturn(Future.succeededFuture(TcfResponse.of(null, actions, null)));
@@ -14,6 +14,7 @@ import com.iab.openrtb.request.Site;
 import com.iab.openrtb.request.Source;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.net.impl.SocketAddressImpl;
 import io.vertx.ext.web.RequestBody;
@@ -59,6 +60,8 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidData;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidDataEidPermissions;
 import org.prebid.server.settings.model.Account;
 
+import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -77,6 +80,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.prebid.server.assertion.FutureAssertion.assertThat;
 
@@ -264,7 +268,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 geoLocationServiceWrapper,
                 bidAdjustmentsEnricher);
 
-        given(requestBody.asString()).willReturn("body");
+        given(requestBody.buffer()).willReturn(Buffer.buffer("body"));
 
         // when
         final Future<?> future = target.parseRequest(routingContext, 0L);
@@ -279,7 +283,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
     @Test
     public void shouldReturnFailedFutureIfRequestBodyCouldNotBeParsed() {
         // given
-        given(requestBody.asString()).willReturn("body");
+        given(requestBody.buffer()).willReturn(Buffer.buffer("body"));
 
         // when
         final Future<?> future = target.parseRequest(routingContext, 0L);
@@ -495,7 +499,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .putObject("data")
                 .set("eidpermissions", eidPermissionNode);
 
-        given(requestBody.asString()).willReturn(requestNode.toString());
+        given(requestBody.buffer()).willReturn(Buffer.buffer(requestNode.toString()));
 
         // when
         final Future<?> result = target.parseRequest(routingContext, 0L);
@@ -531,7 +535,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .putArray("eidpermissions");
         arrayNode.add(eidPermissionNode);
 
-        given(requestBody.asString()).willReturn(requestNode.toString());
+        given(requestBody.buffer()).willReturn(Buffer.buffer(requestNode.toString()));
 
         // when
         final Future<?> result = target.parseRequest(routingContext, 0L);
@@ -565,9 +569,10 @@ public class AuctionRequestFactoryTest extends VertxTest {
     }
 
     @Test
-    public void shouldCallOrtbFieldsResolver() {
+    public void shouldCallOrtbFieldsResolver() throws IOException {
         // given
         givenValidBidRequest();
+        given(ortbTypesResolver.isNormalizationRequired(any())).willReturn(true);
 
         // when
         target.parseRequest(routingContext, 0L).result();
@@ -576,6 +581,52 @@ public class AuctionRequestFactoryTest extends VertxTest {
         verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any());
     }
 
+    @Test
+    public void shouldNotCallOrtbFieldsResolverIfNormalizationIsNotRequired() throws IOException {
+        // given
+        givenValidBidRequest();
+        given(ortbTypesResolver.isNormalizationRequired(any())).willReturn(false);
+
+        // when
+        final Future<AuctionContext> result = target.parseRequest(routingContext, 0L);
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verify(ortbTypesResolver, never()).normalizeBidRequest(any(), any(), any());
+    }
+
+    @Test
+    public void parseRequestShouldDecodeFloatWithTrailingZeroWhenNormalizationIsNotRequired() throws IOException {
+        // given
+        givenValidBidRequest();
+        given(requestBody.buffer()).willReturn(Buffer.buffer("{\"imp\":[{\"id\":\"impId\",\"bidfloor\":1.10}]}"));
+        given(ortbTypesResolver.isNormalizationRequired(any())).willReturn(false);
+
+        // when
+        target.parseRequest(routingContext, 0L);
+
+        // then
+        final ArgumentCaptor<BidRequest> captor = ArgumentCaptor.forClass(BidRequest.class);
+        verify(ortb2RequestFactory).enrichAuctionContext(any(), any(), captor.capture(), anyLong());
+        assertThat(captor.getValue().getImp()).extracting(Imp::getBidfloor).containsExactly(new BigDecimal("1.1"));
+    }
+
+    @Test
+    public void parseRequestShouldDecodeFloatWithTrailingZeroWhenNormalizationIsRequired() throws IOException {
+        // given
+        givenValidBidRequest();
+        given(requestBody.buffer()).willReturn(Buffer.buffer("{\"imp\":[{\"id\":\"impId\",\"bidfloor\":1.10}]}"));
+        given(ortbTypesResolver.isNormalizationRequired(any())).willReturn(true);
+
+        // when
+        target.parseRequest(routingContext, 0L);
+
+        // then
+        final ArgumentCaptor<BidRequest> captor = ArgumentCaptor.forClass(BidRequest.class);
+        verify(ortb2RequestFactory).enrichAuctionContext(any(), any(), captor.capture(), anyLong());
+        assertThat(captor.getValue().getImp()).extracting(Imp::getBidfloor).containsExactly(new BigDecimal("1.1"));
+    }
+
     @Test
     public void shouldReturnFailedFutureIfOrtb2RequestFactoryReturnedFailedFuture() {
         // given
@@ -835,7 +886,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
 
     private void givenBidRequest(BidRequest bidRequest) {
         try {
-            given(requestBody.asString()).willReturn(mapper.writeValueAsString(bidRequest));
+            given(requestBody.buffer()).willReturn(Buffer.buffer(mapper.writeValueAsString(bidRequest)));
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
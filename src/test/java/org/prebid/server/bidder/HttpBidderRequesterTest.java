@@ -35,6 +35,7 @@ import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
@@ -99,6 +100,8 @@ public class HttpBidderRequesterTest extends VertxTest {
     private RoutingContext routingContext;
     @Mock(strictness = LENIENT)
     private HttpServerRequest httpServerRequest;
+    @Mock
+    private Metrics metrics;
 
     private HttpBidderRequester target;
 
@@ -119,7 +122,7 @@ public class HttpBidderRequesterTest extends VertxTest {
         expiredTimeout = timeoutFactory.create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
 
         target = new HttpBidderRequester(
-                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, 0.0);
+                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, metrics, 0.0);
         given(bidder.makeBidderResponse(any(BidderCall.class), any(BidRequest.class))).willCallRealMethod();
     }
 
@@ -375,6 +378,37 @@ public class HttpBidderRequesterTest extends VertxTest {
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
     }
 
+    @Test
+    public void shouldPassResponseBodyToBidderAndUpdateAllocatedBytesMetric() {
+        // given
+        givenSuccessfulBidderMakeHttpRequests();
+
+        given(bidder.makeBidderResponse(any(), any())).willReturn(CompositeBidderResponse.empty());
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        target.requestBids(
+                bidder,
+                bidderRequest,
+                bidRejectionTracker,
+                timeout,
+                CaseInsensitiveMultiMap.empty(),
+                bidderAliases,
+                false);
+
+        // then
+        final ArgumentCaptor<BidderCall<BidRequest>> bidderCallCaptor = ArgumentCaptor.forClass(BidderCall.class);
+        verify(bidder).makeBidderResponse(bidderCallCaptor.capture(), any());
+        assertThat(bidderCallCaptor.getValue().getResponse().getBodyAsBuffer().toString())
+                .isEqualTo("responseBody");
+
+        verify(metrics).updateAdapterResponseAllocatedBytes(eq("bidder"), anyLong());
+    }
+
     @Test
     public void shouldReturnBidsCreatedByMakeBids() {
         // given
@@ -558,6 +592,7 @@ public class HttpBidderRequesterTest extends VertxTest {
                 bidderErrorNotifier,
                 requestEnricher,
                 jacksonMapper,
+                metrics,
                 0.0);
 
         final BidRequest bidRequest = bidRequestWithDeals("deal1", "deal2");
@@ -0,0 +1,65 @@
+package org.prebid.server.currency;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CurrencyRatesMatrixTest {
+
+    private static final String USD = "USD";
+    private static final String GBP = "GBP";
+    private static final String EUR = "EUR";
+    private static final String AUD = "AUD";
+
+    @Test
+    public void ofShouldReturnNullForEmptyRates() {
+        // when and then
+        assertThat(CurrencyRatesMatrix.of(null)).isNull();
+        assertThat(CurrencyRatesMatrix.of(emptyMap())).isNull();
+    }
+
+    @Test
+    public void rateShouldResolveStraightReverseIntermediateAndCrossRates() {
+        // given
+        final Map<String, BigDecimal> usdRates = new LinkedHashMap<>();
+        usdRates.put(AUD, BigDecimal.valueOf(1.2));
+        usdRates.put(GBP, BigDecimal.valueOf(2));
+        final Map<String, Map<String, BigDecimal>> rates = new LinkedHashMap<>();
+        rates.put(USD, usdRates);
+        rates.put(EUR, singletonMap(AUD, BigDecimal.valueOf(1.5)));
+
+        // when
+        final CurrencyRatesMatrix matrix = CurrencyRatesMatrix.of(rates);
+
+        // then
+        assertThat(matrix.rate(USD, AUD)).isEqualByComparingTo("1.2");
+        assertThat(matrix.rate(AUD, USD)).isEqualByComparingTo("0.833");
+        assertThat(matrix.rate(EUR, USD)).isEqualByComparingTo("1.25");
+        assertThat(matrix.rate(GBP, AUD)).isEqualByComparingTo("0.6");
+        assertThat(matrix.getRates()).isSameAs(rates);
+    }
+
+    @Test
+    public void rateShouldReturnNullForUnknownOrUnresolvableCurrencies() {
+        // given
+        final Map<String, Map<String, BigDecimal>> rates = new HashMap<>();
+        rates.put(USD, singletonMap(EUR, BigDecimal.valueOf(0.9)));
+        rates.put(GBP, null);
+
+        // when
+        final CurrencyRatesMatrix matrix = CurrencyRatesMatrix.of(rates);
+
+        // then
+        assertThat(matrix.rate(USD, AUD)).isNull();
+        assertThat(matrix.rate(AUD, USD)).isNull();
+        assertThat(matrix.rate(GBP, EUR)).isNull();
+        assertThat(matrix.rate(EUR, USD)).isEqualByComparingTo("1.111");
+    }
+}
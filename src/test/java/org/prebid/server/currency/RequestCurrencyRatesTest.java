@@ -0,0 +1,60 @@
+package org.prebid.server.currency;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestCurrencyRatesTest {
+
+    private static final String USD = "USD";
+    private static final String GBP = "GBP";
+    private static final String EUR = "EUR";
+    private static final String AUD = "AUD";
+
+    @Test
+    public void rateShouldResolveStraightReverseIntermediateAndCrossRates() {
+        // given
+        final Map<String, BigDecimal> usdRates = new LinkedHashMap<>();
+        usdRates.put(AUD, BigDecimal.valueOf(1.2));
+        usdRates.put(GBP, BigDecimal.valueOf(2));
+        final Map<String, Map<String, BigDecimal>> rates = new LinkedHashMap<>();
+        rates.put(USD, usdRates);
+        rates.put(EUR, singletonMap(AUD, BigDecimal.valueOf(1.5)));
+
+        // when
+        final RequestCurrencyRates requestRates = new RequestCurrencyRates(rates);
+
+        // then
+        assertThat(requestRates.rate(USD, AUD)).isEqualByComparingTo("1.2");
+        assertThat(requestRates.rate(AUD, USD)).isEqualByComparingTo("0.833");
+        assertThat(requestRates.rate(EUR, USD)).isEqualByComparingTo("1.25");
+        assertThat(requestRates.rate(GBP, AUD)).isEqualByComparingTo("0.6");
+        assertThat(requestRates.rate(USD, EUR)).isEqualByComparingTo(CurrencyRatesMatrix.of(rates).rate(USD, EUR));
+    }
+
+    @Test
+    public void rateShouldRememberResolvedAndUnresolvablePairs() {
+        // given
+        final Map<String, Map<String, BigDecimal>> rates = new HashMap<>();
+        rates.put(USD, new HashMap<>(singletonMap(EUR, BigDecimal.valueOf(0.9))));
+
+        final RequestCurrencyRates requestRates = new RequestCurrencyRates(rates);
+        final BigDecimal usdToEur = requestRates.rate(USD, EUR);
+        final BigDecimal usdToAud = requestRates.rate(USD, AUD);
+
+        rates.get(USD).put(EUR, BigDecimal.ONE);
+        rates.get(USD).put(AUD, BigDecimal.ONE);
+
+        // when and then
+        assertThat(usdToEur).isEqualByComparingTo("0.9");
+        assertThat(usdToAud).isNull();
+        assertThat(requestRates.rate(USD, EUR)).isSameAs(usdToEur);
+        assertThat(requestRates.rate(USD, AUD)).isNull();
+    }
+}
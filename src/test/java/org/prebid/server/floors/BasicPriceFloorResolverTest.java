@@ -1145,6 +1145,21 @@ public class BasicPriceFloorResolverTest extends VertxTest {
                 .isEqualTo(BigDecimal.TEN);
     }
 
+    @Test
+    public void resolveShouldReturnPriceFloorForBidderIgnoringCase() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder().build();
+
+        // when and then
+        assertThat(target.resolve(bidRequest,
+                givenRules(PriceFloorModelGroup.builder()
+                        .schema(PriceFloorSchema.of("|", singletonList(PriceFloorField.bidder)))
+                        .value("BidderA", BigDecimal.TEN)
+                        .build()),
+                givenImp(identity()), "bIDDERa", null).getFloorValue())
+                .isEqualTo(BigDecimal.TEN);
+    }
+
     @Test
     public void resolveShouldReturnNullWhenPriceFloorValueIsNull() {
         // given
@@ -1,5 +1,6 @@
 package org.prebid.server.geolocation;
 
+import com.maxmind.db.Network;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
 import com.maxmind.geoip2.model.CityResponse;
@@ -8,14 +9,17 @@ import com.maxmind.geoip2.record.Continent;
 import com.maxmind.geoip2.record.Country;
 import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Subdivision;
+import com.maxmind.geoip2.record.Traits;
 import io.vertx.core.Future;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.mockito.internal.util.reflection.ReflectionMemberAccessor;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.metric.Metrics;
 
 import java.io.IOException;
+import java.net.InetAddress;
 
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -28,11 +32,13 @@ public class MaxMindGeoLocationServiceTest {
 
     private static final String TEST_IP = "80.215.195.122";
 
+    private final Metrics metrics = Mockito.mock(Metrics.class);
+
     private MaxMindGeoLocationService maxMindGeoLocationService;
 
     @BeforeEach
     public void setUp() {
-        maxMindGeoLocationService = new MaxMindGeoLocationService();
+        maxMindGeoLocationService = new MaxMindGeoLocationService(false, 0, metrics);
     }
 
     @Test
@@ -127,4 +133,76 @@ public class MaxMindGeoLocationServiceTest {
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isEqualTo(GeoInfo.builder().vendor("maxmind").build());
     }
+
+    @Test
+    public void lookupShouldReuseResultForAddressesOfSameNetworkWhenCacheEnabled() throws IOException,
+            GeoIp2Exception, NoSuchFieldException, IllegalAccessException {
+
+        // given
+        maxMindGeoLocationService = new MaxMindGeoLocationService(false, 100, metrics);
+
+        final Country country = Mockito.mock(Country.class);
+        Mockito.when(country.getIsoCode()).thenReturn("FR");
+        final CityResponse cityResponse = givenCityResponse(country, new Network(InetAddress.getByName(TEST_IP), 16));
+
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        given(databaseReader.city(any())).willReturn(cityResponse);
+        givenDatabaseReader(databaseReader);
+
+        // when
+        final Future<GeoInfo> first = maxMindGeoLocationService.lookup("80.215.195.122", null);
+        final Future<GeoInfo> second = maxMindGeoLocationService.lookup("80.215.195.1", null);
+        final Future<GeoInfo> otherNetwork = maxMindGeoLocationService.lookup("80.215.196.1", null);
+
+        // then
+        assertThat(first.result().getCountry()).isEqualTo("fr");
+        assertThat(second.result()).isSameAs(first.result());
+        assertThat(otherNetwork.result()).isNotSameAs(first.result());
+        Mockito.verify(databaseReader, Mockito.times(2)).city(any());
+        Mockito.verify(metrics).updateGeoLocationCacheMetric(true);
+        Mockito.verify(metrics, Mockito.times(2)).updateGeoLocationCacheMetric(false);
+    }
+
+    @Test
+    public void lookupShouldNotCacheResultWhenDatabaseNetworkIsNarrowerThanCachedOne() throws IOException,
+            GeoIp2Exception, NoSuchFieldException, IllegalAccessException {
+
+        // given
+        maxMindGeoLocationService = new MaxMindGeoLocationService(false, 100, metrics);
+
+        final CityResponse cityResponse = givenCityResponse(
+                Mockito.mock(Country.class),
+                new Network(InetAddress.getByName(TEST_IP), 28));
+
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        given(databaseReader.city(any())).willReturn(cityResponse);
+        givenDatabaseReader(databaseReader);
+
+        // when
+        maxMindGeoLocationService.lookup(TEST_IP, null);
+        maxMindGeoLocationService.lookup(TEST_IP, null);
+
+        // then
+        Mockito.verify(databaseReader, Mockito.times(2)).city(any());
+        Mockito.verify(metrics, Mockito.times(2)).updateGeoLocationCacheMetric(false);
+    }
+
+    private static CityResponse givenCityResponse(Country country, Network network) {
+        final Traits traits = Mockito.mock(Traits.class);
+        Mockito.when(traits.getNetwork()).thenReturn(network);
+
+        final CityResponse cityResponse = Mockito.mock(CityResponse.class);
+        Mockito.when(cityResponse.getCountry()).thenReturn(country);
+        Mockito.when(cityResponse.getTraits()).thenReturn(traits);
+        return cityResponse;
+    }
+
+    private void givenDatabaseReader(DatabaseReader databaseReader) throws NoSuchFieldException,
+            IllegalAccessException {
+
+        new ReflectionMemberAccessor().set(
+                maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
+                maxMindGeoLocationService,
+                databaseReader);
+    }
 }
@@ -311,6 +311,7 @@ public class HookStageExecutorTest extends VertxTest {
                                             assertThat(hookOutcome.getStatus()).isEqualTo(ExecutionStatus.success);
                                             assertThat(hookOutcome.getAction()).isEqualTo(ExecutionAction.update);
                                             assertThat(hookOutcome.getExecutionTime()).isBetween(0L, 20L);
+                                            assertThat(hookOutcome.isUpdateConflict()).isFalse();
                                         });
 
                                         assertThat(group0Hooks.get(1)).satisfies(hookOutcome -> {
@@ -319,6 +320,7 @@ public class HookStageExecutorTest extends VertxTest {
                                             assertThat(hookOutcome.getStatus()).isEqualTo(ExecutionStatus.success);
                                             assertThat(hookOutcome.getAction()).isEqualTo(ExecutionAction.update);
                                             assertThat(hookOutcome.getExecutionTime()).isBetween(80L, 100L);
+                                            assertThat(hookOutcome.isUpdateConflict()).isTrue();
                                         });
 
                                         final List<HookExecutionOutcome> group1Hooks = groups.get(1).getHooks();
@@ -330,6 +332,7 @@ public class HookStageExecutorTest extends VertxTest {
                                             assertThat(hookOutcome.getStatus()).isEqualTo(ExecutionStatus.success);
                                             assertThat(hookOutcome.getAction()).isEqualTo(ExecutionAction.update);
                                             assertThat(hookOutcome.getExecutionTime()).isBetween(0L, 20L);
+                                            assertThat(hookOutcome.isUpdateConflict()).isFalse();
                                         });
 
                                         assertThat(group1Hooks.get(1)).satisfies(hookOutcome -> {
@@ -338,6 +341,7 @@ public class HookStageExecutorTest extends VertxTest {
                                             assertThat(hookOutcome.getStatus()).isEqualTo(ExecutionStatus.success);
                                             assertThat(hookOutcome.getAction()).isEqualTo(ExecutionAction.update);
                                             assertThat(hookOutcome.getExecutionTime()).isBetween(40L, 60L);
+                                            assertThat(hookOutcome.isUpdateConflict()).isTrue();
                                         });
                                     }));
 
@@ -350,6 +354,76 @@ public class HookStageExecutorTest extends VertxTest {
         }));
     }
 
+    @Test
+    public void shouldReportUpdateConflictOnlyForHooksUpdatingSamePayloadProperties(VertxTestContext context) {
+        // given
+        givenRawAuctionRequestHook(
+                "module-alpha",
+                "hook-a",
+                immediateHook(InvocationResultUtils.succeeded(payload -> AuctionRequestPayloadImpl.of(
+                        payload.bidRequest().toBuilder().site(Site.builder().id("alpha").build()).build()))));
+
+        givenRawAuctionRequestHook(
+                "module-beta",
+                "hook-a",
+                immediateHook(InvocationResultUtils.succeeded(payload -> AuctionRequestPayloadImpl.of(
+                        payload.bidRequest().toBuilder().user(User.builder().id("beta").build()).build()))));
+
+        givenRawAuctionRequestHook(
+                "module-beta",
+                "hook-b",
+                immediateHook(InvocationResultUtils.succeeded(payload -> AuctionRequestPayloadImpl.of(
+                        payload.bidRequest().toBuilder().site(Site.builder().id("beta").build()).build()))));
+
+        givenRawAuctionRequestHook(
+                "module-alpha",
+                "hook-b",
+                immediateHook(InvocationResultUtils.succeeded(payload -> AuctionRequestPayloadImpl.of(
+                        payload.bidRequest().toBuilder().site(Site.builder().id("alpha").build()).build()))));
+
+        final HookStageExecutor executor = createExecutor(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(
+                                Stage.raw_auction_request,
+                                execPlanTwoGroupsTwoHooksEach())))));
+
+        final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future = executor.executeRawAuctionRequestStage(
+                AuctionContext.builder()
+                        .bidRequest(BidRequest.builder().build())
+                        .account(Account.empty("accountId"))
+                        .hookExecutionContext(hookExecutionContext)
+                        .debugContext(DebugContext.empty())
+                        .build());
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            assertThat(result.getPayload().bidRequest()).isEqualTo(BidRequest.builder()
+                    .site(Site.builder().id("alpha").build())
+                    .user(User.builder().id("beta").build())
+                    .build());
+
+            assertThat(hookExecutionContext.getStageOutcomes().get(Stage.raw_auction_request))
+                    .singleElement()
+                    .satisfies(stageOutcome -> {
+                        final List<GroupExecutionOutcome> groups = stageOutcome.getGroups();
+                        assertThat(groups).hasSize(2);
+
+                        assertThat(groups.getFirst().getHooks())
+                                .extracting(HookExecutionOutcome::isUpdateConflict)
+                                .containsExactly(false, false);
+                        assertThat(groups.get(1).getHooks())
+                                .extracting(HookExecutionOutcome::isUpdateConflict)
+                                .containsExactly(false, true);
+                    });
+
+            context.completeNow();
+        }));
+    }
+
     @Test
     public void shouldBypassEntrypointHooksWhenNoPlanForEndpoint(VertxTestContext context) {
         // given
@@ -663,7 +737,8 @@ public class HookStageExecutorTest extends VertxTest {
                                             assertThat(hookOutcome.getStatus()).isEqualTo(ExecutionStatus.timeout);
                                             assertThat(hookOutcome.getMessage()).isEqualTo(
                                                     "Timed out while executing action");
-                                            assertThat(hookOutcome.getExecutionTime()).isBetween(200L, 220L);
+                                            // group timeout counts from invocation of the first hook in group
+                                            assertThat(hookOutcome.getExecutionTime()).isBetween(150L, 220L);
                                         });
 
                                         final List<HookExecutionOutcome> group1Hooks = groups.get(1).getHooks();
@@ -683,7 +758,8 @@ public class HookStageExecutorTest extends VertxTest {
                                             assertThat(hookOutcome.getStatus()).isEqualTo(ExecutionStatus.timeout);
                                             assertThat(hookOutcome.getMessage()).isEqualTo(
                                                     "Timed out while executing action");
-                                            assertThat(hookOutcome.getExecutionTime()).isBetween(200L, 220L);
+                                            // group timeout counts from invocation of the first hook in group
+                                            assertThat(hookOutcome.getExecutionTime()).isBetween(150L, 220L);
                                         });
                                     }));
 
@@ -691,6 +767,60 @@ public class HookStageExecutorTest extends VertxTest {
         }));
     }
 
+    @Test
+    public void shouldCountGroupTimeoutFromInvocationOfFirstHook(VertxTestContext context) {
+        // given
+        // hook implementation blocks while being invoked
+        givenEntrypointHook(
+                "module-alpha",
+                "hook-a",
+                (payload, invocationContext) -> {
+                    try {
+                        Thread.sleep(150L);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return Future.succeededFuture(InvocationResultUtils.noAction());
+                });
+
+        // hook implementation completes within timeout counted from its own invocation only
+        givenEntrypointHook(
+                "module-beta",
+                "hook-a",
+                delayedHook(InvocationResultUtils.noAction(), 100));
+
+        final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
+
+        final HookStageExecutor executor = createExecutor(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(
+                                Stage.entrypoint,
+                                StageExecutionPlan.of(singletonList(ExecutionGroup.of(
+                                        200L,
+                                        asList(
+                                                HookId.of("module-alpha", "hook-a"),
+                                                HookId.of("module-beta", "hook-a"))))))))));
+
+        // when
+        final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
+                CaseInsensitiveMultiMap.empty(),
+                CaseInsensitiveMultiMap.empty(),
+                "body",
+                hookExecutionContext);
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            assertThat(hookExecutionContext.getStageOutcomes().get(Stage.entrypoint))
+                    .singleElement()
+                    .satisfies(stageOutcome -> assertThat(stageOutcome.getGroups().getFirst().getHooks())
+                            .extracting(HookExecutionOutcome::getStatus)
+                            .containsExactly(ExecutionStatus.success, ExecutionStatus.timeout));
+
+            context.completeNow();
+        }));
+    }
+
     @Test
     public void shouldExecuteEntrypointHooksHonoringStatusAndAction(VertxTestContext context) {
         // given
@@ -95,4 +95,18 @@ public class JsonMergerTest extends VertxTest {
         assertThat(result).isEqualTo(site);
     }
 
+    @Test
+    public void mergeShouldNotModifyStoredDataNode() {
+        // given
+        final Site site = Site.builder().page("testPage").build();
+        final ObjectNode storedData = mapper.valueToTree(Site.builder().page("storedPage").domain("domain").build());
+        final ObjectNode storedDataCopy = storedData.deepCopy();
+
+        // when
+        final Site result = target.merge(site, storedData, "id", Site.class);
+
+        // then
+        assertThat(result).isEqualTo(Site.builder().page("testPage").domain("domain").build());
+        assertThat(storedData).isEqualTo(storedDataCopy);
+    }
 }
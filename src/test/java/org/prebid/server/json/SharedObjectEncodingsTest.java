@@ -0,0 +1,109 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Publisher;
+import com.iab.openrtb.request.Site;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.proto.openrtb.ext.request.ExtDevice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SharedObjectEncodingsTest {
+
+    private final JacksonMapper plainMapper = new JacksonMapper(ObjectMapperProvider.mapper());
+
+    private final JacksonMapper target = new JacksonMapper(ObjectMapperProvider.mapper());
+
+    @Test
+    public void applyShouldEncodeRequestsSharingObjectsSameAsWithoutEncodings() {
+        // given
+        final Site site = Site.builder().domain("example.com").publisher(Publisher.builder().id("pub").build()).build();
+        final Device device = Device.builder().ua("ua").ip("1.2.3.4").build();
+        final List<BidRequest> bidRequests = List.of(
+                givenBidRequest("imp1", site, device),
+                givenBidRequest("imp2", site, device),
+                givenBidRequest("imp3", site, device));
+
+        final SharedObjectEncodings sharedObjectEncodings = new SharedObjectEncodings();
+
+        // when and then
+        for (BidRequest bidRequest : bidRequests) {
+            final String expected = plainMapper.encodeToString(bidRequest);
+
+            assertThat(sharedObjectEncodings.apply(() -> target.encodeToBytes(bidRequest)))
+                    .asString(StandardCharsets.UTF_8)
+                    .isEqualTo(expected);
+            assertThat(sharedObjectEncodings.apply(() -> target.encodeToString(bidRequest)))
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void applyShouldEncodeDifferentObjectsIndependently() {
+        // given
+        final BidRequest first = givenBidRequest("imp", Site.builder().domain("first.com").build(), null);
+        final BidRequest second = givenBidRequest("imp", Site.builder().domain("second.com").build(), null);
+
+        final SharedObjectEncodings sharedObjectEncodings = new SharedObjectEncodings();
+        sharedObjectEncodings.apply(() -> target.encodeToString(first));
+        sharedObjectEncodings.apply(() -> target.encodeToString(first));
+
+        // when
+        final String result = sharedObjectEncodings.apply(() -> target.encodeToString(second));
+
+        // then
+        assertThat(result).isEqualTo("{\"imp\":[{\"id\":\"imp\"}],\"site\":{\"domain\":\"second.com\"}}");
+    }
+
+    @Test
+    public void encodeShouldNotReuseEncodingsOutsideOfAuction() {
+        // given
+        final Device device = Device.builder().ext(ExtDevice.empty()).build();
+        final BidRequest bidRequest = givenBidRequest("imp", null, device);
+
+        final SharedObjectEncodings sharedObjectEncodings = new SharedObjectEncodings();
+        sharedObjectEncodings.apply(() -> target.encodeToString(bidRequest));
+        sharedObjectEncodings.apply(() -> target.encodeToString(bidRequest));
+
+        device.getExt().addProperty("property", TextNode.valueOf("value"));
+
+        // when
+        final String result = target.encodeToString(bidRequest);
+
+        // then
+        assertThat(result).isEqualTo(plainMapper.encodeToString(bidRequest)).contains("\"property\":\"value\"");
+    }
+
+    @Test
+    public void applyShouldNotReuseEncodingsOfAnotherAuction() {
+        // given
+        final Device device = Device.builder().ext(ExtDevice.empty()).build();
+        final BidRequest bidRequest = givenBidRequest("imp", null, device);
+
+        final SharedObjectEncodings sharedObjectEncodings = new SharedObjectEncodings();
+        sharedObjectEncodings.apply(() -> target.encodeToString(bidRequest));
+        sharedObjectEncodings.apply(() -> target.encodeToString(bidRequest));
+
+        device.getExt().addProperty("property", TextNode.valueOf("value"));
+
+        // when
+        final String result = new SharedObjectEncodings().apply(() -> target.encodeToString(bidRequest));
+
+        // then
+        assertThat(result).isEqualTo(plainMapper.encodeToString(bidRequest)).contains("\"property\":\"value\"");
+    }
+
+    private static BidRequest givenBidRequest(String impId, Site site, Device device) {
+        return BidRequest.builder()
+                .imp(List.of(Imp.builder().id(impId).build()))
+                .site(site)
+                .device(device)
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class HdrHistogramReservoirTest {
+
+    private final HdrHistogramReservoir target = new HdrHistogramReservoir();
+
+    @Test
+    public void getSnapshotShouldReturnStatisticsOfRecordedValues() {
+        // given
+        for (int i = 1; i <= 100; i++) {
+            target.update(i);
+        }
+
+        // when
+        final Snapshot result = target.getSnapshot();
+
+        // then
+        assertThat(result.size()).isEqualTo(100);
+        assertThat(result.getMin()).isEqualTo(1);
+        assertThat(result.getMax()).isEqualTo(100);
+        assertThat(result.getMean()).isCloseTo(50.5, within(0.5));
+        assertThat(result.getMedian()).isCloseTo(50, within(1.0));
+        assertThat(result.get99thPercentile()).isCloseTo(99, within(1.0));
+        assertThat(result.getValues()).hasSize(100).startsWith(1, 2, 3);
+    }
+
+    @Test
+    public void getSnapshotShouldReturnOnlyValuesRecordedSincePreviousSnapshot() {
+        // given
+        target.update(10);
+        target.getSnapshot();
+        target.update(20);
+
+        // when
+        final Snapshot result = target.getSnapshot();
+
+        // then
+        assertThat(result.size()).isEqualTo(1);
+        assertThat(result.getMin()).isEqualTo(20);
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    public void updateShouldRecordNegativeValueAsZero() {
+        // when
+        target.update(-5);
+
+        // then
+        assertThat(target.size()).isEqualTo(1);
+        assertThat(target.getSnapshot().getMax()).isZero();
+    }
+
+    @Test
+    public void hdrHistogramMetricRegistryShouldCreateTimersBackedByHdrHistogram() {
+        // given
+        final Timer timer = new HdrHistogramMetricRegistry().timer("timer");
+
+        // when
+        timer.update(123, TimeUnit.MILLISECONDS);
+
+        // then
+        assertThat(timer.getCount()).isEqualTo(1);
+        assertThat(timer.getSnapshot().getMax())
+                .isCloseTo(TimeUnit.MILLISECONDS.toNanos(123), within(TimeUnit.MILLISECONDS.toNanos(2)));
+    }
+}
@@ -97,6 +97,25 @@ public class MetricsTest {
         assertThat(metrics.forAdapter(RUBICON)).isSameAs(metrics.forAdapter(RUBICON));
     }
 
+    @Test
+    public void forAdapterShouldReturnSameAdapterMetricsRegardlessOfCase() {
+        assertThat(metrics.forAdapter("rUbIcOn")).isSameAs(metrics.forAdapter(RUBICON));
+    }
+
+    @Test
+    public void removeHttpClientCircuitBreakerGaugeShouldAllowToCreateGaugeAgain() {
+        // given
+        metrics.createHttpClientCircuitBreakerGauge("id", () -> true);
+        metrics.removeHttpClientCircuitBreakerGauge("id");
+
+        // when
+        metrics.createHttpClientCircuitBreakerGauge("id", () -> false);
+
+        // then
+        assertThat(metricRegistry.gauge("circuit-breaker.http.named.id.opened.count", () -> null).getValue())
+                .isEqualTo(0L);
+    }
+
     @Test
     public void forAdapterShouldReturnAdapterMetricsConfiguredWithCounterType() {
         verifyCreatesConfiguredCounterType(
@@ -490,6 +509,15 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("analytics.analyticCode.setuid.badinput").getCount()).isOne();
     }
 
+    @Test
+    public void updateAnalyticDroppedEventsMetricShouldIncrementMetric() {
+        // when
+        metrics.updateAnalyticDroppedEventsMetric(ANALYTIC_CODE);
+
+        // then
+        assertThat(metricRegistry.counter("analytics.analyticCode.dropped").getCount()).isOne();
+    }
+
     @Test
     public void updateFetchWithFetchResultShouldCreateMetricsAsExpected() {
         // when
@@ -946,6 +974,18 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("privacy.tcf.invalid").getCount()).isOne();
     }
 
+    @Test
+    public void updatePrivacyTcfConsentCacheMetricShouldIncrementMetrics() {
+        // when
+        metrics.updatePrivacyTcfConsentCacheMetric(true);
+        metrics.updatePrivacyTcfConsentCacheMetric(true);
+        metrics.updatePrivacyTcfConsentCacheMetric(false);
+
+        // then
+        assertThat(metricRegistry.counter("privacy.tcf.consent-cache.hit").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("privacy.tcf.consent-cache.miss").getCount()).isEqualTo(1);
+    }
+
     @Test
     public void updatePrivacyTcfRequestsMetricShouldIncrementMetric() {
         // when
@@ -1177,6 +1217,30 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("geolocation_fail").getCount()).isOne();
     }
 
+    @Test
+    public void updateGeoLocationCacheMetricShouldIncrementHitOrMissMetric() {
+        // when
+        metrics.updateGeoLocationCacheMetric(true);
+        metrics.updateGeoLocationCacheMetric(false);
+        metrics.updateGeoLocationCacheMetric(false);
+
+        // then
+        assertThat(metricRegistry.counter("geolocation_cache_hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("geolocation_cache_miss").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void updatePublicSuffixListCacheMetricShouldIncrementHitOrMissMetric() {
+        // when
+        metrics.updatePublicSuffixListCacheMetric(true);
+        metrics.updatePublicSuffixListCacheMetric(false);
+        metrics.updatePublicSuffixListCacheMetric(false);
+
+        // then
+        assertThat(metricRegistry.counter("public_suffix_list_cache_hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("public_suffix_list_cache_miss").getCount()).isEqualTo(2);
+    }
+
     @Test
     public void shouldAlwaysIncrementGeoLocationRequestsMetricAndEitherSuccessfulOrFailMetricDependingOnFlag() {
         // when
@@ -1274,6 +1338,15 @@ public class MetricsTest {
         assertThat(metricRegistry.gauge("currency-rates.stale.count", () -> null).getValue()).isEqualTo(1L);
     }
 
+    @Test
+    public void updateHttpClientPoolWaitTimeShouldUpdateTimer() {
+        // when
+        metrics.updateHttpClientPoolWaitTime("https_example_com", 123L);
+
+        // then
+        assertThat(metricRegistry.timer("http-client.pool.https_example_com.wait_time").getCount()).isEqualTo(1);
+    }
+
     @Test
     public void updateSettingsCacheRefreshTimeShouldUpdateTimer() {
         // when
@@ -1305,6 +1378,18 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("settings.cache.account.hit").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void updateSettingsBatchMetricsShouldUpdateHistograms() {
+        // when
+        metrics.updateSettingsBatchMetrics(MetricName.stored_request, 3, 7);
+
+        // then
+        assertThat(metricRegistry.histogram("settings.cache.stored-request.batch.requests").getCount())
+                .isEqualTo(1);
+        assertThat(metricRegistry.histogram("settings.cache.stored-request.batch.ids").getSnapshot().getMax())
+                .isEqualTo(7);
+    }
+
     @Test
     public void updateHooksMetricsShouldIncrementMetrics() {
         // when
@@ -1408,6 +1493,32 @@ public class MetricsTest {
                 .isEqualTo(1);
     }
 
+    @Test
+    public void updateHooksMetricsShouldUpdateStageDurationTimerForCalledHooksOnly() {
+        // when
+        metrics.updateHooksMetrics(
+                "module1", Stage.entrypoint, "hook1", ExecutionStatus.success, 5L, ExecutionAction.update);
+        metrics.updateHooksMetrics(
+                "module1", Stage.entrypoint, "hook2", ExecutionStatus.timeout, 7L, null);
+        metrics.updateHooksMetrics(
+                "module1", Stage.entrypoint, "hook3", ExecutionStatus.success, 0L, ExecutionAction.no_invocation);
+
+        // then
+        assertThat(metricRegistry.timer("modules.module.module1.stage.entrypoint.duration").getCount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void updateHooksUpdateConflictMetricShouldIncrementMetric() {
+        // when
+        metrics.updateHooksUpdateConflictMetric("module1", Stage.processed_auction_request, "hook1");
+
+        // then
+        assertThat(metricRegistry.counter("modules.module.module1.stage.procauction.hook.hook1.update-conflict")
+                .getCount())
+                .isEqualTo(1);
+    }
+
     @Test
     public void updateAccountHooksMetricsShouldIncrementMetricsIfVerbosityIsDetailed() {
         // given
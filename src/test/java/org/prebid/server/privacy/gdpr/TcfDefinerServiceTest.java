@@ -46,6 +46,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.prebid.server.assertion.FutureAssertion.assertThat;
@@ -86,7 +87,8 @@ public class TcfDefinerServiceTest {
                 bidderCatalog,
                 ipAddressHelper,
                 metrics,
-                0.01);
+                0.01,
+                0);
     }
 
     @Test
@@ -101,7 +103,8 @@ public class TcfDefinerServiceTest {
                 bidderCatalog,
                 ipAddressHelper,
                 metrics,
-                0.01);
+                0.01,
+                0);
 
         // when
         final Future<TcfContext> result = target.resolveTcfContext(
@@ -180,7 +183,8 @@ public class TcfDefinerServiceTest {
                 bidderCatalog,
                 ipAddressHelper,
                 metrics,
-                0.01);
+                0.01,
+                0);
 
         final AccountGdprConfig accountGdprConfig = AccountGdprConfig.builder()
                 .enabledForRequestType(EnabledForRequestType.of(true, true, true, true, true))
@@ -213,7 +217,8 @@ public class TcfDefinerServiceTest {
                 bidderCatalog,
                 ipAddressHelper,
                 metrics,
-                0.01);
+                0.01,
+                0);
 
         final String vendorConsent = "BOEFEAyOEFEAyAHABDENAI4AAAB9vABAASA";
 
@@ -246,7 +251,8 @@ public class TcfDefinerServiceTest {
                 bidderCatalog,
                 ipAddressHelper,
                 metrics,
-                0.01);
+                0.01,
+                0);
 
         final String vendorConsent = TCStringEncoder.newBuilder()
                 .version(2)
@@ -290,7 +296,8 @@ public class TcfDefinerServiceTest {
                 bidderCatalog,
                 ipAddressHelper,
                 metrics,
-                0.01);
+                0.01,
+                0);
 
         final String vendorConsent = "CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA";
 
@@ -316,6 +323,42 @@ public class TcfDefinerServiceTest {
         verify(metrics).updatePrivacyTcfGeoMetric(2, null);
     }
 
+    @Test
+    public void resolveTcfContextShouldReuseDecodedConsentString() {
+        // given
+        final GdprConfig gdprConfig = GdprConfig.builder()
+                .enabled(true)
+                .consentStringMeansInScope(true)
+                .build();
+
+        target = new TcfDefinerService(
+                gdprConfig,
+                singleton(EEA_COUNTRY),
+                tcf2Service,
+                geoLocationServiceWrapper,
+                bidderCatalog,
+                ipAddressHelper,
+                metrics,
+                0.01,
+                1000);
+
+        final Privacy privacy = Privacy.builder()
+                .consentString("CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA")
+                .build();
+
+        // when
+        final Future<TcfContext> first = target.resolveTcfContext(privacy, null, null, null, null, null);
+        final Future<TcfContext> second = target.resolveTcfContext(privacy, null, null, null, null, null);
+
+        // then
+        assertThat(second.result().getConsent()).isSameAs(first.result().getConsent());
+        assertThat(second.result().isConsentValid()).isTrue();
+
+        verify(metrics).updatePrivacyTcfConsentCacheMetric(false);
+        verify(metrics).updatePrivacyTcfConsentCacheMetric(true);
+        verify(metrics, times(2)).updatePrivacyTcfRequestsMetric(2);
+    }
+
     @Test
     public void resolveTcfContextShouldUseEeaListFromAccountConfig() {
         // given
@@ -332,7 +375,8 @@ public class TcfDefinerServiceTest {
                 bidderCatalog,
                 ipAddressHelper,
                 metrics,
-                0.01);
+                0.01,
+                0);
 
         final String vendorConsent = "CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA";
 
@@ -452,7 +496,8 @@ public class TcfDefinerServiceTest {
                 bidderCatalog,
                 ipAddressHelper,
                 metrics,
-                0.01);
+                0.01,
+                0);
 
         given(geoLocationServiceWrapper.doLookup(anyString(), any(), any())).willReturn(Future.failedFuture("Bad ip"));
 
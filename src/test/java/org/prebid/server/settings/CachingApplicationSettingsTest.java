@@ -1,11 +1,17 @@
 package org.prebid.server.settings;
 
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
@@ -14,6 +20,7 @@ import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAuctionConfig;
+import org.prebid.server.settings.model.AccountStatus;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredResponseDataResult;
 
@@ -30,12 +37,17 @@ import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -43,36 +55,58 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 @ExtendWith(MockitoExtension.class)
 public class CachingApplicationSettingsTest {
 
+    @Mock(strictness = LENIENT)
+    private Vertx vertx;
+    @Mock(strictness = LENIENT)
+    private Context context;
     @Mock
     private ApplicationSettings delegateSettings;
     @Mock
     private Metrics metrics;
+    @Mock
+    private Clock clock;
+    @Mock(strictness = LENIENT)
+    private TimeoutFactory timeoutFactory;
 
     private CachingApplicationSettings target;
 
     private Timeout timeout;
 
+    private Timeout delegateTimeout;
+
     @BeforeEach
     public void setUp() {
-        timeout = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault())).create(500L);
+        final TimeoutFactory fixedTimeoutFactory =
+                new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault()));
+        timeout = fixedTimeoutFactory.create(500L);
+        delegateTimeout = fixedTimeoutFactory.create(1000L);
+        given(timeoutFactory.create(1000L)).willReturn(delegateTimeout);
+        given(vertx.getOrCreateContext()).willReturn(context);
+        given(vertx.setTimer(anyLong(), any())).willReturn(1L);
+        willAnswer(withNullAndInvokeHandler()).given(context).runOnContext(any());
 
         target = new CachingApplicationSettings(
+                vertx,
                 delegateSettings,
                 new SettingsCache<>(360, 100, 0),
                 new SettingsCache<>(360, 100, 0),
                 new SettingsCache<>(360, 100, 0),
                 new SettingsCache<>(360, 100, 0),
+                timeoutFactory,
                 metrics,
+                Clock.systemUTC(),
                 360,
                 100,
-                0);
+                0,
+                0,
+                1000L);
     }
 
     @Test
     public void getAccountByIdShouldReturnResultFromCacheOnSuccessiveCallsWhenAccountIdIsNull() {
         // given
         final Account account = Account.empty("");
-        given(delegateSettings.getAccountById(eq(""), same(timeout)))
+        given(delegateSettings.getAccountById(eq(""), same(delegateTimeout)))
                 .willReturn(Future.succeededFuture(account));
 
         // when
@@ -82,7 +116,7 @@ public class CachingApplicationSettingsTest {
         // then
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isSameAs(account);
-        verify(delegateSettings).getAccountById(eq(""), same(timeout));
+        verify(delegateSettings).getAccountById(eq(""), same(delegateTimeout));
         verifyNoMoreInteractions(delegateSettings);
     }
 
@@ -95,7 +129,7 @@ public class CachingApplicationSettingsTest {
                         .priceGranularity("med")
                         .build())
                 .build();
-        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+        given(delegateSettings.getAccountById(eq("accountId"), same(delegateTimeout)))
                 .willReturn(Future.succeededFuture(account));
 
         // when
@@ -105,7 +139,7 @@ public class CachingApplicationSettingsTest {
         // then
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isSameAs(account);
-        verify(delegateSettings).getAccountById(eq("accountId"), same(timeout));
+        verify(delegateSettings).getAccountById(eq("accountId"), same(delegateTimeout));
         verifyNoMoreInteractions(delegateSettings);
     }
 
@@ -118,7 +152,7 @@ public class CachingApplicationSettingsTest {
                         .priceGranularity("med")
                         .build())
                 .build();
-        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+        given(delegateSettings.getAccountById(eq("accountId"), same(delegateTimeout)))
                 .willReturn(Future.succeededFuture(account));
 
         // when
@@ -129,7 +163,7 @@ public class CachingApplicationSettingsTest {
         // then
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isSameAs(account);
-        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(delegateTimeout));
     }
 
     @Test
@@ -141,7 +175,7 @@ public class CachingApplicationSettingsTest {
                         .priceGranularity("med")
                         .build())
                 .build();
-        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+        given(delegateSettings.getAccountById(eq("accountId"), same(delegateTimeout)))
                 .willReturn(Future.succeededFuture(account));
 
         // when
@@ -152,7 +186,7 @@ public class CachingApplicationSettingsTest {
         // then
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isSameAs(account);
-        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(delegateTimeout));
     }
 
     @Test
@@ -206,7 +240,7 @@ public class CachingApplicationSettingsTest {
                 .getAccountById("accountId", timeout);
 
         // then
-        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(delegateTimeout));
         assertThat(lastFuture.failed()).isTrue();
         assertThat(lastFuture.cause())
                 .isInstanceOf(PreBidException.class)
@@ -226,7 +260,7 @@ public class CachingApplicationSettingsTest {
                 .getAccountById("accountId", timeout);
 
         // then
-        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(delegateTimeout));
         assertThat(lastFuture.failed()).isTrue();
         assertThat(lastFuture.cause())
                 .isInstanceOf(PreBidException.class)
@@ -262,7 +296,7 @@ public class CachingApplicationSettingsTest {
                         .priceGranularity("med")
                         .build())
                 .build();
-        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+        given(delegateSettings.getAccountById(eq("accountId"), same(delegateTimeout)))
                 .willReturn(Future.succeededFuture(account));
 
         // when
@@ -274,10 +308,160 @@ public class CachingApplicationSettingsTest {
         verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.hit));
     }
 
+    @Test
+    public void getAccountByIdShouldShareDelegateCallBetweenConcurrentMisses() {
+        // given
+        final Promise<Account> promise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(delegateTimeout))).willReturn(promise.future());
+
+        // when
+        final Future<Account> firstFuture = target.getAccountById("accountId", timeout);
+        final Future<Account> secondFuture = target.getAccountById("accountId", timeout);
+        promise.complete(Account.empty("accountId"));
+
+        // then
+        assertThat(firstFuture.result()).isEqualTo(Account.empty("accountId"));
+        assertThat(secondFuture.result()).isEqualTo(Account.empty("accountId"));
+        verify(delegateSettings).getAccountById(eq("accountId"), same(delegateTimeout));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.coalesced));
+    }
+
+    @Test
+    public void getAccountByIdShouldFailCallerWhoseTimeoutExceededWithoutFailingSharedDelegateCall() {
+        // given
+        final Promise<Account> promise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(delegateTimeout))).willReturn(promise.future());
+
+        final Timeout expiredTimeout = new TimeoutFactory(Clock.systemUTC()).create(1L, 1L);
+
+        // when
+        final Future<Account> firstFuture = target.getAccountById("accountId", timeout);
+        final Future<Account> expiredFuture = target.getAccountById("accountId", expiredTimeout);
+        promise.complete(Account.empty("accountId"));
+
+        // then
+        assertThat(expiredFuture.failed()).isTrue();
+        assertThat(expiredFuture.cause()).isInstanceOf(TimeoutException.class);
+        assertThat(firstFuture.result()).isEqualTo(Account.empty("accountId"));
+        assertThat(target.getAccountById("accountId", expiredTimeout).result())
+                .isEqualTo(Account.empty("accountId"));
+        verify(delegateSettings).getAccountById(eq("accountId"), same(delegateTimeout));
+    }
+
+    @Test
+    public void getAccountByIdShouldFailCallerWhenItsTimerFiresBeforeSharedDelegateCallCompletes() {
+        // given
+        final Promise<Account> promise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(delegateTimeout))).willReturn(promise.future());
+
+        // when
+        final Future<Account> future = target.getAccountById("accountId", timeout);
+        fireTimer(500L);
+        promise.complete(Account.empty("accountId"));
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(TimeoutException.class);
+        assertThat(target.getAccountById("accountId", timeout).result()).isEqualTo(Account.empty("accountId"));
+    }
+
+    @Test
+    public void getAccountByIdShouldCompleteCallerOnItsContextAndCancelItsTimer() {
+        // given
+        final Promise<Account> promise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(delegateTimeout))).willReturn(promise.future());
+
+        // when
+        final Future<Account> future = target.getAccountById("accountId", timeout);
+
+        // then
+        verify(context, never()).runOnContext(any());
+
+        promise.complete(Account.empty("accountId"));
+
+        verify(context).runOnContext(any());
+        verify(vertx).cancelTimer(1L);
+        assertThat(future.result()).isEqualTo(Account.empty("accountId"));
+    }
+
+    @Test
+    public void getAccountByIdShouldReloadAccountInBackgroundAfterRefreshPeriod() {
+        // given
+        given(clock.millis()).willReturn(0L, 20000L);
+        target = new CachingApplicationSettings(
+                vertx,
+                delegateSettings,
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                timeoutFactory,
+                metrics,
+                clock,
+                360,
+                100,
+                0,
+                10,
+                1000L);
+
+        final Account account = Account.empty("accountId");
+        final Account updatedAccount = Account.builder().id("accountId").status(AccountStatus.active).build();
+        given(delegateSettings.getAccountById(eq("accountId"), same(delegateTimeout)))
+                .willReturn(Future.succeededFuture(account))
+                .willReturn(Future.succeededFuture(updatedAccount));
+
+        // when
+        target.getAccountById("accountId", timeout);
+        final Future<Account> staleFuture = target.getAccountById("accountId", timeout);
+        final Future<Account> refreshedFuture = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(staleFuture.result()).isSameAs(account);
+        assertThat(refreshedFuture.result()).isSameAs(updatedAccount);
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(delegateTimeout));
+        verify(metrics).updateSettingsCacheRefreshTime(eq(MetricName.account), eq(MetricName.ahead), anyLong());
+    }
+
+    @Test
+    public void getAccountByIdShouldKeepStaleAccountIfBackgroundReloadFailed() {
+        // given
+        given(clock.millis()).willReturn(0L, 20000L);
+        target = new CachingApplicationSettings(
+                vertx,
+                delegateSettings,
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                timeoutFactory,
+                metrics,
+                clock,
+                360,
+                100,
+                0,
+                10,
+                1000L);
+
+        final Account account = Account.empty("accountId");
+        given(delegateSettings.getAccountById(eq("accountId"), same(delegateTimeout)))
+                .willReturn(Future.succeededFuture(account))
+                .willReturn(Future.failedFuture(new TimeoutException("timeout")));
+
+        // when
+        target.getAccountById("accountId", timeout);
+        target.getAccountById("accountId", timeout);
+        final Future<Account> future = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(future.result()).isSameAs(account);
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(delegateTimeout));
+        verify(metrics).updateSettingsCacheRefreshErrorMetric(eq(MetricName.account), eq(MetricName.ahead));
+    }
+
     @Test
     public void getCategoriesShouldReturnResultFromCacheOnSuccessiveCalls() {
         // given
-        given(delegateSettings.getCategories(eq("adServer"), eq("publisher"), same(timeout)))
+        given(delegateSettings.getCategories(eq("adServer"), eq("publisher"), same(delegateTimeout)))
                 .willReturn(Future.succeededFuture(singletonMap("iab", "id")));
 
         // when
@@ -288,8 +472,10 @@ public class CachingApplicationSettingsTest {
         // then
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isEqualTo(singletonMap("iab", "id"));
-        verify(delegateSettings).getCategories(eq("adServer"), eq("publisher"), same(timeout));
+        verify(delegateSettings).getCategories(eq("adServer"), eq("publisher"), same(delegateTimeout));
         verifyNoMoreInteractions(delegateSettings);
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.categories), eq(MetricName.miss));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.categories), eq(MetricName.hit));
     }
 
     @Test
@@ -353,7 +539,8 @@ public class CachingApplicationSettingsTest {
     @Test
     public void getStoredDataShouldReturnResultOnSuccessiveCalls() {
         // given
-        given(delegateSettings.getStoredData(any(), eq(singleton("reqid")), eq(singleton("impid")), same(timeout)))
+        given(delegateSettings.getStoredData(
+                any(), eq(singleton("reqid")), eq(singleton("impid")), same(delegateTimeout)))
                 .willReturn(Future.succeededFuture(StoredDataResult.of(
                         singletonMap("reqid", "json"), singletonMap("impid", "json2"), emptyList())));
 
@@ -368,10 +555,33 @@ public class CachingApplicationSettingsTest {
         assertThat(future.result()).isEqualTo(StoredDataResult.of(
                 singletonMap("reqid", "json"), singletonMap("impid", "json2"), emptyList()));
         verify(delegateSettings)
-                .getStoredData(eq("1001"), eq(singleton("reqid")), eq(singleton("impid")), same(timeout));
+                .getStoredData(eq("1001"), eq(singleton("reqid")), eq(singleton("impid")), same(delegateTimeout));
         verifyNoMoreInteractions(delegateSettings);
     }
 
+    @Test
+    public void getStoredDataShouldShareDelegateCallBetweenConcurrentMisses() {
+        // given
+        final Promise<StoredDataResult<String>> promise = Promise.promise();
+        given(delegateSettings.getStoredData(any(), anySet(), anySet(), any())).willReturn(promise.future());
+
+        // when
+        final Future<StoredDataResult<String>> firstFuture =
+                target.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        final Future<StoredDataResult<String>> secondFuture =
+                target.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        promise.complete(StoredDataResult.of(singletonMap("reqid", "json"), emptyMap(), emptyList()));
+
+        // then
+        final StoredDataResult<String> expectedResult =
+                StoredDataResult.of(singletonMap("reqid", "json"), emptyMap(), emptyList());
+        assertThat(firstFuture.result()).isEqualTo(expectedResult);
+        assertThat(secondFuture.result()).isEqualTo(expectedResult);
+        verify(delegateSettings).getStoredData(
+                eq("1001"), eq(singleton("reqid")), eq(emptySet()), same(delegateTimeout));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.stored_request), eq(MetricName.coalesced));
+    }
+
     @Test
     public void getStoredDataShouldPropagateFailure() {
         // given
@@ -424,12 +634,36 @@ public class CachingApplicationSettingsTest {
         assertThat(future.failed()).isTrue();
         assertThat(future.cause()).hasMessage("error");
         verify(delegateSettings)
-                .getStoredData(eq("1001"), eq(singleton("reqid")), eq(emptySet()), same(timeout));
+                .getStoredData(eq("1001"), eq(singleton("reqid")), eq(emptySet()), same(delegateTimeout));
         verify(delegateSettings)
-                .getStoredData(eq("1002"), eq(singleton("reqid")), eq(emptySet()), same(timeout));
+                .getStoredData(eq("1002"), eq(singleton("reqid")), eq(emptySet()), same(delegateTimeout));
         verifyNoMoreInteractions(delegateSettings);
     }
 
+    @Test
+    public void getVideoStoredDataShouldShareDelegateCallBetweenConcurrentMisses() {
+        // given
+        final Promise<StoredDataResult<String>> promise = Promise.promise();
+        given(delegateSettings.getVideoStoredData(
+                eq("1001"), eq(singleton("reqid")), eq(emptySet()), same(delegateTimeout)))
+                .willReturn(promise.future());
+
+        // when
+        final Future<StoredDataResult<String>> firstFuture =
+                target.getVideoStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        final Future<StoredDataResult<String>> secondFuture =
+                target.getVideoStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        promise.complete(StoredDataResult.of(singletonMap("reqid", "value"), emptyMap(), emptyList()));
+
+        // then
+        assertThat(firstFuture.result().getStoredIdToRequest()).containsOnly(entry("reqid", "value"));
+        assertThat(secondFuture.result().getStoredIdToRequest()).containsOnly(entry("reqid", "value"));
+        verify(delegateSettings).getVideoStoredData(
+                eq("1001"), eq(singleton("reqid")), eq(emptySet()), same(delegateTimeout));
+        verify(metrics).updateSettingsCacheEventMetric(
+                eq(MetricName.video_stored_request), eq(MetricName.coalesced));
+    }
+
     @Test
     public void getStoredResponseShouldPropagateFailure() {
         // given
@@ -446,4 +680,19 @@ public class CachingApplicationSettingsTest {
                 .isInstanceOf(InvalidRequestException.class)
                 .hasMessage("error");
     }
+
+    @SuppressWarnings("unchecked")
+    private void fireTimer(long delay) {
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(delay), timerHandlerCaptor.capture());
+        timerHandlerCaptor.getValue().handle(1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Answer<Object> withNullAndInvokeHandler() {
+        return invocation -> {
+            ((Handler<Void>) invocation.getArgument(0)).handle(null);
+            return null;
+        };
+    }
 }
@@ -2,6 +2,7 @@ package org.prebid.server.settings;
 
 import com.fasterxml.jackson.databind.node.TextNode;
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +12,7 @@ import org.prebid.server.VertxTest;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.helper.ParametrizedQueryHelper;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.Profile;
@@ -66,6 +68,12 @@ public class DatabaseApplicationSettingsTest extends VertxTest {
     @Mock
     private DatabaseClient databaseClient;
 
+    @Mock
+    private Vertx vertx;
+
+    @Mock
+    private Metrics metrics;
+
     private DatabaseApplicationSettings target;
 
     private Timeout timeout;
@@ -82,7 +90,11 @@ public class DatabaseApplicationSettingsTest extends VertxTest {
                 SELECT_QUERY,
                 SELECT_QUERY,
                 SELECT_PROFILES_QUERY,
-                SELECT_RESPONSE_QUERY);
+                SELECT_RESPONSE_QUERY,
+                vertx,
+                0L,
+                100,
+                metrics);
     }
 
     @Test
@@ -0,0 +1,182 @@
+package org.prebid.server.settings.helper;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Row;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.StoredDataResult;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+import static org.mockito.quality.Strictness.LENIENT;
+
+@ExtendWith(MockitoExtension.class)
+public class StoredDataBatchLoaderTest {
+
+    @Mock
+    private Vertx vertx;
+
+    @Mock
+    private StoredDataBatchLoader.RowsFetcher rowsFetcher;
+
+    @Mock
+    private Metrics metrics;
+
+    private StoredDataBatchLoader target;
+
+    private Timeout timeout;
+
+    @BeforeEach
+    public void setUp() {
+        timeout = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault())).create(500L);
+        target = new StoredDataBatchLoader(vertx, 2L, 3, 3, rowsFetcher, MetricName.stored_request, metrics);
+    }
+
+    @Test
+    public void loadShouldFetchIdsOfAllCallsWithinWindowBySingleQuery() {
+        // given
+        given(vertx.setTimer(eq(2L), any())).willReturn(1L);
+        given(rowsFetcher.fetch(any(), any(), any())).willReturn(Future.succeededFuture(List.of(
+                givenRow("accountId", "req1", "value1", "request"),
+                givenRow("accountId", "imp1", "value2", "imp"))));
+
+        // when
+        final Future<StoredDataResult<String>> first = target.load(
+                singleton("req1"), emptySet(), rows -> map(rows, singleton("req1"), emptySet()), timeout);
+        final Future<StoredDataResult<String>> second = target.load(
+                emptySet(), singleton("imp1"), rows -> map(rows, emptySet(), singleton("imp1")), timeout);
+
+        verify(rowsFetcher, never()).fetch(any(), any(), any());
+        fireTimer();
+
+        // then
+        verify(rowsFetcher).fetch(eq(singleton("req1")), eq(singleton("imp1")), eq(timeout));
+        verify(metrics).updateSettingsBatchMetrics(MetricName.stored_request, 2, 2);
+
+        assertThat(first.result().getStoredIdToRequest()).containsOnly(entry("req1", "value1"));
+        assertThat(first.result().getStoredIdToImp()).isEmpty();
+        assertThat(first.result().getErrors()).isEmpty();
+        assertThat(second.result().getStoredIdToRequest()).isEmpty();
+        assertThat(second.result().getStoredIdToImp()).containsOnly(entry("imp1", "value2"));
+        assertThat(second.result().getErrors()).isEmpty();
+    }
+
+    @Test
+    public void loadShouldReportNotFoundIdsOnlyToCallsRequestedThem() {
+        // given
+        given(vertx.setTimer(eq(2L), any())).willReturn(1L);
+        given(rowsFetcher.fetch(any(), any(), any())).willReturn(Future.succeededFuture(List.of(
+                givenRow("accountId", "req1", "value1", "request"))));
+
+        // when
+        final Future<StoredDataResult<String>> first = target.load(
+                singleton("req1"), emptySet(), rows -> map(rows, singleton("req1"), emptySet()), timeout);
+        final Future<StoredDataResult<String>> second = target.load(
+                singleton("req2"), emptySet(), rows -> map(rows, singleton("req2"), emptySet()), timeout);
+
+        fireTimer();
+
+        // then
+        assertThat(first.result().getErrors()).isEmpty();
+        assertThat(second.result().getStoredIdToRequest()).isEmpty();
+        assertThat(second.result().getErrors())
+                .containsOnly("No stored requests for ids [req2] were found");
+    }
+
+    @Test
+    public void loadShouldFetchBatchWithoutWaitingForWindowWhenMaxIdsReached() {
+        // given
+        given(vertx.setTimer(eq(2L), any())).willReturn(1L);
+        given(rowsFetcher.fetch(any(), any(), any())).willReturn(Future.succeededFuture(List.of()));
+
+        // when
+        target.load(Set.of("req1", "req2"), emptySet(), rows -> map(rows, emptySet(), emptySet()), timeout);
+        target.load(emptySet(), singleton("imp1"), rows -> map(rows, emptySet(), emptySet()), timeout);
+
+        // then
+        verify(vertx).cancelTimer(1L);
+        verify(rowsFetcher).fetch(eq(Set.of("req1", "req2")), eq(singleton("imp1")), eq(timeout));
+        verify(metrics).updateSettingsBatchMetrics(MetricName.stored_request, 2, 3);
+    }
+
+    @Test
+    public void loadShouldStartNewBatchAfterPreviousOneFetched() {
+        // given
+        given(vertx.setTimer(eq(2L), any())).willReturn(1L, 2L);
+        given(rowsFetcher.fetch(any(), any(), any())).willReturn(Future.succeededFuture(List.of()));
+
+        // when
+        target.load(Set.of("req1", "req2", "req3"), emptySet(), rows -> map(rows, emptySet(), emptySet()), timeout);
+        target.load(singleton("req4"), emptySet(), rows -> map(rows, emptySet(), emptySet()), timeout);
+
+        // then
+        verify(rowsFetcher).fetch(eq(Set.of("req1", "req2", "req3")), eq(emptySet()), eq(timeout));
+        verify(rowsFetcher, never()).fetch(eq(singleton("req4")), any(), any());
+    }
+
+    @Test
+    public void loadShouldFailAllCallsOfBatchWhenFetchFailed() {
+        // given
+        given(vertx.setTimer(eq(2L), any())).willReturn(1L);
+        given(rowsFetcher.fetch(any(), any(), any())).willReturn(Future.failedFuture("Query failed"));
+
+        // when
+        final Future<StoredDataResult<String>> first = target.load(
+                singleton("req1"), emptySet(), rows -> map(rows, singleton("req1"), emptySet()), timeout);
+        final Future<StoredDataResult<String>> second = target.load(
+                singleton("req2"), emptySet(), rows -> map(rows, singleton("req2"), emptySet()), timeout);
+
+        fireTimer();
+
+        // then
+        assertThat(first.failed()).isTrue();
+        assertThat(first.cause()).hasMessage("Query failed");
+        assertThat(second.failed()).isTrue();
+        assertThat(second.cause()).hasMessage("Query failed");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fireTimer() {
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(anyLong(), timerHandlerCaptor.capture());
+        timerHandlerCaptor.getValue().handle(1L);
+    }
+
+    private static StoredDataResult<String> map(Iterable<Row> rows, Set<String> requestIds, Set<String> impIds) {
+        return DatabaseStoredDataResultMapper.map(rows, "accountId", requestIds, impIds);
+    }
+
+    private static Row givenRow(Object... values) {
+        final Row row = mock(Row.class, withSettings().strictness(LENIENT));
+        given(row.getValue(anyInt())).willAnswer(invocation -> values[(Integer) invocation.getArgument(0)]);
+        given(row.size()).willReturn(values.length);
+        return row;
+    }
+}
@@ -50,6 +50,69 @@ public class MostAccurateCombinationStrategyTest {
         assertThat(rulesByPriority).containsExactlyElementsOf(rulesByPriority());
     }
 
+    @Test
+    public void matchShouldPickRulesInExactPriorityWhenSourceIsIndexed() {
+        // given
+        final Set<String> rules = new HashSet<>(rules());
+        final PrebidConfigParameters parameters = SimpleParameters.of(asList(
+                SimpleDirectParameter.of(singleton("_")),
+                SimpleDirectParameter.of(singleton("_")),
+                SimpleDirectParameter.of(singleton("_")),
+                SimpleDirectParameter.of(singleton("_")),
+                SimpleDirectParameter.of(singleton("_"))));
+
+        final MostAccurateCombinationStrategy target = new MostAccurateCombinationStrategy();
+
+        // when and then
+        final List<String> rulesByPriority = new ArrayList<>();
+
+        int i = 1 << 5; // just in case of infinite loop
+        while (!rules.isEmpty() && i-- > 0) {
+            final String rule = target.match(IndexedSource.of("*", "|", rules), parameters);
+            assertThat(rule).isNotNull();
+
+            rulesByPriority.add(rule);
+            rules.remove(rule);
+        }
+
+        assertThat(rulesByPriority).containsExactlyElementsOf(rulesByPriority());
+    }
+
+    @Test
+    public void matchShouldReturnSameRuleForIndexedAndSimpleSourceWhenSomeValuesAreUnknown() {
+        // given
+        final List<String> rules = asList("c|*|z", "*|y|*", "*|*|*");
+        final PrebidConfigParameters parameters = SimpleParameters.of(asList(
+                SimpleDirectParameter.of(asList("x", "c")),
+                SimpleDirectParameter.of(singleton("y")),
+                SimpleDirectParameter.of(singleton("unknown"))));
+
+        final MostAccurateCombinationStrategy target = new MostAccurateCombinationStrategy();
+
+        // when
+        final String simpleResult = target.match(SimpleSource.of("*", "|", rules), parameters);
+        final String indexedResult = target.match(IndexedSource.of("*", "|", rules), parameters);
+
+        // then
+        assertThat(simpleResult).isEqualTo("*|y|*");
+        assertThat(indexedResult).isEqualTo(simpleResult);
+    }
+
+    @Test
+    public void matchShouldReturnNullWhenSourceIsIndexedAndParameterHasNoValues() {
+        // given
+        final PrebidConfigParameters parameters = SimpleParameters.of(asList(
+                SimpleDirectParameter.of(emptyList()),
+                SimpleDirectParameter.of(singleton("y"))));
+
+        // when
+        final String result = new MostAccurateCombinationStrategy()
+                .match(IndexedSource.of("*", "|", asList("*|y", "*|*")), parameters);
+
+        // then
+        assertThat(result).isNull();
+    }
+
     @Test
     public void iteratorShouldBeEmptyIfParametersEmpty() {
         // given
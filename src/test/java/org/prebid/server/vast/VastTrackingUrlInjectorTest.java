@@ -0,0 +1,159 @@
+package org.prebid.server.vast;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VastTrackingUrlInjectorTest {
+
+    private static final String URL = "http://tracking.url";
+
+    private static final List<String> VAST_FRAGMENTS = List.of(
+            "<VAST version=\"3.0\">", "</VAST>", "<Ad>", "</Ad>", "<Creatives></Creatives>",
+            "<InLine>", "<inline>", "< INLINE id=\"1\">", "<InLine\n>", "<InLine \n>", "<InLineX>", "<InLine",
+            "</InLine>", "</ inline >", "< /INLINE\t>", "</InLine\r>", "</InLine\u2028>", "</InLine",
+            "<Wrapper>", "<wrapper version=\"2\">", "<\tWRAPPER>", "<Wrapper\u0085>", "<Wrappers>",
+            "</Wrapper>", "</ wrapper attr>", "< / WRAPPER\n>", "</Wrapper",
+            "<Impression>", "<Impression id=\"imp\">", "</Impression>", "</impression >", "< / IMPRESSION>",
+            "</Impression\n>", "</Impression \n>", "</Impression x\u2029>", "</Impressions>", "</Impression",
+            "<![CDATA[http://impression.url]]>", "\u0130nline", "\u0131mpression", "<\u0130nline>",
+            "</\u0131mpression>", "<", ">", "/", " ", "\t", "\n", "\r", "\u000B", "\f", "text", "inline", "wrapper",
+            "impression");
+
+    @Test
+    public void appendTrackingUrlShouldInsertTrackingAfterLastImpressionOfInLine() {
+        // given
+        final String vastXml = "<VAST><Ad><InLine><Impression>a</Impression><Impression>b</Impression>"
+                + "<Creatives></Creatives></InLine></Ad></VAST>";
+
+        // when
+        final Optional<String> result = VastTrackingUrlInjector.appendTrackingUrl(vastXml, URL);
+
+        // then
+        assertThat(result).contains("<VAST><Ad><InLine><Impression>a</Impression><Impression>b</Impression>"
+                + "<Impression><![CDATA[http://tracking.url]]></Impression>"
+                + "<Creatives></Creatives></InLine></Ad></VAST>");
+    }
+
+    @Test
+    public void appendTrackingUrlShouldInsertTrackingBeforeWrapperCloseTagIfNoImpressions() {
+        // given
+        final String vastXml = "<VAST><Ad><Wrapper><Creatives></Creatives></Wrapper></Ad></VAST>";
+
+        // when
+        final Optional<String> result = VastTrackingUrlInjector.appendTrackingUrl(vastXml, URL);
+
+        // then
+        assertThat(result).contains("<VAST><Ad><Wrapper><Creatives></Creatives>"
+                + "<Impression><![CDATA[http://tracking.url]]></Impression></Wrapper></Ad></VAST>");
+    }
+
+    @Test
+    public void appendTrackingUrlShouldReturnSameXmlIfCloseTagIsAbsent() {
+        // given
+        final String vastXml = "<VAST><Ad><InLine><Creatives></Creatives>";
+
+        // when
+        final Optional<String> result = VastTrackingUrlInjector.appendTrackingUrl(vastXml, URL);
+
+        // then
+        assertThat(result).containsSame(vastXml);
+    }
+
+    @Test
+    public void appendTrackingUrlShouldReturnEmptyResultIfNeitherInLineNorWrapperPresent() {
+        // when
+        final Optional<String> result = VastTrackingUrlInjector.appendTrackingUrl("<VAST><Ad></Ad></VAST>", URL);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void appendTrackingUrlShouldReturnSameResultAsRegularExpressionsForRandomDocuments() {
+        // given
+        final Random random = new Random(42L);
+
+        for (int i = 0; i < 20_000; i++) {
+            final String vastXml = givenRandomVastXml(random);
+
+            // when
+            final Optional<String> result = VastTrackingUrlInjector.appendTrackingUrl(vastXml, URL);
+
+            // then
+            assertThat(result)
+                    .describedAs("VAST XML: %s", vastXml)
+                    .isEqualTo(RegexVastTrackingUrlInjector.appendTrackingUrl(vastXml, URL));
+        }
+    }
+
+    private static String givenRandomVastXml(Random random) {
+        final int fragments = random.nextInt(40);
+
+        final StringBuilder vastXml = new StringBuilder();
+        for (int i = 0; i < fragments; i++) {
+            vastXml.append(VAST_FRAGMENTS.get(random.nextInt(VAST_FRAGMENTS.size())));
+        }
+        return vastXml.toString();
+    }
+
+    /**
+     * Former regular expressions based implementation, the injector must be equivalent to.
+     */
+    private static class RegexVastTrackingUrlInjector {
+
+        private static final Pattern WRAPPER_OPEN_TAG_PATTERN =
+                Pattern.compile("<\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+        private static final Pattern WRAPPER_CLOSE_TAG_PATTERN =
+                Pattern.compile("<\\s*/\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+        private static final Pattern INLINE_OPEN_TAG_PATTERN =
+                Pattern.compile("<\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+        private static final Pattern INLINE_CLOSE_TAG_PATTERN =
+                Pattern.compile("<\\s*/\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+        private static final Pattern IMPRESSION_CLOSE_TAG_PATTERN =
+                Pattern.compile("<\\s*/\\s*impression(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+
+        static Optional<String> appendTrackingUrl(String xml, String urlTracking) {
+            return appendTrackingUrl(xml, urlTracking, INLINE_OPEN_TAG_PATTERN, INLINE_CLOSE_TAG_PATTERN)
+                    .or(() -> appendTrackingUrl(xml, urlTracking, WRAPPER_OPEN_TAG_PATTERN, WRAPPER_CLOSE_TAG_PATTERN));
+        }
+
+        private static Optional<String> appendTrackingUrl(String vastXml,
+                                                          String vastUrlTracking,
+                                                          Pattern openTagPattern,
+                                                          Pattern closeTagPattern) {
+
+            final Matcher openTagMatcher = openTagPattern.matcher(vastXml);
+            if (!openTagMatcher.find()) {
+                return Optional.empty();
+            }
+
+            final Matcher impressionCloseTagMatcher = IMPRESSION_CLOSE_TAG_PATTERN.matcher(vastXml);
+            if (impressionCloseTagMatcher.find(openTagMatcher.end())) {
+                int replacementEnd = impressionCloseTagMatcher.end();
+                while (impressionCloseTagMatcher.find(replacementEnd)) {
+                    replacementEnd = impressionCloseTagMatcher.end();
+                }
+                return Optional.of(insertUrlTracking(vastXml, replacementEnd, vastUrlTracking));
+            }
+
+            final Matcher closeTagMatcher = closeTagPattern.matcher(vastXml);
+            if (!closeTagMatcher.find(openTagMatcher.end())) {
+                return Optional.of(vastXml);
+            }
+
+            return Optional.of(insertUrlTracking(vastXml, closeTagMatcher.start(), vastUrlTracking));
+        }
+
+        private static String insertUrlTracking(String vastXml, int index, String vastUrlTracking) {
+            final String impressionTag = "<Impression><![CDATA[" + vastUrlTracking + "]]></Impression>";
+            return vastXml.substring(0, index) + impressionTag + vastXml.substring(index);
+        }
+    }
+}
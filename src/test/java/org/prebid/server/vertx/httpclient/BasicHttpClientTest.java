@@ -5,6 +5,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpMethod;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -27,13 +29,17 @@ import java.net.Socket;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
 
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -143,6 +149,36 @@ public class BasicHttpClientTest {
         assertThat(future.cause()).hasMessage("Response exception");
     }
 
+    @Test
+    public void requestShouldUseDedicatedPoolForOriginAndUpdateMetrics() {
+        // given
+        final HttpClient pooledHttpClient = mock(HttpClient.class);
+        given(vertx.createHttpClient(any(HttpClientOptions.class))).willReturn(pooledHttpClient);
+        given(pooledHttpClient.request(any())).willReturn(Future.succeededFuture(httpClientRequest));
+        given(httpClientResponse.body()).willReturn(Future.succeededFuture(Buffer.buffer("response")));
+
+        final Metrics metrics = mock(Metrics.class);
+        final HttpClientPool pool = new HttpClientPool("https://pooled.example.com", new HttpClientOptions(), metrics);
+        httpClient = new BasicHttpClient(
+                vertx, wrappedHttpClient, new HttpEndpointResolver(), new HttpClientPools(singletonList(pool)));
+
+        // when
+        final Future<?> pooledFuture = httpClient.get("https://pooled.example.com/path", 1000L);
+        final Future<?> defaultFuture = httpClient.get("https://default.example.com/path", 1000L);
+
+        // then
+        assertThat(pooledFuture.succeeded()).isTrue();
+        assertThat(defaultFuture.succeeded()).isTrue();
+        verify(pooledHttpClient).request(any());
+        verify(wrappedHttpClient).request(any());
+
+        final ArgumentCaptor<LongSupplier> inFlightRequestsCaptor = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(metrics).createHttpClientPoolInFlightRequestsGauge(
+                eq("https_pooled_example_com"), inFlightRequestsCaptor.capture());
+        assertThat(inFlightRequestsCaptor.getValue().getAsLong()).isZero();
+        verify(metrics).updateHttpClientPoolWaitTime(eq("https_pooled_example_com"), anyLong());
+    }
+
     @Test
     public void requestShouldFailIfHttpRequestTimedOut(Vertx vertx, VertxTestContext context) {
         // given